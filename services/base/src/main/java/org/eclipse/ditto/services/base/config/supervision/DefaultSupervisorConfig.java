@@ -16,7 +16,7 @@ import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
@@ -30,9 +30,11 @@ public final class DefaultSupervisorConfig implements SupervisorConfig {
     private static final String CONFIG_PATH = "supervisor";
 
     private final ExponentialBackOffConfig exponentialBackOffConfig;
+    private final boolean enabled;
 
-    private DefaultSupervisorConfig(final ExponentialBackOffConfig theExponentialBackOffConfig) {
-        exponentialBackOffConfig = theExponentialBackOffConfig;
+    private DefaultSupervisorConfig(final ScopedConfig config) {
+        exponentialBackOffConfig = DefaultExponentialBackOffConfig.of(config);
+        enabled = config.getBoolean(SupervisorConfigValue.ENABLED.getConfigPath());
     }
 
     /**
@@ -43,9 +45,8 @@ public final class DefaultSupervisorConfig implements SupervisorConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultSupervisorConfig of(final Config config) {
-        final ScopedConfig supervisorScopedConfig = DefaultScopedConfig.newInstance(config, CONFIG_PATH);
-
-        return new DefaultSupervisorConfig(DefaultExponentialBackOffConfig.of(supervisorScopedConfig));
+        return new DefaultSupervisorConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, SupervisorConfigValue.values()));
     }
 
     @Override
@@ -53,6 +54,11 @@ public final class DefaultSupervisorConfig implements SupervisorConfig {
         return exponentialBackOffConfig;
     }
 
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -62,18 +68,19 @@ public final class DefaultSupervisorConfig implements SupervisorConfig {
             return false;
         }
         final DefaultSupervisorConfig that = (DefaultSupervisorConfig) o;
-        return Objects.equals(exponentialBackOffConfig, that.exponentialBackOffConfig);
+        return enabled == that.enabled && Objects.equals(exponentialBackOffConfig, that.exponentialBackOffConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(exponentialBackOffConfig);
+        return Objects.hash(exponentialBackOffConfig, enabled);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "exponentialBackOffConfig=" + exponentialBackOffConfig +
+                ", enabled=" + enabled +
                 "]";
     }
 
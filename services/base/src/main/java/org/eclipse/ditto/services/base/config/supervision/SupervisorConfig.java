@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.base.config.supervision;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
 /**
  * Provides configuration settings for the Actor supervision.
  */
@@ -27,4 +29,43 @@ public interface SupervisorConfig {
      */
     ExponentialBackOffConfig getExponentialBackOffConfig();
 
+    /**
+     * Indicates whether entities run as child of a supervisor actor. If disabled, entities supporting it are started
+     * by the shard region directly and handle shutdown and passivation themselves.
+     *
+     * @return {@code true} if entities are supervised, {@code false} if they are single actors.
+     */
+    boolean isEnabled();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code SupervisorConfig}.
+     */
+    enum SupervisorConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether entities run as child of a supervisor actor.
+         */
+        ENABLED("enabled", true);
+
+        private final String path;
+        private final Object defaultValue;
+
+        SupervisorConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
@@ -12,12 +12,17 @@
  */
 package org.eclipse.ditto.services.base.config.supervision;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.time.Duration;
+
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import nl.jqno.equalsverifier.EqualsVerifier;
 
 /**
@@ -38,4 +43,19 @@ public final class DefaultSupervisorConfigTest {
                 .usingGetClass()
                 .verify();
     }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultSupervisorConfig underTest = DefaultSupervisorConfig.of(ConfigFactory.empty());
+
+        assertThat(underTest.isEnabled()).isEqualTo(SupervisorConfig.SupervisorConfigValue.ENABLED.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultSupervisorConfig underTest = DefaultSupervisorConfig.of(ConfigFactory.load("supervisor-test"));
+
+        assertThat(underTest.isEnabled()).isFalse();
+        assertThat(underTest.getExponentialBackOffConfig().getMin()).isEqualTo(Duration.ofSeconds(2L));
+    }
 }
@@ -15,11 +15,18 @@ package org.eclipse.ditto.services.concierge.actors.cleanup;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -37,18 +44,26 @@ import org.eclipse.ditto.services.concierge.actors.cleanup.messages.CreditDecisi
 import org.eclipse.ditto.services.concierge.actors.cleanup.persistenceids.PersistenceIdSource;
 import org.eclipse.ditto.services.concierge.common.PersistenceCleanupConfig;
 import org.eclipse.ditto.services.models.connectivity.ConnectionTag;
+import org.eclipse.ditto.services.models.connectivity.ConnectivityMessagingConstants;
+import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.akka.actors.ModifyConfigBehavior;
 import org.eclipse.ditto.services.utils.akka.actors.RetrieveConfigBehavior;
 import org.eclipse.ditto.services.utils.akka.controlflow.Transistor;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DittoConfigError;
 import org.eclipse.ditto.services.utils.health.RetrieveHealth;
 import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
 import org.eclipse.ditto.services.utils.health.StatusDetailMessage;
 import org.eclipse.ditto.services.utils.health.StatusInfo;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupJournal;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupJournalResponse;
 import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistence;
 import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
@@ -66,7 +81,10 @@ import akka.Done;
 import akka.NotUsed;
 import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Address;
 import akka.actor.Props;
+import akka.cluster.sharding.ShardRegion;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
@@ -116,6 +134,13 @@ import scala.PartialFunction;
  *
  *
  * }</pre>
+ * <p>
+ * If journal-side cleanup is enabled, the persistence IDs are not forwarded to the persistence actors one by one.
+ * Instead they are collected into batches per resource type and sent as {@link CleanupJournal} commands to the
+ * persistence streaming actor of the service owning the journal, which deletes snapshots and events directly in the
+ * database. Entities which are currently active in a shard region are skipped so that cleanup does not interfere with
+ * their own persistence operations, and inactive entities are never started just to clean up after themselves.
+ * </p>
  */
 public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTimers
         implements RetrieveConfigBehavior, ModifyConfigBehavior {
@@ -137,6 +162,20 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
     private static final JsonFieldDefinition<JsonArray> JSON_EVENTS =
             JsonFactory.newJsonArrayFieldDefinition("events");
 
+    private static final JsonFieldDefinition<JsonObject> JSON_JOURNAL_SIDE =
+            JsonFactory.newJsonObjectFieldDefinition("journal-side");
+
+    private static final String SHARD_REGION_PATH = "/system/sharding/";
+
+    private static final String CLEANED_ENTITIES_METRIC = "persistence_cleanup_entities";
+    private static final String DELETED_METRIC = "persistence_cleanup_deleted";
+    private static final Counter CLEANED_ENTITIES = DittoMetrics.counter(CLEANED_ENTITIES_METRIC)
+            .tag("result", "cleaned");
+    private static final Counter SKIPPED_ACTIVE_ENTITIES = DittoMetrics.counter(CLEANED_ENTITIES_METRIC)
+            .tag("result", "skipped");
+    private static final Counter DELETED_EVENTS = DittoMetrics.counter(DELETED_METRIC).tag("type", "events");
+    private static final Counter DELETED_SNAPSHOTS = DittoMetrics.counter(DELETED_METRIC).tag("type", "snapshots");
+
     private static final String START = "start";
 
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
@@ -147,11 +186,13 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
     private final ActorRef pubSubMediator;
     private final ShardRegions shardRegions;
     private final ActorMaterializer materializer;
+    private final ActorSystem system;
 
     // logs for status reporting
     private final Deque<Pair<Instant, CreditDecision>> creditDecisions;
     private final Deque<Pair<Instant, CleanupPersistenceResponse>> actions;
     private final Deque<Pair<Instant, Event>> events;
+    private JournalSideThroughput journalSideThroughput;
 
     @Nullable
     private KillSwitch killSwitch;
@@ -165,6 +206,8 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
         this.shardRegions = shardRegions;
 
         materializer = ActorMaterializer.create(getContext());
+        system = getContext().getSystem();
+        journalSideThroughput = new JournalSideThroughput();
 
         if (config.isEnabled()) {
             scheduleWakeUp();
@@ -232,6 +275,7 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
                         enqueue(creditDecisions, creditDecision, config.getKeptCreditDecisions()))
                 .match(CleanupPersistenceResponse.class, cleanupResponse ->
                         enqueue(actions, cleanupResponse, config.getKeptActions()))
+                .match(JournalSideCleanup.class, journalSideThroughput::add)
                 .match(StreamTerminated.class, this::streamTerminated)
                 .match(RetrieveHealth.class, this::retrieveHealth)
                 .match(Shutdown.class, this::shutdownStream)
@@ -297,6 +341,7 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
 
     private void restartStream() {
         shutdownKillSwitch();
+        journalSideThroughput = new JournalSideThroughput();
 
         final Pair<UniqueKillSwitch, CompletionStage<Done>> materializedValues =
                 assembleSource().viaMat(KillSwitches.single(), Keep.right())
@@ -352,6 +397,9 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
 
 
     private Sink<EntityIdWithRevision, CompletionStage<Done>> cleanupForwarderSink() {
+        if (config.isJournalSideCleanupEnabled()) {
+            return journalSideCleanupSink();
+        }
 
         final PartialFunction<EntityIdWithRevision, CompletionStage<CleanupPersistenceResponse>> askShardRegionForCleanupByTagType =
                 new PFBuilder<EntityIdWithRevision, CompletionStage<CleanupPersistenceResponse>>()
@@ -398,6 +446,118 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
                 });
     }
 
+    private Sink<EntityIdWithRevision, CompletionStage<Done>> journalSideCleanupSink() {
+        return Flow.<EntityIdWithRevision>create()
+                .groupedWithin(config.getJournalSideBatchSize(), config.getJournalSideBatchInterval())
+                .mapConcat(EventSnapshotCleanupCoordinator::groupByResourceType)
+                .mapAsync(config.getParallelism(), this::cleanupJournal)
+                .via(reportToSelf())
+                .log(EventSnapshotCleanupCoordinator.class.getSimpleName(), log)
+                .toMat(Sink.ignore(), Keep.right());
+    }
+
+    private CompletionStage<JournalSideCleanup> cleanupJournal(final List<EntityIdWithRevision> batch) {
+        final EntityIdWithRevision first = batch.get(0);
+        if (first instanceof ThingTag) {
+            return cleanupJournal(batch, shardRegions.things(), ThingsMessagingConstants.SHARD_REGION,
+                    ThingsMessagingConstants.THINGS_STREAM_PROVIDER_ACTOR_PATH);
+        } else if (first instanceof PolicyTag) {
+            return cleanupJournal(batch, shardRegions.policies(), PoliciesMessagingConstants.SHARD_REGION,
+                    PoliciesMessagingConstants.POLICIES_STREAM_PROVIDER_ACTOR_PATH);
+        } else if (first instanceof ConnectionTag) {
+            return cleanupJournal(batch, shardRegions.connections(), ConnectivityMessagingConstants.SHARD_REGION,
+                    ConnectivityMessagingConstants.STREAM_PROVIDER_ACTOR_PATH);
+        } else {
+            log.warning("Unexpected entity ID type: <{}>", first.getClass().getSimpleName());
+            return CompletableFuture.completedFuture(JournalSideCleanup.failed(batch.size()));
+        }
+    }
+
+    private CompletionStage<JournalSideCleanup> cleanupJournal(final List<EntityIdWithRevision> batch,
+            final ActorRef shardRegion, final String shardRegionName, final String streamingActorPath) {
+
+        return retrieveActiveEntityIds(shardRegion, shardRegionName)
+                .thenCompose(activeEntityIds -> {
+                    final List<EntityId> inactiveEntityIds = batch.stream()
+                            .map(EntityIdWithRevision::getEntityId)
+                            .filter(entityId -> !activeEntityIds.contains(entityId.toString()))
+                            .collect(Collectors.toList());
+                    final int skipped = batch.size() - inactiveEntityIds.size();
+                    if (inactiveEntityIds.isEmpty()) {
+                        return CompletableFuture.completedFuture(JournalSideCleanup.skipped(skipped));
+                    }
+                    final DittoHeaders headers = DittoHeaders.newBuilder()
+                            .putHeader(START, Instant.now().toString())
+                            .build();
+                    final Object command = DistPubSubAccess.send(streamingActorPath,
+                            CleanupJournal.of(inactiveEntityIds, headers), false);
+                    return Patterns.ask(pubSubMediator, command, config.getCleanupTimeout())
+                            .thenApply(response -> {
+                                if (response instanceof CleanupJournalResponse &&
+                                        ((CleanupJournalResponse) response).getStatusCodeValue() < 300) {
+                                    return JournalSideCleanup.of(batch.size(), skipped,
+                                            (CleanupJournalResponse) response);
+                                } else {
+                                    log.warning("Unexpected response from <{}>: <{}>", streamingActorPath, response);
+                                    return JournalSideCleanup.failed(batch.size());
+                                }
+                            });
+                })
+                .exceptionally(error -> {
+                    log.warning("Journal-side cleanup of <{}> entities in <{}> failed: <{}>", batch.size(),
+                            shardRegionName, error);
+                    return JournalSideCleanup.failed(batch.size());
+                });
+    }
+
+    /**
+     * Retrieve the IDs of all entities currently running in a shard region on any cluster member by asking each
+     * shard region of the type directly, as the shard region proxies of this service host no entities.
+     */
+    private CompletionStage<Set<String>> retrieveActiveEntityIds(final ActorRef shardRegion,
+            final String shardRegionName) {
+
+        final Duration timeout = config.getCleanupTimeout();
+        return Patterns.ask(shardRegion, ShardRegion.getCurrentRegionsInstance(), timeout)
+                .thenCompose(reply -> {
+                    if (!(reply instanceof ShardRegion.CurrentRegions)) {
+                        throw new IllegalStateException("Unexpected reply to GetCurrentRegions: " + reply);
+                    }
+                    final List<CompletableFuture<Set<String>>> entityIdsPerRegion =
+                            ((ShardRegion.CurrentRegions) reply).getRegions()
+                                    .stream()
+                                    .map(address -> retrieveEntityIds(address, shardRegionName, timeout))
+                                    .collect(Collectors.toList());
+                    return CompletableFuture.allOf(entityIdsPerRegion.toArray(new CompletableFuture[0]))
+                            .thenApply(v -> entityIdsPerRegion.stream()
+                                    .flatMap(future -> future.join().stream())
+                                    .collect(Collectors.toSet()));
+                });
+    }
+
+    private CompletableFuture<Set<String>> retrieveEntityIds(final Address address, final String shardRegionName,
+            final Duration timeout) {
+
+        return Patterns.ask(system.actorSelection(address + SHARD_REGION_PATH + shardRegionName),
+                ShardRegion.getShardRegionStateInstance(), timeout)
+                .thenApply(reply -> {
+                    if (!(reply instanceof ShardRegion.CurrentShardRegionState)) {
+                        throw new IllegalStateException("Unexpected reply to GetShardRegionState: " + reply);
+                    }
+                    final Set<String> entityIds = new HashSet<>();
+                    ((ShardRegion.CurrentShardRegionState) reply).getShards()
+                            .forEach(shardState -> entityIds.addAll(shardState.getEntityIds()));
+                    return entityIds;
+                })
+                .toCompletableFuture();
+    }
+
+    private static List<List<EntityIdWithRevision>> groupByResourceType(final List<EntityIdWithRevision> batch) {
+        final Map<Class<?>, List<EntityIdWithRevision>> groups = new LinkedHashMap<>();
+        batch.forEach(element -> groups.computeIfAbsent(element.getClass(), k -> new ArrayList<>()).add(element));
+        return new ArrayList<>(groups.values());
+    }
+
     private void retrieveHealth(final RetrieveHealth trigger) {
         getSender().tell(RetrieveHealthResponse.of(renderStatusInfo(), trigger.getDittoHeaders()), getSelf());
     }
@@ -419,6 +579,7 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
                 .set(JSON_ACTIONS, actions.stream()
                         .map(EventSnapshotCleanupCoordinator::renderAction)
                         .collect(JsonCollectors.valuesToArray()))
+                .set(JSON_JOURNAL_SIDE, journalSideThroughput.render(), field -> config.isJournalSideCleanupEnabled())
                 .build();
     }
 
@@ -459,6 +620,103 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
         }
     }
 
+    /**
+     * Outcome of the journal-side cleanup of one batch of entities.
+     */
+    private static final class JournalSideCleanup {
+
+        private final int entities;
+        private final int skipped;
+        private final boolean failed;
+        private final long cleanedEntities;
+        private final long deletedEvents;
+        private final long deletedSnapshots;
+
+        private JournalSideCleanup(final int entities, final int skipped, final boolean failed,
+                final long cleanedEntities, final long deletedEvents, final long deletedSnapshots) {
+            this.entities = entities;
+            this.skipped = skipped;
+            this.failed = failed;
+            this.cleanedEntities = cleanedEntities;
+            this.deletedEvents = deletedEvents;
+            this.deletedSnapshots = deletedSnapshots;
+        }
+
+        private static JournalSideCleanup of(final int entities, final int skipped,
+                final CleanupJournalResponse response) {
+            return new JournalSideCleanup(entities, skipped, false, response.getCleanedEntities(),
+                    response.getDeletedEvents(), response.getDeletedSnapshots());
+        }
+
+        private static JournalSideCleanup skipped(final int skipped) {
+            return new JournalSideCleanup(skipped, skipped, false, 0L, 0L, 0L);
+        }
+
+        private static JournalSideCleanup failed(final int entities) {
+            return new JournalSideCleanup(entities, 0, true, 0L, 0L, 0L);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "entities=" + entities +
+                    ", skipped=" + skipped +
+                    ", failed=" + failed +
+                    ", cleanedEntities=" + cleanedEntities +
+                    ", deletedEvents=" + deletedEvents +
+                    ", deletedSnapshots=" + deletedSnapshots +
+                    "]";
+        }
+    }
+
+    /**
+     * Throughput of journal-side cleanup since the start of the current stream.
+     */
+    private static final class JournalSideThroughput {
+
+        private final Instant since = Instant.now();
+        private long batches;
+        private long failedBatches;
+        private long entities;
+        private long skippedActiveEntities;
+        private long cleanedEntities;
+        private long deletedEvents;
+        private long deletedSnapshots;
+
+        private void add(final JournalSideCleanup cleanup) {
+            batches++;
+            entities += cleanup.entities;
+            if (cleanup.failed) {
+                failedBatches++;
+            }
+            skippedActiveEntities += cleanup.skipped;
+            cleanedEntities += cleanup.cleanedEntities;
+            deletedEvents += cleanup.deletedEvents;
+            deletedSnapshots += cleanup.deletedSnapshots;
+            SKIPPED_ACTIVE_ENTITIES.increment(cleanup.skipped);
+            CLEANED_ENTITIES.increment(cleanup.cleanedEntities);
+            DELETED_EVENTS.increment(cleanup.deletedEvents);
+            DELETED_SNAPSHOTS.increment(cleanup.deletedSnapshots);
+        }
+
+        private JsonObject render() {
+            final double seconds = Math.max(1L, Duration.between(since, Instant.now()).getSeconds());
+            return JsonObject.newBuilder()
+                    .set("since", since.toString())
+                    .set("batches", batches)
+                    .set("failed-batches", failedBatches)
+                    .set("entities", entities)
+                    .set("skipped-active-entities", skippedActiveEntities)
+                    .set("cleaned-entities", cleanedEntities)
+                    .set("deleted-events", deletedEvents)
+                    .set("deleted-snapshots", deletedSnapshots)
+                    .set("entities-per-second", entities / seconds)
+                    .set("deleted-events-per-second", deletedEvents / seconds)
+                    .set("deleted-snapshots-per-second", deletedSnapshots / seconds)
+                    .build();
+        }
+    }
+
     private interface Event {
 
         String name();
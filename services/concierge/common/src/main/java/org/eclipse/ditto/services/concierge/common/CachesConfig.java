@@ -46,6 +46,29 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Indicates whether each policy loaded by the enforcer cache is also kept serialized off the Java heap so that
+     * its enforcer can be restored after an eviction without asking the policies shard region.
+     *
+     * @return whether the second tier of the enforcer cache is enabled.
+     */
+    boolean isEnforcerSecondTierEnabled();
+
+    /**
+     * Returns the config of the second tier of the enforcer cache.
+     *
+     * @return the config.
+     */
+    CacheConfig getEnforcerSecondTierConfig();
+
+    /**
+     * Returns the interval during which cache invalidations are collected before they are published to the other
+     * Concierge instances in one message. Zero means that each invalidation is published on its own immediately.
+     *
+     * @return the invalidation batch interval.
+     */
+    Duration getInvalidationBatchInterval();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
@@ -55,7 +78,17 @@ public interface CachesConfig {
         /**
          * The duration to wait for entity shard regions.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * Whether the second tier of the enforcer cache is enabled.
+         */
+        ENFORCER_SECOND_TIER_ENABLED("enforcer-second-tier.enabled", false),
+
+        /**
+         * The interval during which cache invalidations are collected before they are published.
+         */
+        INVALIDATION_BATCH_INTERVAL("invalidation-batch-interval", Duration.ofMillis(10L));
 
         private final String path;
         private final Object defaultValue;
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.concierge.common;
 
+import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.Objects;
 
@@ -20,6 +21,7 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
@@ -35,11 +37,31 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final boolean enforcerSecondTierEnabled;
+    private final CacheConfig enforcerSecondTierConfig;
+    private final Duration invalidationBatchInterval;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        enforcerSecondTierEnabled =
+                config.getBoolean(CachesConfigValue.ENFORCER_SECOND_TIER_ENABLED.getConfigPath());
+        enforcerSecondTierConfig = DefaultCacheConfig.of(config, "enforcer-second-tier");
+        invalidationBatchInterval =
+                config.getDuration(CachesConfigValue.INVALIDATION_BATCH_INTERVAL.getConfigPath());
+        validateEnforcerSecondTierExpiry();
+    }
+
+    private void validateEnforcerSecondTierExpiry() {
+        // entries restored from the second tier live in the first tier again; a longer expiry would prolong the
+        // inconsistency after losing a cache invalidation
+        if (enforcerSecondTierEnabled && enforcerSecondTierConfig.getExpireAfterWrite()
+                .compareTo(enforcerCacheConfig.getExpireAfterWrite()) > 0) {
+            throw new DittoConfigError(MessageFormat.format("<{0}.enforcer-second-tier.expire-after-write> <{1}> " +
+                            "must not exceed <{0}.enforcer.expire-after-write> <{2}>!", CONFIG_PATH, enforcerSecondTierConfig.getExpireAfterWrite(),
+                    enforcerCacheConfig.getExpireAfterWrite()));
+        }
     }
 
     /**
@@ -68,6 +90,21 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public boolean isEnforcerSecondTierEnabled() {
+        return enforcerSecondTierEnabled;
+    }
+
+    @Override
+    public CacheConfig getEnforcerSecondTierConfig() {
+        return enforcerSecondTierConfig;
+    }
+
+    @Override
+    public Duration getInvalidationBatchInterval() {
+        return invalidationBatchInterval;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -77,14 +114,18 @@ public final class DefaultCachesConfig implements CachesConfig {
             return false;
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
-        return askTimeout.equals(that.askTimeout) &&
+        return enforcerSecondTierEnabled == that.enforcerSecondTierEnabled &&
+                askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
-                enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                enforcerSecondTierConfig.equals(that.enforcerSecondTierConfig) &&
+                invalidationBatchInterval.equals(that.invalidationBatchInterval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, enforcerSecondTierEnabled,
+                enforcerSecondTierConfig, invalidationBatchInterval);
     }
 
     @Override
@@ -93,6 +134,9 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", enforcerSecondTierEnabled=" + enforcerSecondTierEnabled +
+                ", enforcerSecondTierConfig=" + enforcerSecondTierConfig +
+                ", invalidationBatchInterval=" + invalidationBatchInterval +
                 "]";
     }
 
@@ -27,6 +27,9 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
     private final Duration quietPeriod;
     private final Duration cleanupTimeout;
     private final int parallelism;
+    private final boolean journalSideCleanupEnabled;
+    private final int journalSideBatchSize;
+    private final Duration journalSideBatchInterval;
     private final int keptCreditDecisions;
     private final int keptActions;
     private final int keptEvents;
@@ -39,6 +42,9 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
         this.quietPeriod = config.getDuration(ConfigValue.QUIET_PERIOD.getConfigPath());
         this.cleanupTimeout = config.getDuration(ConfigValue.CLEANUP_TIMEOUT.getConfigPath());
         this.parallelism = config.getInt(ConfigValue.PARALLELISM.getConfigPath());
+        this.journalSideCleanupEnabled = config.getBoolean(ConfigValue.JOURNAL_SIDE_ENABLED.getConfigPath());
+        this.journalSideBatchSize = config.getInt(ConfigValue.JOURNAL_SIDE_BATCH_SIZE.getConfigPath());
+        this.journalSideBatchInterval = config.getDuration(ConfigValue.JOURNAL_SIDE_BATCH_INTERVAL.getConfigPath());
         this.keptCreditDecisions = config.getInt(ConfigValue.KEEP_CREDIT_DECISIONS.getConfigPath());
         this.keptActions = config.getInt(ConfigValue.KEEP_ACTIONS.getConfigPath());
         this.keptEvents = config.getInt(ConfigValue.KEEP_EVENTS.getConfigPath());
@@ -76,6 +82,21 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
         return parallelism;
     }
 
+    @Override
+    public boolean isJournalSideCleanupEnabled() {
+        return journalSideCleanupEnabled;
+    }
+
+    @Override
+    public int getJournalSideBatchSize() {
+        return journalSideBatchSize;
+    }
+
+    @Override
+    public Duration getJournalSideBatchInterval() {
+        return journalSideBatchInterval;
+    }
+
     @Override
     public CreditDecisionConfig getCreditDecisionConfig() {
         return creditDecisionConfig;
@@ -114,6 +135,9 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
                     Objects.equals(quietPeriod, that.quietPeriod) &&
                     Objects.equals(cleanupTimeout, that.cleanupTimeout) &&
                     parallelism == that.parallelism &&
+                    journalSideCleanupEnabled == that.journalSideCleanupEnabled &&
+                    journalSideBatchSize == that.journalSideBatchSize &&
+                    Objects.equals(journalSideBatchInterval, that.journalSideBatchInterval) &&
                     keptCreditDecisions == that.keptCreditDecisions &&
                     keptActions == that.keptActions &&
                     keptEvents == that.keptEvents &&
@@ -127,8 +151,9 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
 
     @Override
     public int hashCode() {
-        return Objects.hash(enabled, quietPeriod, cleanupTimeout, parallelism, keptCreditDecisions, keptActions,
-                keptEvents, creditDecisionConfig, persistenceIdsConfig, config);
+        return Objects.hash(enabled, quietPeriod, cleanupTimeout, parallelism, journalSideCleanupEnabled,
+                journalSideBatchSize, journalSideBatchInterval, keptCreditDecisions, keptActions, keptEvents,
+                creditDecisionConfig, persistenceIdsConfig, config);
     }
 
     @Override
@@ -138,6 +163,9 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
                 ", quietPeriod=" + quietPeriod +
                 ", cleanupTimeout=" + cleanupTimeout +
                 ", parallelism=" + parallelism +
+                ", journalSideCleanupEnabled=" + journalSideCleanupEnabled +
+                ", journalSideBatchSize=" + journalSideBatchSize +
+                ", journalSideBatchInterval=" + journalSideBatchInterval +
                 ", keptCreditDecisions" + keptCreditDecisions +
                 ", keptActions" + keptActions +
                 ", keptEvents" + keptEvents +
@@ -51,6 +51,28 @@ public interface PersistenceCleanupConfig {
      */
     int getParallelism();
 
+    /**
+     * Returns whether snapshots and events are deleted directly in the journal of each service instead of asking
+     * the persistence actors to clean up after themselves.
+     *
+     * @return whether journal-side cleanup is turned on.
+     */
+    boolean isJournalSideCleanupEnabled();
+
+    /**
+     * Returns how many entities to clean up per journal-side cleanup command.
+     *
+     * @return the batch size.
+     */
+    int getJournalSideBatchSize();
+
+    /**
+     * Returns how long to wait for a batch of journal-side cleanup to fill up.
+     *
+     * @return the maximum time to collect a batch.
+     */
+    Duration getJournalSideBatchInterval();
+
     /**
      * Returns configuration settings for credit decision.
      *
@@ -128,6 +150,21 @@ public interface PersistenceCleanupConfig {
          */
         PARALLELISM("parallelism", 1),
 
+        /**
+         * Whether to delete snapshots and events directly in the journals instead of via the persistence actors.
+         */
+        JOURNAL_SIDE_ENABLED("journal-side.enabled", false),
+
+        /**
+         * Number of entities to clean up per journal-side cleanup command.
+         */
+        JOURNAL_SIDE_BATCH_SIZE("journal-side.batch-size", 100),
+
+        /**
+         * Maximum time to collect a batch of entities for journal-side cleanup.
+         */
+        JOURNAL_SIDE_BATCH_INTERVAL("journal-side.batch-interval", Duration.ofSeconds(1L)),
+
         /**
          * How many credit decisions to keep in the actor state.
          */
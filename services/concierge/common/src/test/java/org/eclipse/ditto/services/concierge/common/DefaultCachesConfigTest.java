@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.concierge.common;
 
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
@@ -19,6 +20,7 @@ import java.time.Duration;
 
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
@@ -62,6 +64,12 @@ public final class DefaultCachesConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as("getAskTimeout")
                 .isEqualTo(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.isEnforcerSecondTierEnabled())
+                .as("isEnforcerSecondTierEnabled")
+                .isEqualTo(CachesConfig.CachesConfigValue.ENFORCER_SECOND_TIER_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getInvalidationBatchInterval())
+                .as("getInvalidationBatchInterval")
+                .isEqualTo(CachesConfig.CachesConfigValue.INVALIDATION_BATCH_INTERVAL.getDefaultValue());
     }
 
     @Test
@@ -93,5 +101,35 @@ public final class DefaultCachesConfigTest {
                             .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
                             .isEqualTo(Duration.ofMinutes(15L));
                 });
+
+        softly.assertThat(underTest.isEnforcerSecondTierEnabled())
+                .as(CachesConfig.CachesConfigValue.ENFORCER_SECOND_TIER_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getEnforcerSecondTierConfig())
+                .as("enforcerSecondTierConfig")
+                .satisfies(secondTierConfig -> {
+                    softly.assertThat(secondTierConfig.getMaximumSize())
+                            .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                            .isEqualTo(100000);
+                    softly.assertThat(secondTierConfig.getExpireAfterWrite())
+                            .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                            .isEqualTo(Duration.ofMinutes(10L));
+                });
+
+        softly.assertThat(underTest.getInvalidationBatchInterval())
+                .as(CachesConfig.CachesConfigValue.INVALIDATION_BATCH_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofMillis(5L));
     }
+
+    @Test
+    public void secondTierMustNotExpireAfterFirstTier() {
+        final Config config = ConfigFactory.parseString("caches.enforcer-second-tier.expire-after-write=1h")
+                .withFallback(cachesTestConf);
+
+        assertThatExceptionOfType(DittoConfigError.class)
+                .isThrownBy(() -> DefaultCachesConfig.of(config))
+                .withMessageContaining("enforcer-second-tier.expire-after-write");
+    }
+
 }
@@ -79,6 +79,18 @@ public final class DefaultPersistenceCleanupConfigTest {
                 .as(PersistenceCleanupConfig.ConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(160L);
 
+        softly.assertThat(underTest.isJournalSideCleanupEnabled())
+                .as(PersistenceCleanupConfig.ConfigValue.JOURNAL_SIDE_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getJournalSideBatchSize())
+                .as(PersistenceCleanupConfig.ConfigValue.JOURNAL_SIDE_BATCH_SIZE.getConfigPath())
+                .isEqualTo(165);
+
+        softly.assertThat(underTest.getJournalSideBatchInterval())
+                .as(PersistenceCleanupConfig.ConfigValue.JOURNAL_SIDE_BATCH_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(166L));
+
         softly.assertThat(underTest.getKeptCreditDecisions())
                 .as(PersistenceCleanupConfig.ConfigValue.KEEP_CREDIT_DECISIONS.getConfigPath())
                 .isEqualTo(170L);
@@ -12,6 +12,10 @@
  */
 package org.eclipse.ditto.services.concierge.enforcement;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
@@ -20,10 +24,13 @@ import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.EnforcementConfig;
+import org.eclipse.ditto.services.models.concierge.BatchedSignals;
+import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.CaffeineCache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntries;
 import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
@@ -38,6 +45,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 
 import akka.NotUsed;
 import akka.actor.ActorRef;
+import akka.actor.Cancellable;
 import akka.japi.pf.ReceiveBuilder;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Sink;
@@ -49,12 +57,18 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
 
     private static final String TIMER_NAME = "concierge_enforcements";
 
+    private static final Object PUBLISH_INVALIDATIONS = new Object();
+
     /**
      * Contextual information about this actor.
      */
     protected final Contextual<WithDittoHeaders> contextual;
 
     private final EnforcementConfig enforcementConfig;
+    private final Duration invalidationBatchInterval;
+    private final ActorRef pubSubMediator;
+    private final Set<InvalidateCacheEntry> pendingInvalidations;
+    @Nullable private Cancellable publishInvalidationsTimer;
 
     @Nullable
     private final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache;
@@ -81,9 +95,14 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
 
         super(WithDittoHeaders.class);
 
-        enforcementConfig = DittoConciergeConfig.of(
+        final DittoConciergeConfig conciergeConfig = DittoConciergeConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getEnforcementConfig();
+        );
+        enforcementConfig = conciergeConfig.getEnforcementConfig();
+        invalidationBatchInterval = conciergeConfig.getCachesConfig().getInvalidationBatchInterval();
+        this.pubSubMediator = pubSubMediator;
+        pendingInvalidations = new LinkedHashSet<>();
+        publishInvalidationsTimer = null;
 
         this.thingIdCache = thingIdCache;
         this.aclEnforcerCache = aclEnforcerCache;
@@ -98,15 +117,43 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
     }
 
+    /**
+     * Create the message which makes an enforcer actor publish a cache invalidation to the enforcer actors of the
+     * other Concierge instances. Invalidations of the same interval are published in one message.
+     *
+     * @param invalidateCacheEntry the cache invalidation; the caches of the publishing instance must have been
+     * invalidated already.
+     * @return the message.
+     */
+    static Object publishInvalidation(final InvalidateCacheEntry invalidateCacheEntry) {
+        return new PublishInvalidation(invalidateCacheEntry);
+    }
+
     @Override
     protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
         receiveBuilder.match(InvalidateCacheEntry.class, invalidateCacheEntry -> {
             logger.debug("Received <{}>.", invalidateCacheEntry);
             final EntityIdWithResourceType entityId = invalidateCacheEntry.getEntityId();
             invalidateCaches(entityId);
+        }).match(InvalidateCacheEntries.class, invalidateCacheEntries -> {
+            logger.debug("Received <{}>.", invalidateCacheEntries);
+            invalidateCacheEntries.getEntries().forEach(entry -> invalidateCaches(entry.getEntityId()));
+        }).match(PublishInvalidation.class, publishInvalidation ->
+                addPendingInvalidation(publishInvalidation.invalidateCacheEntry)
+        ).matchEquals(PUBLISH_INVALIDATIONS, publishInvalidations -> publishPendingInvalidations()
+        ).match(BatchedSignals.class, batchedSignals -> {
+            logger.debug("Received batch of <{}> signals.", batchedSignals.getSignals().size());
+            // enqueue the signals in the order of the batch, each with the sender of the batch
+            batchedSignals.getSignals().forEach(signal -> getSelf().forward(signal, getContext()));
         });
     }
 
+    @Override
+    public void postStop() throws Exception {
+        publishPendingInvalidations();
+        super.postStop();
+    }
+
     private void invalidateCaches(final EntityIdWithResourceType entityId) {
         if (thingIdCache != null) {
             final boolean invalidated = thingIdCache.invalidate(entityId);
@@ -122,6 +169,35 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         }
     }
 
+    private void addPendingInvalidation(final InvalidateCacheEntry invalidateCacheEntry) {
+        pendingInvalidations.add(invalidateCacheEntry);
+        if (invalidationBatchInterval.isZero()) {
+            publishPendingInvalidations();
+        } else if (publishInvalidationsTimer == null) {
+            publishInvalidationsTimer = getContext().getSystem()
+                    .scheduler()
+                    .scheduleOnce(invalidationBatchInterval, getSelf(), PUBLISH_INVALIDATIONS,
+                            getContext().getDispatcher(), getSelf());
+        }
+    }
+
+    private void publishPendingInvalidations() {
+        if (publishInvalidationsTimer != null) {
+            publishInvalidationsTimer.cancel();
+            publishInvalidationsTimer = null;
+        }
+        if (!pendingInvalidations.isEmpty()) {
+            // single invalidations are published as such for compatibility with instances unaware of batches
+            final Object message = pendingInvalidations.size() == 1
+                    ? pendingInvalidations.iterator().next()
+                    : InvalidateCacheEntries.of(new ArrayList<>(pendingInvalidations));
+            logger.debug("Publishing <{}> cache invalidations.", pendingInvalidations.size());
+            pubSubMediator.tell(DistPubSubAccess.sendToAll(ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
+                    message, true), getSelf());
+            pendingInvalidations.clear();
+        }
+    }
+
     @Override
     protected Contextual<WithDittoHeaders> beforeProcessMessage(final Contextual<WithDittoHeaders> contextual) {
         return contextual.withTimer(createTimer(contextual.getMessage()));
@@ -167,4 +243,14 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         return CaffeineCache.of(Caffeine.newBuilder().expireAfterWrite(120, TimeUnit.SECONDS));
     }
 
+    private static final class PublishInvalidation {
+
+        private final InvalidateCacheEntry invalidateCacheEntry;
+
+        private PublishInvalidation(final InvalidateCacheEntry invalidateCacheEntry) {
+            this.invalidateCacheEntry = invalidateCacheEntry;
+        }
+
+    }
+
 }
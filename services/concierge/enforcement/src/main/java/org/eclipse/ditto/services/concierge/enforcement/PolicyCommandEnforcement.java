@@ -32,7 +32,6 @@ import org.eclipse.ditto.model.policies.PoliciesResourceType;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.policies.ResourceKey;
-import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.policies.Permission;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cache.Cache;
@@ -40,7 +39,6 @@ import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.IdentityCache;
-import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.base.CommandToExceptionRegistry;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyCommandToAccessExceptionRegistry;
@@ -245,11 +243,8 @@ public final class PolicyCommandEnforcement extends AbstractEnforcement<PolicyCo
     private void invalidateCaches(final PolicyId policyId) {
         final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyId);
         enforcerCache.invalidate(entityId);
-        pubSubMediator().tell(DistPubSubAccess.sendToAll(
-                        ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
-                        InvalidateCacheEntry.of(entityId),
-                        true),
-                self());
+        self().tell(AbstractEnforcerActor.publishInvalidation(InvalidateCacheEntry.of(entityId)),
+                ActorRef.noSender());
     }
 
     private CompletionStage<WithDittoHeaders> askPoliciesShardRegionAndBuildJsonView(
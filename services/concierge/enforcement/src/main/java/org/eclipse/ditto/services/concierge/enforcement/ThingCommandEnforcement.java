@@ -67,7 +67,6 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.references.PolicyIdReferencePlaceholderResolver;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.references.ReferencePlaceholder;
-import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.policies.Permission;
 import org.eclipse.ditto.services.models.policies.PoliciesAclMigrations;
 import org.eclipse.ditto.services.models.policies.PoliciesValidator;
@@ -78,7 +77,6 @@ import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.IdentityCache;
-import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.base.CommandToExceptionRegistry;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
@@ -598,21 +596,15 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId);
         thingIdCache.invalidate(entityId);
         aclEnforcerCache.invalidate(entityId);
-        pubSubMediator().tell(DistPubSubAccess.sendToAll(
-                        ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
-                        InvalidateCacheEntry.of(entityId),
-                        true),
-                self());
+        self().tell(AbstractEnforcerActor.publishInvalidation(InvalidateCacheEntry.of(entityId)),
+                ActorRef.noSender());
     }
 
     private void invalidatePolicyCache(final PolicyId policyId) {
         final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyId);
         policyEnforcerCache.invalidate(entityId);
-        pubSubMediator().tell(DistPubSubAccess.sendToAll(
-                        ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
-                        InvalidateCacheEntry.of(entityId),
-                        true),
-                self());
+        self().tell(AbstractEnforcerActor.publishInvalidation(InvalidateCacheEntry.of(entityId)),
+                ActorRef.noSender());
     }
 
     /**
@@ -26,6 +26,7 @@ import static org.eclipse.ditto.services.concierge.enforcement.TestSetup.THING_S
 import static org.eclipse.ditto.services.concierge.enforcement.TestSetup.fishForMsgClass;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -51,9 +52,11 @@ import org.eclipse.ditto.model.things.Feature;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingBuilder;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.concierge.BatchedSignals;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyNotAccessibleException;
 import org.eclipse.ditto.signals.commands.policies.modify.CreatePolicyResponse;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
@@ -284,6 +287,31 @@ public final class ThingCommandEnforcementTest {
 
     }
 
+    @Test
+    public void acceptBatchedSignals() {
+        final JsonObject thingWithAcl = newThing()
+                .setPermissions(
+                        AclEntry.newInstance(SUBJECT, READ, WRITE, ADMINISTRATE))
+                .build()
+                .toJson(V_1, FieldType.all());
+        final SudoRetrieveThingResponse response =
+                SudoRetrieveThingResponse.of(thingWithAcl, DittoHeaders.empty());
+
+        new TestKit(system) {{
+            mockEntitiesActorInstance.setReply(THING_SUDO, response);
+
+            final ActorRef underTest = newEnforcerActor(getRef());
+            final ThingCommand read = getReadCommand();
+            final ThingCommand write = getModifyCommand();
+            mockEntitiesActorInstance.setHandler(read.getResourceType(), signal -> signal);
+            underTest.tell(BatchedSignals.of(Arrays.<Signal<?>>asList(read, write)), getRef());
+            assertThat((CharSequence) fishForMsgClass(this, read.getClass()).getEntityId()).isEqualTo(
+                    read.getEntityId());
+            assertThat((CharSequence) expectMsgClass(write.getClass()).getEntityId()).isEqualTo(write.getEntityId());
+        }};
+
+    }
+
     @Test
     public void acceptByPolicy() {
         final PolicyId policyId = PolicyId.of("policy:id");
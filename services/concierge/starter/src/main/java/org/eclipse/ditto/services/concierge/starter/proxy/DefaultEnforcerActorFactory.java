@@ -47,6 +47,8 @@ import org.eclipse.ditto.services.models.concierge.pubsub.LiveSignalPub;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.OffHeapEntryCache;
+import org.eclipse.ditto.services.utils.cache.TwoTierCache;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.AclEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
@@ -65,6 +67,7 @@ import akka.actor.ActorContext;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.dispatch.MessageDispatcher;
 
 /**
  * Ditto default implementation of{@link EnforcerActorFactory}.
@@ -98,12 +101,28 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE,
                         actorSystem.dispatchers().lookup("thing-id-cache-dispatcher"));
 
-        final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCacheLoader =
-                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy);
-        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
-                CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
-                        ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
-                        actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"));
+        final MessageDispatcher policyEnforcerCacheDispatcher =
+                actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher");
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+        if (cachesConfig.isEnforcerSecondTierEnabled()) {
+            // ignore the cache lookup context so that invalidations reach the second tier regardless of it
+            final OffHeapEntryCache<EntityIdWithResourceType> policySecondTier =
+                    OffHeapEntryCache.of(cachesConfig.getEnforcerSecondTierConfig(),
+                            ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy_second_tier", policyEnforcerCacheDispatcher,
+                            entityId -> EntityIdWithResourceType.of(entityId.getResourceType(), entityId.getId()));
+            final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCacheLoader =
+                    new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy, policySecondTier);
+            policyEnforcerCache = TwoTierCache.of(
+                    CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
+                            ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy", policyEnforcerCacheDispatcher),
+                    policySecondTier);
+        } else {
+            final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCacheLoader =
+                    new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy);
+            policyEnforcerCache =
+                    CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
+                            ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy", policyEnforcerCacheDispatcher);
+        }
 
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCacheLoader =
                 new AclEnforcerCacheLoader(askTimeout, thingsShardRegionProxy);
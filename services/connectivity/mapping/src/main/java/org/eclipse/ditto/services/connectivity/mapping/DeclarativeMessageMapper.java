@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping;
+
+import static java.util.Collections.singletonList;
+
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.CharsetDeterminer;
+import org.eclipse.ditto.model.base.common.Placeholders;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.MessageMapperConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
+import org.eclipse.ditto.model.placeholders.ExpressionResolver;
+import org.eclipse.ditto.model.placeholders.HeadersPlaceholder;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingIdInvalidException;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.protocoladapter.TopicPathBuilder;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+/**
+ * A message mapper which maps JSON payloads to {@code modify} commands of a Thing without executing any script.
+ * The mapping is declared by the options of the mapper and compiled once when the mapper is configured:
+ * <ul>
+ * <li>{@code thingId} (mandatory): the ID of the modified Thing, either a fixed value or a template containing header
+ * placeholders, e.g. {@code org.eclipse.ditto:{{ header:device_id }}}.</li>
+ * <li>{@code channel}: the channel of the commands, {@code twin} (default) or {@code live}.</li>
+ * <li>{@code path}: the JSON pointer of the modified part of the Thing, default {@code /} if fields are declared.</li>
+ * <li>{@code field:<target pointer>}: the JSON pointer into the payload of the value to set at the target pointer,
+ * which is relative to {@code path}. Each declared field is modified by its own command, so that the parts of the
+ * Thing which are not declared are kept. If no field is declared, the complete payload is the modified value and
+ * {@code path} is mandatory.</li>
+ * <li>{@code factor:<target pointer>} and {@code offset:<target pointer>}: linear unit conversion
+ * {@code value * factor + offset} of the numeric value set at the target pointer.</li>
+ * <li>{@code header:<name>}: a constant header added to the mapped command.</li>
+ * </ul>
+ * Declared fields which are absent in the payload are skipped. Outgoing messages are dropped.
+ */
+@PayloadMapper(
+        alias = "Declarative",
+        requiresMandatoryConfiguration = true // "thingId" is mandatory configuration
+)
+public final class DeclarativeMessageMapper extends AbstractMessageMapper {
+
+    static final String THING_ID = "thingId";
+    static final String CHANNEL = "channel";
+    static final String PATH = "path";
+    static final String FIELD_PREFIX = "field:";
+    static final String FACTOR_PREFIX = "factor:";
+    static final String OFFSET_PREFIX = "offset:";
+    static final String HEADER_PREFIX = "header:";
+
+    private static final String CORRELATION_ID = DittoHeaderDefinition.CORRELATION_ID.getKey();
+    private static final HeadersPlaceholder HEADERS_PLACEHOLDER = PlaceholderFactory.newHeadersPlaceholder();
+
+    private String thingIdTemplate;
+    private boolean liveChannel;
+    @Nullable private TopicPath fixedTopicPath;
+    private JsonPointer path;
+    private FieldMapping[] fieldMappings;
+    private DittoHeaders constantHeaders;
+
+    @Override
+    protected void doConfigure(final MappingConfig mappingConfig, final MessageMapperConfiguration configuration) {
+        thingIdTemplate = configuration.getProperty(THING_ID);
+        liveChannel = isLiveChannel(configuration.findProperty(CHANNEL).orElse(TopicPath.Channel.TWIN.getName()));
+        fixedTopicPath = Placeholders.containsAnyPlaceholder(thingIdTemplate)
+                ? null
+                : toTopicPath(toThingId(thingIdTemplate, THING_ID));
+        final Optional<JsonPointer> configuredPath = configuration.findProperty(PATH).map(JsonPointer::of);
+        path = configuredPath.orElse(JsonPointer.empty());
+
+        final Map<String, String> properties = configuration.getProperties();
+        final List<FieldMapping> fields = new ArrayList<>();
+        final Map<String, String> headers = new HashMap<>();
+        properties.forEach((key, value) -> {
+            if (key.startsWith(FIELD_PREFIX)) {
+                final String target = key.substring(FIELD_PREFIX.length());
+                fields.add(new FieldMapping(JsonPointer.of(value), path.append(JsonPointer.of(target)),
+                        getNumber(properties, FACTOR_PREFIX + target, 1.0),
+                        getNumber(properties, OFFSET_PREFIX + target, 0.0)));
+            } else if (key.startsWith(HEADER_PREFIX)) {
+                headers.put(key.substring(HEADER_PREFIX.length()), value);
+            } else if ((key.startsWith(FACTOR_PREFIX) || key.startsWith(OFFSET_PREFIX)) &&
+                    !properties.containsKey(FIELD_PREFIX + key.substring(key.indexOf(':') + 1))) {
+                throw MessageMapperConfigurationInvalidException.newBuilder(key)
+                        .message("The unit conversion <" + key + "> refers to no declared field.")
+                        .description("Declare the field <" + FIELD_PREFIX + key.substring(key.indexOf(':') + 1) +
+                                "> to convert its value.")
+                        .build();
+            }
+        });
+        if (fields.isEmpty() && !configuredPath.isPresent()) {
+            // modifying the complete Thing by default would delete all of its parts missing in the payload
+            throw MessageMapperConfigurationInvalidException.newBuilder(PATH)
+                    .message("The option <" + PATH + "> is mandatory if no field is declared.")
+                    .description("Declare the part of the Thing to replace with the payload, or declare fields.")
+                    .build();
+        }
+        fieldMappings = fields.toArray(new FieldMapping[0]);
+        constantHeaders = DittoHeaders.of(headers);
+    }
+
+    @Override
+    public List<Adaptable> map(final ExternalMessage message) {
+        final Map<String, String> externalHeaders = message.getHeaders();
+        final JsonValue payload = parsePayload(message);
+        final TopicPath topicPath = fixedTopicPath != null
+                ? fixedTopicPath
+                : toTopicPath(resolveThingId(externalHeaders));
+        final DittoHeaders dittoHeaders = getHeaders(externalHeaders);
+        if (fieldMappings.length == 0) {
+            return singletonList(toAdaptable(topicPath, path, payload, dittoHeaders));
+        } else if (payload.isObject()) {
+            // fields absent in the payload are skipped; if none is present, there is nothing to modify
+            final List<Adaptable> adaptables = new ArrayList<>(fieldMappings.length);
+            for (final FieldMapping fieldMapping : fieldMappings) {
+                final Optional<JsonValue> sourceValue = fieldMapping.source.isEmpty()
+                        ? Optional.of(payload)
+                        : payload.asObject().getValue(fieldMapping.source);
+                sourceValue.ifPresent(value -> adaptables.add(toAdaptable(topicPath, fieldMapping.target,
+                        fieldMapping.convert(value, externalHeaders), dittoHeaders)));
+            }
+            return adaptables;
+        } else {
+            throw MessageMappingFailedException.newBuilder(message.findContentType().orElse(""))
+                    .description("The payload must be a JSON object in order to extract the declared fields.")
+                    .dittoHeaders(DittoHeaders.of(externalHeaders))
+                    .build();
+        }
+    }
+
+    @Override
+    public List<ExternalMessage> map(final Adaptable adaptable) {
+        return Collections.emptyList();
+    }
+
+    private static Adaptable toAdaptable(final TopicPath topicPath, final JsonPointer path, final JsonValue value,
+            final DittoHeaders dittoHeaders) {
+
+        return ProtocolFactory.newAdaptableBuilder(topicPath)
+                .withPayload(ProtocolFactory.newPayloadBuilder(path).withValue(value).build())
+                .withHeaders(dittoHeaders)
+                .build();
+    }
+
+    private ThingId resolveThingId(final Map<String, String> externalHeaders) {
+        final ExpressionResolver expressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(HEADERS_PLACEHOLDER, externalHeaders));
+        try {
+            return ThingId.of(PlaceholderFilter.apply(thingIdTemplate, expressionResolver));
+        } catch (final ThingIdInvalidException e) {
+            throw MessageMappingFailedException.newBuilder((String) null)
+                    .message(e.getMessage())
+                    .description("Make sure that the headers referenced by the Thing ID template <" +
+                            thingIdTemplate + "> resolve to a valid Thing ID.")
+                    .dittoHeaders(DittoHeaders.of(externalHeaders))
+                    .build();
+        }
+    }
+
+    private DittoHeaders getHeaders(final Map<String, String> externalHeaders) {
+        final String correlationId = externalHeaders.get(CORRELATION_ID);
+        if (correlationId == null || constantHeaders.containsKey(CORRELATION_ID)) {
+            return constantHeaders;
+        } else {
+            return constantHeaders.toBuilder().correlationId(correlationId).build();
+        }
+    }
+
+    private TopicPath toTopicPath(final ThingId thingId) {
+        final TopicPathBuilder builder = ProtocolFactory.newTopicPathBuilder(thingId).things();
+        return (liveChannel ? builder.live() : builder.twin()).commands().modify().build();
+    }
+
+    private static ThingId toThingId(final String thingId, final String property) {
+        try {
+            return ThingId.of(thingId);
+        } catch (final ThingIdInvalidException e) {
+            throw MessageMapperConfigurationInvalidException.newBuilder(property)
+                    .message(e.getMessage())
+                    .description(e.getDescription().orElse("Make sure to use a valid Thing ID."))
+                    .build();
+        }
+    }
+
+    private static boolean isLiveChannel(final String channel) {
+        if (TopicPath.Channel.LIVE.getName().equals(channel)) {
+            return true;
+        } else if (TopicPath.Channel.TWIN.getName().equals(channel)) {
+            return false;
+        } else {
+            throw MessageMapperConfigurationInvalidException.newBuilder(CHANNEL)
+                    .message("The channel <" + channel + "> is invalid.")
+                    .description("Use either <twin> or <live>.")
+                    .build();
+        }
+    }
+
+    private static double getNumber(final Map<String, String> properties, final String key,
+            final double defaultValue) {
+        final String value = properties.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (final NumberFormatException e) {
+            throw MessageMapperConfigurationInvalidException.newBuilder(key)
+                    .message("The value <" + value + "> of <" + key + "> is not a number.")
+                    .build();
+        }
+    }
+
+    private static JsonValue parsePayload(final ExternalMessage message) {
+        final Optional<String> payload;
+        if (message.isTextMessage()) {
+            payload = message.getTextPayload();
+        } else if (message.isBytesMessage()) {
+            final Charset charset = CharsetDeterminer.getInstance()
+                    .apply(message.getHeaders().get(ExternalMessage.CONTENT_TYPE_HEADER));
+            payload = message.getBytePayload().map(charset::decode).map(CharBuffer::toString);
+        } else {
+            payload = Optional.empty();
+        }
+
+        final String jsonString = payload.filter(s -> !s.isEmpty()).orElseThrow(() ->
+                MessageMappingFailedException.newBuilder(message.findContentType().orElse(""))
+                        .description(
+                                "As payload was absent or empty, please make sure to send payload in your messages.")
+                        .dittoHeaders(DittoHeaders.of(message.getHeaders()))
+                        .build());
+        return DittoJsonException.wrapJsonRuntimeException(() -> JsonFactory.readFrom(jsonString));
+    }
+
+    /**
+     * A declared field: the pointer of its value in the payload, the pointer of the value in the Thing and the linear
+     * unit conversion of numeric values.
+     */
+    private static final class FieldMapping {
+
+        private final JsonPointer source;
+        private final JsonPointer target;
+        private final double factor;
+        private final double offset;
+        private final boolean converting;
+
+        private FieldMapping(final JsonPointer source, final JsonPointer target, final double factor,
+                final double offset) {
+            this.source = source;
+            this.target = target;
+            this.factor = factor;
+            this.offset = offset;
+            converting = factor != 1.0 || offset != 0.0;
+        }
+
+        private JsonValue convert(final JsonValue value, final Map<String, String> externalHeaders) {
+            if (!converting) {
+                return value;
+            } else if (value.isNumber()) {
+                return JsonValue.of(value.asDouble() * factor + offset);
+            } else {
+                throw MessageMappingFailedException.newBuilder((String) null)
+                        .message("The value <" + value + "> at <" + source + "> is not a number.")
+                        .description("Make sure that the payload contains numbers at the fields to convert.")
+                        .dittoHeaders(DittoHeaders.of(externalHeaders))
+                        .build();
+            }
+        }
+
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.connectivity.mapping;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
@@ -33,12 +34,18 @@ public final class DefaultMappingConfig implements MappingConfig {
 
     private final int bufferSize;
     private final int parallelism;
+    private final int maxBatchSize;
+    private final Duration maxBatchDelay;
+    private final boolean batchInboundSignals;
     private final JavaScriptConfig javaScriptConfig;
     private final MapperLimitsConfig mapperLimitsConfig;
 
     private DefaultMappingConfig(final ScopedConfig config) {
         bufferSize = config.getInt(MappingConfigValue.BUFFER_SIZE.getConfigPath());
         parallelism = config.getInt(MappingConfigValue.PARALLELISM.getConfigPath());
+        maxBatchSize = config.getInt(MappingConfigValue.MAX_BATCH_SIZE.getConfigPath());
+        maxBatchDelay = config.getDuration(MappingConfigValue.MAX_BATCH_DELAY.getConfigPath());
+        batchInboundSignals = config.getBoolean(MappingConfigValue.BATCH_INBOUND_SIGNALS.getConfigPath());
         mapperLimitsConfig = DefaultMapperLimitsConfig.of(config);
         javaScriptConfig = DefaultJavaScriptConfig.of(config);
     }
@@ -67,6 +74,21 @@ public final class DefaultMappingConfig implements MappingConfig {
         return parallelism;
     }
 
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public Duration getMaxBatchDelay() {
+        return maxBatchDelay;
+    }
+
+    @Override
+    public boolean isBatchInboundSignals() {
+        return batchInboundSignals;
+    }
+
     @Override
     public JavaScriptConfig getJavaScriptConfig() {
         return javaScriptConfig;
@@ -88,13 +110,17 @@ public final class DefaultMappingConfig implements MappingConfig {
         final DefaultMappingConfig that = (DefaultMappingConfig) o;
         return bufferSize == that.bufferSize &&
                 parallelism == that.parallelism &&
+                maxBatchSize == that.maxBatchSize &&
+                Objects.equals(maxBatchDelay, that.maxBatchDelay) &&
+                batchInboundSignals == that.batchInboundSignals &&
                 Objects.equals(javaScriptConfig, that.javaScriptConfig) &&
                 Objects.equals(mapperLimitsConfig, that.mapperLimitsConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(bufferSize, parallelism, javaScriptConfig, mapperLimitsConfig);
+        return Objects.hash(bufferSize, parallelism, maxBatchSize, maxBatchDelay, batchInboundSignals, javaScriptConfig,
+                mapperLimitsConfig);
     }
 
     @Override
@@ -102,6 +128,9 @@ public final class DefaultMappingConfig implements MappingConfig {
         return getClass().getSimpleName() + " [" +
                 "bufferSize=" + bufferSize +
                 ", parallelism=" + parallelism +
+                ", maxBatchSize=" + maxBatchSize +
+                ", maxBatchDelay=" + maxBatchDelay +
+                ", batchInboundSignals=" + batchInboundSignals +
                 ", javaScriptConfig=" + javaScriptConfig +
                 ", mapperLimitsConfig=" + mapperLimitsConfig +
                 "]";
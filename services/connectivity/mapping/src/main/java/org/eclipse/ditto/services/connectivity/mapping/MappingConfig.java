@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.connectivity.mapping;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptConfig;
@@ -39,6 +41,30 @@ public interface MappingConfig {
      */
     int getParallelism();
 
+    /**
+     * Returns the maximum number of messages which the message mapping processor actor groups into one batch in order
+     * to map them in one task.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns the maximum time the message mapping processor actor waits for a batch to fill up before mapping the
+     * messages grouped so far.
+     *
+     * @return the maximum batch delay.
+     */
+    Duration getMaxBatchDelay();
+
+    /**
+     * Returns whether the message mapping processor actor sends the inbound signals mapped in one batch to concierge
+     * together, grouped per entity, instead of one by one.
+     *
+     * @return whether inbound signals are sent to concierge in batches.
+     */
+    boolean isBatchInboundSignals();
+
     /**
      * Returns the config of the JavaScript message mapping.
      *
@@ -67,7 +93,22 @@ public interface MappingConfig {
         /**
          * The parallelism used for processing messages in parallel in message mapping processor actor.
          */
-        PARALLELISM("parallelism", 64);
+        PARALLELISM("parallelism", 64),
+
+        /**
+         * The maximum number of messages mapped in one batch.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 1),
+
+        /**
+         * The maximum time to wait for a batch to fill up.
+         */
+        MAX_BATCH_DELAY("max-batch-delay", Duration.ofMillis(5)),
+
+        /**
+         * Whether inbound signals mapped in one batch are sent to concierge together.
+         */
+        BATCH_INBOUND_SIGNALS("batch-inbound-signals", false);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.connectivity.MessageMapperConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
+import org.eclipse.ditto.model.things.Attributes;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.FeatureProperties;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link DeclarativeMessageMapper}.
+ */
+public final class DeclarativeMessageMapperTest {
+
+    private static final MappingConfig MAPPING_CONFIG = DefaultMappingConfig.of(ConfigFactory.empty());
+    private static final String PAYLOAD = "{\"device\":{\"temp\":77,\"humidity\":42.5},\"status\":\"ok\"}";
+
+    private Map<String, String> options;
+    private Map<String, String> headers;
+    private MessageMapper underTest;
+
+    @Before
+    public void setUp() {
+        options = new HashMap<>();
+        options.put(DeclarativeMessageMapper.THING_ID, "org.eclipse.ditto:{{ header:device_id }}");
+        options.put(DeclarativeMessageMapper.PATH, "/features");
+        options.put("field:/temperature/properties/value", "/device/temp");
+        options.put("factor:/temperature/properties/value", "0.5");
+        options.put("offset:/temperature/properties/value", "-10");
+        options.put("field:/humidity/properties/value", "/device/humidity");
+        options.put("field:/status/properties/value", "/status");
+        options.put("field:/absent/properties/value", "/device/absent");
+        options.put("header:response-required", "false");
+
+        headers = new HashMap<>();
+        headers.put("device_id", "sensor-1");
+        headers.put("correlation-id", "cid");
+        headers.put(ExternalMessage.CONTENT_TYPE_HEADER, "application/json");
+        underTest = new DeclarativeMessageMapper();
+    }
+
+    @Test
+    public void mapsEachDeclaredFieldToItsOwnModifyCommand() {
+        configure();
+
+        final List<Adaptable> result = underTest.map(ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withText(PAYLOAD)
+                .build());
+
+        final Map<String, JsonValue> valuesByPath = new HashMap<>();
+        for (final Adaptable adaptable : result) {
+            final TopicPath topicPath = adaptable.getTopicPath();
+            assertThat(topicPath.getNamespace()).isEqualTo("org.eclipse.ditto");
+            assertThat(topicPath.getId()).isEqualTo("sensor-1");
+            assertThat(topicPath.getChannel()).isEqualTo(TopicPath.Channel.TWIN);
+            assertThat(topicPath.getCriterion()).isEqualTo(TopicPath.Criterion.COMMANDS);
+            assertThat(topicPath.getAction()).contains(TopicPath.Action.MODIFY);
+            assertThat(adaptable.getHeaders()).hasValueSatisfying(dittoHeaders -> {
+                assertThat(dittoHeaders.getCorrelationId()).contains("cid");
+                assertThat(dittoHeaders.isResponseRequired()).isFalse();
+            });
+            valuesByPath.put(adaptable.getPayload().getPath().toString(),
+                    adaptable.getPayload().getValue().orElse(null));
+        }
+        assertThat(valuesByPath).containsOnly(
+                entry("/features/temperature/properties/value", JsonValue.of(28.5)),
+                entry("/features/humidity/properties/value", JsonValue.of(42.5)),
+                entry("/features/status/properties/value", JsonValue.of("ok")));
+    }
+
+    @Test
+    public void keepsUndeclaredFieldsOfThing() {
+        options.remove(DeclarativeMessageMapper.PATH);
+        options.keySet().removeIf(key -> key.startsWith("field:") || key.startsWith("factor:") ||
+                key.startsWith("offset:"));
+        options.put("field:/attributes/status", "/status");
+        options.put("field:/features/temperature/properties/value", "/device/temp");
+        configure();
+        final Thing thing = Thing.newBuilder()
+                .setId(ThingId.of("org.eclipse.ditto", "sensor-1"))
+                .setAttribute(JsonPointer.of("location"), JsonValue.of("kitchen"))
+                .setAttribute(JsonPointer.of("status"), JsonValue.of("unknown"))
+                .setFeature(Feature.newBuilder()
+                        .properties(FeatureProperties.newBuilder().set("value", 0).set("unit", "C").build())
+                        .withId("temperature")
+                        .build())
+                .setFeature(Feature.newBuilder().withId("humidity").build())
+                .build();
+
+        Thing modifiedThing = thing;
+        for (final Adaptable adaptable : underTest.map(ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withText(PAYLOAD)
+                .build())) {
+            final Signal<?> signal = DittoProtocolAdapter.newInstance().fromAdaptable(adaptable);
+            if (signal instanceof ModifyAttribute) {
+                final ModifyAttribute modifyAttribute = (ModifyAttribute) signal;
+                modifiedThing = modifiedThing.setAttribute(modifyAttribute.getAttributePointer(),
+                        modifyAttribute.getAttributeValue());
+            } else {
+                assertThat(signal).isInstanceOf(ModifyFeatureProperty.class);
+                final ModifyFeatureProperty modifyFeatureProperty = (ModifyFeatureProperty) signal;
+                modifiedThing = modifiedThing.setFeatureProperty(modifyFeatureProperty.getFeatureId(),
+                        modifyFeatureProperty.getPropertyPointer(), modifyFeatureProperty.getPropertyValue());
+            }
+        }
+
+        assertThat(modifiedThing.getAttributes()).contains(Attributes.newBuilder()
+                .set("location", "kitchen")
+                .set("status", "ok")
+                .build());
+        assertThat(modifiedThing.getFeatures().flatMap(features -> features.getFeature("temperature"))
+                .flatMap(Feature::getProperties))
+                .contains(FeatureProperties.newBuilder().set("value", 77).set("unit", "C").build());
+        assertThat(modifiedThing.getFeatures().flatMap(features -> features.getFeature("humidity")))
+                .isPresent();
+    }
+
+    @Test
+    public void mapsCompleteBytePayloadToFixedThingOfLiveChannel() {
+        options.keySet().removeIf(key -> key.startsWith("field:") || key.startsWith("factor:") ||
+                key.startsWith("offset:"));
+        options.put(DeclarativeMessageMapper.THING_ID, "org.eclipse.ditto:fixed");
+        options.put(DeclarativeMessageMapper.CHANNEL, "live");
+        configure();
+
+        final List<Adaptable> result = underTest.map(ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withBytes(ByteBuffer.wrap(PAYLOAD.getBytes(StandardCharsets.UTF_8)))
+                .build());
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getTopicPath().getId()).isEqualTo("fixed");
+        assertThat(result.get(0).getTopicPath().getChannel()).isEqualTo(TopicPath.Channel.LIVE);
+        assertThat(result.get(0).getPayload().getValue()).contains(JsonObject.of(PAYLOAD));
+    }
+
+    @Test
+    public void dropsMessageWithoutDeclaredFields() {
+        configure();
+
+        final List<Adaptable> result = underTest.map(ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withText("{\"other\":1}")
+                .build());
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void failsToConvertNonNumericValue() {
+        options.put("factor:/status/properties/value", "2");
+        configure();
+
+        assertThatExceptionOfType(MessageMappingFailedException.class).isThrownBy(() ->
+                underTest.map(ExternalMessageFactory.newExternalMessageBuilder(headers).withText(PAYLOAD).build()));
+    }
+
+    @Test
+    public void rejectsInvalidConfiguration() {
+        options.put("offset:/undeclared", "1");
+        assertThatExceptionOfType(MessageMapperConfigurationInvalidException.class).isThrownBy(this::configure);
+
+        options.remove("offset:/undeclared");
+        options.put(DeclarativeMessageMapper.CHANNEL, "none");
+        assertThatExceptionOfType(MessageMapperConfigurationInvalidException.class).isThrownBy(this::configure);
+
+        options.remove(DeclarativeMessageMapper.CHANNEL);
+        options.put(DeclarativeMessageMapper.THING_ID, "invalid thing id");
+        assertThatExceptionOfType(MessageMapperConfigurationInvalidException.class).isThrownBy(this::configure);
+
+        options.remove(DeclarativeMessageMapper.THING_ID);
+        assertThatExceptionOfType(MessageMapperConfigurationInvalidException.class).isThrownBy(this::configure);
+
+        // without declared fields, the replaced part of the thing must be declared
+        options.put(DeclarativeMessageMapper.THING_ID, "org.eclipse.ditto:fixed");
+        options.remove(DeclarativeMessageMapper.PATH);
+        options.keySet().removeIf(key -> key.startsWith("field:") || key.startsWith("factor:") ||
+                key.startsWith("offset:"));
+        assertThatExceptionOfType(MessageMapperConfigurationInvalidException.class).isThrownBy(this::configure);
+    }
+
+    private void configure() {
+        underTest.configure(MAPPING_CONFIG, DefaultMessageMapperConfiguration.of("declarative", options));
+    }
+
+}
@@ -16,6 +16,8 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.time.Duration;
+
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptConfig;
 import org.junit.BeforeClass;
@@ -61,7 +63,8 @@ public final class DefaultMappingConfigTest {
         final DefaultMappingConfig underTest = DefaultMappingConfig.of(mappingTestConfig);
 
         softly.assertThat(underTest.toString()).contains(underTest.getClass().getSimpleName())
-                .contains("javaScriptConfig", "mapperLimitsConfig", "bufferSize", "parallelism");
+                .contains("javaScriptConfig", "mapperLimitsConfig", "bufferSize", "parallelism", "maxBatchSize",
+                        "maxBatchDelay", "batchInboundSignals");
     }
 
     @Test
@@ -75,6 +78,18 @@ public final class DefaultMappingConfigTest {
         softly.assertThat(underTest.getParallelism())
                 .describedAs(MappingConfig.MappingConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(67890);
+
+        softly.assertThat(underTest.getMaxBatchSize())
+                .describedAs(MappingConfig.MappingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(42);
+
+        softly.assertThat(underTest.getMaxBatchDelay())
+                .describedAs(MappingConfig.MappingConfigValue.MAX_BATCH_DELAY.getConfigPath())
+                .isEqualTo(Duration.ofMillis(7));
+
+        softly.assertThat(underTest.isBatchInboundSignals())
+                .describedAs(MappingConfig.MappingConfigValue.BATCH_INBOUND_SIGNALS.getConfigPath())
+                .isTrue();
     }
 
 }
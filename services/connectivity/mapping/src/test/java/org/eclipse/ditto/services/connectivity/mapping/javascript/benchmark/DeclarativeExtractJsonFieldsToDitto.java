@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.ditto.services.connectivity.mapping.DeclarativeMessageMapper;
+import org.eclipse.ditto.services.connectivity.mapping.DefaultMessageMapperConfiguration;
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Extracts the same fields as {@link Test6ExtractJsonFieldsToDitto} with a {@link DeclarativeMessageMapper}.
+ */
+@State(Scope.Benchmark)
+public class DeclarativeExtractJsonFieldsToDitto implements MapToDittoProtocolScenario {
+
+    private static final String CONTENT_TYPE = "application/json";
+
+    private final MessageMapper messageMapper;
+    private final ExternalMessage externalMessage;
+
+    public DeclarativeExtractJsonFieldsToDitto() {
+        final Map<String, String> options = new HashMap<>();
+        options.put("thingId", "org.eclipse.ditto:{{ header:device_id }}");
+        options.put("path", "/features");
+        options.put("field:/temperature/properties/value", "/device/temperature");
+        options.put("factor:/temperature/properties/value", "0.1");
+        options.put("field:/humidity/properties/value", "/device/humidity");
+        options.put("field:/pressure/properties/value", "/device/pressure");
+        options.put("field:/state/properties/value", "/state");
+        messageMapper = new DeclarativeMessageMapper();
+        messageMapper.configure(MAPPING_CONFIG, DefaultMessageMapperConfiguration.of("extract", options));
+        externalMessage = Test6ExtractJsonFieldsToDitto.newExternalMessage(CONTENT_TYPE,
+                Test6ExtractJsonFieldsToDitto.MAPPING_JSON);
+    }
+
+    @Override
+    public MessageMapper getMessageMapper() {
+        return messageMapper;
+    }
+
+    @Override
+    public ExternalMessage getExternalMessage() {
+        return externalMessage;
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for {@link org.eclipse.ditto.services.connectivity.mapping.DeclarativeMessageMapper} mappings of the
+ * payloads which {@link JavaScriptMessageMapperRhinoBenchmark} maps with JavaScript.
+ */
+@State(Scope.Benchmark)
+public class DeclarativeMessageMapperBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void parseJsonPayloadToDitto(final DeclarativeParseJsonPayloadToDitto scenario) {
+        runScenario(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void extractJsonFieldsToDitto(final DeclarativeExtractJsonFieldsToDitto scenario) {
+        runScenario(scenario);
+    }
+
+    private void runScenario(final MapToDittoProtocolScenario scenario) {
+        final MessageMapper messageMapper = scenario.getMessageMapper();
+        final ExternalMessage externalMessage = scenario.getExternalMessage();
+        messageMapper.map(externalMessage);
+    }
+}
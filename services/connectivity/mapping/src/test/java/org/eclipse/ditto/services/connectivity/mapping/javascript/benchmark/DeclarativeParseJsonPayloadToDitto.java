@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.ditto.services.connectivity.mapping.DeclarativeMessageMapper;
+import org.eclipse.ditto.services.connectivity.mapping.DefaultMessageMapperConfiguration;
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Maps the complete JSON payload of {@link Test2ParseJsonPayloadToDitto} with a {@link DeclarativeMessageMapper}.
+ */
+@State(Scope.Benchmark)
+public class DeclarativeParseJsonPayloadToDitto implements MapToDittoProtocolScenario {
+
+    private static final String CONTENT_TYPE = "application/json";
+
+    private final MessageMapper messageMapper;
+    private final ExternalMessage externalMessage;
+
+    public DeclarativeParseJsonPayloadToDitto() {
+        final Map<String, String> options = new HashMap<>();
+        options.put("thingId", "org.eclipse.ditto:jmh-test");
+        options.put("path", "/");
+        messageMapper = new DeclarativeMessageMapper();
+        messageMapper.configure(MAPPING_CONFIG, DefaultMessageMapperConfiguration.of("parse", options));
+        externalMessage = Test6ExtractJsonFieldsToDitto.newExternalMessage(CONTENT_TYPE,
+                Test2ParseJsonPayloadToDitto.MAPPING_JSON);
+    }
+
+    @Override
+    public MessageMapper getMessageMapper() {
+        return messageMapper;
+    }
+
+    @Override
+    public ExternalMessage getExternalMessage() {
+        return externalMessage;
+    }
+
+}
@@ -76,6 +76,13 @@ public class JavaScriptMessageMapperRhinoBenchmark {
         runScenario(scenario);
     }
 
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void test6ExtractJsonFieldsToDitto(final Test6ExtractJsonFieldsToDitto scenario) {
+        runScenario(scenario);
+    }
+
     private void runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
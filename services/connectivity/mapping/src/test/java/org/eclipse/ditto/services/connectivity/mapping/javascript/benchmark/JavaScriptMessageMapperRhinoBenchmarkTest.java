@@ -17,6 +17,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.List;
 
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.protocoladapter.TopicPath;
@@ -110,6 +112,51 @@ public class JavaScriptMessageMapperRhinoBenchmarkTest {
         );
     }
 
+    @Test
+    public void test6ExtractJsonFieldsToDitto() {
+        runScenario(new Test6ExtractJsonFieldsToDitto()).forEach(
+                adaptable -> {
+                    System.out.println(adaptable);
+                    assertDefaults(adaptable);
+                    assertThat(adaptable.getPayload().getValue()
+                            .map(JsonValue::asObject)
+                            .map(o -> o.getValue("state/properties/value"))
+                            .orElse(null)
+                    ).contains(JsonValue.of("moving"));
+                });
+    }
+
+    @Test
+    public void declarativeParseJsonPayloadToDittoEqualsJavaScriptMapping() {
+        final List<Adaptable> javaScriptResult = runScenario(new Test2ParseJsonPayloadToDitto());
+        final List<Adaptable> declarativeResult = runScenario(new DeclarativeParseJsonPayloadToDitto());
+
+        assertThat(declarativeResult).hasSize(1);
+        assertDefaults(declarativeResult.get(0));
+        assertThat(declarativeResult.get(0).getPayload()).isEqualTo(javaScriptResult.get(0).getPayload());
+    }
+
+    @Test
+    public void declarativeExtractJsonFieldsToDittoEqualsJavaScriptMapping() {
+        final List<Adaptable> javaScriptResult = runScenario(new Test6ExtractJsonFieldsToDitto());
+        final List<Adaptable> declarativeResult = runScenario(new DeclarativeExtractJsonFieldsToDitto());
+
+        // the declarative mapper modifies each extracted field by its own command
+        final JsonPointer javaScriptPath = javaScriptResult.get(0).getPayload().getPath();
+        final JsonObject javaScriptValue = javaScriptResult.get(0).getPayload().getValue()
+                .map(JsonValue::asObject)
+                .orElseThrow(AssertionError::new);
+        assertThat(declarativeResult).hasSize(javaScriptValue.getSize());
+        declarativeResult.forEach(adaptable -> {
+            assertDefaults(adaptable);
+            final JsonPointer path = adaptable.getPayload().getPath();
+            assertThat(path.toString()).startsWith(javaScriptPath.toString());
+            assertThat(adaptable.getPayload().getValue())
+                    .isEqualTo(javaScriptValue.getValue(path.getSubPointer(javaScriptPath.getLevelCount())
+                            .orElseThrow(AssertionError::new)));
+        });
+    }
+
     private List<Adaptable> runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
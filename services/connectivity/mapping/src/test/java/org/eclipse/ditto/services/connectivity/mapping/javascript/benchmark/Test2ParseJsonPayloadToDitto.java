@@ -27,7 +27,7 @@ import org.openjdk.jmh.annotations.State;
 @State(Scope.Benchmark)
 public class Test2ParseJsonPayloadToDitto implements MapToDittoProtocolScenario {
 
-    private static final String MAPPING_JSON = "{\n" +
+    static final String MAPPING_JSON = "{\n" +
             "    \"thingId\": \"RC-CRaaSCar\",\n" +
             "    \"acl\": {\n" +
             "        \"manufacturer\":{\n" +
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
+import org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptMessageMapperFactory;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Extracts fields of a JSON payload with a JavaScript mapping. The mapper is configured once so that only the mapping
+ * itself is measured, which makes the scenario comparable with {@link DeclarativeExtractJsonFieldsToDitto}.
+ */
+@State(Scope.Benchmark)
+public class Test6ExtractJsonFieldsToDitto implements MapToDittoProtocolScenario {
+
+    static final String MAPPING_JSON =
+            "{\"device\":{\"temperature\":254,\"humidity\":42,\"pressure\":1015},\"state\":\"moving\"}";
+    private static final String CONTENT_TYPE = "application/json";
+
+    private static final String MAPPING_INCOMING_PLAIN =
+            "function mapToDittoProtocolMsg(\n" +
+                    "    headers,\n" +
+                    "    textPayload,\n" +
+                    "    bytePayload,\n" +
+                    "    contentType\n" +
+                    ") {\n" +
+                    "\n" +
+                    "    let input = JSON.parse(textPayload);\n" +
+                    "    let value = {\n" +
+                    "        temperature: { properties: { value: input.device.temperature * 0.1 } },\n" +
+                    "        humidity: { properties: { value: input.device.humidity } },\n" +
+                    "        pressure: { properties: { value: input.device.pressure } },\n" +
+                    "        state: { properties: { value: input.state } }\n" +
+                    "    };\n" +
+                    "    let dittoHeaders = {};\n" +
+                    "    dittoHeaders[\"correlation-id\"] = headers[\"correlation-id\"];\n" +
+                    "\n" +
+                    "    return Ditto.buildDittoProtocolMsg(\n" +
+                    "        'org.eclipse.ditto',\n" +
+                    "        headers['device_id'],\n" +
+                    "        'things',\n" +
+                    "        'twin',\n" +
+                    "        'commands',\n" +
+                    "        'modify',\n" +
+                    "        '/features',\n" +
+                    "        dittoHeaders,\n" +
+                    "        value\n" +
+                    "    );\n" +
+                    "}";
+
+    private final MessageMapper messageMapper;
+    private final ExternalMessage externalMessage;
+
+    public Test6ExtractJsonFieldsToDitto() {
+        messageMapper = JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        messageMapper.configure(MAPPING_CONFIG,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder("extract", Collections.emptyMap())
+                        .incomingScript(MAPPING_INCOMING_PLAIN)
+                        .build()
+        );
+        externalMessage = newExternalMessage(CONTENT_TYPE, MAPPING_JSON);
+    }
+
+    static ExternalMessage newExternalMessage(final String contentType, final String payload) {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("correlation-id", UUID.randomUUID().toString());
+        headers.put("device_id", "jmh-test");
+        headers.put(ExternalMessage.CONTENT_TYPE_HEADER, contentType);
+        return ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withText(payload)
+                .build();
+    }
+
+    @Override
+    public MessageMapper getMessageMapper() {
+        return messageMapper;
+    }
+
+    @Override
+    public ExternalMessage getExternalMessage() {
+        return externalMessage;
+    }
+
+}
@@ -14,7 +14,9 @@ package org.eclipse.ditto.services.connectivity.messaging;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -97,6 +99,28 @@ abstract class AbstractMappingResultHandler<M, R> implements MappingResultHandle
         return emptyResult;
     }
 
+    /**
+     * Concatenate two lists of results without copying them if one of them is empty, which is the common case of
+     * messages mapped to exactly one result.
+     *
+     * @param left the first results.
+     * @param right the following results.
+     * @param <T> the type of results.
+     * @return the concatenated results.
+     */
+    static <T> List<T> concat(final List<T> left, final List<T> right) {
+        if (left.isEmpty()) {
+            return right;
+        } else if (right.isEmpty()) {
+            return left;
+        } else {
+            final List<T> result = new ArrayList<>(left.size() + right.size());
+            result.addAll(left);
+            result.addAll(right);
+            return result;
+        }
+    }
+
     @NotThreadSafe
     abstract static class AbstractBuilder<M, R, T extends AbstractBuilder<M, R, T>> {
 
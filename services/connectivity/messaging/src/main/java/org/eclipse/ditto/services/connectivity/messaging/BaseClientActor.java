@@ -63,12 +63,17 @@ import org.eclipse.ditto.services.connectivity.messaging.internal.ClientDisconne
 import org.eclipse.ditto.services.connectivity.messaging.internal.ConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveClientLoad;
+import org.eclipse.ditto.services.connectivity.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.ConnectionLogger;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.ConnectionLoggerRegistry;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.InfoProviderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics.ConnectivityCounterRegistry;
+import org.eclipse.ditto.services.connectivity.messaging.persistence.SignalFilter;
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
+import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
@@ -77,6 +82,7 @@ import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.services.utils.protocol.ProtocolAdapterProvider;
 import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.connectivity.ConnectivityCommand;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionFailedException;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionSignalIllegalException;
 import org.eclipse.ditto.signals.commands.connectivity.modify.CheckConnectionLogsActive;
@@ -133,6 +139,8 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
     private final ConnectivityCounterRegistry connectionCounterRegistry;
     private final ActorRef messageMappingProcessorActor;
     private final ReconnectTimeoutStrategy reconnectTimeoutStrategy;
+    @Nullable private final SignalFilter signalFilter;
+    @Nullable private final DittoProtocolSub dittoProtocolSub;
 
     // counter for all child actors ever started to disambiguate between them
     private int childActorCount = 0;
@@ -196,6 +204,14 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
 
         reconnectTimeoutStrategy = DuplicationReconnectTimeoutStrategy.fromConfig(clientConfig);
 
+        if (connectivityConfig.getConnectionConfig().isPartitionedOutboundDispatch()) {
+            signalFilter = new SignalFilter(connection, DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig));
+            dittoProtocolSub = DittoProtocolSub.get(getContext().getSystem());
+        } else {
+            signalFilter = null;
+            dittoProtocolSub = null;
+        }
+
         messageMappingProcessorActor = startMessageMappingProcessorActor();
 
         initialize();
@@ -301,6 +317,18 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         return true;
     }
 
+    /**
+     * Check whether a child actor is asked for the status of its sources or targets when the connection status is
+     * retrieved. Each source and target must be reported once per client actor. All children except the message
+     * mapping processor actor are asked by default.
+     *
+     * @param child a child actor of this client actor.
+     * @return whether the child reports the status of its addresses.
+     */
+    protected boolean isReportingAddressStatus(final ActorRef child) {
+        return !messageMappingProcessorActor.equals(child);
+    }
+
     /**
      * Creates the handler for messages common to all states.
      * <p>
@@ -322,7 +350,11 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
                 .event(CheckConnectionLogsActive.class, BaseClientData.class,
                         (command, data) -> checkLoggingActive(command))
                 .event(OutboundSignal.class, BaseClientData.class, this::handleOutboundSignal)
-                .event(PublishMappedMessage.class, BaseClientData.class, this::publishMappedMessage);
+                .event(Signal.class, BaseClientData.class,
+                        (signal, data) -> signalFilter != null && !(signal instanceof ConnectivityCommand),
+                        this::filterOutboundSignal)
+                .event(PublishMappedMessage.class, BaseClientData.class, this::publishMappedMessage)
+                .event(RetrieveClientLoad.class, BaseClientData.class, this::retrieveClientLoad);
     }
 
     /**
@@ -604,6 +636,9 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
             final BaseClientData data) {
 
         final ActorRef sender = getSender();
+        if (dittoProtocolSub != null) {
+            dittoProtocolSub.removeSubscriber(getSelf());
+        }
         doDisconnectClient(data.getConnection(), sender);
         return goToDisconnecting().using(setSession(data, sender, closeConnection.getDittoHeaders())
                 .setDesiredConnectionStatus(ConnectivityStatus.CLOSED)
@@ -617,6 +652,7 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         final Connection connection = data.getConnection();
         final DittoHeaders dittoHeaders = openConnection.getDittoHeaders();
         reconnectTimeoutStrategy.reset();
+        subscribeForOutboundSignals(connection);
         final Duration connectingTimeout = clientConfig.getConnectingMinTimeout();
         if (canConnectViaSocket(connection)) {
             doConnectClient(connection, sender);
@@ -632,6 +668,21 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         }
     }
 
+    /**
+     * Subscribe for outbound signals as a member of the group of all client actors of the connection, so that each
+     * signal reaches one client actor of the connection, chosen by its entity ID.
+     */
+    private void subscribeForOutboundSignals(final Connection connection) {
+        if (dittoProtocolSub != null && !connection.getTargets().isEmpty()) {
+            dittoProtocolSub.subscribe(SignalFilter.getStreamingTypes(connection),
+                    SignalFilter.getTargetAuthSubjects(connection), getSelf(), connectionId().toString())
+                    .exceptionally(error -> {
+                        log.error(error, "Failed to subscribe for outbound signals");
+                        return null;
+                    });
+        }
+    }
+
     private FSM.State<BaseClientState, BaseClientData> connectionAlreadyOpen(final OpenConnection openConnection,
             final BaseClientData data) {
 
@@ -920,9 +971,9 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         log.debug("Received RetrieveConnectionStatus message from {}, forwarding to consumers and publishers.",
                 getSender());
 
-        // send to all children (consumers, publishers, except mapping actor)
+        // send to all children reporting the status of their addresses (consumers, publishers)
         getContext().getChildren().forEach(child -> {
-            if (!messageMappingProcessorActor.equals(child)) {
+            if (isReportingAddressStatus(child)) {
                 log.debug("Forwarding RetrieveAddressStatus to child: {}", child.path());
                 child.tell(RetrieveAddressStatus.getInstance(), getSender());
             }
@@ -1092,6 +1143,33 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         return stay();
     }
 
+    private FSM.State<BaseClientState, BaseClientData> retrieveClientLoad(final RetrieveClientLoad command,
+            final BaseClientData data) {
+
+        // the load is measured by the mapping actor, which answers the sender directly
+        messageMappingProcessorActor.forward(command, getContext());
+        return stay();
+    }
+
+    private FSM.State<BaseClientState, BaseClientData> filterOutboundSignal(final Signal<?> signal,
+            final BaseClientData data) {
+
+        // client actors subscribe for outbound signals themselves and filter them
+        enhanceLogUtil(signal);
+        if (connectionId().toString().equals(signal.getDittoHeaders().getOrigin().orElse(null))) {
+            log.debug("Signal ({}) dropped: Was sent by myself.", signal.getType());
+            return stay();
+        }
+        final List<Target> subscribedAndAuthorizedTargets = signalFilter.filter(signal);
+        if (subscribedAndAuthorizedTargets.isEmpty()) {
+            log.debug("Signal ({}) dropped: No subscribed and authorized targets present", signal.getType());
+            return stay();
+        }
+        log.debug("Publishing signal <{}> to targets: {}.", signal.getType(), subscribedAndAuthorizedTargets);
+        return handleOutboundSignal(OutboundSignalFactory.newOutboundSignal(signal, subscribedAndAuthorizedTargets),
+                data);
+    }
+
     private void enhanceLogUtil(final WithDittoHeaders<?> signal) {
         ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(log, signal, connectionId());
     }
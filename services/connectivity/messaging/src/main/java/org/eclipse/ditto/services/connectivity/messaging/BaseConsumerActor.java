@@ -26,6 +26,7 @@ import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableExternalMessage;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
@@ -71,6 +72,16 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
         doForwardToMappingActor(addReplyTarget(message));
     }
 
+    /**
+     * Forward an external message to the mapping actor, which replies with {@link akka.Done} once the message was
+     * accepted by the mapping pipeline and with a {@link akka.actor.Status.Failure} otherwise.
+     *
+     * @param message the external message.
+     */
+    protected void forwardToMappingActorWithAcknowledgement(final ExternalMessage message) {
+        doForwardToMappingActor(AcknowledgeableExternalMessage.of(addReplyTarget(message)));
+    }
+
     protected void forwardToMappingActor(final DittoRuntimeException message) {
         doForwardToMappingActor(message);
     }
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.connectivity.messaging;
 
 import java.util.Collections;
+import java.util.List;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -20,26 +21,25 @@ import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMo
 import org.eclipse.ditto.services.models.connectivity.MappedInboundExternalMessage;
 import org.eclipse.ditto.signals.base.Signal;
 
-import akka.stream.javadsl.Source;
-
 /**
  * {@link MappingResultHandler} for inbound messages. This handler forwards to the given handlers. Additionally it
  * calls the {@link MappingResultHandler#onException(Exception)} method for exceptions thrown in handlers and
  * increases the according counters for mapped, dropped failed messages.
  */
 final class InboundMappingResultHandler
-        extends AbstractMappingResultHandler<MappedInboundExternalMessage, Source<Signal<?>, ?>> {
+        extends AbstractMappingResultHandler<MappedInboundExternalMessage, List<Signal<?>>> {
 
     private InboundMappingResultHandler(final Builder builder) {
         super(builder);
     }
 
     static Builder newBuilder() {
-        return new Builder().emptyResult(Source.empty()).combineResults(Source::concat);
+        return new Builder().emptyResult(Collections.emptyList())
+                .combineResults(AbstractMappingResultHandler::concat);
     }
 
     @NotThreadSafe
-    static final class Builder extends AbstractBuilder<MappedInboundExternalMessage, Source<Signal<?>, ?>, Builder> {
+    static final class Builder extends AbstractBuilder<MappedInboundExternalMessage, List<Signal<?>>, Builder> {
 
         private Builder() {
             super(Builder.class);
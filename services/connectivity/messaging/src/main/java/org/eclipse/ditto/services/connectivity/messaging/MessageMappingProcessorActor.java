@@ -17,16 +17,22 @@ import static org.eclipse.ditto.model.connectivity.MetricType.MAPPED;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -72,12 +78,16 @@ import org.eclipse.ditto.services.connectivity.mapping.MappingConfig;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor.PublishMappedMessage;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableExternalMessage;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ClientLoad;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveClientLoad;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.InfoProviderFactory;
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
+import org.eclipse.ditto.services.models.concierge.BatchedSignals;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
@@ -92,6 +102,7 @@ import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 
+import akka.Done;
 import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -99,6 +110,7 @@ import akka.actor.Status;
 import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
 import akka.stream.OverflowStrategy;
+import akka.stream.QueueOfferResult;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Sink;
@@ -136,7 +148,12 @@ public final class MessageMappingProcessorActor
     private final ConnectionMonitor responseMappedMonitor;
     private final SignalEnrichmentFacade signalEnrichmentFacade;
     private final int processorPoolSize;
-    private final SourceQueue<ExternalMessage> inboundSourceQueue;
+    // inbound messages paired with the actor awaiting their acknowledgement, or with null if none is awaited
+    private final SourceQueue<Pair<ExternalMessage, ActorRef>> inboundSourceQueue;
+    private final Map<String, Criteria> filterCriteria = new ConcurrentHashMap<>();
+    private final AtomicLong pendingInboundMessages = new AtomicLong();
+    private final LongAdder publishLatencyNanos = new LongAdder();
+    private final LongAdder publishedSignals = new LongAdder();
 
     @SuppressWarnings("unused")
     private MessageMappingProcessorActor(final ActorRef conciergeForwarder,
@@ -204,23 +221,32 @@ public final class MessageMappingProcessorActor
     protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
         receiveBuilder
                 // Incoming messages are handled in a separate stream parallelized by this actor's own dispatcher
+                .match(AcknowledgeableExternalMessage.class, this::handleAcknowledgeableInboundMessage)
                 .match(ExternalMessage.class, this::handleInboundMessage)
                 // Outgoing responses and signals go through the signal enrichment stream
                 .match(CommandResponse.class, response -> handleCommandResponse(response, null, getSender()))
                 .match(Signal.class, signal -> handleSignal(signal, getSender()))
+                .match(RetrieveClientLoad.class, retrieveClientLoad -> retrieveClientLoad())
                 .match(Status.Failure.class, f -> logger.warning("Got failure with cause {}: {}",
                         f.cause().getClass().getSimpleName(), f.cause().getMessage()));
     }
 
-    private SourceQueue<ExternalMessage> materializeInboundStream(final int processorPoolSize) {
-        return Source.<ExternalMessage>queue(getBufferSize(), OverflowStrategy.dropNew())
+    private SourceQueue<Pair<ExternalMessage, ActorRef>> materializeInboundStream(final int processorPoolSize) {
+        return Source.<Pair<ExternalMessage, ActorRef>>queue(getBufferSize(), OverflowStrategy.dropNew())
+                // map micro-batches of messages in one task each in order to save per-message overhead
+                .groupedWithin(mappingConfig.getMaxBatchSize(), mappingConfig.getMaxBatchDelay())
                 // parallelize potentially CPU-intensive payload mapping on this actor's dispatcher
-                .mapAsync(processorPoolSize, externalMessage -> CompletableFuture.supplyAsync(
-                        () -> mapInboundMessage(externalMessage),
+                .mapAsync(processorPoolSize, inboundMessages -> CompletableFuture.supplyAsync(
+                        () -> Pair.create(inboundMessages, mapInboundMessages(inboundMessages)),
                         getContext().getDispatcher())
+                        .whenComplete((mapped, error) ->
+                                pendingInboundMessages.addAndGet(-inboundMessages.size()))
                 )
-                .flatMapConcat(signalSource -> signalSource)
-                .toMat(Sink.foreach(signal -> conciergeForwarder.tell(signal, getSelf())), Keep.left())
+                .toMat(Sink.foreach(mapped -> {
+                    forwardToConciergeForwarder(mapped.second());
+                    // acknowledge the inbound messages only after their signals were handed to concierge
+                    acknowledgeInboundMessages(mapped.first());
+                }), Keep.left())
                 .run(materializer);
     }
 
@@ -244,7 +270,8 @@ public final class MessageMappingProcessorActor
     protected Flow<OutboundSignalWithId, OutboundSignalWithId, NotUsed> processMessageFlow() {
         // Enrich outbound signals by extra fields if necessary.
         return splitByTargetExtraFieldsFlow()
-                .mapAsync(mappingConfig.getParallelism(), this::enrichAndFilterSignal)
+                .via(enrichAndFilterSignalsPerThingFlow())
+                .mapAsync(mappingConfig.getParallelism(), enrichment -> enrichment)
                 .mapConcat(x -> x);
     }
 
@@ -293,14 +320,50 @@ public final class MessageMappingProcessorActor
     @Override
     protected Sink<OutboundSignalWithId, ?> processedMessageSink() {
         return Flow.<OutboundSignalWithId>create()
-                .mapAsync(processorPoolSize, outboundSignal -> CompletableFuture.supplyAsync(() ->
-                                handleOutboundSignal(outboundSignal),
+                .groupedWithin(mappingConfig.getMaxBatchSize(), mappingConfig.getMaxBatchDelay())
+                .mapAsync(processorPoolSize, outboundSignals -> CompletableFuture.supplyAsync(() ->
+                                handleOutboundSignals(outboundSignals),
                         getContext().getDispatcher()
                 ))
-                .flatMapConcat(mappedOutboundSignalSource -> mappedOutboundSignalSource)
+                .mapConcat(mappedOutboundSignals -> mappedOutboundSignals)
                 .to(Sink.foreach(this::forwardToPublisherActor));
     }
 
+    /**
+     * Create a stage which starts the enrichment of each outbound signal only after the enrichment of the previous
+     * outbound signal concerning the same thing completed. This way, each enrichment finds the cache entry updated by
+     * its predecessor instead of racing it into a round trip. Enrichments of different things run in parallel up to the
+     * parallelism of the downstream {@code mapAsync}.
+     *
+     * @return the stage emitting the future enrichment results.
+     */
+    private Flow<Pair<OutboundSignalWithId, FilteredTopic>, CompletionStage<Collection<OutboundSignalWithId>>, NotUsed>
+    enrichAndFilterSignalsPerThingFlow() {
+        final int maxPendingEnrichments = mappingConfig.getParallelism();
+        return Flow.<Pair<OutboundSignalWithId, FilteredTopic>>create()
+                .statefulMapConcat(() -> {
+                    final Map<EntityId, CompletableFuture<Collection<OutboundSignalWithId>>> lastEnrichmentPerThing =
+                            new HashMap<>();
+                    return outboundSignal -> {
+                        if (lastEnrichmentPerThing.size() >= maxPendingEnrichments) {
+                            lastEnrichmentPerThing.values().removeIf(CompletableFuture::isDone);
+                        }
+                        final EntityId entityId = outboundSignal.first().getEntityId();
+                        final CompletableFuture<Collection<OutboundSignalWithId>> previousEnrichment =
+                                lastEnrichmentPerThing.get(entityId);
+                        final CompletionStage<Collection<OutboundSignalWithId>> enrichment =
+                                previousEnrichment == null || previousEnrichment.isDone()
+                                        ? enrichAndFilterSignal(outboundSignal)
+                                        : previousEnrichment
+                                                .<Pair<OutboundSignalWithId, FilteredTopic>>handle(
+                                                        (previous, error) -> outboundSignal)
+                                                .thenCompose(this::enrichAndFilterSignal);
+                        lastEnrichmentPerThing.put(entityId, enrichment.toCompletableFuture());
+                        return Collections.singletonList(enrichment);
+                    };
+                });
+    }
+
     // Called inside stream; must be thread-safe
     // precondition: whenever filteredTopic != null, it contains an extra fields
     private CompletionStage<Collection<OutboundSignalWithId>> enrichAndFilterSignal(
@@ -336,15 +399,17 @@ public final class MessageMappingProcessorActor
                 });
     }
 
-    private static Collection<OutboundSignalWithId> applyFilter(final OutboundSignalWithId outboundSignalWithExtra,
+    // Called inside future; must be thread-safe
+    private Collection<OutboundSignalWithId> applyFilter(final OutboundSignalWithId outboundSignalWithExtra,
             final FilteredTopic filteredTopic) {
 
         final Optional<String> filter = filteredTopic.getFilter();
         final Optional<JsonFieldSelector> extraFields = filteredTopic.getExtraFields();
         if (filter.isPresent() && extraFields.isPresent()) {
-            // evaluate filter criteria again if signal enrichment is involved.
-            final Criteria criteria = QueryFilterCriteriaFactory.modelBased()
-                    .filterCriteria(filter.get(), outboundSignalWithExtra.getSource().getDittoHeaders());
+            // evaluate filter criteria again if signal enrichment is involved; parse each filter only once.
+            final Criteria criteria = filterCriteria.computeIfAbsent(filter.get(), filterString ->
+                    QueryFilterCriteriaFactory.modelBased()
+                            .filterCriteria(filterString, outboundSignalWithExtra.getSource().getDittoHeaders()));
             return outboundSignalWithExtra.getExtra()
                     .flatMap(extra -> {
                         final Signal<?> signal = outboundSignalWithExtra.getSource();
@@ -403,10 +468,66 @@ public final class MessageMappingProcessorActor
 
     private void handleInboundMessage(final ExternalMessage externalMessage) {
         ConditionChecker.checkNotNull(externalMessage);
-        inboundSourceQueue.offer(externalMessage);
+        offerInboundMessage(externalMessage, null);
+    }
+
+    private void handleAcknowledgeableInboundMessage(final AcknowledgeableExternalMessage message) {
+        final ActorRef sender = getSender();
+        // Done is sent by the inbound stream once the signals of the message were forwarded
+        offerInboundMessage(message.getExternalMessage(), sender).whenComplete((result, error) -> {
+            if (error != null) {
+                sender.tell(new Status.Failure(error), ActorRef.noSender());
+            } else if (!QueueOfferResult.enqueued().equals(result)) {
+                sender.tell(new Status.Failure(new IllegalStateException(
+                        "Inbound message was not accepted by the mapping pipeline: " + result)), ActorRef.noSender());
+            }
+        });
+    }
+
+    private CompletionStage<QueueOfferResult> offerInboundMessage(final ExternalMessage externalMessage,
+            @Nullable final ActorRef acknowledgementReceiver) {
+
+        pendingInboundMessages.incrementAndGet();
+        return inboundSourceQueue.offer(Pair.create(externalMessage, acknowledgementReceiver))
+                .whenComplete((result, error) -> {
+                    if (error != null || !QueueOfferResult.enqueued().equals(result)) {
+                        pendingInboundMessages.decrementAndGet();
+                    }
+                });
     }
 
-    private Source<Signal<?>, ?> mapInboundMessage(final ExternalMessage externalMessage) {
+    private void retrieveClientLoad() {
+        final long count = publishedSignals.sumThenReset();
+        final long latencyNanos = publishLatencyNanos.sumThenReset();
+        final Duration averageLatency = count == 0 ? Duration.ZERO : Duration.ofNanos(latencyNanos / count);
+        getSender().tell(ClientLoad.of(Math.max(0L, pendingInboundMessages.get()), averageLatency), getSelf());
+    }
+
+    private List<Signal<?>> mapInboundMessages(final List<Pair<ExternalMessage, ActorRef>> inboundMessages) {
+        final List<Signal<?>> signals = new ArrayList<>(inboundMessages.size());
+        inboundMessages.forEach(inboundMessage -> signals.addAll(mapInboundMessage(inboundMessage.first())));
+        return signals;
+    }
+
+    private static void acknowledgeInboundMessages(final List<Pair<ExternalMessage, ActorRef>> inboundMessages) {
+        inboundMessages.stream()
+                .map(Pair::second)
+                .filter(Objects::nonNull)
+                .forEach(acknowledgementReceiver ->
+                        acknowledgementReceiver.tell(Done.getInstance(), ActorRef.noSender()));
+    }
+
+    private void forwardToConciergeForwarder(final List<Signal<?>> signals) {
+        if (signals.size() > 1 && mappingConfig.isBatchInboundSignals()) {
+            // the concierge forwarder sends the batch on to concierge in one message per entity
+            conciergeForwarder.tell(BatchedSignals.of(signals), getSelf());
+        } else {
+            final ActorRef self = getSelf();
+            signals.forEach(signal -> conciergeForwarder.tell(signal, self));
+        }
+    }
+
+    private List<Signal<?>> mapInboundMessage(final ExternalMessage externalMessage) {
         final String correlationId = externalMessage.getHeaders().get(DittoHeaderDefinition.CORRELATION_ID.getKey());
         ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(logger, correlationId, connectionId);
         logger.debug("Handling ExternalMessage: {}", externalMessage);
@@ -414,7 +535,7 @@ public final class MessageMappingProcessorActor
             return mapExternalMessageToSignal(externalMessage);
         } catch (final Exception e) {
             handleInboundException(e, externalMessage, getAuthorizationContext(externalMessage).orElse(null));
-            return Source.empty();
+            return Collections.emptyList();
         }
     }
 
@@ -441,7 +562,7 @@ public final class MessageMappingProcessorActor
         }
     }
 
-    private Source<Signal<?>, ?> mapExternalMessageToSignal(final ExternalMessage externalMessage) {
+    private List<Signal<?>> mapExternalMessageToSignal(final ExternalMessage externalMessage) {
         return messageMappingProcessor.process(externalMessage,
                 handleMappingResult(externalMessage, getAuthorizationContextOrThrow(externalMessage)));
     }
@@ -473,7 +594,7 @@ public final class MessageMappingProcessorActor
                     logger.withCorrelationId(adjustedSignal)
                             .debug("Message successfully mapped to signal: '{}'. Passing to conciergeForwarder",
                                     adjustedSignal.getType());
-                    return Source.single(adjustedSignal);
+                    return Collections.singletonList(adjustedSignal);
                 })
                 .onMessageDropped(() -> logger.debug("Message mapping returned null, message is dropped."))
                 // skip the inbound stream directly to outbound stream
@@ -568,7 +689,13 @@ public final class MessageMappingProcessorActor
         return response.getStatusCodeValue() < HttpStatusCode.BAD_REQUEST.toInt();
     }
 
-    private Source<OutboundSignalWithId, ?> handleOutboundSignal(final OutboundSignalWithId outbound) {
+    private List<OutboundSignalWithId> handleOutboundSignals(final List<OutboundSignalWithId> outboundSignals) {
+        final List<OutboundSignalWithId> mappedOutboundSignals = new ArrayList<>(outboundSignals.size());
+        outboundSignals.forEach(outbound -> mappedOutboundSignals.addAll(handleOutboundSignal(outbound)));
+        return mappedOutboundSignals;
+    }
+
+    private List<OutboundSignalWithId> handleOutboundSignal(final OutboundSignalWithId outbound) {
         final Signal<?> source = outbound.getSource();
         enhanceLogUtil(source);
         logger.debug("Handling outbound signal <{}>.", source);
@@ -577,6 +704,8 @@ public final class MessageMappingProcessorActor
 
     private void forwardToPublisherActor(final OutboundSignalWithId mappedEnvelop) {
         final OutboundSignal.Mapped mappedOutboundSignal = (OutboundSignal.Mapped) mappedEnvelop.delegate;
+        publishLatencyNanos.add(System.nanoTime() - mappedEnvelop.startedAt);
+        publishedSignals.increment();
         clientActor.tell(new PublishMappedMessage(mappedOutboundSignal), mappedEnvelop.sender);
     }
 
@@ -591,12 +720,13 @@ public final class MessageMappingProcessorActor
         getSelf().tell(OutboundSignalWithId.of(signal, sender), sender);
     }
 
-    private Source<OutboundSignalWithId, ?> mapToExternalMessage(final OutboundSignalWithId outbound) {
+    private List<OutboundSignalWithId> mapToExternalMessage(final OutboundSignalWithId outbound) {
         final Set<ConnectionMonitor> outboundMapped = getMonitorsForMappedSignal(outbound, connectionId);
         final Set<ConnectionMonitor> outboundDropped = getMonitorsForDroppedSignal(outbound, connectionId);
 
         final OutboundMappingResultHandler outboundMappingResultHandler = OutboundMappingResultHandler.newBuilder()
-                .onMessageMapped(mappedOutboundSignal -> Source.single(outbound.mapped(mappedOutboundSignal)))
+                .onMessageMapped(mappedOutboundSignal ->
+                        Collections.singletonList(outbound.mapped(mappedOutboundSignal)))
                 .onMessageDropped(() -> logger.debug("Message mapping returned null, message is dropped."))
                 .onException(exception -> {
                     if (exception instanceof DittoRuntimeException) {
@@ -815,27 +945,32 @@ public final class MessageMappingProcessorActor
         @Nullable
         private final JsonObject extra;
 
+        // System.nanoTime() when the signal arrived, in order to measure the publish latency
+        private final long startedAt;
+
         private OutboundSignalWithId(final OutboundSignal delegate,
                 final EntityId entityId,
                 final ActorRef sender,
-                @Nullable final JsonObject extra) {
+                @Nullable final JsonObject extra,
+                final long startedAt) {
 
             this.delegate = delegate;
             this.entityId = entityId;
             this.sender = sender;
             this.extra = extra;
+            this.startedAt = startedAt;
         }
 
         static OutboundSignalWithId of(final Signal<?> signal, final ActorRef sender) {
             final OutboundSignal outboundSignal =
                     OutboundSignalFactory.newOutboundSignal(signal, Collections.emptyList());
             final EntityId entityId = signal.getEntityId();
-            return new OutboundSignalWithId(outboundSignal, entityId, sender, null);
+            return new OutboundSignalWithId(outboundSignal, entityId, sender, null, System.nanoTime());
         }
 
         static OutboundSignalWithId of(final OutboundSignal outboundSignal, final ActorRef sender) {
             final EntityId entityId = outboundSignal.getSource().getEntityId();
-            return new OutboundSignalWithId(outboundSignal, entityId, sender, null);
+            return new OutboundSignalWithId(outboundSignal, entityId, sender, null, System.nanoTime());
         }
 
         @Override
@@ -865,18 +1000,18 @@ public final class MessageMappingProcessorActor
 
         private OutboundSignalWithId setTargets(final List<Target> targets) {
             return new OutboundSignalWithId(OutboundSignalFactory.newOutboundSignal(delegate.getSource(), targets),
-                    entityId, sender, extra);
+                    entityId, sender, extra, startedAt);
         }
 
         private OutboundSignalWithId setExtra(final JsonObject extra) {
             return new OutboundSignalWithId(
                     OutboundSignalFactory.newOutboundSignal(delegate.getSource(), getTargets()),
-                    entityId, sender, extra
+                    entityId, sender, extra, startedAt
             );
         }
 
         private OutboundSignalWithId mapped(final OutboundSignalWithId.Mapped mapped) {
-            return new OutboundSignalWithId(mapped, entityId, sender, extra);
+            return new OutboundSignalWithId(mapped, entityId, sender, extra, startedAt);
         }
 
     }
@@ -15,33 +15,34 @@ package org.eclipse.ditto.services.connectivity.messaging;
 import static org.eclipse.ditto.services.connectivity.messaging.MessageMappingProcessorActor.OutboundSignalWithId;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 
-import akka.stream.javadsl.Source;
-
 /**
  * {@link MappingResultHandler} for outbound messages. This handler forwards to the given handlers and
  * calls the {@link MappingResultHandler#onException(Exception)} method for exceptions thrown in these handlers and
  * increases the according counters for mapped, dropped failed messages.
  */
 final class OutboundMappingResultHandler extends
-        AbstractMappingResultHandler<OutboundSignal.Mapped, Source<OutboundSignalWithId, ?>> {
+        AbstractMappingResultHandler<OutboundSignal.Mapped, List<OutboundSignalWithId>> {
 
     private OutboundMappingResultHandler(final Builder builder) {
         super(builder);
     }
 
     static Builder newBuilder() {
-        return new Builder().emptyResult(Source.empty()).combineResults(Source::concat);
+        return new Builder().emptyResult(Collections.emptyList())
+                .combineResults(AbstractMappingResultHandler::concat);
     }
 
     @NotThreadSafe
     static final class Builder
-            extends AbstractBuilder<OutboundSignal.Mapped, Source<OutboundSignalWithId, ?>, Builder> {
+            extends AbstractBuilder<OutboundSignal.Mapped, List<OutboundSignalWithId>, Builder> {
 
         private Builder() {
             super(Builder.class);
@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.connectivity.messaging.amqp;
 
 import java.net.URI;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +23,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -58,6 +61,7 @@ import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConne
 import org.eclipse.ditto.services.connectivity.messaging.internal.RecoverSession;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.ConnectionLogger;
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionFailedException;
 
 import akka.Done;
@@ -69,6 +73,7 @@ import akka.actor.SupervisorStrategy;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.FSMStateFunctionBuilder;
 import akka.pattern.Patterns;
+import akka.routing.ConsistentHashingGroup;
 
 /**
  * Actor which manages a connection to an AMQP 1.0 server using the Qpid JMS client.
@@ -79,11 +84,19 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
 
     private static final String SPEC_CONFIG_RECOVER_ON_SESSION_CLOSED = "recover.on-session-closed";
     private static final String SPEC_CONFIG_RECOVER_ON_CONNECTION_RESTORED = "recover.on-connection-restored";
+
+    /**
+     * Specific config key of the number of JMS sessions which are opened for a connection.
+     */
+    static final String SPEC_CONFIG_SESSION_COUNT = "session-count";
+
+    private static final String PUBLISHER_ROUTER_NAME_PREFIX = "amqpPublisherRouter";
+
     private final JmsConnectionFactory jmsConnectionFactory;
     final StatusReportingListener connectionListener;
 
     @Nullable private JmsConnection jmsConnection;
-    @Nullable private Session jmsSession;
+    private List<Session> jmsSessions;
 
     @Nullable private ActorRef testConnectionHandler;
     @Nullable private ActorRef connectConnectionHandler;
@@ -92,7 +105,8 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
     private final Map<String, ActorRef> consumerByNamePrefix;
     private final boolean recoverSessionOnSessionClosed;
     private final boolean recoverSessionOnConnectionRestored;
-    private ActorRef amqpPublisherActor;
+    private final List<ActorRef> amqpPublisherActors;
+    @Nullable private ActorRef amqpPublisherActor;
 
     /*
      * This constructor is called via reflection by the static method propsForTest.
@@ -106,6 +120,8 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
         this.jmsConnectionFactory = jmsConnectionFactory;
         connectionListener = new StatusReportingListener(getSelf(), connection.getId(), log, connectionLogger);
         consumerByNamePrefix = new HashMap<>();
+        jmsSessions = Collections.emptyList();
+        amqpPublisherActors = new ArrayList<>();
         recoverSessionOnSessionClosed = isRecoverSessionOnSessionClosedEnabled();
         recoverSessionOnConnectionRestored = isRecoverSessionOnConnectionRestoredEnabled();
     }
@@ -147,6 +163,18 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
                 jmsConnectionFactory, conciergeForwarder);
     }
 
+    /**
+     * Returns the number of JMS sessions to open for a connection. Consumers and publishers are spread over the
+     * sessions because a JMS session must only be used by one thread at a time.
+     *
+     * @param connection the connection.
+     * @return the configured session count or 1 if not configured.
+     */
+    static int getSessionCount(final Connection connection) {
+        final String sessionCount = connection.getSpecificConfig().get(SPEC_CONFIG_SESSION_COUNT);
+        return sessionCount != null ? Math.max(1, Integer.parseInt(sessionCount)) : 1;
+    }
+
     private static Connection validateConnection(final Connection connection) {
         try {
             ProviderFactory.create(
@@ -249,7 +277,7 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
             ensureJmsConnectionClosed();
             jmsConnection = c.connection;
             jmsConnection.addConnectionListener(connectionListener);
-            jmsSession = c.session;
+            jmsSessions = c.sessions;
         } else {
             log.info("ClientConnected was not JmsConnected as expected, ignoring as this probably was a reconnection");
         }
@@ -258,12 +286,18 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
     @Override
     protected CompletionStage<Status.Status> startPublisherActor() {
         final CompletableFuture<Status.Status> future = new CompletableFuture<>();
-        stopChildActor(amqpPublisherActor);
+        stopPublisherActors();
         final String namePrefix = AmqpPublisherActor.ACTOR_NAME_PREFIX;
-        if (jmsSession != null) {
-            final Props props = AmqpPublisherActor.props(connection(), jmsSession,
-                    connectivityConfig.getConnectionConfig());
-            amqpPublisherActor = startChildActorConflictFree(namePrefix, props);
+        if (!jmsSessions.isEmpty()) {
+            // one publisher per session as a JMS session must not be used concurrently
+            for (int i = 0; i < jmsSessions.size(); i++) {
+                final Props props = AmqpPublisherActor.props(connection(), jmsSessions.get(i), i,
+                        connectivityConfig.getConnectionConfig());
+                amqpPublisherActors.add(startChildActorConflictFree(namePrefix, props));
+            }
+            amqpPublisherActor = amqpPublisherActors.size() == 1
+                    ? amqpPublisherActors.get(0)
+                    : startPublisherRouter(amqpPublisherActors);
             future.complete(DONE);
         } else {
             future.completeExceptionally(ConnectionFailedException
@@ -288,11 +322,11 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
     protected void cleanupResourcesForConnection() {
         log.debug("cleaning up resources for connection '{}'", connectionId());
         stopCommandConsumers();
-        stopChildActor(amqpPublisherActor);
+        stopPublisherActors();
         // closing JMS connection closes all sessions and consumers
         ensureJmsConnectionClosed();
         jmsConnection = null;
-        jmsSession = null;
+        jmsSessions = Collections.emptyList();
     }
 
     /*
@@ -333,11 +367,47 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
         }
     }
 
+    /*
+     * The publishers of all sessions publish to the same targets, so that only the publisher of the first session
+     * reports the target status. The router of the publishers would pass the request on to one of them.
+     */
+    @Override
+    protected boolean isReportingAddressStatus(final ActorRef child) {
+        final int publisherIndex = amqpPublisherActors.indexOf(child);
+        return super.isReportingAddressStatus(child) &&
+                !child.path().name().startsWith(PUBLISHER_ROUTER_NAME_PREFIX) &&
+                publisherIndex <= 0;
+    }
+
     @Override
     protected ActorRef getPublisherActor() {
         return amqpPublisherActor;
     }
 
+    /*
+     * Signals of the same thing are always published via the same session in order to keep their order.
+     */
+    private ActorRef startPublisherRouter(final List<ActorRef> publisherActors) {
+        final List<String> routeePaths = publisherActors.stream()
+                .map(publisherActor -> publisherActor.path().toStringWithoutAddress())
+                .collect(Collectors.toList());
+        final Props props = new ConsistentHashingGroup(routeePaths)
+                .withHashMapper(message -> message instanceof OutboundSignal
+                        ? ((OutboundSignal) message).getSource().getEntityId().toString()
+                        : message)
+                .props();
+        return startChildActorConflictFree(PUBLISHER_ROUTER_NAME_PREFIX, props);
+    }
+
+    private void stopPublisherActors() {
+        if (amqpPublisherActor != null && !amqpPublisherActors.contains(amqpPublisherActor)) {
+            stopChildActor(amqpPublisherActor);
+        }
+        amqpPublisherActors.forEach(this::stopChildActor);
+        amqpPublisherActors.clear();
+        amqpPublisherActor = null;
+    }
+
     private void startCommandConsumers(final List<ConsumerData> consumers, final ActorRef jmsActor) {
         if (isConsuming()) {
             stopCommandConsumers();
@@ -423,9 +493,10 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
     }
 
     private FSM.State<BaseClientState, BaseClientData> handleConnectionRestored(final BaseClientData currentData) {
-        if (recoverSessionOnConnectionRestored && (jmsSession == null || ((JmsSession) jmsSession).isClosed())) {
+        if (recoverSessionOnConnectionRestored && (jmsSessions.isEmpty() ||
+                jmsSessions.stream().anyMatch(session -> ((JmsSession) session).isClosed()))) {
             log.info("Restored connection has closed session, trying to recover...");
-            recoverSession(jmsSession);
+            recoverSessions();
         }
         return stay().using(currentData.setConnectionStatus(ConnectivityStatus.OPEN)
                 .setConnectionStatusDetails("Connection restored"));
@@ -456,9 +527,8 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
     private FSM.State<BaseClientState, BaseClientData> handleProducerClosed(
             final ProducerClosedStatusReport statusReport,
             final BaseClientData currentData) {
-        if (amqpPublisherActor != null) {
-            amqpPublisherActor.tell(statusReport, ActorRef.noSender());
-        }
+        // broadcast event to publishers, who then decide whether the closed producer belongs to their session
+        amqpPublisherActors.forEach(publisherActor -> publisherActor.tell(statusReport, ActorRef.noSender()));
         return stay().using(currentData);
     }
 
@@ -467,22 +537,23 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
             final BaseClientData currentData) {
         connectionLogger.failure("Session has been closed.");
         if (recoverSessionOnSessionClosed) {
-            recoverSession(statusReport.getSession());
+            recoverSessions();
         } else {
             log.debug("Not recovering session after session was closed.");
         }
         return stay().using(currentData);
     }
 
-    private void recoverSession(@Nullable final Session session) {
+    private void recoverSessions() {
         connectionLogger.failure("Trying to recover the session.");
         log.info("Recovering closed JMS session.");
-        // first stop all child actors, they relied on the closed/corrupt session
+        // first stop all child actors, they relied on the closed/corrupt session. all sessions are recreated so that
+        // consumers and publishers stay evenly spread over them.
         stopCommandConsumers();
-        stopChildActor(amqpPublisherActor);
-        // create a new session, result will be delivered with JmsSessionRecovered event
-        getConnectConnectionHandler(connection()).tell(new JmsRecoverSession(getSender(), jmsConnection, session),
-                getSelf());
+        stopPublisherActors();
+        // create new sessions, result will be delivered with JmsSessionRecovered event
+        getConnectConnectionHandler(connection()).tell(
+                new JmsRecoverSession(getSender(), jmsConnection, jmsSessions), getSelf());
     }
 
     private FSM.State<BaseClientState, BaseClientData> handleSessionRecovered(
@@ -491,11 +562,9 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
 
         // make sure that we close any previous session
         final ActorRef jmsActor = getConnectConnectionHandler(connection());
-        if (jmsSession != null) {
-            jmsActor.tell(new JmsCloseSession(getSender(), jmsSession), getSelf());
-        }
+        jmsSessions.forEach(session -> jmsActor.tell(new JmsCloseSession(getSender(), session), getSelf()));
 
-        jmsSession = sessionRecovered.getSession();
+        jmsSessions = sessionRecovered.getSessions();
 
         startPublisherActor()
                 .thenRun(() -> startCommandConsumers(sessionRecovered.getConsumerList(), jmsActor))
@@ -545,21 +614,21 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
     static final class JmsRecoverSession extends AbstractWithOrigin implements RecoverSession {
 
         private final javax.jms.Connection connection;
-        @Nullable private final Session session;
+        private final List<Session> sessions;
 
         JmsRecoverSession(@Nullable final ActorRef origin, @Nullable final javax.jms.Connection connection,
-                @Nullable final Session session) {
+                final List<Session> sessions) {
             super(origin);
             this.connection = connection;
-            this.session = session;
+            this.sessions = Collections.unmodifiableList(new ArrayList<>(sessions));
         }
 
         Optional<javax.jms.Connection> getConnection() {
             return Optional.ofNullable(connection);
         }
 
-        Optional<javax.jms.Session> getSession() {
-            return Optional.ofNullable(session);
+        List<Session> getSessions() {
+            return sessions;
         }
     }
 
@@ -603,19 +672,23 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
     static final class JmsConnected extends AbstractWithOrigin implements ClientConnected {
 
         private final JmsConnection connection;
-        private final Session session;
+        private final List<Session> sessions;
         private final List<ConsumerData> consumerList;
 
         JmsConnected(@Nullable final ActorRef origin,
                 final JmsConnection connection,
-                final Session session,
+                final List<Session> sessions,
                 final List<ConsumerData> consumerList) {
 
             super(origin);
             this.connection = connection;
-            this.session = session;
+            this.sessions = sessions;
             this.consumerList = consumerList;
         }
+
+        List<Session> getSessions() {
+            return sessions;
+        }
     }
 
     /**
@@ -623,20 +696,20 @@ public final class AmqpClientActor extends BaseClientActor implements ExceptionL
      */
     static final class JmsSessionRecovered extends AbstractWithOrigin {
 
-        private final Session session;
+        private final List<Session> sessions;
         private final List<ConsumerData> consumerList;
 
         JmsSessionRecovered(@Nullable final ActorRef origin,
-                final Session session,
+                final List<Session> sessions,
                 final List<ConsumerData> consumerList) {
 
             super(origin);
-            this.session = session;
+            this.sessions = sessions;
             this.consumerList = consumerList;
         }
 
-        Session getSession() {
-            return session;
+        List<Session> getSessions() {
+            return sessions;
         }
 
         List<ConsumerData> getConsumerList() {
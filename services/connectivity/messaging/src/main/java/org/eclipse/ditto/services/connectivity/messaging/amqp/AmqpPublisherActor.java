@@ -50,6 +50,9 @@ import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMo
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -58,6 +61,8 @@ import akka.japi.pf.ReceiveBuilder;
 
 /**
  * Responsible for creating JMS {@link MessageProducer}s and sending {@link ExternalMessage}s as JMSMessages to those.
+ * Each instance owns one JMS session of the connection; messages are sent asynchronously and the completion of the
+ * sends is tracked per session.
  */
 public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
 
@@ -68,6 +73,10 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
 
     private static final Object START_PRODUCER = new Object();
 
+    private static final String PUBLISHED_MESSAGES_METRIC = "amqp_session_published_messages";
+    private static final String FAILED_MESSAGES_METRIC = "amqp_session_failed_messages";
+    private static final String IN_FLIGHT_MESSAGES_METRIC = "amqp_session_in_flight_messages";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final Session session;
@@ -75,11 +84,14 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
     private final Map<Destination, MessageProducer> staticTargets;
     private final int producerCacheSize;
     private final ActorRef backOffActor;
+    private final Counter publishedMessagesCounter;
+    private final Counter failedMessagesCounter;
+    private final Gauge inFlightMessagesGauge;
 
     private boolean isInBackOffMode = false;
 
     @SuppressWarnings("unused")
-    private AmqpPublisherActor(final Connection connection, final Session session,
+    private AmqpPublisherActor(final Connection connection, final Session session, final Integer sessionIndex,
             final ConnectionConfig connectionConfig) {
         super(connection);
         ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId);
@@ -91,6 +103,17 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
 
         this.backOffActor =
                 getContext().actorOf(BackOffActor.props(connectionConfig.getAmqp10Config().getBackOffConfig()));
+
+        final String id = connection.getId().toString();
+        publishedMessagesCounter = DittoMetrics.counter(PUBLISHED_MESSAGES_METRIC)
+                .tag("id", id)
+                .tag("session", sessionIndex);
+        failedMessagesCounter = DittoMetrics.counter(FAILED_MESSAGES_METRIC)
+                .tag("id", id)
+                .tag("session", sessionIndex);
+        inFlightMessagesGauge = DittoMetrics.gauge(IN_FLIGHT_MESSAGES_METRIC)
+                .tag("id", id)
+                .tag("session", sessionIndex);
     }
 
     @Override
@@ -113,7 +136,22 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
      */
     static Props props(final Connection connection, final Session session, final ConnectionConfig connectionConfig) {
 
-        return Props.create(AmqpPublisherActor.class, connection, session, connectionConfig);
+        return props(connection, session, 0, connectionConfig);
+    }
+
+    /**
+     * Creates Akka configuration object {@link Props} for this {@code AmqpPublisherActor}.
+     *
+     * @param connection the connection this publisher belongs to
+     * @param session the jms session
+     * @param sessionIndex the index of the session within the sessions of the connection, used to tag metrics.
+     * @param connectionConfig configuration for all connections.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final Connection connection, final Session session, final int sessionIndex,
+            final ConnectionConfig connectionConfig) {
+
+        return Props.create(AmqpPublisherActor.class, connection, session, sessionIndex, connectionConfig);
     }
 
     @Override
@@ -135,8 +173,10 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
     }
 
     private void handleProducerClosedStatusReport(final ProducerClosedStatusReport report) {
-        if (!this.isInBackOffMode) {
-            final MessageProducer producer = report.getMessageProducer();
+        final MessageProducer producer = report.getMessageProducer();
+        if (!staticTargets.containsValue(producer) && !dynamicTargets.containsValue(producer)) {
+            log.debug("Ignoring closed JMS producer '{}' of another session.", producer);
+        } else if (!this.isInBackOffMode) {
             final String genericLogInfo = "Will try to re-establish the targets after some cool-down period.";
             log.info("Got closed JMS producer '{}'. {}", producer, genericLogInfo);
 
@@ -185,15 +225,20 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
 
                 final ActorRef origin = getSender();
                 log.debug("Attempt to send message {} with producer {}.", message, producer);
-                producer.send(jmsMessage, new CompletionListener() {
+                // the listeners are called by the threads of the JMS client
+                inFlightMessagesGauge.increment();
+                sendAsync(producer, jmsMessage, new CompletionListener() {
                     @Override
                     public void onCompletion(final Message jmsMessage) {
+                        inFlightMessagesGauge.decrement();
+                        publishedMessagesCounter.increment();
                         publishedMonitor.success(message);
                         log.debug("Message {} sent successfully.", jmsMessage);
                     }
 
                     @Override
                     public void onException(final Message messageFailedToSend, final Exception exception) {
+                        inFlightMessagesGauge.decrement();
                         handleSendException(message, exception, origin, publishedMonitor);
                     }
                 });
@@ -215,6 +260,16 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
         }
     }
 
+    private void sendAsync(final MessageProducer producer, final Message jmsMessage,
+            final CompletionListener completionListener) throws JMSException {
+        try {
+            producer.send(jmsMessage, completionListener);
+        } catch (final JMSException e) {
+            inFlightMessagesGauge.decrement();
+            throw e;
+        }
+    }
+
     private void handleMessageInBackOffMode(final ExternalMessage message, final ConnectionMonitor publishedMonitor,
             final Destination destination) {
         final String errorMessage = String.format("Producer for target address '%s' is in back off mode, as the " +
@@ -233,6 +288,7 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
             final ConnectionMonitor publishedMonitor) {
 
         log.info("Failed to send JMS message: [{}] {}", e.getClass().getSimpleName(), e.getMessage());
+        failedMessagesCounter.increment();
         final MessageSendingFailedException sendFailedException = MessageSendingFailedException.newBuilder()
                 .cause(e)
                 .dittoHeaders(DittoHeaders.of(message.getInternalHeaders()))
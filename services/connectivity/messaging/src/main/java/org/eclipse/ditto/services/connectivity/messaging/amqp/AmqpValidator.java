@@ -25,6 +25,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
 import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
@@ -83,5 +84,25 @@ public final class AmqpValidator extends AbstractProtocolValidator {
         validateSourceConfigs(connection, dittoHeaders);
         validateTargetConfigs(connection, dittoHeaders);
         validatePayloadMappings(connection, actorSystem, dittoHeaders);
+        validateSessionCount(connection, dittoHeaders);
+    }
+
+    private static void validateSessionCount(final Connection connection, final DittoHeaders dittoHeaders) {
+        final String sessionCount = connection.getSpecificConfig().get(AmqpClientActor.SPEC_CONFIG_SESSION_COUNT);
+        if (sessionCount != null) {
+            boolean isValid;
+            try {
+                isValid = Integer.parseInt(sessionCount) > 0;
+            } catch (final NumberFormatException e) {
+                isValid = false;
+            }
+            if (!isValid) {
+                final String message = String.format("The configured value '%s' of '%s' is invalid. " +
+                        "It must be a positive integer.", sessionCount, AmqpClientActor.SPEC_CONFIG_SESSION_COUNT);
+                throw ConnectionConfigurationInvalidException.newBuilder(message)
+                        .dittoHeaders(dittoHeaders)
+                        .build();
+            }
+        }
     }
 }
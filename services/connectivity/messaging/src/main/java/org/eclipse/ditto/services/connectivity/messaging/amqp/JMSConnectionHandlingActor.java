@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.connectivity.messaging.amqp;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -71,8 +73,10 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
     private final Connection connection;
     private final ExceptionListener exceptionListener;
     private final JmsConnectionFactory jmsConnectionFactory;
+    private final int sessionCount;
+    private final List<String> consumerAddresses;
 
-    @Nullable private Session currentSession = null;
+    private List<Session> currentSessions = Collections.emptyList();
 
     @SuppressWarnings("unused")
     private JMSConnectionHandlingActor(final Connection connection, final ExceptionListener exceptionListener,
@@ -81,6 +85,12 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
         this.connection = checkNotNull(connection, "connection");
         this.exceptionListener = exceptionListener;
         this.jmsConnectionFactory = jmsConnectionFactory;
+        sessionCount = AmqpClientActor.getSessionCount(connection);
+        consumerAddresses = connection.getSources().stream()
+                .flatMap(source -> source.getAddresses().stream()
+                        .flatMap(sourceAddress -> IntStream.range(0, source.getConsumerCount())
+                                .mapToObj(i -> sourceAddress + "-" + i)))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -126,11 +136,12 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
 
     private void createMessageConsumer(final AmqpConsumerActor.CreateMessageConsumer command) {
         final Throwable error;
-        if (currentSession != null) {
-            // create required consumer
+        if (!currentSessions.isEmpty()) {
+            // create required consumer in the session the consumer was assigned to on connect
             final ConsumerData consumerData = command.getConsumerData();
+            final Session session = getSessionOfConsumer(currentSessions, consumerData.getAddressWithIndex());
             final ConsumerData newConsumerData =
-                    createJmsConsumer(currentSession, new HashMap<>(), consumerData.getSource(),
+                    createJmsConsumer(session, new HashMap<>(), consumerData.getSource(),
                             consumerData.getAddress(), consumerData.getAddressWithIndex());
             if (newConsumerData != null) {
                 final Object response = command.toResponse(newConsumerData.getMessageConsumer());
@@ -155,8 +166,8 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
                 session.close();
                 return null;
             });
-            if (Objects.equals(session, currentSession)) {
-                currentSession = null;
+            if (currentSessions.contains(session)) {
+                currentSessions = Collections.emptyList();
             }
         } catch (final Exception e) {
             log.debug("Closing session failed: {}", e.getMessage());
@@ -170,8 +181,8 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
         final ActorRef origin = recoverSession.getOrigin().orElse(null);
         final ActorRef self = getSelf();
 
-        // try to close an existing session first
-        recoverSession.getSession().ifPresent((session) -> {
+        // try to close the existing sessions first
+        recoverSession.getSessions().forEach(session -> {
             try {
                 session.close();
             } catch (final JMSException e) {
@@ -184,12 +195,12 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
         if (connectionOptional.isPresent()) {
             final JmsConnection jmsConnection = (JmsConnection) connectionOptional.get();
             try {
-                log.debug("Creating new JMS session.");
-                final Session session = createSession(jmsConnection);
-                log.debug("Creating consumers for new session.");
-                final List<ConsumerData> consumers = createConsumers(session);
+                log.debug("Creating <{}> new JMS sessions.", sessionCount);
+                final List<Session> sessions = createSessions(jmsConnection);
+                log.debug("Creating consumers for new sessions.");
+                final List<ConsumerData> consumers = createConsumers(sessions);
                 final AmqpClientActor.JmsSessionRecovered r =
-                        new AmqpClientActor.JmsSessionRecovered(origin, session, consumers);
+                        new AmqpClientActor.JmsSessionRecovered(origin, sessions, consumers);
                 sender.tell(r, self);
                 log.debug("Session of connection <{}> recovered successfully.", this.connection.getId());
             } catch (final ConnectionFailedException e) {
@@ -241,9 +252,9 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
     private AmqpClientActor.JmsConnected tryConnect(@Nullable final ActorRef origin) {
         final JmsConnection jmsConnection = createJmsConnection();
         startConnection(jmsConnection);
-        final Session session = createSession(jmsConnection);
-        final List<ConsumerData> consumers = createConsumers(session);
-        return new AmqpClientActor.JmsConnected(origin, jmsConnection, session, consumers);
+        final List<Session> sessions = createSessions(jmsConnection);
+        final List<ConsumerData> consumers = createConsumers(sessions);
+        return new AmqpClientActor.JmsConnected(origin, jmsConnection, sessions, consumers);
     }
 
     private void startConnection(final JmsConnection jmsConnection) {
@@ -254,11 +265,23 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
         });
     }
 
-    private Session createSession(final JmsConnection jmsConnection) {
-        final Session session = safelyExecuteJmsOperation(jmsConnection, "create session",
-                () -> (jmsConnection.createSession(Session.CLIENT_ACKNOWLEDGE)));
-        currentSession = session;
-        return session;
+    private List<Session> createSessions(final JmsConnection jmsConnection) {
+        final List<Session> sessions = new ArrayList<>(sessionCount);
+        for (int i = 0; i < sessionCount; i++) {
+            sessions.add(safelyExecuteJmsOperation(jmsConnection, "create session",
+                    () -> (jmsConnection.createSession(Session.CLIENT_ACKNOWLEDGE))));
+        }
+        currentSessions = Collections.unmodifiableList(sessions);
+        return currentSessions;
+    }
+
+    /*
+     * Consumers are spread round-robin over the sessions in the order of the source addresses, so that a consumer is
+     * recreated in the same session.
+     */
+    private Session getSessionOfConsumer(final List<Session> sessions, final String addressWithIndex) {
+        final int consumerIndex = Math.max(0, consumerAddresses.indexOf(addressWithIndex));
+        return sessions.get(consumerIndex % sessions.size());
     }
 
     private <T> T safelyExecuteJmsOperation(@Nullable final JmsConnection jmsConnection,
@@ -275,20 +298,21 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
     }
 
     /**
-     * Uses the given session to create the specified count of message consumers for every sources addresses.
+     * Uses the given sessions to create the specified count of message consumers for every sources addresses.
      *
-     * @param session the session
+     * @param sessions the sessions
      * @return the consumers
      * @throws org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionFailedException if creation of one
      * or more consumers failed
      */
-    private List<ConsumerData> createConsumers(final Session session) {
+    private List<ConsumerData> createConsumers(final List<Session> sessions) {
         final Map<String, Exception> failedSources = new HashMap<>();
         final List<ConsumerData> consumers = connection.getSources().stream().flatMap(source ->
                 source.getAddresses().stream().flatMap(sourceAddress ->
                         IntStream.range(0, source.getConsumerCount())
                                 .mapToObj(i -> sourceAddress + "-" + i)
-                                .map(addressWithIndex -> createJmsConsumer(session, failedSources, source,
+                                .map(addressWithIndex -> createJmsConsumer(
+                                        getSessionOfConsumer(sessions, addressWithIndex), failedSources, source,
                                         sourceAddress, addressWithIndex))
                                 .filter(Objects::nonNull)
                                 .collect(Collectors.toList()).stream()
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the automatic scaling of the number of client actors of a connection.
+ * The client count of a connection is the lower bound of the scaling.
+ */
+@Immutable
+public interface ClientScalingConfig {
+
+    /**
+     * Indicates whether the number of client actors of connections is scaled automatically.
+     *
+     * @return {@code true} if client actors are scaled automatically.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of client actors of a connection.
+     *
+     * @return the maximum client count.
+     */
+    int getMaxClientCount();
+
+    /**
+     * Returns how often the load of the client actors is checked.
+     *
+     * @return the check interval.
+     */
+    Duration getCheckInterval();
+
+    /**
+     * Returns how long a removed client actor may take to process its in-flight messages and to close its
+     * connection.
+     *
+     * @return the drain timeout.
+     */
+    Duration getDrainTimeout();
+
+    /**
+     * Returns the average number of messages waiting for mapping per client actor above which a client actor is
+     * added.
+     *
+     * @return the queue depth.
+     */
+    long getScaleUpQueueDepth();
+
+    /**
+     * Returns the average dispatch latency of outbound signals above which a client actor is added.
+     *
+     * @return the latency.
+     */
+    Duration getScaleUpLatency();
+
+    /**
+     * Returns the average number of messages waiting for mapping per client actor below which a client actor is
+     * removed if the latency is low as well.
+     *
+     * @return the queue depth.
+     */
+    long getScaleDownQueueDepth();
+
+    /**
+     * Returns the average dispatch latency of outbound signals below which a client actor is removed if the queue
+     * depth is low as well.
+     *
+     * @return the latency.
+     */
+    Duration getScaleDownLatency();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ClientScalingConfig}.
+     */
+    enum ClientScalingConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the number of client actors is scaled automatically.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of client actors of a connection.
+         */
+        MAX_CLIENT_COUNT("max-client-count", 4),
+
+        /**
+         * How often the load of the client actors is checked.
+         */
+        CHECK_INTERVAL("check-interval", Duration.ofSeconds(30L)),
+
+        /**
+         * How long a removed client actor may take to close its connection.
+         */
+        DRAIN_TIMEOUT("drain-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * The average mapping queue depth per client actor above which a client actor is added.
+         */
+        SCALE_UP_QUEUE_DEPTH("scale-up-queue-depth", 500L),
+
+        /**
+         * The average outbound dispatch latency above which a client actor is added.
+         */
+        SCALE_UP_LATENCY("scale-up-latency", Duration.ofMillis(200L)),
+
+        /**
+         * The average mapping queue depth per client actor below which a client actor is removed.
+         */
+        SCALE_DOWN_QUEUE_DEPTH("scale-down-queue-depth", 10L),
+
+        /**
+         * The average outbound dispatch latency below which a client actor is removed.
+         */
+        SCALE_DOWN_LATENCY("scale-down-latency", Duration.ofMillis(20L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ClientScalingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -44,6 +44,15 @@ public interface ConnectionConfig extends WithSupervisorConfig, WithActivityChec
      */
     Collection<String> getBlacklistedHostnames();
 
+    /**
+     * Returns whether the client actors of a connection subscribe for outbound signals themselves as one pub-sub group
+     * instead of the connection actor. Each signal is then delivered to one client actor of the connection, chosen by
+     * its entity ID, which filters and publishes it.
+     *
+     * @return whether outbound signals are dispatched directly to the client actors.
+     */
+    boolean isPartitionedOutboundDispatch();
+
     /**
      * Returns the config of the connection snapshotting behaviour.
      *
@@ -79,6 +88,13 @@ public interface ConnectionConfig extends WithSupervisorConfig, WithActivityChec
      */
     HttpPushConfig getHttpPushConfig();
 
+    /**
+     * Returns the config of the automatic scaling of the number of client actors.
+     *
+     * @return the config.
+     */
+    ClientScalingConfig getClientScalingConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ConnectionConfig}.
@@ -93,7 +109,12 @@ public interface ConnectionConfig extends WithSupervisorConfig, WithActivityChec
         /**
          * A comma separated list of blacklisted hostnames to which not http requests will be send out.
          */
-        BLACKLISTED_HOSTNAMES("blacklisted-hostnames", "");
+        BLACKLISTED_HOSTNAMES("blacklisted-hostnames", ""),
+
+        /**
+         * Whether client actors subscribe for outbound signals themselves as one pub-sub group per connection.
+         */
+        PARTITIONED_OUTBOUND_DISPATCH("partitioned-outbound-dispatch", false);
 
         private final String path;
         private final Object defaultValue;
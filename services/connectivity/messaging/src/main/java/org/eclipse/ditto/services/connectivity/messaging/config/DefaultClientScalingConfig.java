@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ClientScalingConfig}.
+ */
+@Immutable
+final class DefaultClientScalingConfig implements ClientScalingConfig {
+
+    private static final String CONFIG_PATH = "client-scaling";
+
+    private final boolean enabled;
+    private final int maxClientCount;
+    private final Duration checkInterval;
+    private final Duration drainTimeout;
+    private final long scaleUpQueueDepth;
+    private final Duration scaleUpLatency;
+    private final long scaleDownQueueDepth;
+    private final Duration scaleDownLatency;
+
+    private DefaultClientScalingConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(ClientScalingConfigValue.ENABLED.getConfigPath());
+        maxClientCount = config.getInt(ClientScalingConfigValue.MAX_CLIENT_COUNT.getConfigPath());
+        checkInterval = config.getDuration(ClientScalingConfigValue.CHECK_INTERVAL.getConfigPath());
+        drainTimeout = config.getDuration(ClientScalingConfigValue.DRAIN_TIMEOUT.getConfigPath());
+        scaleUpQueueDepth = config.getLong(ClientScalingConfigValue.SCALE_UP_QUEUE_DEPTH.getConfigPath());
+        scaleUpLatency = config.getDuration(ClientScalingConfigValue.SCALE_UP_LATENCY.getConfigPath());
+        scaleDownQueueDepth = config.getLong(ClientScalingConfigValue.SCALE_DOWN_QUEUE_DEPTH.getConfigPath());
+        scaleDownLatency = config.getDuration(ClientScalingConfigValue.SCALE_DOWN_LATENCY.getConfigPath());
+    }
+
+    static DefaultClientScalingConfig of(final Config config) {
+        return new DefaultClientScalingConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ClientScalingConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxClientCount() {
+        return maxClientCount;
+    }
+
+    @Override
+    public Duration getCheckInterval() {
+        return checkInterval;
+    }
+
+    @Override
+    public Duration getDrainTimeout() {
+        return drainTimeout;
+    }
+
+    @Override
+    public long getScaleUpQueueDepth() {
+        return scaleUpQueueDepth;
+    }
+
+    @Override
+    public Duration getScaleUpLatency() {
+        return scaleUpLatency;
+    }
+
+    @Override
+    public long getScaleDownQueueDepth() {
+        return scaleDownQueueDepth;
+    }
+
+    @Override
+    public Duration getScaleDownLatency() {
+        return scaleDownLatency;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultClientScalingConfig that = (DefaultClientScalingConfig) o;
+        return enabled == that.enabled &&
+                maxClientCount == that.maxClientCount &&
+                scaleUpQueueDepth == that.scaleUpQueueDepth &&
+                scaleDownQueueDepth == that.scaleDownQueueDepth &&
+                Objects.equals(checkInterval, that.checkInterval) &&
+                Objects.equals(drainTimeout, that.drainTimeout) &&
+                Objects.equals(scaleUpLatency, that.scaleUpLatency) &&
+                Objects.equals(scaleDownLatency, that.scaleDownLatency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxClientCount, checkInterval, drainTimeout, scaleUpQueueDepth, scaleUpLatency,
+                scaleDownQueueDepth, scaleDownLatency);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxClientCount=" + maxClientCount +
+                ", checkInterval=" + checkInterval +
+                ", drainTimeout=" + drainTimeout +
+                ", scaleUpQueueDepth=" + scaleUpQueueDepth +
+                ", scaleUpLatency=" + scaleUpLatency +
+                ", scaleDownQueueDepth=" + scaleDownQueueDepth +
+                ", scaleDownLatency=" + scaleDownLatency +
+                "]";
+    }
+
+}
@@ -40,12 +40,14 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
 
     private final Duration clientActorAskTimeout;
     private final Collection<String> blacklistedHostnames;
+    private final boolean partitionedOutboundDispatch;
     private final SupervisorConfig supervisorConfig;
     private final SnapshotConfig snapshotConfig;
     private final Amqp10Config amqp10Config;
     private final MqttConfig mqttConfig;
     private final KafkaConfig kafkaConfig;
     private final HttpPushConfig httpPushConfig;
+    private final ClientScalingConfig clientScalingConfig;
     private final ActivityCheckConfig activityCheckConfig;
 
     private DefaultConnectionConfig(final ConfigWithFallback config) {
@@ -53,12 +55,15 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         final String blacklistedHostnamesStr =
                 config.getString(ConnectionConfigValue.BLACKLISTED_HOSTNAMES.getConfigPath());
         blacklistedHostnames = Collections.unmodifiableCollection(Arrays.asList(blacklistedHostnamesStr.split(",")));
+        partitionedOutboundDispatch =
+                config.getBoolean(ConnectionConfigValue.PARTITIONED_OUTBOUND_DISPATCH.getConfigPath());
         supervisorConfig = DefaultSupervisorConfig.of(config);
         snapshotConfig = DefaultSnapshotConfig.of(config);
         amqp10Config = DefaultAmqp10Config.of(config);
         mqttConfig = DefaultMqttConfig.of(config);
         kafkaConfig = DefaultKafkaConfig.of(config);
         httpPushConfig = DefaultHttpPushConfig.of(config);
+        clientScalingConfig = DefaultClientScalingConfig.of(config);
         activityCheckConfig = DefaultActivityCheckConfig.of(config);
     }
 
@@ -84,6 +89,11 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return blacklistedHostnames;
     }
 
+    @Override
+    public boolean isPartitionedOutboundDispatch() {
+        return partitionedOutboundDispatch;
+    }
+
     @Override
     public SupervisorConfig getSupervisorConfig() {
         return supervisorConfig;
@@ -114,6 +124,11 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return httpPushConfig;
     }
 
+    @Override
+    public ClientScalingConfig getClientScalingConfig() {
+        return clientScalingConfig;
+    }
+
     @Override
     public ActivityCheckConfig getActivityCheckConfig() {
         return activityCheckConfig;
@@ -130,19 +145,21 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         final DefaultConnectionConfig that = (DefaultConnectionConfig) o;
         return Objects.equals(clientActorAskTimeout, that.clientActorAskTimeout) &&
                 Objects.equals(blacklistedHostnames, that.blacklistedHostnames) &&
+                partitionedOutboundDispatch == that.partitionedOutboundDispatch &&
                 Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(snapshotConfig, that.snapshotConfig) &&
                 Objects.equals(amqp10Config, that.amqp10Config) &&
                 Objects.equals(mqttConfig, that.mqttConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(kafkaConfig, that.kafkaConfig) &&
-                Objects.equals(httpPushConfig, that.httpPushConfig);
+                Objects.equals(httpPushConfig, that.httpPushConfig) &&
+                Objects.equals(clientScalingConfig, that.clientScalingConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(clientActorAskTimeout, blacklistedHostnames, supervisorConfig, snapshotConfig,
-                activityCheckConfig, amqp10Config, mqttConfig, kafkaConfig, httpPushConfig);
+        return Objects.hash(clientActorAskTimeout, blacklistedHostnames, partitionedOutboundDispatch,
+                supervisorConfig, snapshotConfig, activityCheckConfig, amqp10Config, mqttConfig, kafkaConfig, httpPushConfig, clientScalingConfig);
     }
 
     @Override
@@ -150,12 +167,14 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return getClass().getSimpleName() + " [" +
                 "clientActorAskTimeout=" + clientActorAskTimeout +
                 ", blacklistedHostnames=" + blacklistedHostnames +
+                ", partitionedOutboundDispatch=" + partitionedOutboundDispatch +
                 ", supervisorConfig=" + supervisorConfig +
                 ", snapshotConfig=" + snapshotConfig +
                 ", amqp10Config=" + amqp10Config +
                 ", mqttConfig=" + mqttConfig +
                 ", kafkaConfig=" + kafkaConfig +
                 ", httpPushConfig=" + httpPushConfig +
+                ", clientScalingConfig=" + clientScalingConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 "]";
     }
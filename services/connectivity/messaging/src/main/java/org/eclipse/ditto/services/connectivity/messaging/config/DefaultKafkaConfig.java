@@ -12,14 +12,16 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 
 /**
  * This class is the default implementation of {@link KafkaConfig}.
@@ -28,11 +30,33 @@ import com.typesafe.config.Config;
 public final class DefaultKafkaConfig implements KafkaConfig {
 
     private static final String CONFIG_PATH = "kafka";
+    private static final String CONSUMER_INTERNAL_PATH = "consumer.internal";
+    private static final String CONSUMER_COMMITTER_PATH = "consumer.committer";
 
     private final Config internalProducerConfig;
+    private final int producerQueueSize;
+    private final int producerBatchSize;
+    private final Duration producerLinger;
+    private final String producerCompressionType;
+    private final String producerAcks;
+    private final Config internalConsumerConfig;
+    private final Config committerConfig;
+    private final int consumerMaxPartitions;
 
     private DefaultKafkaConfig(final ScopedConfig kafkaScopedConfig) {
         internalProducerConfig = kafkaScopedConfig.getConfig("producer.internal");
+        producerQueueSize = kafkaScopedConfig.getInt(KafkaConfigValue.PRODUCER_QUEUE_SIZE.getConfigPath());
+        producerBatchSize = kafkaScopedConfig.getInt(KafkaConfigValue.PRODUCER_BATCH_SIZE.getConfigPath());
+        producerLinger = kafkaScopedConfig.getDuration(KafkaConfigValue.PRODUCER_LINGER.getConfigPath());
+        producerCompressionType =
+                kafkaScopedConfig.getString(KafkaConfigValue.PRODUCER_COMPRESSION_TYPE.getConfigPath());
+        producerAcks = kafkaScopedConfig.getString(KafkaConfigValue.PRODUCER_ACKS.getConfigPath());
+        final Config akkaKafkaDefaults = ConfigFactory.defaultReference().getConfig("akka.kafka");
+        internalConsumerConfig = getConfigOrEmpty(kafkaScopedConfig, CONSUMER_INTERNAL_PATH)
+                .withFallback(akkaKafkaDefaults.getConfig("consumer"));
+        committerConfig = getConfigOrEmpty(kafkaScopedConfig, CONSUMER_COMMITTER_PATH)
+                .withFallback(akkaKafkaDefaults.getConfig("committer"));
+        consumerMaxPartitions = kafkaScopedConfig.getInt(KafkaConfigValue.CONSUMER_MAX_PARTITIONS.getConfigPath());
     }
 
     /**
@@ -43,7 +67,7 @@ public final class DefaultKafkaConfig implements KafkaConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultKafkaConfig of(final Config config) {
-        return new DefaultKafkaConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultKafkaConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, KafkaConfigValue.values()));
     }
 
     @Override
@@ -51,6 +75,50 @@ public final class DefaultKafkaConfig implements KafkaConfig {
         return internalProducerConfig;
     }
 
+    @Override
+    public int getProducerQueueSize() {
+        return producerQueueSize;
+    }
+
+    @Override
+    public int getProducerBatchSize() {
+        return producerBatchSize;
+    }
+
+    @Override
+    public Duration getProducerLinger() {
+        return producerLinger;
+    }
+
+    @Override
+    public String getProducerCompressionType() {
+        return producerCompressionType;
+    }
+
+    @Override
+    public String getProducerAcks() {
+        return producerAcks;
+    }
+
+    @Override
+    public Config getInternalConsumerConfig() {
+        return internalConsumerConfig;
+    }
+
+    @Override
+    public Config getCommitterConfig() {
+        return committerConfig;
+    }
+
+    @Override
+    public int getConsumerMaxPartitions() {
+        return consumerMaxPartitions;
+    }
+
+    private static Config getConfigOrEmpty(final Config config, final String path) {
+        return config.hasPath(path) ? config.getConfig(path) : ConfigFactory.empty();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -60,18 +128,36 @@ public final class DefaultKafkaConfig implements KafkaConfig {
             return false;
         }
         final DefaultKafkaConfig that = (DefaultKafkaConfig) o;
-        return Objects.equals(internalProducerConfig, that.internalProducerConfig);
+        return producerQueueSize == that.producerQueueSize &&
+                producerBatchSize == that.producerBatchSize &&
+                consumerMaxPartitions == that.consumerMaxPartitions &&
+                Objects.equals(internalProducerConfig, that.internalProducerConfig) &&
+                Objects.equals(producerLinger, that.producerLinger) &&
+                Objects.equals(producerCompressionType, that.producerCompressionType) &&
+                Objects.equals(producerAcks, that.producerAcks) &&
+                Objects.equals(internalConsumerConfig, that.internalConsumerConfig) &&
+                Objects.equals(committerConfig, that.committerConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(internalProducerConfig);
+        return Objects.hash(internalProducerConfig, producerQueueSize, producerBatchSize, producerLinger,
+                producerCompressionType, producerAcks, internalConsumerConfig, committerConfig,
+                consumerMaxPartitions);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "internalProducerConfig=" + internalProducerConfig +
+                ", producerQueueSize=" + producerQueueSize +
+                ", producerBatchSize=" + producerBatchSize +
+                ", producerLinger=" + producerLinger +
+                ", producerCompressionType=" + producerCompressionType +
+                ", producerAcks=" + producerAcks +
+                ", internalConsumerConfig=" + internalConsumerConfig +
+                ", committerConfig=" + committerConfig +
+                ", consumerMaxPartitions=" + consumerMaxPartitions +
                 "]";
     }
 
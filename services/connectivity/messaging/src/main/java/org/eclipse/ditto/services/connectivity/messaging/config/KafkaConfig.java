@@ -12,8 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
 import com.typesafe.config.Config;
 
 /**
@@ -30,4 +34,122 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns the maximum number of messages buffered by a Kafka publisher while the broker is slower than the
+     * publisher is fed; further messages are rejected and reported as failed publications.
+     *
+     * @return the maximum number of buffered messages.
+     */
+    int getProducerQueueSize();
+
+    /**
+     * Returns the maximum size in bytes of a batch of records sent to the same partition.
+     *
+     * @return the batch size.
+     */
+    int getProducerBatchSize();
+
+    /**
+     * Returns how long a producer waits for further records before it sends a batch which is not full.
+     *
+     * @return the linger duration.
+     */
+    Duration getProducerLinger();
+
+    /**
+     * Returns the compression type of the record batches, i. e. one of {@code none}, {@code gzip}, {@code snappy},
+     * {@code lz4} or {@code zstd}.
+     *
+     * @return the compression type.
+     */
+    String getProducerCompressionType();
+
+    /**
+     * Returns how many replicas of a partition must have received a record before the producer considers it as
+     * published, i. e. one of {@code 0}, {@code 1} or {@code all}.
+     *
+     * @return the acknowledgements of the producer.
+     */
+    String getProducerAcks();
+
+    /**
+     * Returns the Config for consumers needed by akka-stream-kafka. Settings which are not configured fall back to
+     * the defaults of akka-stream-kafka.
+     *
+     * @see <a href="https://doc.akka.io/docs/akka-stream-kafka/current/consumer.html#settings">akka-stream-kafka Consumer settings</a>
+     * @return internal consumer configuration needed by akka-stream-kafka client.
+     */
+    Config getInternalConsumerConfig();
+
+    /**
+     * Returns the Config for committing consumed offsets in batches needed by akka-stream-kafka. Settings which are
+     * not configured fall back to the defaults of akka-stream-kafka.
+     *
+     * @return committer configuration needed by akka-stream-kafka client.
+     */
+    Config getCommitterConfig();
+
+    /**
+     * Returns the maximum number of partitions a consumer consumes from in parallel.
+     *
+     * @return the maximum number of partitions.
+     */
+    int getConsumerMaxPartitions();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConfig}.
+     */
+    enum KafkaConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of messages buffered by a Kafka publisher.
+         */
+        PRODUCER_QUEUE_SIZE("producer.queue-size", 1000),
+
+        /**
+         * The maximum size in bytes of a batch of records sent to the same partition.
+         */
+        PRODUCER_BATCH_SIZE("producer.batch-size", 16384),
+
+        /**
+         * How long a producer waits for further records before it sends a batch which is not full.
+         */
+        PRODUCER_LINGER("producer.linger", Duration.ofMillis(5L)),
+
+        /**
+         * The compression type of the record batches.
+         */
+        PRODUCER_COMPRESSION_TYPE("producer.compression-type", "none"),
+
+        /**
+         * How many replicas of a partition must have received a record before it is published.
+         */
+        PRODUCER_ACKS("producer.acks", "all"),
+
+        /**
+         * The maximum number of partitions a consumer consumes from in parallel.
+         */
+        CONSUMER_MAX_PARTITIONS("consumer.max-partitions", 64);
+
+        private final String path;
+        private final Object defaultValue;
+
+        KafkaConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
@@ -53,16 +53,19 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
     private final ConnectionId connectionId;
     private final Uri baseUri;
     private final int parallelism;
+    private final int pipeliningLimit;
     private final SSLContextCreator sslContextCreator;
 
     @Nullable
     private final ClientTransport clientTransport;
 
     private DefaultHttpPushFactory(final ConnectionId connectionId, final Uri baseUri, final int parallelism,
-            final SSLContextCreator sslContextCreator, final HttpPushConfig httpPushConfig) {
+            final int pipeliningLimit, final SSLContextCreator sslContextCreator,
+            final HttpPushConfig httpPushConfig) {
         this.connectionId = connectionId;
         this.baseUri = baseUri;
         this.parallelism = parallelism;
+        this.pipeliningLimit = pipeliningLimit;
         this.sslContextCreator = sslContextCreator;
         if (!httpPushConfig.getHttpProxyConfig().isEnabled()) {
             clientTransport = null;
@@ -74,9 +77,12 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
     static HttpPushFactory of(final Connection connection, final HttpPushConfig httpPushConfig) {
         final ConnectionId connectionId = connection.getId();
         final Uri baseUri = Uri.create(connection.getUri());
-        final int parallelism = parseParallelism(connection.getSpecificConfig());
+        final int parallelism = parsePositiveInt(connection.getSpecificConfig(), HttpPushFactory.PARALLELISM);
+        final int pipeliningLimit =
+                parsePositiveInt(connection.getSpecificConfig(), HttpPushFactory.PIPELINING_LIMIT);
         final SSLContextCreator sslContextCreator = SSLContextCreator.fromConnection(connection, DittoHeaders.empty());
-        return new DefaultHttpPushFactory(connectionId, baseUri, parallelism, sslContextCreator, httpPushConfig);
+        return new DefaultHttpPushFactory(connectionId, baseUri, parallelism, pipeliningLimit, sslContextCreator,
+                httpPushConfig);
     }
 
     @Override
@@ -138,12 +144,14 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
             // no SSL, hence no need for SSLContextCreator
             flow = http.<T>cachedHostConnectionPool(ConnectHttp.toHost(baseUri), poolSettings, log);
         }
-        return flow.buffer(parallelism, OverflowStrategy.backpressure());
+        return flow.buffer(parallelism * pipeliningLimit, OverflowStrategy.backpressure());
     }
 
     private ConnectionPoolSettings getConnectionPoolSettings(final ActorSystem system) {
         final ConnectionPoolSettings settings =
-                disambiguateByConnectionId(system, connectionId).withMaxConnections(parallelism);
+                disambiguateByConnectionId(system, connectionId)
+                        .withMaxConnections(parallelism)
+                        .withPipeliningLimit(pipeliningLimit);
         return clientTransport == null
                 ? settings
                 : settings.withTransport(clientTransport);
@@ -175,8 +183,8 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
                         .withParserSettings(parserSettings.withHeaderValueCacheLimits(disambiguator)));
     }
 
-    private static int parseParallelism(final Map<String, String> specificConfig) {
-        return Optional.ofNullable(specificConfig.get(HttpPushFactory.PARALLELISM))
+    private static int parsePositiveInt(final Map<String, String> specificConfig, final String key) {
+        return Optional.ofNullable(specificConfig.get(key))
                 .map(Integer::valueOf)
                 .orElse(1);
     }
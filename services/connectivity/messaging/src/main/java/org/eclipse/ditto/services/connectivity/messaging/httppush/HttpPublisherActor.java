@@ -37,7 +37,10 @@ import org.eclipse.ditto.services.connectivity.messaging.validation.ConnectionVa
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 
+import akka.NotUsed;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.event.DiagnosticLoggingAdapter;
@@ -54,6 +57,7 @@ import akka.japi.pf.ReceiveBuilder;
 import akka.stream.ActorMaterializer;
 import akka.stream.OverflowStrategy;
 import akka.stream.QueueOfferResult;
+import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
@@ -73,6 +77,8 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
 
     private static final long READ_BODY_TIMEOUT_MS = 1000L;
 
+    private static final String DROPPED_MESSAGES_METRIC = "connection_dropped_messages";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final HttpPushFactory factory;
@@ -81,6 +87,7 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
     private final ActorMaterializer materializer;
     private final SourceQueue<Pair<HttpRequest, HttpPushContext>> sourceQueue;
     private final Collection<InetAddress> blacklistedAddresses;
+    private final Counter droppedMessagesCounter;
 
     @SuppressWarnings("unused")
     private HttpPublisherActor(final Connection connection, final HttpPushFactory factory) {
@@ -95,9 +102,18 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         blacklistedAddresses =
                 ConnectionValidator.calculateBlacklistedAddresses(connectionConfig.getBlacklistedHostnames(), log);
 
+        droppedMessagesCounter = DittoMetrics.counter(DROPPED_MESSAGES_METRIC)
+                .tag("id", connection.getId().toString())
+                .tag("type", connection.getConnectionType().getName());
+
+        final Flow<Pair<HttpRequest, HttpPushContext>, Pair<HttpRequest, HttpPushContext>, NotUsed> batchingFlow =
+                HttpRequestBatcher.fromSpecificConfig(connection.getSpecificConfig())
+                        .map(HttpRequestBatcher::flow)
+                        .orElseGet(Flow::create);
         materializer = ActorMaterializer.create(getContext());
         sourceQueue =
                 Source.<Pair<HttpRequest, HttpPushContext>>queue(config.getMaxQueueSize(), OverflowStrategy.dropNew())
+                        .via(batchingFlow)
                         .viaMat(factory.createFlow(system, log), Keep.left())
                         .toMat(Sink.foreach(this::processResponse), Keep.left())
                         .run(materializer);
@@ -182,6 +198,7 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
                 escalate(error, errorDescription);
             } else if (queueOfferResult == QueueOfferResult.dropped()) {
                 log.debug("HTTP request dropped due to full queue");
+                droppedMessagesCounter.increment();
                 responseDroppedMonitor.failure(message,
                         "Message dropped because the number of ongoing requests exceeded <{0}>",
                         config.getMaxQueueSize());
@@ -194,36 +211,36 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
     private void processResponse(final Pair<Try<HttpResponse>, HttpPushContext> responseWithMessage) {
         final Try<HttpResponse> tryResponse = responseWithMessage.first();
         final HttpPushContext context = responseWithMessage.second();
-        final ExternalMessage message = context.getExternalMessage();
+        final List<ExternalMessage> messages = context.getExternalMessages();
         final Uri requestUri = context.getRequestUri();
         if (tryResponse.isFailure()) {
             final Throwable error = tryResponse.toEither().left().get();
             final String errorDescription = MessageFormat.format("Failed to send HTTP request to <{0}>.",
                     stripUserInfo(requestUri));
-            log.debug("Failed to send message <{}> due to <{}>", message, error);
-            responsePublishedMonitor.failure(message, errorDescription);
+            log.debug("Failed to send messages <{}> due to <{}>", messages, error);
+            messages.forEach(message -> responsePublishedMonitor.failure(message, errorDescription));
             escalate(error, errorDescription);
         } else {
             final HttpResponse response = tryResponse.toEither().right().get();
-            log.debug("Sent message <{}>. Got response <{} {}>", message, response.status(), response.getHeaders());
+            log.debug("Sent messages <{}>. Got response <{} {}>", messages, response.status(), response.getHeaders());
             if (response.status().isSuccess()) {
-                responsePublishedMonitor.success(message,
+                messages.forEach(message -> responsePublishedMonitor.success(message,
                         "HTTP call to <{0}> successfully responded with status <{1}>.",
-                        stripUserInfo(requestUri), response.status());
+                        stripUserInfo(requestUri), response.status()));
+                response.discardEntityBytes(materializer);
             } else {
                 getResponseBody(response, materializer)
-                        .thenAccept(body -> responsePublishedMonitor.failure(message,
+                        .thenAccept(body -> messages.forEach(message -> responsePublishedMonitor.failure(message,
                                 "HTTP call to <{0}> responded with status <{1}> and body: {2}.",
                                 stripUserInfo(requestUri),
-                                response.status(), body)
+                                response.status(), body))
                         )
                         .exceptionally(bodyReadError -> {
-                            responsePublishedMonitor.failure(message,
+                            messages.forEach(message -> responsePublishedMonitor.failure(message,
                                     "HTTP call to <{0}> responded with status <{1}>. Failed to read body within {2} ms",
-                                    stripUserInfo(requestUri), response.status(), READ_BODY_TIMEOUT_MS);
-                            LogUtil.enhanceLogWithCorrelationId(log, message.getInternalHeaders());
+                                    stripUserInfo(requestUri), response.status(), READ_BODY_TIMEOUT_MS));
                             log.info("Got <{}> when reading body of publish response to <{}>", bodyReadError,
-                                    message);
+                                    messages);
                             return null;
                         }).thenRun(() -> response.discardEntityBytes(materializer));
             }
@@ -33,6 +33,26 @@ public interface HttpPushFactory {
      */
     String PARALLELISM = "parallelism";
 
+    /**
+     * Specific config name for the amount of HTTP requests to pipeline on each outgoing connection.
+     */
+    String PIPELINING_LIMIT = "pipeliningLimit";
+
+    /**
+     * Specific config name for the maximum number of messages to send as JSON array in one HTTP request.
+     */
+    String BATCH_SIZE = "batchSize";
+
+    /**
+     * Specific config name for the time in milliseconds to wait for further messages of a batch.
+     */
+    String BATCH_TIMEOUT_MILLIS = "batchTimeoutMillis";
+
+    /**
+     * Specific config name for the maximum number of payload bytes to send in one HTTP request.
+     */
+    String BATCH_MAX_BYTES = "batchMaxBytes";
+
     /**
      * Create a request template without headers or payload for an HTTP publish target.
      * Published external messages set the headers and payload.
@@ -73,7 +73,11 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         validateSourceConfigs(connection, dittoHeaders);
         validateTargetConfigs(connection, dittoHeaders);
         validatePayloadMappings(connection, actorSystem, dittoHeaders);
-        validateParallelism(connection.getSpecificConfig(), dittoHeaders);
+        validatePositiveInt(connection.getSpecificConfig(), HttpPushFactory.PARALLELISM, dittoHeaders);
+        validatePositiveInt(connection.getSpecificConfig(), HttpPushFactory.PIPELINING_LIMIT, dittoHeaders);
+        validatePositiveInt(connection.getSpecificConfig(), HttpPushFactory.BATCH_SIZE, dittoHeaders);
+        validatePositiveInt(connection.getSpecificConfig(), HttpPushFactory.BATCH_TIMEOUT_MILLIS, dittoHeaders);
+        validatePositiveInt(connection.getSpecificConfig(), HttpPushFactory.BATCH_MAX_BYTES, dittoHeaders);
     }
 
     @Override
@@ -125,28 +129,29 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         }
     }
 
-    private void validateParallelism(final Map<String, String> specificConfig, final DittoHeaders dittoHeaders) {
+    private void validatePositiveInt(final Map<String, String> specificConfig, final String key,
+            final DittoHeaders dittoHeaders) {
 
-        final String parallelismString = specificConfig.get(HttpPushFactory.PARALLELISM);
-        if (parallelismString != null) {
+        final String valueString = specificConfig.get(key);
+        if (valueString != null) {
             try {
-                final int parallelism = Integer.parseInt(parallelismString);
-                if (parallelism <= 0) {
-                    throw parallelismValidationFailed(parallelismString, dittoHeaders);
+                final int value = Integer.parseInt(valueString);
+                if (value <= 0) {
+                    throw positiveIntValidationFailed(valueString, key, dittoHeaders);
                 }
             } catch (final NumberFormatException e) {
-                throw parallelismValidationFailed(parallelismString, dittoHeaders);
+                throw positiveIntValidationFailed(valueString, key, dittoHeaders);
             }
         }
     }
 
-    private static ConnectionConfigurationInvalidException parallelismValidationFailed(final String parallelismString,
-            final DittoHeaders headers) {
+    private static ConnectionConfigurationInvalidException positiveIntValidationFailed(final String valueString,
+            final String key, final DittoHeaders headers) {
 
         final String errorMessage = String.format("The configured value '%s' of '%s' is invalid. " +
                         "It must be a positive integer.",
-                parallelismString,
-                HttpPushFactory.PARALLELISM);
+                valueString,
+                key);
         return ConnectionConfigurationInvalidException.newBuilder(errorMessage)
                 .dittoHeaders(headers)
                 .build();
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+import akka.NotUsed;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpRequest;
+import akka.japi.Pair;
+import akka.stream.javadsl.Flow;
+
+/**
+ * Batches HTTP requests of text messages to the same target into one request whose body is the JSON array of the
+ * message payloads. Payloads which are no valid JSON are added as JSON strings.
+ * <p>
+ * The requests are collected until the batch size or the maximum number of payload bytes is reached or the batch
+ * timeout expired. Only adjacent requests with the same HTTP method and URI are merged, so that the order of the
+ * requests is kept. A batched request only keeps the headers which all its messages agree on. Requests of byte
+ * messages are never batched.
+ * </p>
+ */
+@Immutable
+final class HttpRequestBatcher {
+
+    private static final Duration DEFAULT_BATCH_TIMEOUT = Duration.ofMillis(100L);
+    private static final long DEFAULT_BATCH_MAX_BYTES = 1024L * 1024L;
+
+    private final int batchSize;
+    private final Duration batchTimeout;
+    private final long batchMaxBytes;
+
+    private HttpRequestBatcher(final int batchSize, final Duration batchTimeout, final long batchMaxBytes) {
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+        this.batchMaxBytes = batchMaxBytes;
+    }
+
+    /**
+     * Create a request batcher from the valid specific config of an HTTP-push connection.
+     *
+     * @param specificConfig the specific config.
+     * @return the request batcher or an empty optional if batching is not configured.
+     */
+    static Optional<HttpRequestBatcher> fromSpecificConfig(final Map<String, String> specificConfig) {
+        final int batchSize = Optional.ofNullable(specificConfig.get(HttpPushFactory.BATCH_SIZE))
+                .map(Integer::valueOf)
+                .orElse(1);
+        if (batchSize <= 1) {
+            return Optional.empty();
+        }
+        final Duration batchTimeout = Optional.ofNullable(specificConfig.get(HttpPushFactory.BATCH_TIMEOUT_MILLIS))
+                .map(Long::valueOf)
+                .map(Duration::ofMillis)
+                .orElse(DEFAULT_BATCH_TIMEOUT);
+        final long batchMaxBytes = Optional.ofNullable(specificConfig.get(HttpPushFactory.BATCH_MAX_BYTES))
+                .map(Long::valueOf)
+                .orElse(DEFAULT_BATCH_MAX_BYTES);
+        return Optional.of(new HttpRequestBatcher(batchSize, batchTimeout, batchMaxBytes));
+    }
+
+    /**
+     * @return flow batching the requests.
+     */
+    Flow<Pair<HttpRequest, HttpPushContext>, Pair<HttpRequest, HttpPushContext>, NotUsed> flow() {
+        return Flow.<Pair<HttpRequest, HttpPushContext>>create()
+                .groupedWeightedWithin(batchMaxBytes * batchSize, this::weightOf, batchTimeout)
+                .mapConcat(HttpRequestBatcher::batchPerTarget);
+    }
+
+    private long weightOf(final Pair<HttpRequest, HttpPushContext> request) {
+        // weights are scaled by the batch size; as each request weighs at least the maximum number of bytes, a batch
+        // holds at most batchSize requests
+        final long payloadBytes = request.first().entity().getContentLengthOption().orElse(0L);
+        return Math.max(payloadBytes * batchSize, batchMaxBytes);
+    }
+
+    private static List<Pair<HttpRequest, HttpPushContext>> batchPerTarget(
+            final List<Pair<HttpRequest, HttpPushContext>> requests) {
+
+        final List<Pair<HttpRequest, HttpPushContext>> result = new ArrayList<>(requests.size());
+        List<Pair<HttpRequest, HttpPushContext>> batch = new ArrayList<>();
+        Object batchKey = null;
+        for (final Pair<HttpRequest, HttpPushContext> request : requests) {
+            // requests which are not batchable get a key of their own and thus end up in a batch of their own
+            final Object key = isBatchable(request.second())
+                    ? request.first().method().name() + " " + request.first().getUri()
+                    : new Object();
+            if (!key.equals(batchKey)) {
+                addBatch(batch, result);
+                batch = new ArrayList<>();
+                batchKey = key;
+            }
+            batch.add(request);
+        }
+        addBatch(batch, result);
+        return result;
+    }
+
+    private static void addBatch(final List<Pair<HttpRequest, HttpPushContext>> batch,
+            final List<Pair<HttpRequest, HttpPushContext>> result) {
+
+        if (batch.size() == 1) {
+            result.add(batch.get(0));
+        } else if (!batch.isEmpty()) {
+            result.add(merge(batch));
+        }
+    }
+
+    private static boolean isBatchable(final HttpPushContext context) {
+        return context.getExternalMessages().stream().allMatch(ExternalMessage::isTextMessage);
+    }
+
+    private static Pair<HttpRequest, HttpPushContext> merge(final List<Pair<HttpRequest, HttpPushContext>> batch) {
+        final HttpRequest firstRequest = batch.get(0).first();
+        final List<HttpHeader> commonHeaders = new ArrayList<>();
+        for (final HttpHeader header : firstRequest.getHeaders()) {
+            if (batch.stream().allMatch(request -> containsHeader(request.first(), header))) {
+                commonHeaders.add(header);
+            }
+        }
+        final List<ExternalMessage> messages = new ArrayList<>();
+        final JsonArrayBuilder body = JsonFactory.newArrayBuilder();
+        for (final Pair<HttpRequest, HttpPushContext> request : batch) {
+            for (final ExternalMessage message : request.second().getExternalMessages()) {
+                messages.add(message);
+                body.add(toJsonValue(message));
+            }
+        }
+        final HttpRequest batchedRequest = firstRequest.withHeaders(commonHeaders)
+                .withEntity(HttpEntities.create(ContentTypes.APPLICATION_JSON, body.build().toString()));
+        return Pair.create(batchedRequest, new HttpPushContext(messages, firstRequest.getUri()));
+    }
+
+    private static boolean containsHeader(final HttpRequest request, final HttpHeader header) {
+        for (final HttpHeader requestHeader : request.getHeaders()) {
+            if (requestHeader.equals(header)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static JsonValue toJsonValue(final ExternalMessage message) {
+        final String textPayload = message.getTextPayload().orElse("");
+        try {
+            return JsonFactory.readFrom(textPayload);
+        } catch (final JsonParseException e) {
+            return JsonValue.of(textPayload);
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.internal;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+/**
+ * Actor message wrapping an {@link ExternalMessage} whose sender expects an acknowledgement from the mapping pipeline:
+ * {@link akka.Done} once the signals mapped from the message were forwarded to concierge, a
+ * {@link akka.actor.Status.Failure} if the message was not accepted.
+ */
+@Immutable
+public final class AcknowledgeableExternalMessage {
+
+    private final ExternalMessage externalMessage;
+
+    private AcknowledgeableExternalMessage(final ExternalMessage externalMessage) {
+        this.externalMessage = externalMessage;
+    }
+
+    /**
+     * Wraps an external message whose sender expects an acknowledgement.
+     *
+     * @param externalMessage the external message.
+     * @return the wrapped external message.
+     * @throws NullPointerException if {@code externalMessage} is {@code null}.
+     */
+    public static AcknowledgeableExternalMessage of(final ExternalMessage externalMessage) {
+        return new AcknowledgeableExternalMessage(checkNotNull(externalMessage, "externalMessage"));
+    }
+
+    /**
+     * @return the wrapped external message.
+     */
+    public ExternalMessage getExternalMessage() {
+        return externalMessage;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "externalMessage=" + externalMessage +
+                "]";
+    }
+
+}
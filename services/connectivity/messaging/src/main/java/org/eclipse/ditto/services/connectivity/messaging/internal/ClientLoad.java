@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.internal;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The load of a client actor since its previous report, as answer to {@link RetrieveClientLoad}. It is sent from
+ * client actors on other cluster nodes and is therefore serializable.
+ */
+@Immutable
+public final class ClientLoad implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long mappingQueueDepth;
+    private final Duration publishLatency;
+
+    private ClientLoad(final long mappingQueueDepth, final Duration publishLatency) {
+        this.mappingQueueDepth = mappingQueueDepth;
+        this.publishLatency = publishLatency;
+    }
+
+    /**
+     * Returns a new {@code ClientLoad}.
+     *
+     * @param mappingQueueDepth the number of inbound messages waiting to be mapped.
+     * @param publishLatency the average time outbound signals took from their arrival at the client actor until
+     * they were handed over to the publisher actor.
+     * @return the client load.
+     */
+    public static ClientLoad of(final long mappingQueueDepth, final Duration publishLatency) {
+        return new ClientLoad(mappingQueueDepth, publishLatency);
+    }
+
+    /**
+     * @return the number of inbound messages waiting to be mapped.
+     */
+    public long getMappingQueueDepth() {
+        return mappingQueueDepth;
+    }
+
+    /**
+     * @return the average time outbound signals took until they were handed over to the publisher actor.
+     */
+    public Duration getPublishLatency() {
+        return publishLatency;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ClientLoad that = (ClientLoad) o;
+        return mappingQueueDepth == that.mappingQueueDepth &&
+                Objects.equals(publishLatency, that.publishLatency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mappingQueueDepth, publishLatency);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "mappingQueueDepth=" + mappingQueueDepth +
+                ", publishLatency=" + publishLatency +
+                "]";
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.internal;
+
+import java.io.Serializable;
+
+/**
+ * Actor message asking a client actor for its current {@link ClientLoad}. It is sent to client actors on other
+ * cluster nodes and is therefore serializable.
+ */
+public final class RetrieveClientLoad implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final RetrieveClientLoad INSTANCE = new RetrieveClientLoad();
+
+    private RetrieveClientLoad() {
+    }
+
+    /**
+     * @return the singleton instance of this class.
+     */
+    public static RetrieveClientLoad getInstance() {
+        return INSTANCE;
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+
+import akka.kafka.ConsumerSettings;
+
+/**
+ * Creates {@link akka.kafka.ConsumerSettings} from a given {@link org.eclipse.ditto.model.connectivity.Connection}
+ * configuration. Record values are consumed as byte arrays in order to hand them to the payload mappers without
+ * decoding them first.
+ */
+final class ConsumerSettingsFactory {
+
+    private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS =
+            Collections.unmodifiableList(Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
+                    KafkaBootstrapServerSpecificConfig.getInstance()));
+
+    private static final Deserializer<String> KEY_DESERIALIZER = new StringDeserializer();
+    private static final Deserializer<byte[]> VALUE_DESERIALIZER = new ByteArrayDeserializer();
+
+    private final Connection connection;
+    private final KafkaConfig kafkaConfig;
+
+    private ConsumerSettingsFactory(final Connection connection, final KafkaConfig kafkaConfig) {
+        this.connection = checkNotNull(connection, "connection");
+        this.kafkaConfig = checkNotNull(kafkaConfig, "Kafka config");
+    }
+
+    /**
+     * Returns an instance of the ConsumerSettings factory.
+     *
+     * @param connection the Kafka connection.
+     * @param kafkaConfig the Kafka configuration settings.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static ConsumerSettingsFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig) {
+        return new ConsumerSettingsFactory(connection, kafkaConfig);
+    }
+
+    ConsumerSettings<String, byte[]> getConsumerSettings() {
+        ConsumerSettings<String, byte[]> settings =
+                ConsumerSettings.create(kafkaConfig.getInternalConsumerConfig(), KEY_DESERIALIZER,
+                        VALUE_DESERIALIZER);
+
+        settings = addMetadata(settings);
+        settings = settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG,
+                ProducerSettingsFactory.getSecurityProtocol(connection));
+        settings = addSpecificConfigs(settings);
+
+        return settings;
+    }
+
+    private ConsumerSettings<String, byte[]> addMetadata(final ConsumerSettings<String, byte[]> settings) {
+        // all consumers of a connection share the offsets of the connection's consumer group; the connected Kafka
+        // client is identified by the connectionId followed by the instance index:
+        final InstanceIdentifierSupplier instanceIdentifierSupplier = InstanceIdentifierSupplier.getInstance();
+
+        return settings.withGroupId(connection.getId().toString())
+                .withClientId(connection.getId() + "-consumer-" + instanceIdentifierSupplier.get());
+    }
+
+    private ConsumerSettings<String, byte[]> addSpecificConfigs(final ConsumerSettings<String, byte[]> settings) {
+        ConsumerSettings<String, byte[]> currentSettings = settings;
+        for (final KafkaSpecificConfig specificConfig : SPECIFIC_CONFIGS) {
+            currentSettings = specificConfig.apply(currentSettings, connection);
+        }
+        return currentSettings;
+    }
+
+}
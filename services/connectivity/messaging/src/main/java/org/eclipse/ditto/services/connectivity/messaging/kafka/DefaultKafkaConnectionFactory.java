@@ -12,28 +12,52 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
 
+import akka.Done;
+import akka.NotUsed;
+import akka.japi.Pair;
+import akka.kafka.CommitterSettings;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.ConsumerSettings;
 import akka.kafka.ProducerMessage;
 import akka.kafka.ProducerSettings;
+import akka.kafka.Subscriptions;
+import akka.kafka.javadsl.Committer;
+import akka.kafka.javadsl.Consumer;
 import akka.kafka.javadsl.Producer;
 import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
 
     private final Connection connection;
-    private final ProducerSettings<String, String> settings;
+    private final ProducerSettings<String, byte[]> settings;
+    private final ConsumerSettings<String, byte[]> consumerSettings;
+    private final CommitterSettings committerSettings;
+    private final int maxPartitions;
 
     private DefaultKafkaConnectionFactory(final Connection connection,
-            final ProducerSettings<String, String> producerSettings) {
+            final ProducerSettings<String, byte[]> producerSettings,
+            final ConsumerSettings<String, byte[]> consumerSettings,
+            final CommitterSettings committerSettings,
+            final int maxPartitions) {
 
         this.connection = connection;
         settings = producerSettings;
+        this.consumerSettings = consumerSettings;
+        this.committerSettings = committerSettings;
+        this.maxPartitions = maxPartitions;
     }
 
     /**
@@ -45,8 +69,13 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
      */
     static DefaultKafkaConnectionFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig) {
         final ProducerSettingsFactory settingsFactory = ProducerSettingsFactory.getInstance(connection, kafkaConfig);
+        final ConsumerSettingsFactory consumerSettingsFactory =
+                ConsumerSettingsFactory.getInstance(connection, kafkaConfig);
 
-        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerSettings());
+        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerSettings(),
+                consumerSettingsFactory.getConsumerSettings(),
+                CommitterSettings.create(kafkaConfig.getCommitterConfig()),
+                kafkaConfig.getConsumerMaxPartitions());
     }
 
     @Override
@@ -55,8 +84,26 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
     }
 
     @Override
-    public <T> Flow<ProducerMessage.Envelope<String, String, T>, ProducerMessage.Results<String, String, T>, akka.NotUsed> newFlow() {
+    public <T> Flow<ProducerMessage.Envelope<String, byte[], T>, ProducerMessage.Results<String, byte[], T>, NotUsed> newFlow() {
         return Producer.flexiFlow(settings);
     }
 
+    @Override
+    public Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, byte[]>, NotUsed>>,
+            Consumer.Control> newPartitionedSource(final Collection<String> topics) {
+
+        return Consumer.committablePartitionedSource(consumerSettings,
+                Subscriptions.topics(topics.toArray(new String[0])));
+    }
+
+    @Override
+    public Sink<ConsumerMessage.Committable, CompletionStage<Done>> newCommitterSink() {
+        return Committer.sink(committerSettings);
+    }
+
+    @Override
+    public int maxPartitions() {
+        return maxPartitions;
+    }
+
 }
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -24,6 +25,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
 
+import akka.kafka.ConsumerSettings;
 import akka.kafka.ProducerSettings;
 
 /**
@@ -88,9 +90,20 @@ final class KafkaAuthenticationSpecificConfig implements KafkaSpecificConfig {
     }
 
     @Override
-    public ProducerSettings<String, String> apply(final ProducerSettings<String, String> producerSettings,
+    public <K, V> ProducerSettings<K, V> apply(final ProducerSettings<K, V> producerSettings,
             final Connection connection) {
 
+        return producerSettings.withProperties(getSaslProperties(connection));
+    }
+
+    @Override
+    public <K, V> ConsumerSettings<K, V> apply(final ConsumerSettings<K, V> consumerSettings,
+            final Connection connection) {
+
+        return consumerSettings.withProperties(getSaslProperties(connection));
+    }
+
+    private Map<String, String> getSaslProperties(final Connection connection) {
         final Optional<String> username = connection.getUsername();
         final Optional<String> password = connection.getPassword();
         // chose to not use isApplicable() but directly check username and password since we need to Optional#get them.
@@ -99,11 +112,13 @@ final class KafkaAuthenticationSpecificConfig implements KafkaSpecificConfig {
             final String loginModule = getLoginModuleForSaslMechanism(saslMechanism);
             final String jaasConfig = getJaasConfig(loginModule, username.get(), password.get());
 
-            return producerSettings.withProperty(SaslConfigs.SASL_MECHANISM, saslMechanism)
-                    .withProperty(SaslConfigs.SASL_JAAS_CONFIG, jaasConfig);
+            final Map<String, String> saslProperties = new HashMap<>();
+            saslProperties.put(SaslConfigs.SASL_MECHANISM, saslMechanism);
+            saslProperties.put(SaslConfigs.SASL_JAAS_CONFIG, jaasConfig);
+            return saslProperties;
         }
 
-        return producerSettings;
+        return Collections.emptyMap();
     }
 
     private static String getJaasConfig(final String loginModule, final String username, final String password) {
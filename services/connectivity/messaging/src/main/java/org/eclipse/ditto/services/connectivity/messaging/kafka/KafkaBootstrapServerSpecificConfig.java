@@ -26,6 +26,7 @@ import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidExcept
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import akka.kafka.ConsumerSettings;
 import akka.kafka.ProducerSettings;
 
 /**
@@ -80,9 +81,20 @@ final class KafkaBootstrapServerSpecificConfig implements KafkaSpecificConfig {
     }
 
     @Override
-    public ProducerSettings<String, String> apply(final ProducerSettings<String, String> producerSettings,
+    public <K, V> ProducerSettings<K, V> apply(final ProducerSettings<K, V> producerSettings,
             final Connection connection) {
 
+        return producerSettings.withBootstrapServers(getMergedBootstrapServers(connection));
+    }
+
+    @Override
+    public <K, V> ConsumerSettings<K, V> apply(final ConsumerSettings<K, V> consumerSettings,
+            final Connection connection) {
+
+        return consumerSettings.withBootstrapServers(getMergedBootstrapServers(connection));
+    }
+
+    private String getMergedBootstrapServers(final Connection connection) {
         final String mergedBootstrapServers;
         if (isValid(connection)) {
             final String bootstrapServerFromUri = getBootstrapServerFromUri(connection);
@@ -98,7 +110,7 @@ final class KafkaBootstrapServerSpecificConfig implements KafkaSpecificConfig {
                             " not have been stored with the invalid pattern.", connection.getId());
             mergedBootstrapServers = getBootstrapServerFromUri(connection);
         }
-        return producerSettings.withBootstrapServers(mergedBootstrapServers);
+        return mergedBootstrapServers;
     }
 
     private String getBootstrapServersFromSpecificConfig(final Connection connection) {
@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -21,6 +23,7 @@ import java.util.concurrent.CompletionStage;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
@@ -31,6 +34,7 @@ import org.eclipse.ditto.services.connectivity.messaging.internal.ClientDisconne
 import org.eclipse.ditto.services.connectivity.messaging.internal.ConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
 
+import akka.Done;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.Status;
@@ -44,6 +48,7 @@ public final class KafkaClientActor extends BaseClientActor {
     private final KafkaPublisherActorFactory publisherActorFactory;
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final KafkaConnectionFactory connectionFactory;
+    private final List<ActorRef> kafkaConsumerActors;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
     private ActorRef kafkaPublisherActor;
@@ -59,6 +64,7 @@ public final class KafkaClientActor extends BaseClientActor {
         connectionFactory = DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig);
         publisherActorFactory = factory;
         pendingStatusReportsFromStreams = new HashSet<>();
+        kafkaConsumerActors = new ArrayList<>();
     }
 
     /**
@@ -137,9 +143,8 @@ public final class KafkaClientActor extends BaseClientActor {
      * @param dryRun if set to true, exchange no message between the broker and the Ditto cluster.
      */
     private void connectClient(final boolean dryRun) {
-        // start publisher
+        // start publisher; consumers are started once the client is connected
         startKafkaPublisher(dryRun);
-        // no command consumers as we don't support consuming from sources yet
     }
 
     private void startKafkaPublisher(final boolean dryRun) {
@@ -151,10 +156,32 @@ public final class KafkaClientActor extends BaseClientActor {
         pendingStatusReportsFromStreams.add(kafkaPublisherActor);
     }
 
+    @Override
+    protected CompletionStage<Status.Status> startConsumerActors(final ClientConnected clientConnected) {
+        startKafkaConsumers();
+        return CompletableFuture.completedFuture(new Status.Success(Done.getInstance()));
+    }
+
+    private void startKafkaConsumers() {
+        // ensure no previous consumers stay in memory
+        stopConsumerActors();
+        for (final Source source : connection().getSources()) {
+            for (int i = 0; i < source.getConsumerCount(); i++) {
+                log.info("Starting Kafka consumer actor for topics <{}>.", source.getAddresses());
+                final Props consumerActorProps = KafkaConsumerActor.props(connectionId(),
+                        getMessageMappingProcessorActor(), source, connectionFactory);
+                kafkaConsumerActors.add(
+                        startChildActorConflictFree(KafkaConsumerActor.ACTOR_NAME_PREFIX + source.getIndex(),
+                                consumerActorProps));
+            }
+        }
+    }
+
     @Override
     protected void cleanupResourcesForConnection() {
         pendingStatusReportsFromStreams.clear();
         stopPublisherActor();
+        stopConsumerActors();
     }
 
     @Override
@@ -170,6 +197,11 @@ public final class KafkaClientActor extends BaseClientActor {
         }
     }
 
+    private void stopConsumerActors() {
+        kafkaConsumerActors.forEach(this::stopChildActor);
+        kafkaConsumerActors.clear();
+    }
+
     private State<BaseClientState, BaseClientData> handleStatusReportFromChildren(final Status.Status status) {
         if (pendingStatusReportsFromStreams.contains(getSender())) {
             pendingStatusReportsFromStreams.remove(getSender());
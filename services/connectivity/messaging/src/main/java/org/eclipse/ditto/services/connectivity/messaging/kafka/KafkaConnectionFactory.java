@@ -12,14 +12,24 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 
+import akka.Done;
 import akka.NotUsed;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
 import akka.kafka.ProducerMessage;
+import akka.kafka.javadsl.Consumer;
 import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 interface KafkaConnectionFactory {
 
@@ -36,6 +46,31 @@ interface KafkaConnectionFactory {
      * @param <T> type of the pass through object.
      * @return Akka stream flow that publishes Kafka messages to the broker.
      */
-    <T> Flow<ProducerMessage.Envelope<String, String, T>, ProducerMessage.Results<String, String, T>, NotUsed> newFlow();
+    <T> Flow<ProducerMessage.Envelope<String, byte[], T>, ProducerMessage.Results<String, byte[], T>, NotUsed> newFlow();
+
+    /**
+     * Create an Akka stream source of Kafka messages with committable offsets which emits one sub-source per
+     * assigned partition of the given topics.
+     *
+     * @param topics the topics to consume from.
+     * @return Akka stream source that consumes Kafka messages from the broker.
+     */
+    Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, byte[]>, NotUsed>>,
+            Consumer.Control> newPartitionedSource(Collection<String> topics);
+
+    /**
+     * Create an Akka stream sink which commits offsets of consumed Kafka messages in batches.
+     *
+     * @return Akka stream sink that commits offsets to the broker.
+     */
+    Sink<ConsumerMessage.Committable, CompletionStage<Done>> newCommitterSink();
+
+    /**
+     * Maximum number of partitions a source created by {@link #newPartitionedSource(Collection)} is consumed from in
+     * parallel.
+     *
+     * @return the maximum number of partitions.
+     */
+    int maxPartitions();
 
 }
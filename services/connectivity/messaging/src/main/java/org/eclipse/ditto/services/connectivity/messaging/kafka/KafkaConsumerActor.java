@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.EnforcementFactoryFactory;
+import org.eclipse.ditto.model.connectivity.EnforcementFilter;
+import org.eclipse.ditto.model.connectivity.EnforcementFilterFactory;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Keep;
+
+/**
+ * Actor which consumes the topics of one source from a Kafka broker and forwards the records to a
+ * {@code MessageMappingProcessorActor}.
+ * <p>
+ * The assigned partitions are consumed in parallel. Within a partition, the offset of a record is committed only after
+ * the mapping pipeline acknowledged the record; offsets are committed in batches. If the stream fails, the client
+ * actor is notified so that it reconnects and consumption resumes at the last committed offsets.
+ * </p>
+ */
+final class KafkaConsumerActor extends BaseConsumerActor {
+
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+
+    /**
+     * Maximum number of records per partition which are handed to the mapping pipeline and not acknowledged yet.
+     * The offsets are committed in the order of the records nevertheless.
+     */
+    private static final int MAX_UNACKNOWLEDGED_RECORDS_PER_PARTITION = 16;
+
+    private static final Duration ACKNOWLEDGEMENT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+    @Nullable private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
+
+    private Consumer.Control consumerControl;
+    private boolean shuttingDown = false;
+
+    @SuppressWarnings("unused")
+    private KafkaConsumerActor(final ConnectionId connectionId, final ActorRef messageMappingProcessor,
+            final Source source, final KafkaConnectionFactory factory) {
+
+        super(connectionId, String.join(";", source.getAddresses()), messageMappingProcessor, source);
+        headerEnforcementFilterFactory = source.getEnforcement()
+                .map(enforcement -> EnforcementFactoryFactory.newEnforcementFilterFactory(enforcement,
+                        PlaceholderFactory.newHeadersPlaceholder()))
+                .orElse(null);
+
+        startConsumerStream(factory);
+    }
+
+    /**
+     * Creates Akka configuration object for this actor.
+     *
+     * @param connectionId ID of the connection this consumer belongs to.
+     * @param messageMappingProcessor the ActorRef to the {@code MessageMappingProcessor}.
+     * @param source the source from which this consumer is built.
+     * @param factory the factory to create Kafka sources and committers with.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final ConnectionId connectionId, final ActorRef messageMappingProcessor,
+            final Source source, final KafkaConnectionFactory factory) {
+
+        return Props.create(KafkaConsumerActor.class, connectionId, messageMappingProcessor, source, factory);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(ConsumerRecord.class, this::handleConsumerRecord)
+                .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .match(StreamTerminated.class, this::handleStreamTerminated)
+                .matchAny(unhandled -> {
+                    log.info("Unhandled message: {}", unhandled);
+                    unhandled(unhandled);
+                })
+                .build();
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        shuttingDown = true;
+        if (consumerControl != null) {
+            consumerControl.shutdown();
+        }
+        super.postStop();
+    }
+
+    private void startConsumerStream(final KafkaConnectionFactory factory) {
+        logWithConnectionId().info("Starting Kafka consumer of topics <{}>.", sourceAddress);
+        final ActorRef self = getSelf();
+        final Pair<Consumer.Control, CompletionStage<Done>> materializedValues =
+                factory.newPartitionedSource(source.getAddresses())
+                        .flatMapMerge(factory.maxPartitions(), partitionAndSource -> partitionAndSource.second()
+                                .mapAsync(MAX_UNACKNOWLEDGED_RECORDS_PER_PARTITION,
+                                        message -> acknowledge(self, message)))
+                        .toMat(factory.newCommitterSink(), Keep.both())
+                        .run(ActorMaterializer.create(getContext()));
+        consumerControl = materializedValues.first();
+        materializedValues.second()
+                .whenComplete((done, error) -> self.tell(new StreamTerminated(error), ActorRef.noSender()));
+    }
+
+    private static CompletionStage<ConsumerMessage.Committable> acknowledge(final ActorRef self,
+            final ConsumerMessage.CommittableMessage<String, byte[]> message) {
+
+        // the consumer actor forwards the record to the mapping actor, which answers this ask once it accepted the
+        // record; a Status.Failure answer fails the ask and thereby the stream
+        return Patterns.ask(self, message.record(), ACKNOWLEDGEMENT_TIMEOUT)
+                .thenApply(acknowledgement -> message.committableOffset());
+    }
+
+    private void handleConsumerRecord(final ConsumerRecord<String, byte[]> record) {
+        Map<String, String> headers = null;
+        try {
+            headers = mapRecordHeaders(record);
+            final ExternalMessage externalMessage = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                    .withBytes(record.value() != null ? ByteBuffer.wrap(record.value()) : null)
+                    .withAuthorizationContext(source.getAuthorizationContext())
+                    .withEnforcement(getEnforcementFilter(headers))
+                    .withHeaderMapping(source.getHeaderMapping().orElse(null))
+                    .withSourceAddress(record.topic())
+                    .withPayloadMapping(source.getPayloadMapping())
+                    .build();
+            inboundMonitor.success(externalMessage);
+            logWithConnectionId().debug("Received record from Kafka topic <{}> at partition <{}> and offset <{}>.",
+                    record.topic(), record.partition(), record.offset());
+            forwardToMappingActorWithAcknowledgement(externalMessage);
+        } catch (final DittoRuntimeException e) {
+            logWithConnectionId().info("Got DittoRuntimeException '{}' when record was handled: {}",
+                    e.getErrorCode(), e.getMessage());
+            if (headers != null) {
+                inboundMonitor.failure(headers, e);
+                forwardToMappingActor(e.setDittoHeaders(DittoHeaders.of(headers)));
+            } else {
+                inboundMonitor.failure(e);
+            }
+            // the record can not be processed at all; commit its offset in order not to consume it again
+            getSender().tell(Done.getInstance(), getSelf());
+        } catch (final Exception e) {
+            logWithConnectionId().info("Failed to handle Kafka record: {}", e.getMessage());
+            if (headers != null) {
+                inboundMonitor.exception(headers, e);
+            } else {
+                inboundMonitor.exception(e);
+            }
+            getSender().tell(Done.getInstance(), getSelf());
+        }
+    }
+
+    private static Map<String, String> mapRecordHeaders(final ConsumerRecord<String, byte[]> record) {
+        final Map<String, String> headers = new HashMap<>();
+        for (final Header header : record.headers()) {
+            if (header.value() != null) {
+                headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        return headers;
+    }
+
+    @Nullable
+    private EnforcementFilter<CharSequence> getEnforcementFilter(final Map<String, String> headers) {
+        if (headerEnforcementFilterFactory != null) {
+            return headerEnforcementFilterFactory.getFilter(headers);
+        } else {
+            return null;
+        }
+    }
+
+    private void handleStreamTerminated(final StreamTerminated streamTerminated) {
+        if (shuttingDown) {
+            logWithConnectionId().debug("Kafka consumer stream terminated while shutting down.");
+        } else {
+            final Throwable cause = streamTerminated.error != null
+                    ? streamTerminated.error
+                    : new IllegalStateException("Kafka consumer stream completed unexpectedly.");
+            logWithConnectionId().info("Kafka consumer stream of topics <{}> terminated: {}", sourceAddress,
+                    cause.getMessage());
+            inboundMonitor.exception("Kafka consumer stream terminated: {0}", cause.getMessage());
+            getContext().getParent()
+                    .tell(new ImmutableConnectionFailure(null, cause, "Kafka consumer stream terminated"),
+                            getSelf());
+        }
+    }
+
+    private DiagnosticLoggingAdapter logWithConnectionId() {
+        ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId);
+        return log;
+    }
+
+    /**
+     * Message to self that the consumer stream terminated.
+     */
+    private static final class StreamTerminated {
+
+        @Nullable private final Throwable error;
+
+        private StreamTerminated(@Nullable final Throwable error) {
+            this.error = error;
+        }
+
+    }
+
+}
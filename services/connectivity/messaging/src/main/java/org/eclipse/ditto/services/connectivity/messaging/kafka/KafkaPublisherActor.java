@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.concurrent.CompletionStage;
@@ -30,11 +31,13 @@ import org.apache.kafka.common.header.internals.RecordHeader;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.BasePublisherActor;
+import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 
 import akka.Done;
 import akka.actor.ActorRef;
@@ -46,26 +49,35 @@ import akka.japi.pf.ReceiveBuilder;
 import akka.kafka.ProducerMessage;
 import akka.stream.ActorMaterializer;
 import akka.stream.OverflowStrategy;
+import akka.stream.QueueOfferResult;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
-import akka.util.ByteString;
+import akka.stream.javadsl.SourceQueueWithComplete;
 
 /**
  * Responsible for publishing {@link org.eclipse.ditto.services.models.connectivity.ExternalMessage}s into an Kafka
  * broker.
+ * <p>
+ * Messages are offered to a bounded queue from which the Kafka producer pulls; when the broker is slower than the
+ * publisher is fed, the queue fills up and further messages are rejected and reported as failed publications instead
+ * of being dropped silently.
+ * </p>
  */
 final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     static final String ACTOR_NAME = "kafkaPublisher";
 
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final KafkaConnectionFactory connectionFactory;
     private final boolean dryRun;
+    private final int queueSize;
 
     private boolean shuttingDown = false;
-    private ActorRef sourceActor;
+    private SourceQueueWithComplete<ProducerMessage.Envelope<String, byte[], PassThrough>> sourceQueue;
 
     @SuppressWarnings("unused")
     private KafkaPublisherActor(final Connection connection, final KafkaConnectionFactory factory,
@@ -74,6 +86,11 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         super(connection);
         this.dryRun = dryRun;
         connectionFactory = factory;
+        queueSize = DittoConnectivityConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+                .getConnectionConfig()
+                .getKafkaConfig()
+                .getProducerQueueSize();
 
         startInternalKafkaProducer();
         reportInitialConnectionState();
@@ -92,7 +109,8 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         return Props.create(KafkaPublisherActor.class, connection, factory, dryRun);
     }
 
-    private static Sink<ProducerMessage.Results<String, String, PassThrough>, CompletionStage<Done>> publishSuccessSink() {
+    private static Sink<ProducerMessage.Results<String, byte[], PassThrough>, CompletionStage<Done>>
+    publishSuccessSink() {
 
         // basically, we don't know if the 'publish' will succeed or fail. We would need to write our own
         // GraphStage actor for Kafka and MQTT, since alpakka doesn't provide this useful information for us.
@@ -106,7 +124,8 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
     protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
         receiveBuilder.match(OutboundSignal.Mapped.class, this::isDryRun,
                 outbound -> log.info("Message dropped in dry run mode: {}", outbound))
-                .matchEquals(GracefulStop.INSTANCE, unused -> this.stopGracefully());
+                .matchEquals(GracefulStop.INSTANCE, unused -> this.stopGracefully())
+                .match(OfferResult.class, this::handleOfferResult);
     }
 
     @Override
@@ -131,23 +150,49 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
     private void publishMessage(final KafkaPublishTarget publishTarget, final ExternalMessage message,
             final PassThrough passThrough) {
 
-        final ProducerMessage.Envelope<String, String, PassThrough> kafkaMessage =
+        final ProducerMessage.Envelope<String, byte[], PassThrough> kafkaMessage =
                 mapExternalMessageToKafkaMessage(publishTarget, message, passThrough);
-        sourceActor.tell(kafkaMessage, getSelf());
+        final ActorRef self = getSelf();
+        sourceQueue.offer(kafkaMessage)
+                .whenComplete((result, error) -> {
+                    // the logger of this actor is not thread-safe: handle failed offers in the actor
+                    if (error != null || result != QueueOfferResult.enqueued()) {
+                        self.tell(new OfferResult(result, error, passThrough), ActorRef.noSender());
+                    }
+                });
+    }
+
+    private void handleOfferResult(final OfferResult offerResult) {
+        final QueueOfferResult result = offerResult.result;
+        final Throwable error = offerResult.error;
+        final PassThrough passThrough = offerResult.passThrough;
+        if (error != null) {
+            log.warning("Failed to enqueue message for the internal Kafka producer: {}", error.getMessage());
+            passThrough.connectionMonitor.failure(passThrough.externalMessage,
+                    "Message dropped because the internal Kafka producer failed: {0}", error.getMessage());
+        } else if (result == QueueOfferResult.dropped()) {
+            log.warning("Message dropped because the internal Kafka producer queue is full.");
+            passThrough.connectionMonitor.failure(passThrough.externalMessage,
+                    "Message dropped because the number of messages waiting for Kafka exceeded <{0}>", queueSize);
+        } else if (result != QueueOfferResult.enqueued()) {
+            log.warning("Message not enqueued for the internal Kafka producer: {}", result);
+            passThrough.connectionMonitor.failure(passThrough.externalMessage,
+                    "Message dropped because the internal Kafka producer is stopped");
+        }
     }
 
     private boolean isDryRun() {
         return dryRun;
     }
 
-    private static ProducerMessage.Envelope<String, String, PassThrough> mapExternalMessageToKafkaMessage(
+    private static ProducerMessage.Envelope<String, byte[], PassThrough> mapExternalMessageToKafkaMessage(
             final KafkaPublishTarget publishTarget, final ExternalMessage externalMessage,
             final PassThrough passThrough) {
 
-        final String payload = mapExternalMessagePayload(externalMessage);
+        final byte[] payload = mapExternalMessagePayload(externalMessage);
         final Iterable<Header> headers = mapExternalMessageHeaders(externalMessage);
 
-        final ProducerRecord<String, String> record =
+        final ProducerRecord<String, byte[]> record =
                 new ProducerRecord<>(publishTarget.getTopic(),
                         publishTarget.getPartition().orElse(null),
                         publishTarget.getKey().orElse(null),
@@ -163,17 +208,28 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                 .collect(Collectors.toList());
     }
 
-    private static String mapExternalMessagePayload(final ExternalMessage externalMessage) {
+    private static byte[] mapExternalMessagePayload(final ExternalMessage externalMessage) {
         if (externalMessage.isTextMessage()) {
-            return externalMessage.getTextPayload().orElse("");
+            return externalMessage.getTextPayload()
+                    .map(text -> text.getBytes(StandardCharsets.UTF_8))
+                    .orElse(EMPTY_PAYLOAD);
         } else if (externalMessage.isBytesMessage()) {
             return externalMessage.getBytePayload()
-                    .map(ByteString::fromByteBuffer)
-                    .map(ByteString::utf8String)
-                    .orElse("");
+                    .map(KafkaPublisherActor::toByteArray)
+                    .orElse(EMPTY_PAYLOAD);
+        }
+        return EMPTY_PAYLOAD;
+    }
 
+    private static byte[] toByteArray(final ByteBuffer byteBuffer) {
+        // avoid copying the payload if the buffer wraps exactly one array
+        if (byteBuffer.hasArray() && byteBuffer.arrayOffset() == 0 && byteBuffer.position() == 0 &&
+                byteBuffer.remaining() == byteBuffer.array().length) {
+            return byteBuffer.array();
         }
-        return "";
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(bytes);
+        return bytes;
     }
 
     private Done handleCompletionOrFailure(final Done done, @Nullable final Throwable throwable) {
@@ -225,20 +281,22 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     private void startInternalKafkaProducer() {
         logWithConnectionId().info("Starting internal Kafka producer.");
-        sourceActor = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
+        sourceQueue = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
     }
 
     private void restartInternalKafkaProducer() {
         logWithConnectionId().info("Restarting internal Kafka producer");
-        sourceActor = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
+        sourceQueue = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
     }
 
-    private ActorRef createInternalKafkaProducer(final KafkaConnectionFactory factory,
+    private SourceQueueWithComplete<ProducerMessage.Envelope<String, byte[], PassThrough>> createInternalKafkaProducer(
+            final KafkaConnectionFactory factory,
             final BiFunction<Done, Throwable, Done> completionOrFailureHandler) {
 
-        final Pair<ActorRef, CompletionStage<Done>> materializedFlowedValues =
-                Source.<ProducerMessage.Envelope<String, String, PassThrough>>actorRef(100,
-                        OverflowStrategy.dropHead())
+        final Pair<SourceQueueWithComplete<ProducerMessage.Envelope<String, byte[], PassThrough>>,
+                CompletionStage<Done>> materializedFlowedValues =
+                Source.<ProducerMessage.Envelope<String, byte[], PassThrough>>queue(queueSize,
+                        OverflowStrategy.dropNew())
                         .via(factory.newFlow())
                         .toMat(KafkaPublisherActor.publishSuccessSink(), Keep.both())
                         .run(ActorMaterializer.create(getContext()));
@@ -248,8 +306,8 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     private void stopInternalKafkaProducer() {
         logWithConnectionId().info("Stopping internal Kafka producer.");
-        if (null != sourceActor) {
-            sourceActor.tell(new Status.Success("stopped"), ActorRef.noSender());
+        if (null != sourceQueue) {
+            sourceQueue.complete();
         }
     }
 
@@ -288,6 +346,24 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     }
 
+    /**
+     * Result of offering a message to the internal Kafka producer which was not enqueued.
+     */
+    private static final class OfferResult {
+
+        @Nullable private final QueueOfferResult result;
+        @Nullable private final Throwable error;
+        private final PassThrough passThrough;
+
+        private OfferResult(@Nullable final QueueOfferResult result, @Nullable final Throwable error,
+                final PassThrough passThrough) {
+            this.result = result;
+            this.error = error;
+            this.passThrough = passThrough;
+        }
+
+    }
+
     /**
      * Class that is used as a <em>pass through</em> object when sending messages via alpakka to Kafka.
      */
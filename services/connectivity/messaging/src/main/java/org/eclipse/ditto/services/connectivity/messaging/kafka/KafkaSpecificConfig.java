@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.connectivity.messaging.kafka;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 
+import akka.kafka.ConsumerSettings;
 import akka.kafka.ProducerSettings;
 
 /**
@@ -57,8 +58,24 @@ interface KafkaSpecificConfig {
      *
      * @param producerSettings the producer settings to which the Kafka config is appended.
      * @param connection the connection which contains the specific config.
+     * @param <K> type of record keys.
+     * @param <V> type of record values.
      * @return the {@code producerSettings} enhanced with new configuration provided by the Kafka config.
      */
-    ProducerSettings<String, String> apply(ProducerSettings<String, String> producerSettings, Connection connection);
+    <K, V> ProducerSettings<K, V> apply(ProducerSettings<K, V> producerSettings, Connection connection);
+
+    /**
+     * Apply this Kafka config to the given {@code consumerSettings}.
+     *
+     * This method will only add configuration to the {@code consumerSettings} if the config {@code isApplicable}
+     * and {@code isValid}.
+     *
+     * @param consumerSettings the consumer settings to which the Kafka config is appended.
+     * @param connection the connection which contains the specific config.
+     * @param <K> type of record keys.
+     * @param <V> type of record values.
+     * @return the {@code consumerSettings} enhanced with new configuration provided by the Kafka config.
+     */
+    <K, V> ConsumerSettings<K, V> apply(ConsumerSettings<K, V> consumerSettings, Connection connection);
 
 }
@@ -30,6 +30,7 @@ import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidExcept
 import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.Resolvers;
 import org.eclipse.ditto.services.connectivity.messaging.validation.AbstractProtocolValidator;
 
@@ -82,10 +83,15 @@ public final class KafkaValidator extends AbstractProtocolValidator {
     protected void validateSource(final Source source, final DittoHeaders dittoHeaders,
             final Supplier<String> sourceDescription) {
 
-        final String message = "Kafka connectivity currently does not provide sources.";
-        throw ConnectionConfigurationInvalidException.newBuilder(message)
-                .dittoHeaders(dittoHeaders)
-                .build();
+        // source addresses are plain topics without placeholders
+        final String noPlaceholderReplacement = UUID.randomUUID().toString();
+        source.getAddresses().forEach(topic -> validateTopic(topic, dittoHeaders, noPlaceholderReplacement));
+        source.getEnforcement().ifPresent(enforcement -> {
+            validateTemplate(enforcement.getInput(), dittoHeaders, PlaceholderFactory.newHeadersPlaceholder());
+            enforcement.getFilters().forEach(filterTemplate ->
+                    validateTemplate(filterTemplate, dittoHeaders, PlaceholderFactory.newThingPlaceholder()));
+        });
+        source.getHeaderMapping().ifPresent(mapping -> validateHeaderMapping(mapping, dittoHeaders));
     }
 
     @Override
@@ -19,6 +19,8 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.eclipse.ditto.model.connectivity.Connection;
@@ -29,7 +31,8 @@ import akka.kafka.ProducerSettings;
 
 /**
  * Creates {@link akka.kafka.ProducerSettings} from a given {@link org.eclipse.ditto.model.connectivity.Connection}
- * configuration.
+ * configuration. Record values are produced as byte arrays in order to publish the payloads of the mapped messages
+ * without encoding them again.
  */
 final class ProducerSettingsFactory {
 
@@ -38,7 +41,7 @@ final class ProducerSettingsFactory {
                     KafkaBootstrapServerSpecificConfig.getInstance()));
 
     private static final Serializer<String> KEY_SERIALIZER = new StringSerializer();
-    private static final Serializer<String> VALUE_SERIALIZER = KEY_SERIALIZER;
+    private static final Serializer<byte[]> VALUE_SERIALIZER = new ByteArraySerializer();
 
     private final Connection connection;
     private final KafkaConfig kafkaConfig;
@@ -60,18 +63,20 @@ final class ProducerSettingsFactory {
         return new ProducerSettingsFactory(connection, kafkaConfig);
     }
 
-    ProducerSettings<String, String> getProducerSettings() {
-        ProducerSettings<String, String> settings =
+    ProducerSettings<String, byte[]> getProducerSettings() {
+        ProducerSettings<String, byte[]> settings =
                 ProducerSettings.create(kafkaConfig.getInternalProducerConfig(), KEY_SERIALIZER, VALUE_SERIALIZER);
 
         settings = addMetadata(settings);
+        settings = addBatching(settings);
+        settings = addAcks(settings);
         settings = addSecurityProtocol(settings);
         settings = addSpecificConfigs(settings);
 
         return settings;
     }
 
-    private ProducerSettings<String, String> addMetadata(final ProducerSettings<String, String> settings) {
+    private ProducerSettings<String, byte[]> addMetadata(final ProducerSettings<String, byte[]> settings) {
         // identify the connected Kafka client by the connectionId followed by the instance index
         // (in order to be able to differentiate if a clientCount >1 was configured):
         final InstanceIdentifierSupplier instanceIdentifierSupplier = InstanceIdentifierSupplier.getInstance();
@@ -80,46 +85,43 @@ final class ProducerSettingsFactory {
                 connection.getId() + "-" + instanceIdentifierSupplier.get());
     }
 
-    private ProducerSettings<String, String> addSpecificConfigs(final ProducerSettings<String, String> settings) {
-        ProducerSettings<String, String> currentSettings = settings;
-        for (final KafkaSpecificConfig specificConfig : SPECIFIC_CONFIGS) {
-            currentSettings = specificConfig.apply(currentSettings, connection);
-        }
-        return currentSettings;
+    private ProducerSettings<String, byte[]> addBatching(final ProducerSettings<String, byte[]> settings) {
+        return settings.withProperty(ProducerConfig.BATCH_SIZE_CONFIG,
+                String.valueOf(kafkaConfig.getProducerBatchSize()))
+                .withProperty(ProducerConfig.LINGER_MS_CONFIG,
+                        String.valueOf(kafkaConfig.getProducerLinger().toMillis()))
+                .withProperty(ProducerConfig.COMPRESSION_TYPE_CONFIG, kafkaConfig.getProducerCompressionType());
     }
 
-    private ProducerSettings<String, String> addSecurityProtocol(final ProducerSettings<String, String> settings) {
-        if (isConnectionAuthenticated()) {
-            return addAuthenticatedSecurityProtocol(settings);
-        }
-        return addUnauthenticatedSecurityProtocol(settings);
+    private ProducerSettings<String, byte[]> addAcks(final ProducerSettings<String, byte[]> settings) {
+        return settings.withProperty(ProducerConfig.ACKS_CONFIG, kafkaConfig.getProducerAcks());
     }
 
-    private boolean isConnectionAuthenticated() {
-        final KafkaSpecificConfig authenticationSpecificConfig = KafkaAuthenticationSpecificConfig.getInstance();
-        return authenticationSpecificConfig.isApplicable(connection);
-    }
-
-    private ProducerSettings<String, String> addAuthenticatedSecurityProtocol(
-            final ProducerSettings<String, String> settings) {
-
-        if (isConnectionSecure()) {
-            return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SASL_SSL");
+    private ProducerSettings<String, byte[]> addSpecificConfigs(final ProducerSettings<String, byte[]> settings) {
+        ProducerSettings<String, byte[]> currentSettings = settings;
+        for (final KafkaSpecificConfig specificConfig : SPECIFIC_CONFIGS) {
+            currentSettings = specificConfig.apply(currentSettings, connection);
         }
-        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SASL_PLAINTEXT");
+        return currentSettings;
     }
 
-    private ProducerSettings<String, String> addUnauthenticatedSecurityProtocol(
-            final ProducerSettings<String, String> settings) {
-
-        if (isConnectionSecure()) {
-            return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SSL");
-        }
-        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "PLAINTEXT");
+    private ProducerSettings<String, byte[]> addSecurityProtocol(final ProducerSettings<String, byte[]> settings) {
+        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, getSecurityProtocol(connection));
     }
 
-    private boolean isConnectionSecure() {
-        return "ssl".equals(connection.getProtocol());
+    /**
+     * Determines the Kafka security protocol of a connection from its protocol and whether it is authenticated.
+     *
+     * @param connection the Kafka connection.
+     * @return the security protocol, i. e. one of {@code SASL_SSL}, {@code SASL_PLAINTEXT}, {@code SSL} or
+     * {@code PLAINTEXT}.
+     */
+    static String getSecurityProtocol(final Connection connection) {
+        final boolean isSecure = "ssl".equals(connection.getProtocol());
+        if (KafkaAuthenticationSpecificConfig.getInstance().isApplicable(connection)) {
+            return isSecure ? "SASL_SSL" : "SASL_PLAINTEXT";
+        }
+        return isSecure ? "SSL" : "PLAINTEXT";
     }
 
 }
@@ -317,7 +317,8 @@ public final class HiveMqtt3ClientActor extends BaseClientActor {
 
     private ActorRef startHiveMqConsumer(final boolean dryRun, final Source source, final ActorRef mappingActor) {
         return startChildActorConflictFree(HiveMqtt3ConsumerActor.NAME,
-                HiveMqtt3ConsumerActor.props(connectionId(), mappingActor, source, dryRun));
+                HiveMqtt3ConsumerActor.props(connectionId(), mappingActor, source, dryRun,
+                        connectivityConfig.getConnectionConfig().getMqttConfig().getSourceBufferSize()));
     }
 
     private void stopCommandConsumers(@Nullable final HiveMqtt3SubscriptionHandler subscriptionHandler) {
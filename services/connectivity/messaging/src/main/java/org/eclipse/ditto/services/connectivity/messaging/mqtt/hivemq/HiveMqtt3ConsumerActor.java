@@ -12,10 +12,14 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.mqtt.hivemq;
 
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
@@ -36,30 +40,59 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 
+import org.reactivestreams.Publisher;
+
 import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
 
+import akka.Done;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.actor.Status;
 import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Pair;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.Attributes;
+import akka.stream.KillSwitches;
+import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
 
 /**
  * Actor which receives message from an MQTT broker and forwards them to a {@code MessageMappingProcessorActor}.
+ * <p>
+ * The publishes of a subscription are consumed as a backpressured stream: at most the configured number of publishes
+ * are waiting for the acknowledgement of the mapping pipeline at the same time. A publish is acknowledged towards the
+ * broker only after the mapping pipeline accepted it, so that a slow mapping pipeline exhausts the inflight window of
+ * the broker instead of flooding the mailbox of this actor. A publish which was not accepted in time is acknowledged
+ * nonetheless and reported as failure of the connection: the client sends the acknowledgements of a subscription in
+ * order, so that a missing one would hold back all later ones, and the clean session of the client prevents a
+ * redelivery after reconnecting anyway.
+ * </p>
  */
 public final class HiveMqtt3ConsumerActor extends BaseConsumerActor {
 
     private static final String MQTT_TOPIC_HEADER = "mqtt.topic";
     static final String NAME = "HiveMqtt3ConsumerActor";
 
+    private static final Duration ACKNOWLEDGEMENT_TIMEOUT = Duration.ofSeconds(30);
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
     private final boolean dryRun;
+    private final int maxInflight;
     @Nullable private final EnforcementFilterFactory<String, CharSequence> topicEnforcementFilterFactory;
     private final PayloadMapping payloadMapping;
+    private final ActorMaterializer materializer;
+
+    @Nullable private UniqueKillSwitch killSwitch;
 
     @SuppressWarnings("unused")
     private HiveMqtt3ConsumerActor(final ConnectionId connectionId, final ActorRef messageMappingProcessor,
-            final Source source, final boolean dryRun) {
+            final Source source, final boolean dryRun, final int maxInflight) {
         super(connectionId, String.join(";", source.getAddresses()), messageMappingProcessor, source);
         this.dryRun = dryRun;
+        this.maxInflight = maxInflight;
+        materializer = ActorMaterializer.create(getContext());
         this.payloadMapping = source.getPayloadMapping();
         topicEnforcementFilterFactory = source.getEnforcement()
                 .map(enforcement -> EnforcementFactoryFactory
@@ -75,20 +108,26 @@ public final class HiveMqtt3ConsumerActor extends BaseConsumerActor {
      * @param messageMappingProcessor the ActorRef to the {@code MessageMappingProcessor}
      * @param source the source from which this consumer is built
      * @param dryRun whether this is a dry-run/connection test or not
+     * @param maxInflight the maximum number of publishes waiting for the acknowledgement of the mapping pipeline
      * @return the Akka configuration Props object.
      */
     static Props props(final ConnectionId connectionId, final ActorRef messageMappingProcessor,
-            final Source source, final boolean dryRun) {
+            final Source source, final boolean dryRun, final int maxInflight) {
         return Props.create(HiveMqtt3ConsumerActor.class, connectionId, messageMappingProcessor,
-                source, dryRun);
+                source, dryRun, maxInflight);
     }
 
     @Override
     public Receive createReceive() {
         return receiveBuilder()
-                .match(Mqtt3Publish.class, this::isDryRun,
-                        message -> log.info("Dropping message in dryRun mode: {}", message))
+                .match(ConsumePublishes.class, this::startConsumerStream)
+                .match(Mqtt3Publish.class, this::isDryRun, message -> {
+                    log.info("Dropping message in dryRun mode: {}", message);
+                    getSender().tell(Done.getInstance(), getSelf());
+                })
                 .match(Mqtt3Publish.class, this::handleMqttMessage)
+                .match(Status.Failure.class, this::handleNotAcknowledged)
+                .match(StreamTerminated.class, this::handleStreamTerminated)
                 .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
                 .matchAny(unhandled -> {
                     log.info("Unhandled message: {}", unhandled);
@@ -97,10 +136,81 @@ public final class HiveMqtt3ConsumerActor extends BaseConsumerActor {
                 .build();
     }
 
+    @Override
+    public void postStop() throws Exception {
+        stopConsumerStream();
+        super.postStop();
+    }
+
+    private void startConsumerStream(final ConsumePublishes consumePublishes) {
+        // a new stream is handed over after each subscription, e.g. after the client reconnected
+        stopConsumerStream();
+        final ActorRef self = getSelf();
+        final Pair<UniqueKillSwitch, CompletionStage<Done>> materializedValues =
+                akka.stream.javadsl.Source.fromPublisher(consumePublishes.publishes)
+                        .viaMat(KillSwitches.single(), Keep.right())
+                        .mapAsync(maxInflight, publish -> askForAcknowledgement(self, publish))
+                        .toMat(Sink.foreach(publishAndAcknowledgement -> {
+                            final Object acknowledgement = publishAndAcknowledgement.second();
+                            if (acknowledgement instanceof Status.Failure) {
+                                self.tell(acknowledgement, ActorRef.noSender());
+                            }
+                            // acknowledge every publish, otherwise the client holds back the acknowledgements of
+                            // all later publishes of the subscription
+                            publishAndAcknowledgement.first().acknowledge();
+                        }), Keep.both())
+                        // request no more publishes from the client than the mapping pipeline may hold
+                        .addAttributes(Attributes.inputBuffer(1, 1))
+                        .run(materializer);
+        killSwitch = materializedValues.first();
+        materializedValues.second()
+                .whenComplete((done, error) -> self.tell(new StreamTerminated(error), ActorRef.noSender()));
+    }
+
+    private static CompletionStage<Pair<Mqtt3Publish, Object>> askForAcknowledgement(final ActorRef self,
+            final Mqtt3Publish publish) {
+        // the consumer actor forwards the publish to the mapping actor, which answers this ask once it accepted the
+        // message; mapAsync keeps the order of the publishes, in which the client expects their acknowledgements
+        return Patterns.ask(self, publish, ACKNOWLEDGEMENT_TIMEOUT)
+                .exceptionally(Status.Failure::new)
+                .thenApply(acknowledgement -> Pair.create(publish, acknowledgement));
+    }
+
+    private void stopConsumerStream() {
+        if (killSwitch != null) {
+            killSwitch.shutdown();
+            killSwitch = null;
+        }
+    }
+
     private void handleMqttMessage(final Mqtt3Publish message) {
-        log.info("Received message: {}", message);
+        log.debug("Received message: {}", message);
         final Optional<ExternalMessage> externalMessageOptional = hiveToExternalMessage(message, connectionId);
-        externalMessageOptional.ifPresent(this::forwardToMappingActor);
+        if (externalMessageOptional.isPresent()) {
+            forwardToMappingActorWithAcknowledgement(externalMessageOptional.get());
+        } else {
+            // the message can not be processed at all; acknowledge it so that the broker does not redeliver it
+            getSender().tell(Done.getInstance(), getSelf());
+        }
+    }
+
+    private void handleNotAcknowledged(final Status.Failure failure) {
+        ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId);
+        log.warning("Dropping MQTT message which was not accepted by the mapping pipeline: {}",
+                failure.cause().getMessage());
+        inboundMonitor.exception("Dropped MQTT message which was not accepted by the mapping pipeline: {0}",
+                failure.cause().getMessage());
+    }
+
+    private void handleStreamTerminated(final StreamTerminated streamTerminated) {
+        ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId);
+        if (streamTerminated.error != null) {
+            // the client resubscribes and hands over a new stream once it is connected again
+            log.info("MQTT consumer stream of topics <{}> terminated: {}", sourceAddress,
+                    streamTerminated.error.getMessage());
+        } else {
+            log.debug("MQTT consumer stream of topics <{}> completed.", sourceAddress);
+        }
     }
 
     private Optional<ExternalMessage> hiveToExternalMessage(final Mqtt3Publish message,
@@ -152,4 +262,30 @@ public final class HiveMqtt3ConsumerActor extends BaseConsumerActor {
     private boolean isDryRun(final Object message) {
         return dryRun;
     }
+
+    /**
+     * Message to hand over the publishes of a subscription to the consumer actor.
+     */
+    static final class ConsumePublishes {
+
+        private final Publisher<Mqtt3Publish> publishes;
+
+        ConsumePublishes(final Publisher<Mqtt3Publish> publishes) {
+            this.publishes = checkNotNull(publishes, "publishes");
+        }
+
+    }
+
+    /**
+     * Message to self that the consumer stream terminated.
+     */
+    private static final class StreamTerminated {
+
+        @Nullable private final Throwable error;
+
+        private StreamTerminated(@Nullable final Throwable error) {
+            this.error = error;
+        }
+
+    }
 }
@@ -31,11 +31,14 @@ import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConne
 
 import com.hivemq.client.mqtt.datatypes.MqttQos;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3Client;
+import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
 import com.hivemq.client.mqtt.mqtt3.message.subscribe.Mqtt3Subscribe;
 import com.hivemq.client.mqtt.mqtt3.message.subscribe.Mqtt3SubscribeBuilder;
 import com.hivemq.client.mqtt.mqtt3.message.subscribe.Mqtt3Subscription;
 import com.hivemq.client.mqtt.mqtt3.message.subscribe.suback.Mqtt3SubAck;
 
+import io.reactivex.Flowable;
+
 import akka.actor.ActorRef;
 import akka.actor.Status;
 import akka.event.DiagnosticLoggingAdapter;
@@ -46,6 +49,7 @@ import akka.event.DiagnosticLoggingAdapter;
 final class HiveMqtt3SubscriptionHandler {
 
     private static final MqttQos DEFAULT_QOS = MqttQos.AT_MOST_ONCE;
+    private static final boolean MANUAL_ACKNOWLEDGEMENT = true;
     private final Connection connection;
     private final Mqtt3Client client;
     private final CompletableFuture<Status.Status> subscriptionsDone;
@@ -139,8 +143,15 @@ final class HiveMqtt3SubscriptionHandler {
 
     private CompletableFuture<Mqtt3SubAck> subscribe(final Source source, final Mqtt3Subscribe mqtt3Subscribe,
             final ActorRef consumerActor) {
-        return client.toAsync()
-                .subscribe(mqtt3Subscribe, msg -> consumerActor.tell(msg, ActorRef.noSender()))
+        // the subscription is sent once the consumer actor subscribes to the flowable; QoS 1/2 publishes are
+        // acknowledged towards the broker only when the consumer actor acknowledges them manually
+        final CompletableFuture<Mqtt3SubAck> subAckFuture = new CompletableFuture<>();
+        final Flowable<Mqtt3Publish> publishes = client.toRx()
+                .subscribePublishes(mqtt3Subscribe, MANUAL_ACKNOWLEDGEMENT)
+                .doOnSingle(subAckFuture::complete)
+                .doOnError(subAckFuture::completeExceptionally);
+        consumerActor.tell(new HiveMqtt3ConsumerActor.ConsumePublishes(publishes), ActorRef.noSender());
+        return subAckFuture
                 .whenComplete((mqtt3SubAck, throwable) -> {
                     if (throwable != null) {
                         // Handle failure to subscribe
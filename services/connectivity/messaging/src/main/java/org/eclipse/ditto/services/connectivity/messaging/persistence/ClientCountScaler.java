@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.persistence;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.connectivity.messaging.config.ClientScalingConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ClientLoad;
+
+/**
+ * Computes the number of client actors of a connection from the load the client actors reported.
+ * <p>
+ * The client count changes by at most one per check. A client actor is added if the average mapping queue depth or
+ * the average publish latency exceeds its scale-up threshold; one is removed only if all client actors reported and
+ * both averages are below their scale-down thresholds.
+ * </p>
+ */
+@Immutable
+final class ClientCountScaler {
+
+    private final ClientScalingConfig config;
+
+    ClientCountScaler(final ClientScalingConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Computes the next client count.
+     *
+     * @param currentClientCount the number of running client actors.
+     * @param minClientCount the client count of the connection.
+     * @param loads the loads reported by the client actors since the previous check.
+     * @return the next client count between {@code minClientCount} and the configured maximum client count.
+     */
+    int nextClientCount(final int currentClientCount, final int minClientCount, final Collection<ClientLoad> loads) {
+        final int maxClientCount = Math.max(minClientCount, config.getMaxClientCount());
+        final int clientCount = Math.min(maxClientCount, Math.max(minClientCount, currentClientCount));
+        if (loads.isEmpty()) {
+            return clientCount;
+        }
+        final long averageQueueDepth =
+                loads.stream().mapToLong(ClientLoad::getMappingQueueDepth).sum() / loads.size();
+        final Duration averageLatency = Duration.ofNanos(
+                loads.stream().mapToLong(load -> load.getPublishLatency().toNanos()).sum() / loads.size());
+
+        if (averageQueueDepth > config.getScaleUpQueueDepth() ||
+                averageLatency.compareTo(config.getScaleUpLatency()) > 0) {
+            return Math.min(maxClientCount, clientCount + 1);
+        } else if (loads.size() >= clientCount &&
+                averageQueueDepth < config.getScaleDownQueueDepth() &&
+                averageLatency.compareTo(config.getScaleDownLatency()) < 0) {
+            return Math.max(minClientCount, clientCount - 1);
+        } else {
+            return clientCount;
+        }
+    }
+
+}
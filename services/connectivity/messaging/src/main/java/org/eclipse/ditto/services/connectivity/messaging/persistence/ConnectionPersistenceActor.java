@@ -18,20 +18,21 @@ import static org.eclipse.ditto.services.models.connectivity.ConnectivityMessagi
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Collection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
-import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -41,11 +42,10 @@ import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
 import org.eclipse.ditto.model.connectivity.ConnectionLifecycle;
 import org.eclipse.ditto.model.connectivity.ConnectionMetrics;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
-import org.eclipse.ditto.model.connectivity.FilteredTopic;
 import org.eclipse.ditto.model.connectivity.Target;
-import org.eclipse.ditto.model.connectivity.Topic;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
 import org.eclipse.ditto.services.connectivity.messaging.ClientActorPropsFactory;
 import org.eclipse.ditto.services.connectivity.messaging.amqp.AmqpValidator;
@@ -54,6 +54,8 @@ import org.eclipse.ditto.services.connectivity.messaging.config.ConnectivityConf
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
 import org.eclipse.ditto.services.connectivity.messaging.httppush.HttpPushValidator;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ClientLoad;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveClientLoad;
 import org.eclipse.ditto.services.connectivity.messaging.kafka.KafkaValidator;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitorRegistry;
@@ -75,7 +77,6 @@ import org.eclipse.ditto.services.connectivity.messaging.validation.ConnectionVa
 import org.eclipse.ditto.services.connectivity.messaging.validation.DittoConnectivityCommandValidator;
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
-import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
@@ -91,6 +92,7 @@ import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.connectivity.ConnectivityCommand;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionFailedException;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionNotAccessibleException;
+import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionUnavailableException;
 import org.eclipse.ditto.signals.commands.connectivity.modify.CheckConnectionLogsActive;
 import org.eclipse.ditto.signals.commands.connectivity.modify.CloseConnection;
 import org.eclipse.ditto.signals.commands.connectivity.modify.EnableConnectionLogs;
@@ -107,17 +109,30 @@ import org.eclipse.ditto.signals.events.connectivity.ConnectivityEvent;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.Deploy;
 import akka.actor.Props;
 import akka.actor.Status;
+import akka.actor.Terminated;
+import akka.cluster.Cluster;
+import akka.cluster.Member;
+import akka.cluster.MemberStatus;
 import akka.cluster.routing.ClusterRouterPool;
 import akka.cluster.routing.ClusterRouterPoolSettings;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.pattern.Patterns;
 import akka.persistence.RecoveryCompleted;
+import akka.remote.RemoteScope;
+import akka.routing.ActorRefRoutee;
+import akka.routing.AddRoutee;
 import akka.routing.Broadcast;
 import akka.routing.ConsistentHashingPool;
 import akka.routing.ConsistentHashingRouter;
+import akka.routing.GetRoutees;
 import akka.routing.Pool;
+import akka.routing.RemoveRoutee;
+import akka.routing.Routee;
+import akka.routing.Routees;
 
 /**
  * Handles {@code *Connection} commands and manages the persistence of connection. The actual connection handling to the
@@ -154,6 +169,12 @@ public final class ConnectionPersistenceActor
     private Instant connectionClosedAt = Instant.now();
 
     @Nullable private ActorRef clientActorRouter;
+    private final Deque<ActorRef> addedClientActors = new ArrayDeque<>();
+    @Nullable private ActorRef scalingClientActor;
+    private boolean scaling;
+    private int clientCount;
+    private final List<ClientLoad> clientLoads = new ArrayList<>();
+    private final ClientCountScaler clientCountScaler;
 
     private final Duration clientActorAskTimeout;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
@@ -205,6 +226,7 @@ public final class ConnectionPersistenceActor
         }
 
         clientActorAskTimeout = config.getClientActorAskTimeout();
+        clientCountScaler = new ClientCountScaler(config.getClientScalingConfig());
 
         final MonitoringConfig monitoringConfig = connectivityConfig.getMonitoringConfig();
         connectionMonitorRegistry =
@@ -301,6 +323,11 @@ public final class ConnectionPersistenceActor
         return ConnectionNotAccessibleException.newBuilder(entityId);
     }
 
+    @Override
+    protected DittoRuntimeExceptionBuilder newUnavailableExceptionBuilder() {
+        return ConnectionUnavailableException.newBuilder(entityId);
+    }
+
     @Override
     protected void publishEvent(final ConnectivityEvent event) {
         // Do nothing because nobody subscribes for connectivity events.
@@ -452,6 +479,20 @@ public final class ConnectionPersistenceActor
             forwardSignalToClientActors((Signal<?>) message);
         } else if (message == CheckLoggingActive.INSTANCE) {
             checkLoggingEnabled();
+        } else if (message == CheckClientLoad.INSTANCE) {
+            checkClientLoad();
+        } else if (message instanceof ClientLoad) {
+            clientLoads.add((ClientLoad) message);
+        } else if (message instanceof ClientActorRoutees) {
+            startAddedClientActor((ClientActorRoutees) message);
+        } else if (message instanceof AddedClientActorOpened) {
+            addClientActorToRouter((AddedClientActorOpened) message);
+        } else if (message instanceof RemovedClientActorUnrouted) {
+            closeRemovedClientActor((RemovedClientActorUnrouted) message);
+        } else if (message instanceof RemovedClientActorClosed) {
+            stopRemovedClientActor((RemovedClientActorClosed) message);
+        } else if (message instanceof Terminated) {
+            removeTerminatedClientActor(((Terminated) message).getActor());
         } else {
             log.warning("Unknown message: {}", message);
         }
@@ -462,6 +503,170 @@ public final class ConnectionPersistenceActor
         broadcastToClientActorsIfStarted(checkLoggingActive, getSelf());
     }
 
+    private void checkClientLoad() {
+        if (clientActorRouter == null || entity == null) {
+            return;
+        }
+        if (!scaling) {
+            final int nextClientCount = clientCountScaler.nextClientCount(clientCount, getClientCount(), clientLoads);
+            if (nextClientCount > clientCount) {
+                addClientActor(clientActorRouter);
+            } else if (nextClientCount < clientCount && !addedClientActors.isEmpty()) {
+                removeClientActor(clientActorRouter);
+            }
+        }
+        // the loads of the next check are reported by the client actors routed to by then
+        clientLoads.clear();
+        clientActorRouter.tell(new Broadcast(RetrieveClientLoad.getInstance()), getSelf());
+    }
+
+    /*
+     * Client actors are added to and removed from the router one at a time, so that the other client actors keep their
+     * connections and consistent hashing moves only the entity IDs of the added or removed client actor. Only the
+     * client actors added by scaling are removed again; the router pool keeps the client count of the connection.
+     */
+    private void addClientActor(final ActorRef router) {
+        scaling = true;
+        final ActorRef self = getSelf();
+        Patterns.ask(router, GetRoutees.getInstance(), clientActorAskTimeout)
+                .whenComplete((routees, error) -> self.tell(new ClientActorRoutees(router, (Routees) routees, error),
+                        ActorRef.noSender()));
+    }
+
+    private void startAddedClientActor(final ClientActorRoutees clientActorRoutees) {
+        if (!clientActorRoutees.router.equals(clientActorRouter)) {
+            // the client actors were stopped in the meantime
+            return;
+        }
+        final Optional<Address> target = clientActorRoutees.error == null
+                ? selectDeploymentTarget(clientActorRoutees.routees)
+                : Optional.empty();
+        if (!target.isPresent()) {
+            log.warning("Not scaling client actors of connection <{}>: no cluster member to start a client actor on.",
+                    entityId);
+            scaling = false;
+            return;
+        }
+        log.info("Scaling client actors of connection <{}> from <{}> to <{}>.", entityId, clientCount,
+                clientCount + 1);
+        final Props props = propsFactory.getActorPropsForType(entity, conciergeForwarder)
+                .withDeploy(new Deploy(new RemoteScope(target.get())));
+        final ActorRef clientActor = getContext().actorOf(props);
+        scalingClientActor = clientActor;
+        // the client actor connects on startup; add it to the router as soon as it is connected
+        final OpenConnection openConnection = OpenConnection.of(entityId, DittoHeaders.empty());
+        final ActorRef self = getSelf();
+        processClientAskResult(Patterns.ask(clientActor, openConnection, clientActorAskTimeout))
+                .whenComplete((response, error) -> self.tell(new AddedClientActorOpened(clientActor, error),
+                        ActorRef.noSender()));
+    }
+
+    /*
+     * Selects the cluster member with the fewest client actors of this connection.
+     */
+    private Optional<Address> selectDeploymentTarget(final Routees routees) {
+        final Cluster cluster = Cluster.get(getContext().getSystem());
+        final Map<Address, Integer> clientActorsPerMember = new HashMap<>();
+        for (final Member member : cluster.state().getMembers()) {
+            if (member.status() == MemberStatus.up() && member.hasRole(CLUSTER_ROLE)) {
+                clientActorsPerMember.put(member.address(), 0);
+            }
+        }
+        if (clientActorsPerMember.isEmpty() && cluster.getSelfRoles().contains(CLUSTER_ROLE)) {
+            // like the router pool, use the own node while the cluster state is not up to date
+            clientActorsPerMember.put(cluster.selfAddress(), 0);
+        }
+        for (final Routee routee : routees.getRoutees()) {
+            if (routee instanceof ActorRefRoutee) {
+                final Address address = ((ActorRefRoutee) routee).ref().path().address();
+                clientActorsPerMember.computeIfPresent(address.hasLocalScope() ? cluster.selfAddress() : address,
+                        (member, count) -> count + 1);
+            }
+        }
+        return clientActorsPerMember.entrySet()
+                .stream()
+                .min(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey);
+    }
+
+    private void addClientActorToRouter(final AddedClientActorOpened opened) {
+        if (!opened.clientActor.equals(scalingClientActor)) {
+            // the client actors were stopped in the meantime
+            return;
+        }
+        scalingClientActor = null;
+        scaling = false;
+        if (opened.error != null || clientActorRouter == null) {
+            log.warning("Adding a client actor to connection <{}> failed: {}", entityId, opened.error);
+            stopChildActor(opened.clientActor);
+            return;
+        }
+        clientActorRouter.tell(new AddRoutee(new ActorRefRoutee(opened.clientActor)), getSelf());
+        getContext().watch(opened.clientActor);
+        addedClientActors.push(opened.clientActor);
+        clientCount++;
+        if (isLoggingEnabled()) {
+            opened.clientActor.tell(EnableConnectionLogs.of(entityId, DittoHeaders.empty()), ActorRef.noSender());
+        }
+    }
+
+    private void removeClientActor(final ActorRef router) {
+        log.info("Scaling client actors of connection <{}> from <{}> to <{}>.", entityId, clientCount,
+                clientCount - 1);
+        final ActorRef clientActor = addedClientActors.pop();
+        getContext().unwatch(clientActor);
+        clientCount--;
+        scaling = true;
+        scalingClientActor = clientActor;
+        router.tell(new RemoveRoutee(new ActorRefRoutee(clientActor)), getSelf());
+        // the router answers after it removed the client actor: no signal forwarded afterwards is routed to it
+        final ActorRef self = getSelf();
+        Patterns.ask(router, GetRoutees.getInstance(), clientActorAskTimeout)
+                .whenComplete((routees, error) -> self.tell(new RemovedClientActorUnrouted(clientActor),
+                        ActorRef.noSender()));
+    }
+
+    private void closeRemovedClientActor(final RemovedClientActorUnrouted unrouted) {
+        if (!unrouted.clientActor.equals(scalingClientActor)) {
+            return;
+        }
+        // the signals forwarded before reach the client actor before CloseConnection, which it answers once they are
+        // processed and its connection is closed
+        final CloseConnection closeConnection = CloseConnection.of(entityId, DittoHeaders.empty());
+        final ActorRef self = getSelf();
+        processClientAskResult(Patterns.ask(unrouted.clientActor, closeConnection,
+                config.getClientScalingConfig().getDrainTimeout()))
+                .whenComplete((response, error) -> self.tell(
+                        new RemovedClientActorClosed(unrouted.clientActor, error), ActorRef.noSender()));
+    }
+
+    private void stopRemovedClientActor(final RemovedClientActorClosed closed) {
+        if (!closed.clientActor.equals(scalingClientActor)) {
+            return;
+        }
+        if (closed.error != null) {
+            log.warning("Removed client actor of connection <{}> did not close its connection: {}", entityId,
+                    closed.error);
+        }
+        scalingClientActor = null;
+        scaling = false;
+        stopChildActor(closed.clientActor);
+    }
+
+    private void removeTerminatedClientActor(final ActorRef clientActor) {
+        // the router removes terminated routees by itself
+        if (addedClientActors.remove(clientActor)) {
+            log.warning("Added client actor <{}> of connection <{}> terminated.", clientActor.path(), entityId);
+            clientCount--;
+        }
+    }
+
+    private boolean isClientScalingEnabled() {
+        return config.getClientScalingConfig().isEnabled() && isDesiredStateOpen() &&
+                entity.getConnectionType() != ConnectionType.MQTT &&
+                config.getClientScalingConfig().getMaxClientCount() > getClientCount();
+    }
+
     private void forwardSignalToClientActors(final Signal<?> signal) {
         enhanceLogUtil(signal);
         if (clientActorRouter == null) {
@@ -476,7 +681,6 @@ public final class ConnectionPersistenceActor
             logDroppedSignal(signal.getType(), "Was sent by myself.");
             return;
         }
-
         final List<Target> subscribedAndAuthorizedTargets = signalFilter.filter(signal);
         if (subscribedAndAuthorizedTargets.isEmpty()) {
             logDroppedSignal(signal.getType(), "No subscribed and authorized targets present");
@@ -493,7 +697,7 @@ public final class ConnectionPersistenceActor
     }
 
     private void prepareForSignalForwarding(final StagedCommand command) {
-        if (entity != null) {
+        if (entity != null && !config.isPartitionedOutboundDispatch()) {
             signalFilter = new SignalFilter(entity, connectionMonitorRegistry);
         }
 
@@ -501,10 +705,16 @@ public final class ConnectionPersistenceActor
         // with high probability, unnecessary changes won't propagate to other cluster nodes.
         dittoProtocolSub.removeSubscriber(getSelf());
 
-        if (isDesiredStateOpen()) {
+        if (isDesiredStateOpen() && config.isPartitionedOutboundDispatch()) {
+            // the client actors subscribe for outbound signals themselves
+            startEnabledLoggingChecker();
+            updateLoggingIfEnabled();
+            interpretStagedCommand(command);
+        } else if (isDesiredStateOpen()) {
             startEnabledLoggingChecker();
             updateLoggingIfEnabled();
-            dittoProtocolSub.subscribe(toStreamingTypes(getUniqueTopics(entity)), getTargetAuthSubjects(), getSelf())
+            dittoProtocolSub.subscribe(SignalFilter.getStreamingTypes(entity),
+                    SignalFilter.getTargetAuthSubjects(entity), getSelf())
                     .thenAccept(done -> getSelf().tell(command, ActorRef.noSender()));
         } else {
             interpretStagedCommand(command);
@@ -668,7 +878,7 @@ public final class ConnectionPersistenceActor
             final Duration timeout =
                     Duration.ofMillis((long) (extractTimeoutFromCommand(command.getDittoHeaders()) * 0.75));
             final ActorRef aggregator =
-                    getContext().actorOf(senderPropsForConnectionWithTimeout.apply(entity, timeout));
+                    getContext().actorOf(senderPropsForConnectionWithTimeout.apply(getScaledEntity(), timeout));
 
             // forward command to all client actors with aggregator as sender
             clientActorRouter.tell(new Broadcast(command), aggregator);
@@ -718,7 +928,7 @@ public final class ConnectionPersistenceActor
         // timeout before sending the (partial) response
         final Duration timeout =
                 Duration.ofMillis((long) (extractTimeoutFromCommand(command.getDittoHeaders()) * 0.75));
-        final Props props = RetrieveConnectionStatusAggregatorActor.props(entity, sender,
+        final Props props = RetrieveConnectionStatusAggregatorActor.props(getScaledEntity(), sender,
                 command.getDittoHeaders(), timeout);
         forwardToClientActors(props, command, () -> respondWithEmptyStatus(command, sender));
     }
@@ -765,38 +975,15 @@ public final class ConnectionPersistenceActor
         origin.tell(statusResponse, getSelf());
     }
 
-    private Set<Topic> getUniqueTopics(@Nullable final Connection theConnection) {
-        return theConnection != null ? theConnection.getTargets().stream()
-                .flatMap(target -> target.getTopics().stream().map(FilteredTopic::getTopic))
-                .collect(Collectors.toSet()) : Collections.emptySet();
-    }
-
-    private Set<String> getTargetAuthSubjects() {
-        if (entity == null || entity.getTargets().isEmpty()) {
-            return Collections.emptySet();
-        } else {
-            return entity.getTargets()
-                    .stream()
-                    .map(Target::getAuthorizationContext)
-                    .map(AuthorizationContext::getAuthorizationSubjectIds)
-                    .flatMap(List::stream)
-                    .collect(Collectors.toSet());
-        }
-    }
-
     private void startClientActorsIfRequired(final int clientCount) {
         if (entity != null && clientActorRouter == null && clientCount > 0) {
             log.info("Starting ClientActor for connection <{}> with <{}> clients.", entityId, clientCount);
-            final Props props = propsFactory.getActorPropsForType(entity, conciergeForwarder);
-            final ClusterRouterPoolSettings clusterRouterPoolSettings =
-                    new ClusterRouterPoolSettings(clientCount, 1, true,
-                            Collections.singleton(CLUSTER_ROLE));
-            final Pool pool = new ConsistentHashingPool(clientCount);
-            final Props clusterRouterPoolProps =
-                    new ClusterRouterPool(pool, clusterRouterPoolSettings).props(props);
-
-            // start client actor without name so it does not conflict with its previous incarnation
-            clientActorRouter = getContext().actorOf(clusterRouterPoolProps);
+            this.clientCount = clientCount;
+            clientActorRouter = startClientActorRouter(clientCount);
+            if (isClientScalingEnabled()) {
+                timers().startPeriodicTimer(CheckClientLoad.INSTANCE, CheckClientLoad.INSTANCE,
+                        config.getClientScalingConfig().getCheckInterval());
+            }
         } else if (clientActorRouter != null) {
             log.debug("ClientActor already started.");
         } else {
@@ -804,11 +991,49 @@ public final class ConnectionPersistenceActor
         }
     }
 
+    private ActorRef startClientActorRouter(final int clientCount) {
+        final Props props = propsFactory.getActorPropsForType(entity, conciergeForwarder);
+        final ClusterRouterPoolSettings clusterRouterPoolSettings =
+                new ClusterRouterPoolSettings(clientCount, 1, true,
+                        Collections.singleton(CLUSTER_ROLE));
+        final Pool pool = new ConsistentHashingPool(clientCount);
+        final Props clusterRouterPoolProps =
+                new ClusterRouterPool(pool, clusterRouterPoolSettings).props(props);
+
+        // start client actor without name so it does not conflict with its previous incarnation
+        return getContext().actorOf(clusterRouterPoolProps);
+    }
+
     private int getClientCount() {
         return entity == null ? 0 : entity.getClientCount();
     }
 
+    /*
+     * The connection with the client count of the running client actors, which differs from the persisted one if
+     * the client actors were scaled.
+     */
+    private Connection getScaledEntity() {
+        checkNotNull(entity, "Connection");
+        if (clientCount > 0 && clientCount != entity.getClientCount()) {
+            return entity.toBuilder().clientCount(clientCount).build();
+        }
+        return entity;
+    }
+
     private void stopClientActors() {
+        timers().cancel(CheckClientLoad.INSTANCE);
+        clientLoads.clear();
+        clientCount = 0;
+        scaling = false;
+        if (scalingClientActor != null) {
+            stopChildActor(scalingClientActor);
+            scalingClientActor = null;
+        }
+        while (!addedClientActors.isEmpty()) {
+            final ActorRef addedClientActor = addedClientActors.pop();
+            getContext().unwatch(addedClientActor);
+            stopChildActor(addedClientActor);
+        }
         if (clientActorRouter != null) {
             connectionClosedAt = Instant.now();
             log.debug("Stopping the client actor.");
@@ -835,24 +1060,6 @@ public final class ConnectionPersistenceActor
         openConnection(stagedCommand, false);
     }
 
-    private static Collection<StreamingType> toStreamingTypes(final Set<Topic> uniqueTopics) {
-        return uniqueTopics.stream()
-                .map(topic -> {
-                    switch (topic) {
-                        case LIVE_EVENTS:
-                            return StreamingType.LIVE_EVENTS;
-                        case LIVE_COMMANDS:
-                            return StreamingType.LIVE_COMMANDS;
-                        case LIVE_MESSAGES:
-                            return StreamingType.MESSAGES;
-                        case TWIN_EVENTS:
-                        default:
-                            return StreamingType.EVENTS;
-                    }
-                })
-                .collect(Collectors.toList());
-    }
-
     private static <T> CompletionStage<T> failedFuture(final Throwable cause) {
         final CompletableFuture<T> future = new CompletableFuture<>();
         future.completeExceptionally(cause);
@@ -889,4 +1096,68 @@ public final class ConnectionPersistenceActor
         INSTANCE
     }
 
+    /**
+     * Message that will be sent by scheduler and indicates a check of the load of the client actors.
+     */
+    enum CheckClientLoad {
+        INSTANCE
+    }
+
+    /**
+     * Self-message with the routees of the client actor router to place an added client actor.
+     */
+    private static final class ClientActorRoutees {
+
+        private final ActorRef router;
+        @Nullable private final Routees routees;
+        @Nullable private final Throwable error;
+
+        private ClientActorRoutees(final ActorRef router, @Nullable final Routees routees,
+                @Nullable final Throwable error) {
+            this.router = router;
+            this.routees = routees;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Self-message indicating that an added client actor is connected.
+     */
+    private static final class AddedClientActorOpened {
+
+        private final ActorRef clientActor;
+        @Nullable private final Throwable error;
+
+        private AddedClientActorOpened(final ActorRef clientActor, @Nullable final Throwable error) {
+            this.clientActor = clientActor;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Self-message indicating that a removed client actor no longer receives signals from the router.
+     */
+    private static final class RemovedClientActorUnrouted {
+
+        private final ActorRef clientActor;
+
+        private RemovedClientActorUnrouted(final ActorRef clientActor) {
+            this.clientActor = clientActor;
+        }
+    }
+
+    /**
+     * Self-message indicating that a removed client actor closed its connection.
+     */
+    private static final class RemovedClientActorClosed {
+
+        private final ActorRef clientActor;
+        @Nullable private final Throwable error;
+
+        private RemovedClientActorClosed(final ActorRef clientActor, @Nullable final Throwable error) {
+            this.clientActor = clientActor;
+            this.error = error;
+        }
+    }
+
 }
@@ -15,10 +15,13 @@ package org.eclipse.ditto.services.connectivity.messaging.persistence;
 import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.COMMANDS;
 import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.EVENTS;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -27,6 +30,7 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.FilteredTopic;
@@ -35,10 +39,12 @@ import org.eclipse.ditto.model.connectivity.Topic;
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
 import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitorRegistry;
+import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -56,20 +62,24 @@ import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
  * <li>removing those targets that are not allowed to read a signal</li>
  * </ul>
  */
-final class SignalFilter {
+public final class SignalFilter {
 
     private final Connection connection;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final Map<FilteredTopic, CompiledFilter> compiledFilters;
 
     /**
      * Constructs a new SignalFilter instance with the given {@code connection}.
+     * The filters of the topics of all targets are parsed once here and reused for all signals.
      *
      * @param connection the connection to filter the signals on.
+     * @param connectionMonitorRegistry registry of the monitors counting dispatched and filtered signals.
      */
-    SignalFilter(final Connection connection,
+    public SignalFilter(final Connection connection,
             final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry) {
         this.connection = connection;
         this.connectionMonitorRegistry = connectionMonitorRegistry;
+        compiledFilters = compileFilters(connection);
     }
 
     /**
@@ -82,14 +92,15 @@ final class SignalFilter {
      * Target cannot be mapped to a valid criterion
      */
     @SuppressWarnings("squid:S3864")
-    List<Target> filter(final Signal<?> signal) {
+    public List<Target> filter(final Signal<?> signal) {
+        final ThingFromSignal thingFromSignal = new ThingFromSignal(signal);
         return connection.getTargets().stream()
                 .filter(t -> isTargetAuthorized(t, signal)) // this is cheaper, so check this first
                 // count authorized targets
                 .peek(authorizedTarget -> connectionMonitorRegistry.forOutboundDispatched(connection.getId(),
                         authorizedTarget.getAddress())
                         .success(signal))
-                .filter(t -> isTargetSubscribedForTopic(t, signal))
+                .filter(t -> isTargetSubscribedForTopic(t, signal, thingFromSignal))
                 // count authorized + filtered targets
                 .peek(filteredTarget -> connectionMonitorRegistry.forOutboundFiltered(connection.getId(),
                         filteredTarget.getAddress())
@@ -97,17 +108,70 @@ final class SignalFilter {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Compute the streaming types to subscribe for in order to receive the signals of the targets of a connection.
+     *
+     * @param connection the connection, or null if it does not exist.
+     * @return the streaming types.
+     */
+    public static Collection<StreamingType> getStreamingTypes(@Nullable final Connection connection) {
+        if (connection == null) {
+            return Collections.emptySet();
+        }
+        return connection.getTargets().stream()
+                .flatMap(target -> target.getTopics().stream().map(FilteredTopic::getTopic))
+                .distinct()
+                .map(SignalFilter::toStreamingType)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Collect the authorization subjects of the targets of a connection, which are the topics to subscribe for in
+     * order to receive the signals the targets are authorized to read.
+     *
+     * @param connection the connection, or null if it does not exist.
+     * @return the authorization subject IDs.
+     */
+    public static Set<String> getTargetAuthSubjects(@Nullable final Connection connection) {
+        if (connection == null || connection.getTargets().isEmpty()) {
+            return Collections.emptySet();
+        } else {
+            return connection.getTargets()
+                    .stream()
+                    .map(Target::getAuthorizationContext)
+                    .map(AuthorizationContext::getAuthorizationSubjectIds)
+                    .flatMap(List::stream)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private static StreamingType toStreamingType(final Topic topic) {
+        switch (topic) {
+            case LIVE_EVENTS:
+                return StreamingType.LIVE_EVENTS;
+            case LIVE_COMMANDS:
+                return StreamingType.LIVE_COMMANDS;
+            case LIVE_MESSAGES:
+                return StreamingType.MESSAGES;
+            case TWIN_EVENTS:
+            default:
+                return StreamingType.EVENTS;
+        }
+    }
+
     private static boolean isTargetAuthorized(final Target target, final Signal<?> signal) {
         final AuthorizationContext authorizationContext = target.getAuthorizationContext();
         final DittoHeaders headers = signal.getDittoHeaders();
         return authorizationContext.isAuthorized(headers.getReadGrantedSubjects(), headers.getReadRevokedSubjects());
     }
 
-    private boolean isTargetSubscribedForTopic(final Target target, final Signal<?> signal) {
+    private boolean isTargetSubscribedForTopic(final Target target, final Signal<?> signal,
+            final ThingFromSignal thingFromSignal) {
+
         return target.getTopics().stream()
                 .filter(applyTopicFilter(signal))
                 .filter(applyNamespaceFilter(signal))
-                .anyMatch(filteredTopic -> matchesFilterBeforeEnrichment(filteredTopic, signal));
+                .anyMatch(filteredTopic -> matchesFilterBeforeEnrichment(filteredTopic, signal, thingFromSignal));
     }
 
     private static Predicate<FilteredTopic> applyTopicFilter(final Signal<?> signal) {
@@ -123,17 +187,20 @@ final class SignalFilter {
         return NamespaceReader.fromEntityId(withId.getEntityId()).orElse(null);
     }
 
-    private boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
+    private boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal,
+            final ThingFromSignal thingFromSignal) {
+
         final Optional<String> filterOptional = filteredTopic.getFilter();
         if (filterOptional.isPresent() && signal instanceof ThingEvent) {
+            final CompiledFilter compiledFilter = compiledFilters.computeIfAbsent(filteredTopic,
+                    SignalFilter::compileFilter);
             // match filter ignoring "extraFields"
-            return ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal)
+            return thingFromSignal.get()
                     .filter(thing -> {
-                        final Criteria criteria = parseCriteria(filterOptional.get(), signal.getDittoHeaders());
-                        final Set<JsonPointer> extraFields = filteredTopic.getExtraFields()
-                                .map(JsonFieldSelector::getPointers)
-                                .orElse(Collections.emptySet());
-                        return Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, thing);
+                        final Criteria criteria = compiledFilter.criteria != null
+                                ? compiledFilter.criteria
+                                : parseCriteria(filterOptional.get(), signal.getDittoHeaders());
+                        return Thing3ValuePredicateVisitor.couldBeTrue(criteria, compiledFilter.extraFields, thing);
                     })
                     .isPresent();
         } else {
@@ -145,10 +212,36 @@ final class SignalFilter {
      * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
      * mapped to a valid criterion
      */
-    private Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
+    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
         return QueryFilterCriteriaFactory.modelBased().filterCriteria(filter, dittoHeaders);
     }
 
+    private static Map<FilteredTopic, CompiledFilter> compileFilters(final Connection connection) {
+        final Map<FilteredTopic, CompiledFilter> compiledFilters = new ConcurrentHashMap<>();
+        connection.getTargets()
+                .stream()
+                .flatMap(target -> target.getTopics().stream())
+                .filter(filteredTopic -> filteredTopic.getFilter().isPresent())
+                .forEach(filteredTopic -> compiledFilters.computeIfAbsent(filteredTopic, SignalFilter::compileFilter));
+        return compiledFilters;
+    }
+
+    private static CompiledFilter compileFilter(final FilteredTopic filteredTopic) {
+        Criteria criteria;
+        try {
+            criteria = filteredTopic.getFilter()
+                    .map(filter -> parseCriteria(filter, DittoHeaders.empty()))
+                    .orElse(null);
+        } catch (final DittoRuntimeException e) {
+            // parse again for each signal to report the error with its headers
+            criteria = null;
+        }
+        final Set<JsonPointer> extraFields = filteredTopic.getExtraFields()
+                .map(JsonFieldSelector::getPointers)
+                .orElse(Collections.emptySet());
+        return new CompiledFilter(criteria, extraFields);
+    }
+
     private static Optional<Topic> topicFromSignal(final Signal<?> signal) {
         // only things as group supported
         final TopicPath.Group group = signal instanceof WithThingId ? TopicPath.Group.THINGS : null;
@@ -195,4 +288,42 @@ final class SignalFilter {
         return criterion;
     }
 
+    /**
+     * The parsed filter and the extra fields of a filtered topic.
+     */
+    private static final class CompiledFilter {
+
+        @Nullable private final Criteria criteria;
+        private final Set<JsonPointer> extraFields;
+
+        private CompiledFilter(@Nullable final Criteria criteria, final Set<JsonPointer> extraFields) {
+            this.criteria = criteria;
+            this.extraFields = extraFields;
+        }
+    }
+
+    /**
+     * The thing projected from a signal, computed at most once per signal for all targets and topics.
+     */
+    private static final class ThingFromSignal {
+
+        private final Signal<?> signal;
+        @Nullable private Optional<Thing> thing;
+
+        private ThingFromSignal(final Signal<?> signal) {
+            this.signal = signal;
+            thing = null;
+        }
+
+        @SuppressWarnings("OptionalAssignedToNull")
+        private Optional<Thing> get() {
+            if (thing == null) {
+                thing = signal instanceof ThingEvent
+                        ? ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal)
+                        : Optional.empty();
+            }
+            return thing;
+        }
+    }
+
 }
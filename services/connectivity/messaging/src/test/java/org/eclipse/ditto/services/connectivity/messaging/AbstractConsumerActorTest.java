@@ -189,7 +189,8 @@ public abstract class AbstractConsumerActorTest<M> {
             final TestProbe concierge = TestProbe.apply(actorSystem);
             final TestProbe clientActor = TestProbe.apply(actorSystem);
 
-            final ActorRef mappingActor = setupMessageMappingProcessorActor(clientActor.ref(), concierge.ref());
+            final ActorRef mappingActor = setupMessageMappingProcessorActor(clientActor.ref(),
+                    MockConciergeForwarderActor.unbatching(actorSystem, concierge.ref()));
 
             final ActorRef underTest = actorSystem.actorOf(getConsumerActorProps(mappingActor, payloadMapping));
 
@@ -19,15 +19,18 @@ import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.IN
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.compress.utils.Sets;
@@ -44,6 +47,8 @@ import org.eclipse.ditto.model.connectivity.ConnectionId;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ClientLoad;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveClientLoad;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.ConnectionPersistenceActor;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
@@ -87,6 +92,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
@@ -730,6 +737,79 @@ public final class ConnectionPersistenceActorTest extends WithMockServers {
         testForwardThingEvent(false, TestConstants.sendThingMessage(valid));
     }
 
+    @Test
+    public void testConnectionActorStaysOutOfSignalPathWithPartitionedOutboundDispatch() {
+        actorSystem2 = ActorSystem.create(getClass().getSimpleName(), ConfigFactory.parseString(
+                "ditto.connectivity.connection.partitioned-outbound-dispatch = true")
+                .withFallback(TestConstants.CONFIG));
+        new TestKit(actorSystem2) {{
+            final TestKit probe = new TestKit(actorSystem2);
+            final ActorRef pubSubMediator = DistributedPubSub.get(actorSystem2).mediator();
+            final ActorRef underTest =
+                    TestConstants.createConnectionSupervisorActor(connectionId, actorSystem2,
+                            actorSystem2.actorOf(TestConstants.ConciergeForwarderActorMock.props()),
+                            (connection, conciergeForwarder) -> TestActor.props(probe),
+                            TestConstants.dummyDittoProtocolSub(pubSubMediator, dittoProtocolSubMock),
+                            pubSubMediator);
+
+            // create connection
+            underTest.tell(createConnection, getRef());
+            expectMsgClass(Object.class);
+
+            // the client actors subscribe for outbound signals themselves instead of the connection actor
+            verify(dittoProtocolSubMock, after(500).never()).subscribe(any(), any(), any());
+
+            // the connection actor does not forward signals to the client actors
+            underTest.tell(thingModified, getRef());
+            probe.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void scaleClientActorsOneAtATime() {
+        actorSystem2 = ActorSystem.create(getClass().getSimpleName(), ConfigFactory.parseString(
+                "ditto.connectivity.connection.client-scaling {\n" +
+                        "  enabled = true\n" +
+                        "  max-client-count = 2\n" +
+                        "  check-interval = 200ms\n" +
+                        "  drain-timeout = 2s\n" +
+                        "  scale-up-queue-depth = 100\n" +
+                        "  scale-down-queue-depth = 10\n" +
+                        "  scale-up-latency = 1s\n" +
+                        "  scale-down-latency = 1s\n" +
+                        "}")
+                .withFallback(TestConstants.CONFIG));
+        final AtomicLong mappingQueueDepth = new AtomicLong(1000L);
+        new TestKit(actorSystem2) {{
+            final TestKit probe = new TestKit(actorSystem2);
+            final ActorRef underTest =
+                    TestConstants.createConnectionSupervisorActor(connectionId, actorSystem2,
+                            DistributedPubSub.get(actorSystem2).mediator(),
+                            actorSystem2.actorOf(TestConstants.ConciergeForwarderActorMock.props()),
+                            (connection, conciergeForwarder) ->
+                                    LoadReportingClientActor.props(probe, mappingQueueDepth));
+
+            // create connection with 1 client actor
+            underTest.tell(createConnection, getRef());
+            probe.expectMsgClass(OpenConnection.class);
+            final ActorRef configuredClientActor = probe.getLastSender();
+            expectMsgClass(CreateConnectionResponse.class);
+
+            // the client actor reports a high load: 1 client actor is added, the configured one stays connected
+            probe.expectMsgClass(Duration.ofSeconds(10L), OpenConnection.class);
+            final ActorRef addedClientActor = probe.getLastSender();
+            assertThat(addedClientActor).isNotEqualTo(configuredClientActor);
+            watch(addedClientActor);
+
+            // the load drops: only the added client actor closes its connection before it is stopped
+            mappingQueueDepth.set(0L);
+            probe.expectMsgClass(Duration.ofSeconds(10L), CloseConnection.class);
+            assertThat(probe.getLastSender()).isEqualTo(addedClientActor);
+            expectTerminated(Duration.ofSeconds(10L), addedClientActor);
+            probe.expectNoMessage(Duration.ofSeconds(1L));
+        }};
+    }
+
     @Test
     public void testResetConnectionMetrics() {
         new TestKit(actorSystem) {{
@@ -1029,6 +1109,47 @@ public final class ConnectionPersistenceActorTest extends WithMockServers {
         }
     }
 
+    /**
+     * Client actor reporting a configurable mapping queue depth as its load.
+     */
+    static final class LoadReportingClientActor extends AbstractActor {
+
+        private final TestKit probe;
+        private final AtomicLong mappingQueueDepth;
+
+        private LoadReportingClientActor(final TestKit probe, final AtomicLong mappingQueueDepth) {
+            this.probe = probe;
+            this.mappingQueueDepth = mappingQueueDepth;
+        }
+
+        static Props props(final TestKit probe, final AtomicLong mappingQueueDepth) {
+            return Props.create(LoadReportingClientActor.class, new Creator<LoadReportingClientActor>() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public LoadReportingClientActor create() {
+                    return new LoadReportingClientActor(probe, mappingQueueDepth);
+                }
+            });
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(OpenConnection.class, openConnection -> {
+                        probe.getRef().tell(openConnection, getSelf());
+                        getSender().tell(new Status.Success("connected"), getSelf());
+                    })
+                    .match(CloseConnection.class, closeConnection -> {
+                        probe.getRef().tell(closeConnection, getSelf());
+                        getSender().tell(new Status.Success("disconnected"), getSelf());
+                    })
+                    .match(RetrieveClientLoad.class, retrieveClientLoad -> getSender().tell(
+                            ClientLoad.of(mappingQueueDepth.get(), Duration.ZERO), getSelf()))
+                    .build();
+        }
+    }
+
     private void expectSubscribe(final Set<StreamingType> streamingTypes, final Set<String> subjects) {
         verify(dittoProtocolSubMock, timeout(500)).subscribe(
                 argThat(argument -> streamingTypes.equals(new HashSet<>(argument))),
@@ -66,6 +66,10 @@ import org.eclipse.ditto.protocoladapter.ProtocolFactory;
 import org.eclipse.ditto.services.connectivity.mapping.ConnectivityCachingSignalEnrichmentProvider;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor.PublishMappedMessage;
 import org.eclipse.ditto.services.connectivity.messaging.config.HttpPushConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableExternalMessage;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ClientLoad;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveClientLoad;
+import org.eclipse.ditto.services.models.concierge.BatchedSignals;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
@@ -86,6 +90,7 @@ import org.mockito.Mockito;
 
 import com.typesafe.config.ConfigValueFactory;
 
+import akka.Done;
 import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
 import akka.actor.ActorSystem;
@@ -231,6 +236,119 @@ public final class MessageMappingProcessorActorTest {
         }};
     }
 
+    @Test
+    public void testSignalsMappedInOneBatchAreForwardedAsBatchedSignals() {
+        new TestKit(actorSystem) {{
+            final ActorRef messageMappingProcessorActor = createMessageMappingProcessorActor(this);
+            final ModifyAttribute modifyCommand = createModifyAttributeCommand();
+            final ExternalMessage externalMessage =
+                    ExternalMessageFactory.newExternalMessageBuilder(modifyCommand.getDittoHeaders())
+                            .withText(ProtocolFactory
+                                    .wrapAsJsonifiableAdaptable(DITTO_PROTOCOL_ADAPTER.toAdaptable(modifyCommand))
+                                    .toJsonString())
+                            .withAuthorizationContext(AUTHORIZATION_CONTEXT)
+                            .withPayloadMapping(ConnectivityModelFactory.newPayloadMapping(DUPLICATING_MAPPER))
+                            .build();
+
+            // WHEN: an external message is mapped to 2 signals
+            messageMappingProcessorActor.tell(externalMessage, getRef());
+
+            // THEN: both signals are forwarded to the concierge forwarder in one message
+            final BatchedSignals batchedSignals = expectMsgClass(BatchedSignals.class);
+            assertThat(batchedSignals.getSignals()).hasSize(2)
+                    .allSatisfy(signal -> assertThat(signal).isInstanceOf(ModifyAttribute.class));
+        }};
+    }
+
+    @Test
+    public void testAcknowledgeableInboundMessageIsAcknowledgedAfterItsSignalWasForwarded() {
+        new TestKit(actorSystem) {{
+            final ActorRef messageMappingProcessorActor = createMessageMappingProcessorActor(this);
+            final ModifyAttribute modifyCommand = createModifyAttributeCommand();
+            final ExternalMessage externalMessage =
+                    ExternalMessageFactory.newExternalMessageBuilder(modifyCommand.getDittoHeaders())
+                            .withText(ProtocolFactory
+                                    .wrapAsJsonifiableAdaptable(DITTO_PROTOCOL_ADAPTER.toAdaptable(modifyCommand))
+                                    .toJsonString())
+                            .withAuthorizationContext(AUTHORIZATION_CONTEXT)
+                            .build();
+
+            messageMappingProcessorActor.tell(AcknowledgeableExternalMessage.of(externalMessage), getRef());
+
+            expectMsgClass(ModifyAttribute.class);
+            expectMsg(Done.getInstance());
+        }};
+    }
+
+    @Test
+    public void testSignalsMappedInOneBatchAreForwardedOneByOneIfBatchingIsDisabled() {
+        TestKit.shutdownActorSystem(actorSystem);
+        actorSystem = ActorSystem.create("AkkaTestSystemWithoutInboundBatching",
+                TestConstants.CONFIG.withValue("ditto.connectivity.mapping.batch-inbound-signals",
+                        ConfigValueFactory.fromAnyRef(false)));
+        MockConciergeForwarderActor.create(actorSystem);
+
+        new TestKit(actorSystem) {{
+            final ActorRef messageMappingProcessorActor = createMessageMappingProcessorActor(this);
+            final ModifyAttribute modifyCommand = createModifyAttributeCommand();
+            final ExternalMessage externalMessage =
+                    ExternalMessageFactory.newExternalMessageBuilder(modifyCommand.getDittoHeaders())
+                            .withText(ProtocolFactory
+                                    .wrapAsJsonifiableAdaptable(DITTO_PROTOCOL_ADAPTER.toAdaptable(modifyCommand))
+                                    .toJsonString())
+                            .withAuthorizationContext(AUTHORIZATION_CONTEXT)
+                            .withPayloadMapping(ConnectivityModelFactory.newPayloadMapping(DUPLICATING_MAPPER))
+                            .build();
+
+            // WHEN: an external message is mapped to 2 signals
+            messageMappingProcessorActor.tell(externalMessage, getRef());
+
+            // THEN: each signal is forwarded to the concierge forwarder on its own
+            expectMsgClass(ModifyAttribute.class);
+            expectMsgClass(ModifyAttribute.class);
+        }};
+    }
+
+    @Test
+    public void testSignalEnrichmentOfSameThingIsSequential() {
+        final TestProbe conciergeForwarderProbe = TestProbe.apply("mockConciergeForwarderProbe", actorSystem);
+        setUpConciergeForwarder(conciergeForwarderProbe.ref());
+
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createMessageMappingProcessorActor(this);
+
+            // WHEN: 2 signals of the same thing are received for a target with enrichment
+            final Target targetWithEnrichment = ConnectivityModelFactory.newTargetBuilder()
+                    .address("target/address")
+                    .authorizationContext(AuthorizationContext.newInstance(
+                            AuthorizationSubject.newInstance("target:auth-subject")))
+                    .topics(ConnectivityModelFactory.newFilteredTopicBuilder(Topic.TWIN_EVENTS)
+                            .withExtraFields(JsonFieldSelector.newInstance("attributes/x"))
+                            .build())
+                    .build();
+            final Signal<?> signal = TestConstants.thingModified(Collections.emptyList());
+            final OutboundSignal outboundSignal =
+                    OutboundSignalFactory.newOutboundSignal(signal, Collections.singletonList(targetWithEnrichment));
+            underTest.tell(outboundSignal, getRef());
+            underTest.tell(outboundSignal, getRef());
+
+            // THEN: the second signal is enriched only after the enrichment of the first signal completed
+            final RetrieveThing firstRetrieveThing = conciergeForwarderProbe.expectMsgClass(RetrieveThing.class);
+            conciergeForwarderProbe.expectNoMessage(
+                    scala.concurrent.duration.FiniteDuration.apply(300, TimeUnit.MILLISECONDS));
+            final JsonObject extra = JsonObject.newBuilder().set("/attributes/x", 5).build();
+            conciergeForwarderProbe.reply(RetrieveThingResponse.of(firstRetrieveThing.getEntityId(), extra,
+                    firstRetrieveThing.getDittoHeaders()));
+
+            final RetrieveThing secondRetrieveThing = conciergeForwarderProbe.expectMsgClass(RetrieveThing.class);
+            conciergeForwarderProbe.reply(RetrieveThingResponse.of(secondRetrieveThing.getEntityId(), extra,
+                    secondRetrieveThing.getDittoHeaders()));
+
+            expectPublishedMappedMessage(expectMsgClass(PublishMappedMessage.class), signal, targetWithEnrichment);
+            expectPublishedMappedMessage(expectMsgClass(PublishMappedMessage.class), signal, targetWithEnrichment);
+        }};
+    }
+
     @SafeVarargs
     private static void expectPublishedMappedMessage(final PublishMappedMessage publishMappedMessage,
             final Signal<?> signal,
@@ -562,6 +680,36 @@ public final class MessageMappingProcessorActorTest {
         });
     }
 
+    @Test
+    public void testRetrieveClientLoad() {
+        new TestKit(actorSystem) {{
+            final ActorRef messageMappingProcessorActor = createMessageMappingProcessorActor(this);
+
+            messageMappingProcessorActor.tell(RetrieveClientLoad.getInstance(), getRef());
+            assertThat(expectMsgClass(ClientLoad.class)).isEqualTo(ClientLoad.of(0L, Duration.ZERO));
+
+            // the queue depth drops back to zero once an inbound message is mapped
+            final Map<String, String> headers = new HashMap<>();
+            headers.put("content-type", "application/json");
+            final ModifyAttribute modifyCommand = ModifyAttribute.of(KNOWN_THING_ID, JsonPointer.of("foo"),
+                    JsonValue.of(42), DittoHeaders.empty());
+            final JsonifiableAdaptable adaptable = ProtocolFactory
+                    .wrapAsJsonifiableAdaptable(DITTO_PROTOCOL_ADAPTER.toAdaptable(modifyCommand));
+            final ExternalMessage externalMessage = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                    .withTopicPath(adaptable.getTopicPath())
+                    .withText(adaptable.toJsonString())
+                    .withAuthorizationContext(AuthorizationModelFactory.newAuthContext(
+                            AuthorizationModelFactory.newAuthSubject("integration:application/json:hub")))
+                    .withHeaderMapping(SOURCE_HEADER_MAPPING)
+                    .build();
+            messageMappingProcessorActor.tell(externalMessage, getRef());
+            expectMsgClass(ModifyAttribute.class);
+
+            messageMappingProcessorActor.tell(RetrieveClientLoad.getInstance(), getRef());
+            assertThat(expectMsgClass(ClientLoad.class).getMappingQueueDepth()).isZero();
+        }};
+    }
+
     private <T> void testMessageMappingWithoutCorrelationId(
             final AuthorizationContext context,
             final Class<T> expectedMessageClass,
@@ -12,8 +12,11 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging;
 
+import org.eclipse.ditto.services.models.concierge.BatchedSignals;
+
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
+import akka.actor.ActorRefFactory;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.japi.pf.ReceiveBuilder;
@@ -21,7 +24,7 @@ import akka.japi.pf.ReceiveBuilder;
 /**
  * Mock actor that forwards all messages to the final ActorRef message.
  */
-final class MockConciergeForwarderActor extends AbstractActor {
+public final class MockConciergeForwarderActor extends AbstractActor {
 
     /**
      * Create a mock /connectivityRoot/conciergeForwarder actor that forwards everything to the last ActorRef message it
@@ -33,6 +36,18 @@ final class MockConciergeForwarderActor extends AbstractActor {
         actorSystem.actorOf(Props.create(MockConciergeForwarderActor.class), "connectivityRoot");
     }
 
+    /**
+     * Create a mock concierge forwarder that forwards everything to a recipient, unpacking {@link BatchedSignals}
+     * into their signals.
+     *
+     * @param actorRefFactory where to create the mock concierge forwarder.
+     * @param recipient the recipient of the forwarded signals.
+     * @return reference of the mock concierge forwarder.
+     */
+    public static ActorRef unbatching(final ActorRefFactory actorRefFactory, final ActorRef recipient) {
+        return actorRefFactory.actorOf(Props.create(UnbatchingActor.class, recipient));
+    }
+
     @Override
     public void preStart() {
         getContext().actorOf(Props.create(MockInnerActor.class), "conciergeForwarder");
@@ -62,4 +77,22 @@ final class MockConciergeForwarderActor extends AbstractActor {
                     .build();
         }
     }
+
+    private static final class UnbatchingActor extends AbstractActor {
+
+        private final ActorRef recipient;
+
+        private UnbatchingActor(final ActorRef recipient) {
+            this.recipient = recipient;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return ReceiveBuilder.create()
+                    .match(BatchedSignals.class, batchedSignals -> batchedSignals.getSignals()
+                            .forEach(signal -> recipient.forward(signal, getContext())))
+                    .matchAny(message -> recipient.forward(message, getContext()))
+                    .build();
+        }
+    }
 }
@@ -218,6 +218,13 @@ public final class TestConstants {
                         .toArray(CompletableFuture[]::new));
             }
 
+            @Override
+            public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
+                    final Collection<String> topics, final ActorRef subscriber, final String group) {
+                doDelegate(d -> d.subscribe(types, topics, subscriber, group));
+                return CompletableFuture.completedFuture(null);
+            }
+
             @Override
             public void removeSubscriber(final ActorRef subscriber) {
                 doDelegate(d -> d.removeSubscriber(subscriber));
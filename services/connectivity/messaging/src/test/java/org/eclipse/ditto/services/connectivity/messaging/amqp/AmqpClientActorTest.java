@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.connectivity.messaging.amqp;
 
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
@@ -46,6 +47,7 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -90,6 +92,7 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractBaseClientActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
+import org.eclipse.ditto.services.connectivity.messaging.MockConciergeForwarderActor;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
@@ -556,7 +559,8 @@ public final class AmqpClientActorTest extends AbstractBaseClientActorTest {
 
         new TestKit(actorSystem) {{
             final Props props =
-                    AmqpClientActor.propsForTests(connection, getRef(),
+                    AmqpClientActor.propsForTests(connection,
+                            MockConciergeForwarderActor.unbatching(actorSystem, getRef()),
                             (ac, el) -> mockConnection);
             final ActorRef amqpClientActor = actorSystem.actorOf(props);
 
@@ -707,6 +711,80 @@ public final class AmqpClientActorTest extends AbstractBaseClientActorTest {
         }};
     }
 
+    @Test
+    public void testPublishSignalsOfOneThingViaTheSameOfMultipleSessions() throws JMSException {
+        final Target target = TestConstants.Targets.TWIN_TARGET;
+        final JmsSession secondSession = Mockito.mock(JmsSession.class, withSettings().name("secondSession"));
+        doReturn(mockSession).doReturn(secondSession).when(mockConnection).createSession(Session.CLIENT_ACKNOWLEDGE);
+        prepareSession(secondSession, mockConsumer);
+        final Connection connectionWithTwoSessions = connection.toBuilder()
+                .specificConfig(singletonMap(AmqpClientActor.SPEC_CONFIG_SESSION_COUNT, "2"))
+                .build();
+
+        new TestKit(actorSystem) {{
+            final Props props = AmqpClientActor.propsForTests(connectionWithTwoSessions, getRef(),
+                    (ac, el) -> mockConnection);
+            final ActorRef amqpClientActor = actorSystem.actorOf(props);
+
+            amqpClientActor.tell(OpenConnection.of(CONNECTION_ID, DittoHeaders.empty()), getRef());
+            expectMsg(CONNECTED_SUCCESS);
+
+            final ThingModifiedEvent thingModifiedEvent =
+                    TestConstants.thingModified(Collections.emptyList(), Attributes.newBuilder().build());
+            final OutboundSignal outboundSignal =
+                    OutboundSignalFactory.newOutboundSignal(thingModifiedEvent, singletonList(target));
+            amqpClientActor.tell(outboundSignal, ActorRef.noSender());
+            amqpClientActor.tell(outboundSignal, ActorRef.noSender());
+
+            // each session has its own producer for the target, but only one of them is used for the thing
+            Awaitility.await()
+                    .atMost(Duration.FIVE_SECONDS)
+                    .pollInterval(Duration.TWO_HUNDRED_MILLISECONDS)
+                    .until(() -> mockProducers.stream()
+                            .filter(p -> target.getAddress().equals(wrapThrowable(p::getDestination).toString()))
+                            .map(p -> Mockito.mockingDetails(p).getInvocations().stream()
+                                    .filter(invocation -> "send".equals(invocation.getMethod().getName()))
+                                    .count())
+                            .sorted()
+                            .collect(Collectors.toList()), Matchers.contains(0L, 2L));
+        }};
+    }
+
+    @Test
+    public void testRetrieveConnectionStatusWithMultipleSessionsReportsEachTargetOnce() throws JMSException {
+        final JmsSession secondSession = Mockito.mock(JmsSession.class, withSettings().name("secondSession"));
+        doReturn(mockSession).doReturn(secondSession).when(mockConnection).createSession(Session.CLIENT_ACKNOWLEDGE);
+        prepareSession(secondSession, mockConsumer);
+        final Connection connectionWithTwoSessions = connection.toBuilder()
+                .specificConfig(singletonMap(AmqpClientActor.SPEC_CONFIG_SESSION_COUNT, "2"))
+                .build();
+
+        new TestKit(actorSystem) {{
+            final Props props = AmqpClientActor.propsForTests(connectionWithTwoSessions, getRef(),
+                    (ac, el) -> mockConnection);
+            final ActorRef amqpClientActor = actorSystem.actorOf(props);
+
+            amqpClientActor.tell(OpenConnection.of(CONNECTION_ID, DittoHeaders.empty()), getRef());
+            expectMsg(CONNECTED_SUCCESS);
+
+            amqpClientActor.tell(RetrieveConnectionStatus.of(CONNECTION_ID, DittoHeaders.empty()), getRef());
+
+            // the publishers of both sessions and their router would each report the targets otherwise
+            final List<String> reportedTargets = receiveWhile(java.time.Duration.ofSeconds(3L),
+                    java.time.Duration.ofSeconds(1L), 100, message -> message)
+                    .stream()
+                    .filter(ResourceStatus.class::isInstance)
+                    .map(ResourceStatus.class::cast)
+                    .filter(status -> status.getResourceType() == ResourceStatus.ResourceType.TARGET)
+                    .map(status -> status.getAddress().orElse(null))
+                    .collect(Collectors.toList());
+            assertThat(reportedTargets).containsExactlyInAnyOrderElementsOf(
+                    connectionWithTwoSessions.getTargets().stream()
+                            .map(Target::getAddress)
+                            .collect(Collectors.toList()));
+        }};
+    }
+
     @Test
     public void testConsumerRecreationFailureWhenConnected() throws JMSException {
         new TestKit(actorSystem) {{
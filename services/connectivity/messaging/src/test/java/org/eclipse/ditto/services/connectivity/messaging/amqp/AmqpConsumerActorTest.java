@@ -43,6 +43,7 @@ import org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptMess
 import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.MessageMappingProcessor;
 import org.eclipse.ditto.services.connectivity.messaging.MessageMappingProcessorActor;
+import org.eclipse.ditto.services.connectivity.messaging.MockConciergeForwarderActor;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
@@ -196,7 +197,8 @@ public final class AmqpConsumerActorTest extends AbstractConsumerActorTest<JmsMe
         final MessageMappingProcessor mappingProcessor = getMessageMappingProcessor(mappingContext);
 
         final Props messageMappingProcessorProps =
-                MessageMappingProcessorActor.props(testRef, testRef, mappingProcessor, CONNECTION_ID, 17);
+                MessageMappingProcessorActor.props(MockConciergeForwarderActor.unbatching(actorSystem, testRef), testRef,
+                        mappingProcessor, CONNECTION_ID, 17);
 
         return actorSystem.actorOf(messageMappingProcessorProps,
                 MessageMappingProcessorActor.ACTOR_NAME + "-" + name.getMethodName());
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 import javax.jms.JMSException;
@@ -143,6 +144,36 @@ public class JmsConnectionHandlingActorTest extends WithMockServers {
     }
 
 
+    @Test
+    public void handleJmsConnectWithMultipleSessions() throws JMSException {
+        new TestKit(actorSystem) {{
+
+            final Session secondSession = Mockito.mock(Session.class);
+            when(mockConnection.createSession(Session.CLIENT_ACKNOWLEDGE)).thenReturn(mockSession, secondSession);
+            final Connection connectionWithTwoSessions = connection.toBuilder()
+                    .specificConfig(Collections.singletonMap(AmqpClientActor.SPEC_CONFIG_SESSION_COUNT, "2"))
+                    .build();
+
+            final Props props =
+                    JMSConnectionHandlingActor.props(connectionWithTwoSessions, e -> {}, jmsConnectionFactory);
+            final ActorRef connectionHandlingActor = watch(actorSystem.actorOf(props));
+
+            connectionHandlingActor.tell(new AmqpClientActor.JmsConnect(getRef()), getRef());
+
+            final AmqpClientActor.JmsConnected connected = expectMsgClass(AmqpClientActor.JmsConnected.class);
+            assertThat(connected.getSessions()).containsExactly(mockSession, secondSession);
+
+            // the consumers are spread round-robin over both sessions
+            final int consumerCount = connection.getSources()
+                    .stream()
+                    .mapToInt(s -> s.getAddresses().size() * s.getConsumerCount())
+                    .sum();
+            verify(mockConnection, times(2)).createSession(Session.CLIENT_ACKNOWLEDGE);
+            verify(mockSession, times((consumerCount + 1) / 2)).createConsumer(any());
+            verify(secondSession, times(consumerCount / 2)).createConsumer(any());
+        }};
+    }
+
     @Test
     public void handleRecoverSession() throws JMSException {
         new TestKit(actorSystem) {{
@@ -153,12 +184,13 @@ public class JmsConnectionHandlingActorTest extends WithMockServers {
             final TestProbe origin = TestProbe.apply(actorSystem);
 
             final JmsSession existingSession = Mockito.mock(JmsSession.class);
-            connectionHandlingActor.tell(new AmqpClientActor.JmsRecoverSession(origin.ref(), mockConnection, existingSession),
+            connectionHandlingActor.tell(new AmqpClientActor.JmsRecoverSession(origin.ref(), mockConnection,
+                            Collections.singletonList(existingSession)),
                     getRef());
 
             final AmqpClientActor.JmsSessionRecovered recovered = expectMsgClass(AmqpClientActor.JmsSessionRecovered.class);
             assertThat(recovered.getOrigin()).contains(origin.ref());
-            assertThat(recovered.getSession()).isSameAs(mockSession);
+            assertThat(recovered.getSessions()).containsExactly(mockSession);
 
             verify(existingSession).close();
             verify(mockConnection).createSession(Session.CLIENT_ACKNOWLEDGE);
@@ -179,7 +211,8 @@ public class JmsConnectionHandlingActorTest extends WithMockServers {
 
             final Props props = JMSConnectionHandlingActor.props(connection, e -> {}, jmsConnectionFactory);
             final ActorRef connectionHandlingActor = watch(actorSystem.actorOf(props));
-            connectionHandlingActor.tell(new AmqpClientActor.JmsRecoverSession(getRef(), failsToCreateSession, mockSession),
+            connectionHandlingActor.tell(new AmqpClientActor.JmsRecoverSession(getRef(), failsToCreateSession,
+                            Collections.singletonList(mockSession)),
                     getRef());
 
             expectMsgClass(ConnectionFailure.class);
@@ -59,7 +59,8 @@ public final class DefaultConnectionConfigTest {
                         DefaultSignalEnrichmentConfig.class,
                         DefaultMqttConfig.class,
                         DefaultKafkaConfig.class,
-                        DefaultAmqp10Config.class
+                        DefaultAmqp10Config.class,
+                        DefaultClientScalingConfig.class
                 ).areAlsoImmutable()
         );
     }
@@ -83,6 +84,10 @@ public final class DefaultConnectionConfigTest {
                 .as(ConnectionConfig.ConnectionConfigValue.BLACKLISTED_HOSTNAMES.getConfigPath())
                 .containsExactly("localhost");
 
+        softly.assertThat(underTest.isPartitionedOutboundDispatch())
+                .as(ConnectionConfig.ConnectionConfigValue.PARTITIONED_OUTBOUND_DISPATCH.getConfigPath())
+                .isTrue();
+
         softly.assertThat(underTest.getSupervisorConfig())
                 .as("supervisorConfig")
                 .satisfies(supervisorConfig -> softly.assertThat(supervisorConfig.getExponentialBackOffConfig())
@@ -116,6 +121,58 @@ public final class DefaultConnectionConfigTest {
                 .satisfies(httpPushConfig -> softly.assertThat(httpPushConfig.getMaxQueueSize())
                         .as(HttpPushConfig.ConfigValue.MAX_QUEUE_SIZE.getConfigPath())
                         .isEqualTo(9));
+
+        softly.assertThat(underTest.getKafkaConfig())
+                .as("kafkaConfig")
+                .satisfies(kafkaConfig -> {
+                    softly.assertThat(kafkaConfig.getProducerQueueSize())
+                            .as(KafkaConfig.KafkaConfigValue.PRODUCER_QUEUE_SIZE.getConfigPath())
+                            .isEqualTo(10);
+                    softly.assertThat(kafkaConfig.getProducerBatchSize())
+                            .as(KafkaConfig.KafkaConfigValue.PRODUCER_BATCH_SIZE.getConfigPath())
+                            .isEqualTo(1024);
+                    softly.assertThat(kafkaConfig.getProducerLinger())
+                            .as(KafkaConfig.KafkaConfigValue.PRODUCER_LINGER.getConfigPath())
+                            .isEqualTo(Duration.ofMillis(1L));
+                    softly.assertThat(kafkaConfig.getProducerCompressionType())
+                            .as(KafkaConfig.KafkaConfigValue.PRODUCER_COMPRESSION_TYPE.getConfigPath())
+                            .isEqualTo("lz4");
+                    softly.assertThat(kafkaConfig.getProducerAcks())
+                            .as(KafkaConfig.KafkaConfigValue.PRODUCER_ACKS.getConfigPath())
+                            .isEqualTo("1");
+                    softly.assertThat(kafkaConfig.getConsumerMaxPartitions())
+                            .as(KafkaConfig.KafkaConfigValue.CONSUMER_MAX_PARTITIONS.getConfigPath())
+                            .isEqualTo(8);
+                });
+
+        softly.assertThat(underTest.getClientScalingConfig())
+                .as("clientScalingConfig")
+                .satisfies(clientScalingConfig -> {
+                    softly.assertThat(clientScalingConfig.isEnabled())
+                            .as(ClientScalingConfig.ClientScalingConfigValue.ENABLED.getConfigPath())
+                            .isTrue();
+                    softly.assertThat(clientScalingConfig.getMaxClientCount())
+                            .as(ClientScalingConfig.ClientScalingConfigValue.MAX_CLIENT_COUNT.getConfigPath())
+                            .isEqualTo(6);
+                    softly.assertThat(clientScalingConfig.getCheckInterval())
+                            .as(ClientScalingConfig.ClientScalingConfigValue.CHECK_INTERVAL.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(5L));
+                    softly.assertThat(clientScalingConfig.getDrainTimeout())
+                            .as(ClientScalingConfig.ClientScalingConfigValue.DRAIN_TIMEOUT.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(2L));
+                    softly.assertThat(clientScalingConfig.getScaleUpQueueDepth())
+                            .as(ClientScalingConfig.ClientScalingConfigValue.SCALE_UP_QUEUE_DEPTH.getConfigPath())
+                            .isEqualTo(100L);
+                    softly.assertThat(clientScalingConfig.getScaleUpLatency())
+                            .as(ClientScalingConfig.ClientScalingConfigValue.SCALE_UP_LATENCY.getConfigPath())
+                            .isEqualTo(Duration.ofMillis(50L));
+                    softly.assertThat(clientScalingConfig.getScaleDownQueueDepth())
+                            .as(ClientScalingConfig.ClientScalingConfigValue.SCALE_DOWN_QUEUE_DEPTH.getConfigPath())
+                            .isEqualTo(5L);
+                    softly.assertThat(clientScalingConfig.getScaleDownLatency())
+                            .as(ClientScalingConfig.ClientScalingConfigValue.SCALE_DOWN_LATENCY.getConfigPath())
+                            .isEqualTo(Duration.ofMillis(5L));
+                });
     }
 
 }
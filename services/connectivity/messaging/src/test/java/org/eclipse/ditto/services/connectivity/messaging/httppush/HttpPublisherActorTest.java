@@ -14,11 +14,20 @@ package org.eclipse.ditto.services.connectivity.messaging.httppush;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.model.base.common.DittoConstants;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractPublisherActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
@@ -31,8 +40,10 @@ import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.event.LoggingAdapter;
+import akka.http.javadsl.model.ContentTypes;
 import akka.http.javadsl.model.HttpEntity;
 import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpMethod;
 import akka.http.javadsl.model.HttpMethods;
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.HttpResponse;
@@ -93,6 +104,109 @@ public final class HttpPublisherActorTest extends AbstractPublisherActorTest {
         }
     }
 
+    @Test
+    public void testBatchingOfMessagesToSameTarget() throws Exception {
+        new TestKit(actorSystem) {{
+            // GIVEN: A connection sends up to 3 messages in one request
+            setupMocks(new TestProbe(actorSystem));
+            final Connection connection = TestConstants.createConnection()
+                    .toBuilder()
+                    .specificConfig(createBatchingSpecificConfig())
+                    .build();
+            final ActorRef underTest = childActorOf(HttpPublisherActor.props(connection, httpPushFactory));
+
+            // WHEN: the publisher is requested to send 3 messages to the same target
+            for (int i = 0; i < 3; i++) {
+                underTest.tell(getMockOutboundSignal("correlation-id", "cid-" + i), getRef());
+            }
+
+            // THEN: the messages are sent as JSON array in one request with the common headers
+            final HttpRequest request = received.take();
+            assertThat(request.method()).isEqualTo(HttpMethods.PATCH);
+            assertThat(request.getHeader("device_id")).isPresent();
+            assertThat(request.getHeader("correlation-id")).isEmpty();
+            final HttpEntity.Strict entity = request.entity()
+                    .toStrict(60_000L, ActorMaterializer.create(actorSystem))
+                    .toCompletableFuture()
+                    .join();
+            assertThat(entity.getContentType()).isEqualTo(ContentTypes.APPLICATION_JSON);
+            assertThat(JsonFactory.readFrom(entity.getData().utf8String()))
+                    .isEqualTo(JsonArray.of("[\"payload\",\"payload\",\"payload\"]"));
+            assertThat(received.poll(300, TimeUnit.MILLISECONDS)).isNull();
+        }};
+    }
+
+    @Test
+    public void testBatchingIsLimitedByPayloadBytes() throws Exception {
+        new TestKit(actorSystem) {{
+            // GIVEN: A connection sends up to 3 messages but at most 14 payload bytes in one request
+            setupMocks(new TestProbe(actorSystem));
+            final Map<String, String> specificConfig = createBatchingSpecificConfig();
+            specificConfig.put(HttpPushFactory.BATCH_MAX_BYTES, String.valueOf(2 * "payload".length()));
+            final Connection connection = TestConstants.createConnection()
+                    .toBuilder()
+                    .specificConfig(specificConfig)
+                    .build();
+            final ActorRef underTest = childActorOf(HttpPublisherActor.props(connection, httpPushFactory));
+
+            // WHEN: the publisher is requested to send 4 messages to the same target
+            for (int i = 0; i < 4; i++) {
+                underTest.tell(getMockOutboundSignal("correlation-id", "cid-" + i), getRef());
+            }
+
+            // THEN: the messages are sent in 2 requests of 2 messages each
+            for (int i = 0; i < 2; i++) {
+                final HttpRequest request = received.take();
+                final HttpEntity.Strict entity = request.entity()
+                        .toStrict(60_000L, ActorMaterializer.create(actorSystem))
+                        .toCompletableFuture()
+                        .join();
+                assertThat(JsonFactory.readFrom(entity.getData().utf8String()))
+                        .isEqualTo(JsonArray.of("[\"payload\",\"payload\"]"));
+            }
+            assertThat(received.poll(300, TimeUnit.MILLISECONDS)).isNull();
+        }};
+    }
+
+    @Test
+    public void testBatchingKeepsTheOrderOfRequestsToDifferentTargets() throws Exception {
+        new TestKit(actorSystem) {{
+            // GIVEN: A connection sends up to 3 messages in one request
+            setupMocks(new TestProbe(actorSystem));
+            final Connection connection = TestConstants.createConnection()
+                    .toBuilder()
+                    .specificConfig(createBatchingSpecificConfig())
+                    .build();
+            final ActorRef underTest = childActorOf(HttpPublisherActor.props(connection, httpPushFactory));
+            final Target otherTarget = ConnectivityModelFactory.newTargetBuilder(createTestTarget())
+                    .address("POST:/other/target")
+                    .originalAddress("POST:/other/target")
+                    .build();
+
+            // WHEN: the publisher is requested to send messages to the targets A, B and A in one batch
+            underTest.tell(getMockOutboundSignal(), getRef());
+            underTest.tell(getMockOutboundSignal(otherTarget), getRef());
+            underTest.tell(getMockOutboundSignal(), getRef());
+
+            // THEN: only adjacent requests to the same target would be merged, so the 3 requests are sent in order
+            final List<HttpMethod> expectedMethods =
+                    Arrays.asList(HttpMethods.PATCH, HttpMethods.POST, HttpMethods.PATCH);
+            for (final HttpMethod expectedMethod : expectedMethods) {
+                final HttpRequest request = received.poll(10, TimeUnit.SECONDS);
+                assertThat(request).isNotNull();
+                assertThat(request.method()).isEqualTo(expectedMethod);
+            }
+            assertThat(received.poll(300, TimeUnit.MILLISECONDS)).isNull();
+        }};
+    }
+
+    private static Map<String, String> createBatchingSpecificConfig() {
+        final Map<String, String> specificConfig = new HashMap<>();
+        specificConfig.put(HttpPushFactory.BATCH_SIZE, "3");
+        specificConfig.put(HttpPushFactory.BATCH_TIMEOUT_MILLIS, "10000");
+        return specificConfig;
+    }
+
     @Override
     protected Props getPublisherActorProps() {
         return HttpPublisherActor.props(TestConstants.createConnection(), httpPushFactory);
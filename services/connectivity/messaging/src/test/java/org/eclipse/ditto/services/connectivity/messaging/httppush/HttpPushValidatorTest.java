@@ -105,6 +105,24 @@ public final class HttpPushValidatorTest {
         verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithTarget("DELETE:/bar"));
     }
 
+    @Test
+    public void testInvalidSpecificConfig() {
+        for (final String key : new String[]{HttpPushFactory.PARALLELISM, HttpPushFactory.PIPELINING_LIMIT,
+                HttpPushFactory.BATCH_SIZE, HttpPushFactory.BATCH_TIMEOUT_MILLIS, HttpPushFactory.BATCH_MAX_BYTES}) {
+            final Map<String, String> specificConfig = new HashMap<>(defaultSpecificConfig);
+            specificConfig.put(key, "0");
+            verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithTarget("POST:events")
+                    .toBuilder()
+                    .specificConfig(specificConfig)
+                    .build());
+            specificConfig.put(key, "many");
+            verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithTarget("POST:events")
+                    .toBuilder()
+                    .specificConfig(specificConfig)
+                    .build());
+        }
+    }
+
     private static Connection getConnectionWithTarget(final String target) {
         return getConnectionWithHostAndTarget("8.8.4.4", target);
     }
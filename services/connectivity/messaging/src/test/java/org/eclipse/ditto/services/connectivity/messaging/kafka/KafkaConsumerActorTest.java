@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableExternalMessage;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ConnectionFailure;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Status;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.stream.javadsl.Sink;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link KafkaConsumerActor}.
+ */
+public final class KafkaConsumerActorTest {
+
+    private static final ConnectionId CONNECTION_ID = TestConstants.createRandomConnectionId();
+    private static final String TOPIC = "anyTopic";
+
+    private final List<ConsumerMessage.Committable> committed = new CopyOnWriteArrayList<>();
+
+    private ActorSystem actorSystem;
+    private KafkaConnectionFactory connectionFactory;
+    private ConsumerMessage.CommittableOffset committableOffset;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", TestConstants.CONFIG);
+        committableOffset = mock(ConsumerMessage.CommittableOffset.class);
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS),
+                    false);
+        }
+    }
+
+    @Test
+    public void forwardsBytePayloadAndCommitsOffsetAfterAcknowledgement() {
+        new TestKit(actorSystem) {{
+            final byte[] payload = {(byte) 0xca, (byte) 0xfe, 0x00, (byte) 0xff};
+            setupConnectionFactory(payload);
+            final TestKit mappingActor = new TestKit(actorSystem);
+
+            childActorOf(KafkaConsumerActor.props(CONNECTION_ID, mappingActor.getRef(), getSource(),
+                    connectionFactory));
+
+            final AcknowledgeableExternalMessage message =
+                    mappingActor.expectMsgClass(AcknowledgeableExternalMessage.class);
+            final ExternalMessage externalMessage = message.getExternalMessage();
+            assertThat(externalMessage.isBytesMessage()).isTrue();
+            assertThat(externalMessage.getTextPayload()).isEmpty();
+            assertThat(externalMessage.getBytePayload()).contains(ByteBuffer.wrap(payload));
+            assertThat(externalMessage.getHeaders()).containsEntry("content-type", "application/octet-stream");
+            assertThat(externalMessage.getSourceAddress()).contains(TOPIC);
+            assertThat(committed).isEmpty();
+
+            mappingActor.reply(Done.getInstance());
+
+            Awaitility.await().until(() -> !committed.isEmpty());
+            assertThat(committed).containsExactly(committableOffset);
+        }};
+    }
+
+    @Test
+    public void doesNotCommitOffsetOfRecordRejectedByMappingPipeline() {
+        new TestKit(actorSystem) {{
+            setupConnectionFactory("payload".getBytes(StandardCharsets.UTF_8));
+            final TestKit mappingActor = new TestKit(actorSystem);
+
+            childActorOf(KafkaConsumerActor.props(CONNECTION_ID, mappingActor.getRef(), getSource(),
+                    connectionFactory));
+
+            mappingActor.expectMsgClass(AcknowledgeableExternalMessage.class);
+            mappingActor.reply(new Status.Failure(new IllegalStateException("not enqueued")));
+
+            // the client actor reconnects and consumes the record again from the last committed offset
+            expectMsgClass(ConnectionFailure.class);
+            assertThat(committed).isEmpty();
+        }};
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setupConnectionFactory(final byte[] payload) {
+        final ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(TOPIC, 0, 42L, "key", payload);
+        record.headers()
+                .add(new RecordHeader("content-type",
+                        "application/octet-stream".getBytes(StandardCharsets.UTF_8)));
+        final ConsumerMessage.CommittableMessage<String, byte[]> message =
+                new ConsumerMessage.CommittableMessage<>(record, committableOffset);
+        final akka.stream.javadsl.Source<ConsumerMessage.CommittableMessage<String, byte[]>, akka.NotUsed> partition =
+                akka.stream.javadsl.Source.single(message)
+                        .concat(akka.stream.javadsl.Source.maybe());
+
+        connectionFactory = mock(KafkaConnectionFactory.class);
+        when(connectionFactory.newPartitionedSource(any()))
+                .thenReturn(akka.stream.javadsl.Source.single(Pair.create(new TopicPartition(TOPIC, 0), partition))
+                        .concat(akka.stream.javadsl.Source.maybe())
+                        .mapMaterializedValue(notUsed -> mock(Consumer.Control.class)));
+        when(connectionFactory.newCommitterSink()).thenReturn(Sink.foreach(committed::add));
+        when(connectionFactory.maxPartitions()).thenReturn(2);
+    }
+
+    private static Source getSource() {
+        return ConnectivityModelFactory.newSourceBuilder()
+                .address(TOPIC)
+                .authorizationContext(TestConstants.Authorization.SOURCE_SPECIFIC_CONTEXT)
+                .index(0)
+                .build();
+    }
+
+}
@@ -77,11 +77,21 @@ public final class KafkaValidatorTest {
     }
 
     @Test
-    public void testSourcesAreInvalid() {
-        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "any");
+    public void testValidSourceAddresses() {
+        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "events");
 
+        underTest.validateSource(source, DittoHeaders.empty(), () -> "");
+    }
+
+    @Test
+    public void testInvalidSourceAddresses() {
+        final Source emptySource = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "");
+        final Source invalidSource = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "ditto*a");
+
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateSource(emptySource, DittoHeaders.empty(), () -> ""));
         assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
-                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+                .isThrownBy(() -> underTest.validateSource(invalidSource, DittoHeaders.empty(), () -> ""));
     }
 
     @Test
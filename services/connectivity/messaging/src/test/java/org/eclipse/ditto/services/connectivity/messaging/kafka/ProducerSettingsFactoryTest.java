@@ -88,7 +88,7 @@ public final class ProducerSettingsFactoryTest {
 
     @Test
     public void addsBootstrapServers() {
-        final ProducerSettings<String, String> settings = underTest.getProducerSettings();
+        final ProducerSettings<String, byte[]> settings = underTest.getProducerSettings();
 
         final scala.collection.immutable.Map<String, String> properties = settings.properties();
         final List<String> servers = properties.get(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG)
@@ -98,4 +98,26 @@ public final class ProducerSettingsFactoryTest {
         assertThat(servers).containsExactlyInAnyOrder(BOOTSTRAP_SERVERS);
     }
 
+    @Test
+    public void addsBatchingAndCompression() {
+        final ProducerSettings<String, byte[]> settings = underTest.getProducerSettings();
+
+        final scala.collection.immutable.Map<String, String> properties = settings.properties();
+
+        assertThat(properties.get(ProducerConfig.BATCH_SIZE_CONFIG).get())
+                .isEqualTo(String.valueOf(kafkaConfig.getProducerBatchSize()));
+        assertThat(properties.get(ProducerConfig.LINGER_MS_CONFIG).get())
+                .isEqualTo(String.valueOf(kafkaConfig.getProducerLinger().toMillis()));
+        assertThat(properties.get(ProducerConfig.COMPRESSION_TYPE_CONFIG).get())
+                .isEqualTo(kafkaConfig.getProducerCompressionType());
+    }
+
+    @Test
+    public void addsConfiguredAcks() {
+        final ProducerSettings<String, byte[]> settings = underTest.getProducerSettings();
+
+        assertThat(settings.properties().get(ProducerConfig.ACKS_CONFIG).get())
+                .isEqualTo(kafkaConfig.getProducerAcks());
+    }
+
 }
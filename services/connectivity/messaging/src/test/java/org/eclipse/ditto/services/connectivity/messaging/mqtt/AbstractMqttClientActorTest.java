@@ -43,6 +43,7 @@ import org.eclipse.ditto.model.connectivity.Topic;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractBaseClientActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
+import org.eclipse.ditto.services.connectivity.messaging.MockConciergeForwarderActor;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
@@ -307,7 +308,8 @@ public abstract class AbstractMqttClientActorTest<M> extends AbstractBaseClientA
                             .build();
 
             final ConnectionId connectionId = TestConstants.createRandomConnectionId();
-            final Props props = createClientActorWithMessages(multipleSources, getRef(), mockMessages);
+            final Props props = createClientActorWithMessages(multipleSources,
+                    MockConciergeForwarderActor.unbatching(actorSystem, getRef()), mockMessages);
             final ActorRef underTest = actorSystem.actorOf(props);
 
             underTest.tell(OpenConnection.of(connectionId, DittoHeaders.empty()), controlProbe.ref());
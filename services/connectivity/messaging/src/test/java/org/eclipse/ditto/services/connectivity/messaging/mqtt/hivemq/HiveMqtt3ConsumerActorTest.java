@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.mqtt.hivemq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableExternalMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Status;
+import akka.testkit.javadsl.TestKit;
+import io.reactivex.Flowable;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Unit test for {@link HiveMqtt3ConsumerActor}.
+ */
+public final class HiveMqtt3ConsumerActorTest {
+
+    private static final ConnectionId CONNECTION_ID = TestConstants.createRandomConnectionId();
+    private static final String TOPIC = "eclipse/ditto";
+    private static final FiniteDuration NO_MESSAGE_TIMEOUT = FiniteDuration.apply(300, TimeUnit.MILLISECONDS);
+    private static final long ACKNOWLEDGEMENT_TIMEOUT_MILLIS = 3000L;
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", TestConstants.CONFIG);
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS),
+                    false);
+        }
+    }
+
+    @Test
+    public void requestsNextPublishOnlyAfterAcknowledgement() {
+        new TestKit(actorSystem) {{
+            final AtomicLong requested = new AtomicLong();
+            final List<Mqtt3Publish> messages = Stream.of("message-0", "message-1", "message-2")
+                    .map(HiveMqtt3ConsumerActorTest::mqttMessage)
+                    .collect(Collectors.toList());
+            final Flowable<Mqtt3Publish> publishes = Flowable.fromIterable(messages)
+                    .concatWith(Flowable.never())
+                    .doOnRequest(requested::addAndGet);
+            final TestKit mappingActor = new TestKit(actorSystem);
+            final ActorRef underTest = childActorOf(
+                    HiveMqtt3ConsumerActor.props(CONNECTION_ID, mappingActor.getRef(), getSource(), false, 1));
+
+            underTest.tell(new HiveMqtt3ConsumerActor.ConsumePublishes(publishes), ActorRef.noSender());
+
+            final AcknowledgeableExternalMessage first =
+                    mappingActor.expectMsgClass(AcknowledgeableExternalMessage.class);
+            assertThat(first.getExternalMessage().getTextPayload()).contains("message-0");
+            assertThat(first.getExternalMessage().getHeaders()).containsEntry("mqtt.topic", TOPIC);
+            mappingActor.expectNoMessage(NO_MESSAGE_TIMEOUT);
+            verify(messages.get(0), never()).acknowledge();
+            final long requestedBeforeAcknowledgement = requested.get();
+
+            mappingActor.reply(Done.getInstance());
+            final AcknowledgeableExternalMessage second =
+                    mappingActor.expectMsgClass(AcknowledgeableExternalMessage.class);
+            assertThat(second.getExternalMessage().getTextPayload()).contains("message-1");
+            assertThat(requested.get()).isGreaterThan(requestedBeforeAcknowledgement);
+            verify(messages.get(0)).acknowledge();
+
+            // a rejected message is acknowledged towards the broker so that later acknowledgements are not held back
+            mappingActor.reply(new Status.Failure(new IllegalStateException("not enqueued")));
+            final AcknowledgeableExternalMessage third =
+                    mappingActor.expectMsgClass(AcknowledgeableExternalMessage.class);
+            assertThat(third.getExternalMessage().getTextPayload()).contains("message-2");
+            verify(messages.get(1), timeout(ACKNOWLEDGEMENT_TIMEOUT_MILLIS)).acknowledge();
+
+            mappingActor.reply(Done.getInstance());
+            verify(messages.get(2), timeout(ACKNOWLEDGEMENT_TIMEOUT_MILLIS)).acknowledge();
+        }};
+    }
+
+    @Test
+    public void dropsPublishesInDryRunMode() {
+        new TestKit(actorSystem) {{
+            final TestKit mappingActor = new TestKit(actorSystem);
+            final ActorRef underTest = childActorOf(
+                    HiveMqtt3ConsumerActor.props(CONNECTION_ID, mappingActor.getRef(), getSource(), true, 1));
+
+            underTest.tell(new HiveMqtt3ConsumerActor.ConsumePublishes(
+                    Flowable.just(mqttMessage("first"), mqttMessage("second"))), ActorRef.noSender());
+
+            mappingActor.expectNoMessage(NO_MESSAGE_TIMEOUT);
+        }};
+    }
+
+    private static Mqtt3Publish mqttMessage(final String payload) {
+        return MockHiveMqtt3ClientFactory.manuallyAcknowledgeable(Mqtt3Publish.builder()
+                .topic(TOPIC)
+                .payload(ByteBuffer.wrap(payload.getBytes(StandardCharsets.UTF_8)))
+                .build());
+    }
+
+    private static Source getSource() {
+        return ConnectivityModelFactory.newSourceBuilder()
+                .address(TOPIC)
+                .authorizationContext(TestConstants.Authorization.SOURCE_SPECIFIC_CONTEXT)
+                .index(0)
+                .build();
+    }
+
+}
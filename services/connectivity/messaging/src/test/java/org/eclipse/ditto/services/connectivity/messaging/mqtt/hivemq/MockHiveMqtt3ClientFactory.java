@@ -13,7 +13,10 @@
 package org.eclipse.ditto.services.connectivity.messaging.mqtt.hivemq;
 
 import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
@@ -24,13 +27,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ForkJoinPool;
-import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.mockito.Mockito;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import com.hivemq.client.mqtt.datatypes.MqttTopic;
 import com.hivemq.client.mqtt.datatypes.MqttTopicFilter;
@@ -38,12 +41,18 @@ import com.hivemq.client.mqtt.lifecycle.MqttClientConnectedListener;
 import com.hivemq.client.mqtt.lifecycle.MqttClientDisconnectedListener;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3AsyncClient;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3Client;
+import com.hivemq.client.mqtt.mqtt3.Mqtt3RxClient;
 import com.hivemq.client.mqtt.mqtt3.lifecycle.Mqtt3ClientConnectedContext;
 import com.hivemq.client.mqtt.mqtt3.message.connect.Mqtt3ConnectBuilder;
 import com.hivemq.client.mqtt.mqtt3.message.connect.connack.Mqtt3ConnAck;
 import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
 import com.hivemq.client.mqtt.mqtt3.message.subscribe.Mqtt3Subscribe;
 import com.hivemq.client.mqtt.mqtt3.message.subscribe.suback.Mqtt3SubAck;
+import com.hivemq.client.rx.FlowableWithSingle;
+import com.hivemq.client.rx.reactivestreams.WithSingleSubscriber;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableSubscriber;
 
 import akka.actor.ActorRef;
 
@@ -134,22 +143,11 @@ class MockHiveMqtt3ClientFactory implements HiveMqtt3ClientFactory {
         when(client.toAsync().disconnect()).thenReturn(disconnectFuture);
 
         // mock subscribe
-        when(client.toAsync().subscribe(any(Mqtt3Subscribe.class), any(Consumer.class))).thenAnswer(i -> {
-            if (!subscribeFuture.isCompletedExceptionally()) {
-                // try to send messages for this topic
-                final Mqtt3Subscribe sub = i.getArgument(0);
-                final Consumer<Mqtt3Publish> consumer = i.getArgument(1);
-
-                sub.getSubscriptions().forEach(s -> {
-                    final MqttTopicFilter topicFilter = s.getTopicFilter();
-
-                    messages.entrySet().stream()
-                            .filter(e -> topicFilter.matches(MqttTopic.of(e.getKey())))
-                            .flatMap(e -> e.getValue().stream())
-                            .forEach(m -> ForkJoinPool.commonPool().execute(() -> consumer.accept(m)));
-                });
-            }
-            return subscribeFuture;
+        final Mqtt3RxClient rx = mock(Mqtt3RxClient.class);
+        when(client.toRx()).thenReturn(rx);
+        when(rx.subscribePublishes(any(Mqtt3Subscribe.class), anyBoolean())).thenAnswer(i -> {
+            final Mqtt3Subscribe sub = i.getArgument(0);
+            return new MockFlowableWithSingle(sub);
         });
 
         // mock publish
@@ -164,4 +162,78 @@ class MockHiveMqtt3ClientFactory implements HiveMqtt3ClientFactory {
         return client;
     }
 
+    /**
+     * Wraps a publish so that it can be acknowledged like the publishes of a subscription with manual acknowledgement.
+     *
+     * @param publish the publish.
+     * @return the wrapped publish; acknowledging it does nothing.
+     */
+    static Mqtt3Publish manuallyAcknowledgeable(final Mqtt3Publish publish) {
+        final Mqtt3Publish acknowledgeable = mock(Mqtt3Publish.class, delegatesTo(publish));
+        doNothing().when(acknowledgeable).acknowledge();
+        return acknowledgeable;
+    }
+
+    /**
+     * Emits the messages matching a subscription on demand after the subscription was acknowledged.
+     */
+    private final class MockFlowableWithSingle extends FlowableWithSingle<Mqtt3Publish, Mqtt3SubAck> {
+
+        private final Flowable<Mqtt3Publish> publishes;
+
+        private MockFlowableWithSingle(final Mqtt3Subscribe sub) {
+            if (subscribeFuture.isCompletedExceptionally()) {
+                publishes = Flowable.fromFuture(subscribeFuture).ignoreElements().toFlowable();
+            } else {
+                // try to send messages for this topic
+                final List<Mqtt3Publish> matchingMessages = new LinkedList<>();
+                sub.getSubscriptions().forEach(s -> {
+                    final MqttTopicFilter topicFilter = s.getTopicFilter();
+                    messages.entrySet().stream()
+                            .filter(e -> topicFilter.matches(MqttTopic.of(e.getKey())))
+                            .flatMap(e -> e.getValue().stream())
+                            .map(MockHiveMqtt3ClientFactory::manuallyAcknowledgeable)
+                            .forEach(matchingMessages::add);
+                });
+                publishes = Flowable.fromIterable(matchingMessages).concatWith(Flowable.never());
+            }
+        }
+
+        @Override
+        protected void subscribeBothActual(
+                final WithSingleSubscriber<? super Mqtt3Publish, ? super Mqtt3SubAck> subscriber) {
+
+            publishes.subscribe(new FlowableSubscriber<Mqtt3Publish>() {
+                @Override
+                public void onSubscribe(final Subscription subscription) {
+                    subscriber.onSubscribe(subscription);
+                    if (!subscribeFuture.isCompletedExceptionally()) {
+                        subscriber.onSingle(subscribeFuture.join());
+                    }
+                }
+
+                @Override
+                public void onNext(final Mqtt3Publish publish) {
+                    subscriber.onNext(publish);
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    subscriber.onError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    subscriber.onComplete();
+                }
+            });
+        }
+
+        @Override
+        protected void subscribeActual(final Subscriber<? super Mqtt3Publish> subscriber) {
+            publishes.subscribe(subscriber);
+        }
+
+    }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.ditto.services.connectivity.messaging.config.ClientScalingConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ClientLoad;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ClientCountScaler}.
+ */
+public final class ClientCountScalerTest {
+
+    private static final ClientLoad IDLE = ClientLoad.of(0L, Duration.ofMillis(1L));
+    private static final ClientLoad MODERATE = ClientLoad.of(50L, Duration.ofMillis(30L));
+    private static final ClientLoad BACKLOGGED = ClientLoad.of(1000L, Duration.ofMillis(1L));
+    private static final ClientLoad SLOW = ClientLoad.of(0L, Duration.ofSeconds(1L));
+
+    private ClientCountScaler underTest;
+
+    @Before
+    public void setUp() {
+        final ClientScalingConfig config = mock(ClientScalingConfig.class);
+        when(config.getMaxClientCount()).thenReturn(3);
+        when(config.getScaleUpQueueDepth()).thenReturn(100L);
+        when(config.getScaleUpLatency()).thenReturn(Duration.ofMillis(100L));
+        when(config.getScaleDownQueueDepth()).thenReturn(10L);
+        when(config.getScaleDownLatency()).thenReturn(Duration.ofMillis(10L));
+        underTest = new ClientCountScaler(config);
+    }
+
+    @Test
+    public void keepsClientCountWithoutLoadReports() {
+        assertThat(underTest.nextClientCount(2, 1, Collections.emptyList())).isEqualTo(2);
+    }
+
+    @Test
+    public void addsClientIfQueueDepthOrLatencyIsHigh() {
+        assertThat(underTest.nextClientCount(1, 1, Collections.singletonList(BACKLOGGED))).isEqualTo(2);
+        assertThat(underTest.nextClientCount(1, 1, Collections.singletonList(SLOW))).isEqualTo(2);
+    }
+
+    @Test
+    public void doesNotExceedMaxClientCount() {
+        assertThat(underTest.nextClientCount(3, 1, Arrays.asList(BACKLOGGED, BACKLOGGED, BACKLOGGED)))
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void removesClientOnlyIfAllClientsAreIdle() {
+        assertThat(underTest.nextClientCount(3, 1, Arrays.asList(IDLE, IDLE, IDLE))).isEqualTo(2);
+        assertThat(underTest.nextClientCount(3, 1, Arrays.asList(IDLE, IDLE))).isEqualTo(3);
+    }
+
+    @Test
+    public void keepsClientCountBetweenThresholds() {
+        assertThat(underTest.nextClientCount(2, 1, Arrays.asList(MODERATE, MODERATE))).isEqualTo(2);
+    }
+
+    @Test
+    public void doesNotFallBelowClientCountOfConnection() {
+        assertThat(underTest.nextClientCount(2, 2, Arrays.asList(IDLE, IDLE))).isEqualTo(2);
+    }
+
+    @Test
+    public void clientCountOfConnectionAboveMaxClientCountIsKept() {
+        assertThat(underTest.nextClientCount(5, 5, Arrays.asList(BACKLOGGED, BACKLOGGED))).isEqualTo(5);
+    }
+
+}
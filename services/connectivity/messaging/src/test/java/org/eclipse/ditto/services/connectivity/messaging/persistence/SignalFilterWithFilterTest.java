@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.connectivity.messaging.persistence;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.ditto.model.base.auth.AuthorizationModelFactory.newAuthContext;
 import static org.eclipse.ditto.model.base.auth.AuthorizationModelFactory.newAuthSubject;
 import static org.eclipse.ditto.model.connectivity.Topic.LIVE_EVENTS;
@@ -25,6 +26,7 @@ import java.util.List;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
@@ -247,4 +249,34 @@ public final class SignalFilterWithFilterTest {
         assertThat(filteredTargets).containsOnly(targetA, targetD); // THEN: only targetA and targetD should be in the filtered targets
     }
 
+    @Test
+    public void invalidRqlFilterFailsOnFilteringInsteadOfCreation() {
+        final Target target = ConnectivityModelFactory.newTargetBuilder()
+                .address("twin/a")
+                .authorizationContext(newAuthContext(AUTHORIZED))
+                .headerMapping(HEADER_MAPPING)
+                .topics(ConnectivityModelFactory.newFilteredTopicBuilder(TWIN_EVENTS)
+                        .withFilter("gt(attributes/test")
+                        .build())
+                .build();
+        final Connection connection = ConnectivityModelFactory
+                .newConnectionBuilder(CONNECTION_ID, ConnectionType.AMQP_10, ConnectivityStatus.OPEN, URI)
+                .targets(List.of(target))
+                .build();
+        final Thing thing = Thing.newBuilder()
+                .setId(THING_ID)
+                .setAttribute(JsonPointer.of("test"), JsonValue.of(42))
+                .build();
+        final DittoHeaders headers = DittoHeaders.newBuilder()
+                .correlationId("invalid-filter")
+                .readGrantedSubjects(List.of(AUTHORIZED))
+                .build();
+
+        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry);
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> signalFilter.filter(ThingModified.of(thing, 3L, headers)))
+                .satisfies(error -> assertThat(error.getDittoHeaders().getCorrelationId()).contains("invalid-filter"));
+    }
+
 }
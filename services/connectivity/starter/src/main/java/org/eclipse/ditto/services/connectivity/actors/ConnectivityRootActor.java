@@ -100,7 +100,7 @@ public final class ConnectivityRootActor extends DittoRootActor {
         final ActorRef conciergeForwarder =
                 getConciergeForwarder(clusterConfig, pubSubMediator, conciergeForwarderSignalTransformer);
 
-        final DittoProtocolSub dittoProtocolSub = DittoProtocolSub.of(getContext());
+        final DittoProtocolSub dittoProtocolSub = DittoProtocolSub.get(getContext().getSystem());
         final Props connectionSupervisorProps =
                 getConnectionSupervisorProps(dittoProtocolSub, conciergeForwarder, commandValidator, pubSubMediator);
 
@@ -140,6 +140,12 @@ public final class ConnectionPersistenceOperationsActorIT extends MongoEventSour
                 return CompletableFuture.completedFuture(null);
             }
 
+            @Override
+            public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
+                    final Collection<String> topics, final ActorRef subscriber, final String group) {
+                return CompletableFuture.completedFuture(null);
+            }
+
             @Override
             public void removeSubscriber(final ActorRef subscriber) {
 
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+import static org.eclipse.ditto.services.gateway.util.FireAndForgetMessageUtil.isFireAndForgetMessage;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.messages.MessageTimeoutException;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.messages.MessageCommand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.Status;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+
+/**
+ * Actor-less alternative to {@link HttpRequestActor}: it sends the command of an HTTP request to the proxy actor via
+ * {@link Patterns#ask(ActorRef, Object, Duration)} and renders the answer into an HTTP response. Instead of creating,
+ * scheduling and stopping one actor per request, each request only allocates the temporary reference of the ask
+ * pattern. Timeout, acknowledgement and error semantics are the same as those of {@link HttpRequestActor}.
+ */
+@ThreadSafe
+public final class AskingHttpRequestHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AskingHttpRequestHandler.class);
+
+    private final ActorRef proxyActor;
+    private final HeaderTranslator headerTranslator;
+    private final HttpConfig httpConfig;
+
+    private AskingHttpRequestHandler(final ActorRef proxyActor, final HeaderTranslator headerTranslator,
+            final HttpConfig httpConfig) {
+
+        this.proxyActor = proxyActor;
+        this.headerTranslator = headerTranslator;
+        this.httpConfig = httpConfig;
+    }
+
+    /**
+     * Create a handler of HTTP requests.
+     *
+     * @param proxyActor the proxy actor which delegates commands.
+     * @param headerTranslator the header translator used to map Ditto headers to external HTTP headers.
+     * @param httpConfig the configuration settings of the Gateway service's HTTP endpoint.
+     * @return the handler.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static AskingHttpRequestHandler of(final ActorRef proxyActor, final HeaderTranslator headerTranslator,
+            final HttpConfig httpConfig) {
+
+        return new AskingHttpRequestHandler(checkNotNull(proxyActor, "proxyActor"),
+                checkNotNull(headerTranslator, "headerTranslator"),
+                checkNotNull(httpConfig, "httpConfig"));
+    }
+
+    /**
+     * Handle the outcome of parsing an HTTP request into a command.
+     * The returned future is never completed if the proxy actor does not answer within the request timeout; the
+     * response is then created by the request timeout handling of the route as it is for {@link HttpRequestActor}.
+     *
+     * @param request the HTTP request.
+     * @param commandOrException the command of the request or a Ditto runtime exception to respond with.
+     * @param error the error why parsing the request failed, or {@code null}.
+     * @return future HTTP response.
+     */
+    public CompletionStage<HttpResponse> handle(final HttpRequest request,
+            @Nullable final Object commandOrException,
+            @Nullable final Throwable error) {
+
+        final HttpResponseRenderer renderer = HttpResponseRenderer.of(headerTranslator, httpConfig, request);
+        if (error != null) {
+            return CompletableFuture.completedFuture(renderer.renderRequestFailure(unwrap(error)));
+        } else if (commandOrException instanceof Command) {
+            return askProxyActor((Command<?>) commandOrException, renderer);
+        } else if (commandOrException instanceof DittoRuntimeException) {
+            return CompletableFuture.completedFuture(
+                    renderer.renderDittoRuntimeException((DittoRuntimeException) commandOrException));
+        } else {
+            LOGGER.warn("Got unknown message, expected a 'Command': {}", commandOrException);
+            return CompletableFuture.completedFuture(renderer.render(commandOrException));
+        }
+    }
+
+    private CompletionStage<HttpResponse> askProxyActor(final Command<?> command,
+            final HttpResponseRenderer renderer) {
+
+        @Nullable final Duration messageTimeout;
+        if (command instanceof MessageCommand) {
+            final MessageCommand<?, ?> messageCommand = (MessageCommand<?, ?>) command;
+            LogUtil.logWithCorrelationId(LOGGER, command, logger ->
+                    logger.info("Got <{}> with subject <{}>, asking the targetActor about it.", command.getType(),
+                            messageCommand.getMessage().getSubject()));
+            messageTimeout = isFireAndForgetMessage(messageCommand)
+                    ? null
+                    : messageCommand.getMessage().getTimeout().orElse(null);
+        } else if (!command.getDittoHeaders().isResponseRequired()) {
+            proxyActor.tell(command, ActorRef.noSender());
+            return CompletableFuture.completedFuture(HttpResponse.create().withStatus(StatusCodes.ACCEPTED));
+        } else {
+            messageTimeout = null;
+        }
+
+        final Duration timeout = messageTimeout != null ? messageTimeout : httpConfig.getRequestTimeout();
+        return Patterns.ask(proxyActor, command, timeout)
+                .handle((answer, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.completedFuture(renderer.render(answer));
+                    }
+                    final Throwable cause = unwrap(error);
+                    if (cause instanceof AskTimeoutException) {
+                        return handleTimeout(command, messageTimeout, renderer);
+                    } else {
+                        return CompletableFuture.completedFuture(renderer.render(new Status.Failure(cause)));
+                    }
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private CompletionStage<HttpResponse> handleTimeout(final Command<?> command,
+            @Nullable final Duration messageTimeout,
+            final HttpResponseRenderer renderer) {
+
+        if (messageTimeout != null) {
+            LogUtil.logWithCorrelationId(LOGGER, command, logger ->
+                    logger.info("Got no message response after timeout <{}>.", messageTimeout));
+            return CompletableFuture.completedFuture(
+                    renderer.renderDittoRuntimeException(new MessageTimeoutException(messageTimeout.getSeconds())));
+        } else {
+            LogUtil.logWithCorrelationId(LOGGER, command, logger ->
+                    logger.warn("No response within server request timeout (<{}>).", httpConfig.getRequestTimeout()));
+            // note that we do not need to send a response here, this is handled by RequestTimeoutHandlingDirective
+            return new CompletableFuture<>();
+        }
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+}
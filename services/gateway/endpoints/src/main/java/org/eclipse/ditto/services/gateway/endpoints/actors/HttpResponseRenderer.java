@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.messages.Message;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
+import org.eclipse.ditto.services.gateway.endpoints.utils.JsonChunks;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.signals.base.WithOptionalEntity;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.ErrorResponse;
+import org.eclipse.ditto.signals.commands.base.WithEntity;
+import org.eclipse.ditto.signals.commands.messages.MessageCommandResponse;
+import org.eclipse.ditto.signals.commands.messages.SendMessageAcceptedResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.NotUsed;
+import akka.actor.Status;
+import akka.http.javadsl.model.ContentType;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.ResponseEntity;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.model.Uri;
+import akka.http.javadsl.model.headers.Location;
+import akka.http.javadsl.model.headers.RawHeader;
+import akka.http.scaladsl.model.ContentType$;
+import akka.http.scaladsl.model.EntityStreamSizeException;
+import akka.pattern.AskTimeoutException;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+import scala.util.Either;
+
+/**
+ * Renders the answers to a command of one HTTP request into an HTTP response. Shared by
+ * {@link AbstractHttpRequestActor} and {@link AskingHttpRequestHandler} so that both ways of handling HTTP requests
+ * produce identical responses.
+ */
+@Immutable
+final class HttpResponseRenderer {
+
+    private static final ContentType CONTENT_TYPE_JSON = ContentTypes.APPLICATION_JSON;
+    private static final ContentType CONTENT_TYPE_TEXT = ContentTypes.TEXT_PLAIN_UTF8;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseRenderer.class);
+
+    private final HeaderTranslator headerTranslator;
+    private final int responseChunkSize;
+    private final BiFunction<CommandResponse, HttpResponse, HttpResponse> responseModifier;
+
+    private HttpResponseRenderer(final HeaderTranslator headerTranslator,
+            final int responseChunkSize,
+            final BiFunction<CommandResponse, HttpResponse, HttpResponse> responseModifier) {
+
+        this.headerTranslator = headerTranslator;
+        this.responseChunkSize = responseChunkSize;
+        this.responseModifier = responseModifier;
+    }
+
+    /**
+     * Create a renderer which adds the default {@code Location} header to responses with status {@code 201 Created}.
+     *
+     * @param headerTranslator translator of Ditto headers into external headers.
+     * @param httpConfig the configuration settings of the Gateway service's HTTP endpoint.
+     * @param request the HTTP request.
+     * @return the renderer.
+     */
+    static HttpResponseRenderer of(final HeaderTranslator headerTranslator, final HttpConfig httpConfig,
+            final HttpRequest request) {
+
+        return of(headerTranslator, httpConfig, (commandResponse, response) ->
+                addDefaultLocationHeader(request, commandResponse, response));
+    }
+
+    /**
+     * Create a renderer with a custom modification of responses to commands with optional entities.
+     *
+     * @param headerTranslator translator of Ditto headers into external headers.
+     * @param httpConfig the configuration settings of the Gateway service's HTTP endpoint.
+     * @param responseModifier modifies the candidate HTTP response according to the command response.
+     * @return the renderer.
+     */
+    static HttpResponseRenderer of(final HeaderTranslator headerTranslator,
+            final HttpConfig httpConfig,
+            final BiFunction<CommandResponse, HttpResponse, HttpResponse> responseModifier) {
+
+        return new HttpResponseRenderer(headerTranslator, httpConfig.getResponseChunkSize(), responseModifier);
+    }
+
+    /**
+     * Add a {@code Location} header to the response if the command response has the status {@code 201 Created}.
+     *
+     * @param request the HTTP request.
+     * @param commandResponse the command response to the HTTP request.
+     * @param response the candidate HTTP response.
+     * @return the modified HTTP response.
+     */
+    static HttpResponse addDefaultLocationHeader(final HttpRequest request,
+            final CommandResponse commandResponse,
+            final HttpResponse response) {
+
+        if (HttpStatusCode.CREATED == commandResponse.getStatusCode()) {
+            return response.addHeader(Location.create(getDefaultUriForLocationHeader(request, commandResponse)));
+        } else {
+            return response;
+        }
+    }
+
+    /**
+     * Compute the URI of the {@code Location} header of a created entity.
+     *
+     * @param request the HTTP request.
+     * @param commandResponse the command response to the HTTP request.
+     * @return the URI of the created entity.
+     */
+    static Uri getDefaultUriForLocationHeader(final HttpRequest request, final CommandResponse commandResponse) {
+        if (!request.method().isIdempotent()) {
+            // only for not idempotent requests (e.g.: POST), add the "createdId" to the path:
+            final String uriStr = request.getUri().toString();
+            String createdLocation;
+            final int uriIdIndex = uriStr.indexOf(commandResponse.getEntityId().toString());
+
+            // if the URI contains the ID, but *not* at the beginning
+            if (uriIdIndex > 0) {
+                createdLocation = uriStr.substring(0, uriIdIndex) + commandResponse.getEntityId() +
+                        commandResponse.getResourcePath();
+            } else {
+                createdLocation = uriStr + "/" + commandResponse.getEntityId() + commandResponse.getResourcePath();
+            }
+
+            if (createdLocation.endsWith("/")) {
+                createdLocation = createdLocation.substring(0, createdLocation.length() - 1);
+            }
+
+            return Uri.create(createdLocation);
+        } else {
+            return request.getUri();
+        }
+    }
+
+    /**
+     * Render a message received as answer to a command into an HTTP response.
+     *
+     * @param message the answer: an HTTP response, a command response, an exception or a failure.
+     * @return the HTTP response.
+     */
+    HttpResponse render(final Object message) {
+        if (message instanceof HttpResponse) {
+            // if an actor downstream replies with an HTTP response, simply forward it.
+            return (HttpResponse) message;
+        } else if (message instanceof SendMessageAcceptedResponse) {
+            return HttpResponse.create().withStatus(HttpStatusCode.ACCEPTED.toInt());
+        } else if (message instanceof MessageCommandResponse) {
+            return renderMessageCommandResponse((MessageCommandResponse<?, ?>) message);
+        } else if (message instanceof CommandResponse &&
+                (message instanceof WithEntity || message instanceof WithOptionalEntity)) {
+            return renderCommandResponse((CommandResponse<?>) message);
+        } else if (message instanceof ErrorResponse) {
+            return renderDittoRuntimeException(((ErrorResponse<?>) message).getDittoRuntimeException());
+        } else if (message instanceof CommandResponse) {
+            LogUtil.logWithCorrelationId(LOGGER, (CommandResponse<?>) message, logger ->
+                    logger.error("Got 'CommandResponse' message which did neither implement 'WithEntity' nor " +
+                            "'WithOptionalEntity': <{}>!", message));
+            return HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+        } else if (message instanceof JsonRuntimeException) {
+            return renderDittoRuntimeException(new DittoJsonException((JsonRuntimeException) message));
+        } else if (message instanceof DittoRuntimeException) {
+            return renderDittoRuntimeException((DittoRuntimeException) message);
+        } else if (message instanceof Status.Failure) {
+            return renderFailure(((Status.Failure) message).cause());
+        } else {
+            LOGGER.warn("Got unknown message when a command response was expected: <{}>!", message);
+            return HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+        }
+    }
+
+    /**
+     * Render a failure to construct the command of an HTTP request into an HTTP response.
+     *
+     * @param cause the reason why no command could be constructed.
+     * @return the HTTP response.
+     */
+    HttpResponse renderRequestFailure(final Throwable cause) {
+        if (cause instanceof JsonRuntimeException) {
+            // wrap JsonRuntimeExceptions
+            return renderDittoRuntimeException(new DittoJsonException((RuntimeException) cause));
+        } else if (cause instanceof DittoRuntimeException) {
+            return renderDittoRuntimeException((DittoRuntimeException) cause);
+        } else if (cause instanceof EntityStreamSizeException) {
+            LOGGER.warn("Got EntityStreamSizeException when a 'Command' was expected which means that the max. " +
+                    "allowed http payload size configured in Akka was overstepped in this request.");
+            return HttpResponse.create().withStatus(HttpStatusCode.REQUEST_ENTITY_TOO_LARGE.toInt());
+        } else {
+            LOGGER.error("Got unknown Status.Failure when a 'Command' was expected.", cause);
+            return HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+        }
+    }
+
+    /**
+     * Render a Ditto runtime exception into an HTTP response.
+     *
+     * @param exception the exception.
+     * @return the HTTP response.
+     */
+    HttpResponse renderDittoRuntimeException(final DittoRuntimeException exception) {
+        LogUtil.logWithCorrelationId(LOGGER, exception, logger -> logger.info("DittoRuntimeException <{}>: <{}>.",
+                exception.getErrorCode(), exception.getMessage()));
+        final HttpResponse responseWithoutHeaders = HttpResponse.create().withStatus(exception.getStatusCode().toInt());
+        final HttpResponse responseWithoutBody =
+                enhanceResponseWithExternalDittoHeaders(responseWithoutHeaders, exception.getDittoHeaders());
+        if (HttpStatusCode.NOT_MODIFIED.equals(exception.getStatusCode())) {
+            return responseWithoutBody;
+        }
+        return responseWithoutBody.withEntity(CONTENT_TYPE_JSON, ByteString.fromString(exception.toJsonString()));
+    }
+
+    private HttpResponse renderFailure(final Throwable cause) {
+        if (cause instanceof AskTimeoutException) {
+            LOGGER.warn("Got <{}> when a command response was expected: <{}>!", cause.getClass().getSimpleName(),
+                    cause.getMessage());
+            return HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+        } else if (cause instanceof DittoRuntimeException) {
+            return renderDittoRuntimeException((DittoRuntimeException) cause);
+        } else {
+            LOGGER.error("Got <Status.Failure> when a command response was expected: <{}>!", cause.getMessage(),
+                    cause);
+            return HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+        }
+    }
+
+    private HttpResponse renderCommandResponse(final CommandResponse<?> commandResponse) {
+        LogUtil.logWithCorrelationId(LOGGER, commandResponse, logger ->
+                logger.debug("Got <{}> message.", commandResponse.getType()));
+        final DittoHeaders dittoHeaders = commandResponse.getDittoHeaders();
+        if (commandResponse instanceof WithEntity) {
+            final WithEntity<?> withEntity = (WithEntity<?>) commandResponse;
+            final HttpResponse responseWithoutBody = enhanceResponseWithExternalDittoHeaders(
+                    HttpResponse.create().withStatus(commandResponse.getStatusCode().toInt()), dittoHeaders);
+            final Optional<String> entityPlainString = withEntity.getEntityPlainString();
+            if (entityPlainString.isPresent()) {
+                return addEntityAccordingToContentType(responseWithoutBody, entityPlainString.get(), dittoHeaders);
+            } else {
+                return addEntityAccordingToContentType(responseWithoutBody,
+                        withEntity.getEntity(commandResponse.getImplementedSchemaVersion()), dittoHeaders);
+            }
+        } else {
+            final HttpResponse responseWithoutBody = responseModifier.apply(commandResponse,
+                    enhanceResponseWithExternalDittoHeaders(
+                            HttpResponse.create().withStatus(commandResponse.getStatusCodeValue()), dittoHeaders));
+            if (StatusCodes.NO_CONTENT.equals(responseWithoutBody.status())) {
+                return responseWithoutBody;
+            }
+            return ((WithOptionalEntity) commandResponse).getEntity(commandResponse.getImplementedSchemaVersion())
+                    .map(entity -> addEntityAccordingToContentType(responseWithoutBody, entity, dittoHeaders))
+                    .orElse(responseWithoutBody);
+        }
+    }
+
+    private HttpResponse renderMessageCommandResponse(final MessageCommandResponse<?, ?> messageCommandResponse) {
+        HttpResponse httpResponse;
+
+        final Message<?> message = messageCommandResponse.getMessage();
+        final Optional<?> optionalPayload = message.getPayload();
+        final Optional<ByteBuffer> optionalRawPayload = message.getRawPayload();
+        final Optional<HttpStatusCode> responseStatusCode = Optional.of(messageCommandResponse.getStatusCode())
+                .filter(code -> StatusCodes.lookup(code.toInt()).isPresent())
+                // only allow status code which are known to akka-http
+                .filter(code -> !HttpStatusCode.BAD_GATEWAY.equals(code));
+        // filter "bad gateway" 502 from being used as this is used Ditto internally for graceful HTTP shutdown
+
+        // if statusCode is != NO_CONTENT
+        if (responseStatusCode.map(status -> status != HttpStatusCode.NO_CONTENT).orElse(true)) {
+            final Optional<ContentType> optionalContentType = message.getContentType().map(ContentType$.MODULE$::parse)
+                    .filter(Either::isRight)
+                    .map(Either::right)
+                    .map(Either.RightProjection::get);
+
+            httpResponse = HttpResponse.create().withStatus(responseStatusCode.orElse(HttpStatusCode.OK).toInt());
+
+            if (optionalPayload.isPresent()) {
+                final Object payload = optionalPayload.get();
+
+                if (optionalContentType.isPresent()) {
+                    httpResponse = httpResponse.withEntity(
+                            HttpEntities.create(optionalContentType.get(),
+                                    ByteString.ByteStrings.fromString(payload.toString())));
+                } else {
+                    httpResponse = httpResponse.withEntity(HttpEntities.create(payload.toString()));
+                }
+            } else if (optionalRawPayload.isPresent()) {
+
+                final ByteBuffer rawPayload = optionalRawPayload.get();
+                if (optionalContentType.isPresent()) {
+                    httpResponse = httpResponse.withEntity(
+                            HttpEntities.create(optionalContentType.get(), rawPayload.array()));
+                } else {
+                    httpResponse = httpResponse.withEntity(HttpEntities.create(rawPayload.array()));
+                }
+            }
+        } else {
+            // if payload was missing OR statusCode was NO_CONTENT:
+            optionalRawPayload.ifPresent(byteBuffer -> LogUtil.logWithCorrelationId(LOGGER, messageCommandResponse,
+                    logger -> logger.info("Response payload was set but response status code was also set to <{}>. " +
+                            "Ignoring the response payload. Command=<{}>", responseStatusCode,
+                            messageCommandResponse)));
+            httpResponse =
+                    HttpResponse.create().withStatus(responseStatusCode.orElse(HttpStatusCode.NO_CONTENT).toInt());
+        }
+
+        return enhanceResponseWithExternalDittoHeaders(httpResponse, messageCommandResponse.getDittoHeaders());
+    }
+
+    private HttpResponse enhanceResponseWithExternalDittoHeaders(final HttpResponse response,
+            final DittoHeaders allDittoHeaders) {
+
+        final Map<String, String> externalHeaders = headerTranslator.toExternalHeaders(allDittoHeaders);
+
+        if (externalHeaders.isEmpty()) {
+            return response;
+        }
+
+        final List<HttpHeader> externalHttpHeaders = new ArrayList<>(externalHeaders.size());
+        externalHeaders.forEach((k, v) -> externalHttpHeaders.add(RawHeader.create(k, v)));
+
+        return response.withHeaders(externalHttpHeaders);
+    }
+
+    private static boolean hasPlainTextContentType(final DittoHeaders dittoHeaders) {
+        final String contentTypeHeader = DittoHeaderDefinition.CONTENT_TYPE.name();
+        return dittoHeaders.containsKey(contentTypeHeader) &&
+                "text/plain".equalsIgnoreCase(dittoHeaders.get(contentTypeHeader));
+    }
+
+    private HttpResponse addEntityAccordingToContentType(final HttpResponse response, final JsonValue entity,
+            final DittoHeaders dittoHeaders) {
+
+        if (hasPlainTextContentType(dittoHeaders)) {
+            return response.withEntity(CONTENT_TYPE_TEXT, ByteString.fromString(entity.asString()));
+        }
+        return response.withEntity(createJsonEntity(entity));
+    }
+
+    /**
+     * Write the JSON value in chunks so that large entities are never serialized into one contiguous string.
+     * Entities fitting into one chunk remain strict so that they keep their Content-Length header.
+     */
+    private ResponseEntity createJsonEntity(final JsonValue entity) {
+        final Iterator<ByteString> chunks = JsonChunks.iterator(entity, responseChunkSize);
+        final ByteString firstChunk = chunks.next();
+        if (!chunks.hasNext()) {
+            return HttpEntities.create(CONTENT_TYPE_JSON, firstChunk);
+        }
+        // continue the serialization begun for the first chunk instead of serializing the entity a second time
+        final AtomicBoolean remainingChunksTaken = new AtomicBoolean();
+        final Source<ByteString, NotUsed> remainingChunks = Source.fromIterator(() -> {
+            if (remainingChunksTaken.compareAndSet(false, true)) {
+                return chunks;
+            }
+            // the entity is materialized once more: serialize it anew and skip the first chunk emitted already
+            final Iterator<ByteString> newChunks = JsonChunks.iterator(entity, responseChunkSize);
+            newChunks.next();
+            return newChunks;
+        });
+        return HttpEntities.createChunked(CONTENT_TYPE_JSON, Source.single(firstChunk).concat(remainingChunks));
+    }
+
+    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
+            final DittoHeaders dittoHeaders) {
+
+        final ContentType contentType = hasPlainTextContentType(dittoHeaders) ? CONTENT_TYPE_TEXT : CONTENT_TYPE_JSON;
+        return response.withEntity(contentType, ByteString.fromString(entityPlain));
+    }
+
+}
@@ -24,6 +24,7 @@ import java.util.regex.PatternSyntaxException;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.http.DefaultHttpConfig;
+import org.eclipse.ditto.services.gateway.endpoints.actors.DefaultHttpRequestActorPropsFactory;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.DittoConfigError;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
@@ -45,6 +46,9 @@ public final class GatewayHttpConfig implements HttpConfig {
     private final boolean enableCors;
     private final Duration requestTimeout;
     private final String actorPropsFactoryFullQualifiedClassname;
+    private final boolean actorLessRequestHandling;
+    private final int responseChunkSize;
+    private final boolean compressResponses;
 
     private GatewayHttpConfig(final DefaultHttpConfig basicHttpConfig, final ScopedConfig scopedConfig,
             final Pattern redirectToHttpsBlacklistPattern) {
@@ -60,6 +64,11 @@ public final class GatewayHttpConfig implements HttpConfig {
         requestTimeout = scopedConfig.getDuration(GatewayHttpConfigValue.REQUEST_TIMEOUT.getConfigPath());
         actorPropsFactoryFullQualifiedClassname = scopedConfig.getString(
                 GatewayHttpConfigValue.ACTOR_PROPS_FACTORY.getConfigPath());
+        actorLessRequestHandling =
+                scopedConfig.getBoolean(GatewayHttpConfigValue.ACTOR_LESS_REQUEST_HANDLING.getConfigPath());
+        responseChunkSize = (int) Math.min(Integer.MAX_VALUE,
+                scopedConfig.getBytes(GatewayHttpConfigValue.RESPONSE_CHUNK_SIZE.getConfigPath()));
+        compressResponses = scopedConfig.getBoolean(GatewayHttpConfigValue.COMPRESS_RESPONSES.getConfigPath());
     }
 
     /**
@@ -75,7 +84,21 @@ public final class GatewayHttpConfig implements HttpConfig {
                 ConfigWithFallback.newInstance(config, basicHttpConfig.getConfigPath(),
                         GatewayHttpConfigValue.values());
 
-        return new GatewayHttpConfig(basicHttpConfig, httpScopedConfig, tryToCreateBlacklistPattern(httpScopedConfig));
+        final GatewayHttpConfig gatewayHttpConfig =
+                new GatewayHttpConfig(basicHttpConfig, httpScopedConfig, tryToCreateBlacklistPattern(httpScopedConfig));
+        validateActorLessRequestHandling(gatewayHttpConfig);
+        return gatewayHttpConfig;
+    }
+
+    private static void validateActorLessRequestHandling(final GatewayHttpConfig gatewayHttpConfig) {
+        // custom HTTP request actors and their response modifications would silently stop applying otherwise
+        if (gatewayHttpConfig.isActorLessRequestHandling() && !DefaultHttpRequestActorPropsFactory.class.getName()
+                .equals(gatewayHttpConfig.getActorPropsFactoryFullQualifiedClassname())) {
+            throw new DittoConfigError(MessageFormat.format("<{0}> is not supported with the custom <{1}> <{2}>!",
+                    GatewayHttpConfigValue.ACTOR_LESS_REQUEST_HANDLING.getConfigPath(),
+                    GatewayHttpConfigValue.ACTOR_PROPS_FACTORY.getConfigPath(),
+                    gatewayHttpConfig.getActorPropsFactoryFullQualifiedClassname()));
+        }
     }
 
     private static Pattern tryToCreateBlacklistPattern(final ScopedConfig httpScopedConfig) {
@@ -137,6 +160,21 @@ public final class GatewayHttpConfig implements HttpConfig {
         return actorPropsFactoryFullQualifiedClassname;
     }
 
+    @Override
+    public boolean isActorLessRequestHandling() {
+        return actorLessRequestHandling;
+    }
+
+    @Override
+    public int getResponseChunkSize() {
+        return responseChunkSize;
+    }
+
+    @Override
+    public boolean isCompressResponses() {
+        return compressResponses;
+    }
+
     @SuppressWarnings("OverlyComplexMethod")
     @Override
     public boolean equals(final Object o) {
@@ -151,6 +189,9 @@ public final class GatewayHttpConfig implements HttpConfig {
                 forceHttps == that.forceHttps &&
                 redirectToHttps == that.redirectToHttps &&
                 enableCors == that.enableCors &&
+                actorLessRequestHandling == that.actorLessRequestHandling &&
+                responseChunkSize == that.responseChunkSize &&
+                compressResponses == that.compressResponses &&
                 hostname.equals(that.hostname) &&
                 schemaVersions.equals(that.schemaVersions) &&
                 redirectToHttpsBlacklistPattern.equals(that.redirectToHttpsBlacklistPattern) &&
@@ -161,7 +202,8 @@ public final class GatewayHttpConfig implements HttpConfig {
     @Override
     public int hashCode() {
         return Objects.hash(hostname, port, schemaVersions, forceHttps, redirectToHttps,
-                redirectToHttpsBlacklistPattern, enableCors, requestTimeout, actorPropsFactoryFullQualifiedClassname);
+                redirectToHttpsBlacklistPattern, enableCors, requestTimeout, actorPropsFactoryFullQualifiedClassname,
+                actorLessRequestHandling, responseChunkSize, compressResponses);
     }
 
     @Override
@@ -176,6 +218,9 @@ public final class GatewayHttpConfig implements HttpConfig {
                 ", enableCors=" + enableCors +
                 ", requestTimeout=" + requestTimeout +
                 ", actorPropsFactoryFullQualifiedClassname=" + actorPropsFactoryFullQualifiedClassname +
+                ", actorLessRequestHandling=" + actorLessRequestHandling +
+                ", responseChunkSize=" + responseChunkSize +
+                ", compressResponses=" + compressResponses +
                 "]";
     }
 
@@ -80,6 +80,30 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
      */
     String getActorPropsFactoryFullQualifiedClassname();
 
+    /**
+     * Indicates whether HTTP requests should be handled without creating an actor per request by asking the proxy
+     * actor for the response instead. This is only allowed with the default actor props factory because custom
+     * HTTP request actors would be bypassed.
+     *
+     * @return {@code true} if no actor should be created per request, {@code false} else.
+     */
+    boolean isActorLessRequestHandling();
+
+    /**
+     * Returns the approximate size in bytes of the chunks in which JSON response entities are written. Responses not exceeding
+     * one chunk are sent as strict entities, larger ones are streamed chunk by chunk.
+     *
+     * @return the chunk size.
+     */
+    int getResponseChunkSize();
+
+    /**
+     * Indicates whether API responses should be compressed if the client accepts the gzip encoding.
+     *
+     * @return {@code true} if responses should be compressed, {@code false} else.
+     */
+    boolean isCompressResponses();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code HttpConfig}.
@@ -122,7 +146,22 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
         /**
          * The full qualified classname of the HttpRequestActorPropsFactory to instantiate.
          */
-        ACTOR_PROPS_FACTORY("actor-props-factory", DefaultHttpRequestActorPropsFactory.class.getName())
+        ACTOR_PROPS_FACTORY("actor-props-factory", DefaultHttpRequestActorPropsFactory.class.getName()),
+
+        /**
+         * Determines whether HTTP requests should be handled without creating an actor per request.
+         */
+        ACTOR_LESS_REQUEST_HANDLING("actor-less-request-handling", false),
+
+        /**
+         * The size in bytes of the chunks in which JSON response entities are written.
+         */
+        RESPONSE_CHUNK_SIZE("response-chunk-size", 65536),
+
+        /**
+         * Determines whether API responses should be compressed if the client accepts the gzip encoding.
+         */
+        COMPRESS_RESPONSES("compress-responses", false)
         ;
 
         private final String path;
@@ -29,6 +29,7 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.gateway.endpoints.actors.AskingHttpRequestHandler;
 import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestActor;
 import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestActorPropsFactory;
 import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
@@ -78,6 +79,7 @@ public abstract class AbstractRoute extends AllDirectives {
     private final HttpConfig httpConfig;
     private final HeaderTranslator headerTranslator;
     private final HttpRequestActorPropsFactory httpRequestActorPropsFactory;
+    private final AskingHttpRequestHandler askingHttpRequestHandler;
 
     /**
      * Constructs the abstract route builder.
@@ -116,6 +118,7 @@ public abstract class AbstractRoute extends AllDirectives {
         httpRequestActorPropsFactory =
                 AkkaClassLoader.instantiate(actorSystem, HttpRequestActorPropsFactory.class,
                         httpConfig.getActorPropsFactoryFullQualifiedClassname());
+        askingHttpRequestHandler = AskingHttpRequestHandler.of(proxyActor, headerTranslator, httpConfig);
     }
 
     /**
@@ -153,23 +156,32 @@ public abstract class AbstractRoute extends AllDirectives {
             final Function<String, Command> requestJsonToCommandFunction,
             final Function<JsonValue, JsonValue> responseTransformFunction) {
 
-        final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
-
-        payloadSource
+        final Source<Object, ?> commandSource = payloadSource
                 .fold(ByteString.empty(), ByteString::concat)
                 .map(ByteString::utf8String)
                 .map(requestJsonToCommandFunction)
-                .map(command -> {
+                .<Object>map(command -> {
                     final JsonSchemaVersion schemaVersion =
                             dittoHeaders.getSchemaVersion().orElse(command.getImplementedSchemaVersion());
                     return command.implementsSchemaVersion(schemaVersion) ? command
                             : CommandNotSupportedException.newBuilder(schemaVersion.toInt())
                             .dittoHeaders(dittoHeaders)
                             .build();
-                })
-                .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
-                        HttpRequestActor.COMPLETE_MESSAGE))
-                .run(materializer);
+                });
+
+        final CompletableFuture<HttpResponse> httpResponseFuture;
+        if (httpConfig.isActorLessRequestHandling()) {
+            httpResponseFuture = commandSource.runWith(Sink.head(), materializer)
+                    .handle((commandOrException, error) ->
+                            askingHttpRequestHandler.handle(ctx.getRequest(), commandOrException, error))
+                    .thenCompose(responseStage -> responseStage)
+                    .toCompletableFuture();
+        } else {
+            httpResponseFuture = new CompletableFuture<>();
+            commandSource.to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
+                    HttpRequestActor.COMPLETE_MESSAGE))
+                    .run(materializer);
+        }
 
         // optional step: transform the response entity:
         if (responseTransformFunction != null) {
@@ -17,6 +17,7 @@ import static org.eclipse.ditto.services.gateway.endpoints.directives.Correlatio
 import static org.eclipse.ditto.services.gateway.endpoints.directives.auth.AuthorizationContextVersioningDirective.mapAuthorizationContext;
 import static org.eclipse.ditto.services.gateway.endpoints.utils.DirectivesLoggingUtils.enhanceLogWithCorrelationId;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
@@ -27,6 +28,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -70,6 +72,7 @@ import org.eclipse.ditto.signals.commands.base.exceptions.GatewayDuplicateHeader
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import akka.http.javadsl.coding.Coder;
 import akka.http.javadsl.model.ContentTypes;
 import akka.http.javadsl.model.HttpHeader;
 import akka.http.javadsl.model.HttpMessage;
@@ -167,7 +170,7 @@ public final class RootRoute extends AllDirectives {
                         concat(
                                 statsRoute.buildStatsRoute(correlationId), // /stats
                                 cachingHealthRoute.buildHealthRoute(), // /health
-                                api(ctx, correlationId), // /api
+                                compressResponses(() -> api(ctx, correlationId)), // /api
                                 ws(ctx, correlationId), // /ws
                                 ownStatusRoute.buildStatusRoute(), // /status
                                 overallStatusRoute.buildOverallStatusRoute(), // /overall
@@ -218,6 +221,19 @@ public final class RootRoute extends AllDirectives {
         return outerRouteProvider.apply(innerRouteProvider);
     }
 
+    /*
+     * Compresses responses of the inner route with gzip if enabled and accepted by the client. Gzip comes first so
+     * that it is preferred over the identity encoding if the client accepts both equally. Responses are compressed
+     * chunk by chunk, thus streamed response entities stay streamed.
+     */
+    private Route compressResponses(final Supplier<Route> inner) {
+        if (httpConfig.isCompressResponses()) {
+            return encodeResponseWith(Arrays.asList(Coder.Gzip, Coder.NoCoding), inner);
+        } else {
+            return inner.get();
+        }
+    }
+
     private Route apiAuthentication(final CharSequence correlationId,
             final Function<AuthorizationContext, Route> inner) {
 
@@ -233,6 +233,7 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
                                         StartStreaming.getBuilder(StreamingType.EVENTS, connectionCorrelationId,
                                                 dittoHeaders.getAuthorizationContext())
                                                 .withNamespaces(namespaces)
+                                                .withThingIds(targetThingIds)
                                                 .withFilter(filterString)
                                                 .withExtraFields(extraFields)
                                                 .build();
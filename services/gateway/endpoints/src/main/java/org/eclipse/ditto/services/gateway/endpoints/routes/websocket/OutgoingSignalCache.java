@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.routes.websocket;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.services.gateway.streaming.WebsocketConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.signals.base.Signal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Short-lived cache of serialized outgoing signals shared by all web socket sessions of a gateway instance.
+ * A signal published to many sessions is the same object in each of them; sessions using the same protocol adapter,
+ * channel and extra fields thus produce identical protocol messages, which are serialized only once.
+ */
+@ThreadSafe
+final class OutgoingSignalCache {
+
+    private static final String METRIC_NAME = "streaming_outgoing_cache";
+    private static final String RESULT = "result";
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    @Nullable private final Cache<Key, String> cache;
+
+    private OutgoingSignalCache(@Nullable final Cache<Key, String> cache) {
+        this.cache = cache;
+        hitCounter = DittoMetrics.counter(METRIC_NAME).tag(RESULT, "hit");
+        missCounter = DittoMetrics.counter(METRIC_NAME).tag(RESULT, "miss");
+    }
+
+    /**
+     * Create an outgoing signal cache according to the websocket config.
+     *
+     * @param websocketConfig the websocket config.
+     * @return the cache; it does not cache anything if the configured maximum size is zero.
+     */
+    static OutgoingSignalCache of(final WebsocketConfig websocketConfig) {
+        final long maximumSize = websocketConfig.getOutgoingCacheMaximumSize();
+        if (maximumSize <= 0L) {
+            return new OutgoingSignalCache(null);
+        } else {
+            final Cache<Key, String> cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(websocketConfig.getOutgoingCacheExpireAfterWrite())
+                    .build();
+            return new OutgoingSignalCache(cache);
+        }
+    }
+
+    /**
+     * Retrieve the serialized form of a signal or compute it if no other session serialized it recently.
+     *
+     * @param signal the outgoing signal.
+     * @param channel the channel of the signal.
+     * @param adapter the protocol adapter of the session.
+     * @param extra the extra fields of the session.
+     * @param serializer computation of the serialized signal.
+     * @return the serialized signal.
+     */
+    String getOrSerialize(final Signal<?> signal, final TopicPath.Channel channel, final ProtocolAdapter adapter,
+            final JsonObject extra, final Supplier<String> serializer) {
+
+        if (null == cache) {
+            return serializer.get();
+        }
+        final boolean[] computed = new boolean[1];
+        final String result = cache.get(new Key(signal, channel, adapter, extra), key -> {
+            computed[0] = true;
+            return serializer.get();
+        });
+        if (computed[0]) {
+            missCounter.increment();
+        } else {
+            hitCounter.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Cache key comparing signals and protocol adapters by identity and extra fields by value.
+     */
+    private static final class Key {
+
+        private final Signal<?> signal;
+        private final TopicPath.Channel channel;
+        private final ProtocolAdapter adapter;
+        private final JsonObject extra;
+
+        private Key(final Signal<?> signal, final TopicPath.Channel channel, final ProtocolAdapter adapter,
+                final JsonObject extra) {
+            this.signal = signal;
+            this.channel = channel;
+            this.adapter = adapter;
+            this.extra = extra;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return signal == that.signal &&
+                    channel == that.channel &&
+                    adapter == that.adapter &&
+                    Objects.equals(extra, that.extra);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(signal), channel, System.identityHashCode(adapter), extra);
+        }
+
+    }
+
+}
@@ -154,6 +154,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     private final ActorRef streamingActor;
     private final StreamingConfig streamingConfig;
     private final EventStream eventStream;
+    private final OutgoingSignalCache outgoingSignalCache;
 
     private EventSniffer<String> incomingMessageSniffer;
     private EventSniffer<String> outgoingMessageSniffer;
@@ -167,6 +168,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         this.streamingActor = checkNotNull(streamingActor, "streamingActor");
         this.streamingConfig = streamingConfig;
         this.eventStream = checkNotNull(eventStream, "eventStream");
+        outgoingSignalCache = OutgoingSignalCache.of(streamingConfig.getWebsocketConfig());
 
         final EventSniffer<String> noOpEventSniffer = EventSniffer.noOp();
         incomingMessageSniffer = noOpEventSniffer;
@@ -495,7 +497,8 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         final int signalEnrichmentParallelism = streamingConfig.getParallelism();
         final Flow<SessionedJsonifiable, Message, NotUsed> messageFlow =
                 Flow.<SessionedJsonifiable>create()
-                        .mapAsync(signalEnrichmentParallelism, postprocess(adapter, signalEnrichmentFacade))
+                        .mapAsync(signalEnrichmentParallelism,
+                                postprocess(adapter, signalEnrichmentFacade, outgoingSignalCache))
                         .mapConcat(x -> x)
                         .via(Flow.fromFunction(result -> {
                             LOGGER.withCorrelationId(connectionCorrelationId)
@@ -629,7 +632,8 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
     private static Function<SessionedJsonifiable, CompletionStage<Collection<String>>> postprocess(
             final ProtocolAdapter adapter,
-            @Nullable final SignalEnrichmentFacade facade) {
+            @Nullable final SignalEnrichmentFacade facade,
+            final OutgoingSignalCache outgoingSignalCache) {
 
         return sessionedJsonifiable -> {
             final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = sessionedJsonifiable.getJsonifiable();
@@ -640,16 +644,36 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             }
 
             final TopicPath.Channel channel = determineChannel(sessionedJsonifiable);
-            final Adaptable adaptable = jsonifiableToAdaptable(jsonifiable, channel, adapter);
             final CompletionStage<JsonObject> extraFuture = sessionedJsonifiable.retrieveExtraFields(facade);
-            return extraFuture.<Collection<String>>thenApply(extra ->
-                    matchesFilter(sessionedJsonifiable, extra)
-                            ? Collections.singletonList(toJsonStringWithExtra(adaptable, extra))
-                            : Collections.emptyList())
-                    .exceptionally(error -> WebSocketRoute.reportEnrichmentError(error, adapter, adaptable));
+            return extraFuture.handle((extra, error) -> {
+                if (null != error) {
+                    return WebSocketRoute.reportEnrichmentError(error, adapter,
+                            jsonifiableToAdaptable(jsonifiable, channel, adapter));
+                } else if (matchesFilter(sessionedJsonifiable, extra)) {
+                    return Collections.singletonList(
+                            toJsonStringWithExtra(jsonifiable, channel, adapter, extra, outgoingSignalCache));
+                } else {
+                    return Collections.emptyList();
+                }
+            });
         };
     }
 
+    private static String toJsonStringWithExtra(final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable,
+            final TopicPath.Channel channel,
+            final ProtocolAdapter adapter,
+            final JsonObject extra,
+            final OutgoingSignalCache outgoingSignalCache) {
+
+        if (jsonifiable instanceof Signal && !(jsonifiable instanceof CommandResponse)) {
+            // signals published to many sessions are serialized once for all sessions with the same settings
+            return outgoingSignalCache.getOrSerialize((Signal<?>) jsonifiable, channel, adapter, extra,
+                    () -> toJsonStringWithExtra(jsonifiableToAdaptable(jsonifiable, channel, adapter), extra));
+        } else {
+            return toJsonStringWithExtra(jsonifiableToAdaptable(jsonifiable, channel, adapter), extra);
+        }
+    }
+
     private static TopicPath.Channel determineChannel(final SessionedJsonifiable sessionedJsonifiable) {
         return sessionedJsonifiable.getDittoHeaders()
                 .getChannel()
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonValue;
+
+import akka.util.ByteString;
+
+/**
+ * Serializes JSON values into chunks of bytes incrementally. The serialized form of the whole value is never held in
+ * memory at once; only chunks of roughly the requested size and the serialized forms of single leaf values are.
+ */
+@Immutable
+public final class JsonChunks {
+
+    private JsonChunks() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Create an iterator of the serialized chunks of a JSON value. Each chunk except the last one is at least
+     * {@code chunkSize} characters long.
+     *
+     * @param jsonValue the JSON value.
+     * @param chunkSize the size in characters above which a chunk is emitted.
+     * @return the iterator.
+     */
+    public static Iterator<ByteString> iterator(final JsonValue jsonValue, final int chunkSize) {
+        return new ChunkIterator(jsonValue, Math.max(1, chunkSize));
+    }
+
+    @NotThreadSafe
+    private static final class ChunkIterator implements Iterator<ByteString> {
+
+        private final int chunkSize;
+        private final Deque<Frame> stack;
+        private final StringBuilder buffer;
+        @Nullable private JsonValue root;
+
+        private ChunkIterator(final JsonValue root, final int chunkSize) {
+            this.root = root;
+            this.chunkSize = chunkSize;
+            stack = new ArrayDeque<>();
+            buffer = new StringBuilder();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return root != null || !stack.isEmpty();
+        }
+
+        @Override
+        public ByteString next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            while (buffer.length() < chunkSize && hasNext()) {
+                step();
+            }
+            final ByteString chunk = ByteString.fromString(buffer.toString());
+            buffer.setLength(0);
+            return chunk;
+        }
+
+        private void step() {
+            if (root != null) {
+                final JsonValue value = root;
+                root = null;
+                write(value);
+            } else {
+                final Frame frame = stack.peek();
+                if (frame.elements.hasNext()) {
+                    final Object element = frame.elements.next();
+                    if (frame.isFirst) {
+                        frame.isFirst = false;
+                    } else {
+                        buffer.append(',');
+                    }
+                    if (element instanceof JsonField) {
+                        final JsonField field = (JsonField) element;
+                        buffer.append(JsonValue.of(field.getKeyName())).append(':');
+                        write(field.getValue());
+                    } else {
+                        write((JsonValue) element);
+                    }
+                } else {
+                    buffer.append(frame.closingBracket);
+                    stack.pop();
+                }
+            }
+        }
+
+        private void write(final JsonValue value) {
+            if (value.isNull()) {
+                buffer.append(value);
+            } else if (value.isObject()) {
+                buffer.append('{');
+                stack.push(new Frame(value.asObject().iterator(), '}'));
+            } else if (value.isArray()) {
+                buffer.append('[');
+                stack.push(new Frame(value.asArray().iterator(), ']'));
+            } else {
+                buffer.append(value);
+            }
+        }
+
+    }
+
+    private static final class Frame {
+
+        private final Iterator<?> elements;
+        private final char closingBracket;
+        private boolean isFirst;
+
+        private Frame(final Iterator<?> elements, final char closingBracket) {
+            this.elements = elements;
+            this.closingBracket = closingBracket;
+            isFirst = true;
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.gateway.endpoints.config.GatewayHttpConfig}.
+ */
+public final class GatewayHttpConfigTest {
+
+    @Test
+    public void actorLessRequestHandlingIsAllowedWithDefaultActorPropsFactory() {
+        final GatewayHttpConfig underTest =
+                GatewayHttpConfig.of(ConfigFactory.parseString("http.actor-less-request-handling=true"));
+
+        assertThat(underTest.isActorLessRequestHandling()).isTrue();
+    }
+
+    @Test
+    public void actorLessRequestHandlingIsRejectedWithCustomActorPropsFactory() {
+        assertThatExceptionOfType(DittoConfigError.class)
+                .isThrownBy(() -> GatewayHttpConfig.of(ConfigFactory.parseString(
+                        "http.actor-less-request-handling=true\n" +
+                                "http.actor-props-factory=\"org.example.CustomHttpRequestActorPropsFactory\"")))
+                .withMessageContaining("actor-less-request-handling");
+    }
+
+}
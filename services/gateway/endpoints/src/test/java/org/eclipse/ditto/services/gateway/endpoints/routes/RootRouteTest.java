@@ -31,6 +31,8 @@ import org.eclipse.ditto.model.things.ThingIdInvalidException;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
 import org.eclipse.ditto.services.gateway.endpoints.EndpointTestConstants;
+import org.eclipse.ditto.services.gateway.endpoints.config.GatewayHttpConfig;
+import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
 import org.eclipse.ditto.services.gateway.endpoints.directives.HttpsEnsuringDirective;
 import org.eclipse.ditto.services.gateway.endpoints.directives.auth.DittoGatewayAuthenticationDirectiveFactory;
 import org.eclipse.ditto.services.gateway.endpoints.directives.auth.GatewayAuthenticationDirectiveFactory;
@@ -60,6 +62,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
@@ -118,6 +121,10 @@ public final class RootRouteTest extends EndpointTestBase {
 
     @Before
     public void setUp() {
+        rootTestRoute = testRoute(createRootRoute(httpConfig));
+    }
+
+    private Route createRootRoute(final HttpConfig httpConfig) {
         final ActorSystem actorSystem = system();
         final Config config = actorSystem.settings().config();
         final ProtocolAdapterProvider protocolAdapterProvider =
@@ -134,7 +141,7 @@ public final class RootRouteTest extends EndpointTestBase {
                 DittoStatusAndHealthProviderFactory.of(actorSystem, clusterStatusSupplier, healthCheckConfig);
         final DevOpsConfig devOpsConfig = authConfig.getDevOpsConfig();
 
-        final Route rootRoute = RootRoute.getBuilder(httpConfig)
+        return RootRoute.getBuilder(httpConfig)
                 .statsRoute(new StatsRoute(proxyActor, actorSystem, httpConfig, devOpsConfig, headerTranslator))
                 .statusRoute(new StatusRoute(clusterStatusSupplier, createHealthCheckingActorMock(), actorSystem))
                 .overallStatusRoute(
@@ -156,8 +163,6 @@ public final class RootRouteTest extends EndpointTestBase {
                 .wsAuthenticationDirective(authenticationDirectiveFactory.buildWsAuthentication())
                 .dittoHeadersSizeChecker(DittoHeadersSizeChecker.of(4096, 10))
                 .build();
-
-        rootTestRoute = testRoute(rootRoute);
     }
 
     @Test
@@ -251,6 +256,20 @@ public final class RootRouteTest extends EndpointTestBase {
         result.assertStatusCode(EndpointTestConstants.DUMMY_COMMAND_SUCCESS);
     }
 
+    @Test
+    public void getThingsUrlWithIdsIsCompressedIfGzipIsAccepted() {
+        final HttpConfig compressingHttpConfig = GatewayHttpConfig.of(ConfigFactory.parseString(
+                "http.compress-responses=true").withFallback(createTestConfig().getConfig("ditto.gateway")));
+        final TestRoute compressingRootRoute = testRoute(createRootRoute(compressingHttpConfig));
+
+        final TestRouteResult result = compressingRootRoute.run(withHttps(withDummyAuthentication(
+                HttpRequest.GET(THINGS_1_PATH_WITH_IDS)
+                        .addHeader(RawHeader.create("Accept-Encoding", "gzip, deflate")))));
+
+        result.assertStatusCode(EndpointTestConstants.DUMMY_COMMAND_SUCCESS);
+        result.assertHeaderExists("Content-Encoding", "gzip");
+    }
+
     @Test
     public void getThings1UrlWithoutHttps() {
         final TestRouteResult result = rootTestRoute.run(HttpRequest.GET(THINGS_1_PATH));
@@ -18,6 +18,8 @@ import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
+import org.eclipse.ditto.services.gateway.endpoints.config.GatewayHttpConfig;
+import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
 import org.eclipse.ditto.services.utils.protocol.ProtocolAdapterProvider;
 import org.eclipse.ditto.signals.commands.things.exceptions.MissingThingIdsException;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyPolicyId;
@@ -26,6 +28,8 @@ import org.eclipse.ditto.signals.commands.things.query.RetrieveAttributes;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorSystem;
 import akka.http.javadsl.model.ContentTypes;
 import akka.http.javadsl.model.HttpEntities;
@@ -116,6 +120,27 @@ public final class ThingsRouteTest extends EndpointTestBase {
         getResult.assertStatusCode(StatusCodes.OK);
     }
 
+    @Test
+    public void handleRequestsWithoutHttpRequestActor() {
+        final ActorSystem actorSystem = system();
+        final ProtocolAdapterProvider adapterProvider = ProtocolAdapterProvider.load(protocolConfig, actorSystem);
+        final HttpConfig actorLessHttpConfig =
+                GatewayHttpConfig.of(ConfigFactory.parseString("http.actor-less-request-handling=true"));
+        final ThingsRoute actorLessThingsRoute = new ThingsRoute(createDummyResponseActor(), actorSystem,
+                messageConfig, claimMessageConfig, actorLessHttpConfig, adapterProvider.getHttpHeaderTranslator());
+        final TestRoute actorLessRoute = testRoute(extractRequestContext(
+                ctx -> actorLessThingsRoute.buildThingsRoute(ctx, DittoHeaders.empty())));
+
+        final String putResult = actorLessRoute.run(HttpRequest.PUT("/things/org.eclipse.ditto%3At1/definition")
+                .withEntity("null")).entityString();
+        assertThat(JsonObject.of(putResult)).contains(JsonKey.of("type"), ModifyThingDefinition.TYPE);
+
+        final String invalidJsonResult = actorLessRoute.run(
+                HttpRequest.PUT("/things/org.eclipse.ditto%3Adummy/policyId").withEntity("hello:world:123"))
+                .entityString();
+        assertThat(JsonObject.of(invalidJsonResult)).contains(JsonKey.of("error"), "json.invalid");
+    }
+
     @Test
     public void getThingsWithEmptyIdsList() {
         final TestRouteResult result = underTest.run(HttpRequest.GET("/things?ids="));
@@ -26,6 +26,7 @@ import org.assertj.core.util.Lists;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
 import org.eclipse.ditto.services.gateway.endpoints.routes.sse.SseConnectionSupervisor;
 import org.eclipse.ditto.services.gateway.streaming.CloseStreamExceptionally;
@@ -170,6 +171,19 @@ public final class ThingsSseRouteBuilderTest extends EndpointTestBase {
                 .build());
     }
 
+    @Test
+    public void getWithAcceptHeaderAndIdsParameterOpensSseConnection() {
+        final Collection<ThingId> thingIds = Lists.list(ThingId.of("john:frum"), ThingId.of("tanna:john"));
+
+        final String requestUrl = THINGS_ROUTE + "?ids=john:frum,tanna:john";
+
+        executeRouteTest(HttpRequest.GET(requestUrl).addHeader(acceptHeader),
+                StartStreaming.getBuilder(StreamingType.EVENTS, connectionCorrelationId,
+                        AuthorizationModelFactory.newAuthContext(Collections.emptySet()))
+                        .withThingIds(thingIds)
+                        .build());
+    }
+
     @Test
     public void getWithAcceptHeaderAndExtraFieldsParameterOpensSseConnection() {
         final JsonFieldSelector extraFields = JsonFieldSelector.newInstance("attributes", "features/location");
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.routes.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.services.gateway.streaming.DefaultStreamingConfig;
+import org.eclipse.ditto.services.gateway.streaming.WebsocketConfig;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link OutgoingSignalCache}.
+ */
+public final class OutgoingSignalCacheTest {
+
+    private static final ThingDeleted SIGNAL = ThingDeleted.of(ThingId.of("ns:thing"), 1L, DittoHeaders.empty());
+    private static final ProtocolAdapter ADAPTER = DittoProtocolAdapter.newInstance();
+
+    @Test
+    public void serializeSameSignalOnceForSameSettings() {
+        final OutgoingSignalCache underTest = OutgoingSignalCache.of(websocketConfig(10));
+        final AtomicInteger counter = new AtomicInteger();
+        final Supplier<String> serializer = () -> "serialized-" + counter.incrementAndGet();
+
+        final String first =
+                underTest.getOrSerialize(SIGNAL, TopicPath.Channel.TWIN, ADAPTER, JsonObject.empty(), serializer);
+        final String second =
+                underTest.getOrSerialize(SIGNAL, TopicPath.Channel.TWIN, ADAPTER, JsonObject.empty(), serializer);
+
+        assertThat(first).isEqualTo("serialized-1");
+        assertThat(second).isSameAs(first);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    public void serializeAgainForDifferentSettings() {
+        final OutgoingSignalCache underTest = OutgoingSignalCache.of(websocketConfig(10));
+        final AtomicInteger counter = new AtomicInteger();
+        final Supplier<String> serializer = () -> "serialized-" + counter.incrementAndGet();
+        final ThingDeleted equalSignal = ThingDeleted.of(ThingId.of("ns:thing"), 1L, DittoHeaders.empty());
+
+        underTest.getOrSerialize(SIGNAL, TopicPath.Channel.TWIN, ADAPTER, JsonObject.empty(), serializer);
+        underTest.getOrSerialize(SIGNAL, TopicPath.Channel.LIVE, ADAPTER, JsonObject.empty(), serializer);
+        underTest.getOrSerialize(SIGNAL, TopicPath.Channel.TWIN, DittoProtocolAdapter.newInstance(),
+                JsonObject.empty(), serializer);
+        underTest.getOrSerialize(SIGNAL, TopicPath.Channel.TWIN, ADAPTER,
+                JsonObject.newBuilder().set("attributes", JsonObject.empty()).build(), serializer);
+        underTest.getOrSerialize(equalSignal, TopicPath.Channel.TWIN, ADAPTER, JsonObject.empty(), serializer);
+
+        assertThat(counter).hasValue(5);
+    }
+
+    @Test
+    public void disabledCacheAlwaysSerializes() {
+        final OutgoingSignalCache underTest = OutgoingSignalCache.of(websocketConfig(0));
+        final AtomicInteger counter = new AtomicInteger();
+        final Supplier<String> serializer = () -> "serialized-" + counter.incrementAndGet();
+
+        underTest.getOrSerialize(SIGNAL, TopicPath.Channel.TWIN, ADAPTER, JsonObject.empty(), serializer);
+        underTest.getOrSerialize(SIGNAL, TopicPath.Channel.TWIN, ADAPTER, JsonObject.empty(), serializer);
+
+        assertThat(counter).hasValue(2);
+    }
+
+    private static WebsocketConfig websocketConfig(final long maximumSize) {
+        return DefaultStreamingConfig.of(ConfigFactory.parseString(
+                "streaming.websocket.outgoing-cache.maximum-size=" + maximumSize))
+                .getWebsocketConfig();
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+import akka.util.ByteString;
+
+/**
+ * Tests {@link JsonChunks}.
+ */
+public final class JsonChunksTest {
+
+    private static final JsonObject JSON_OBJECT = JsonFactory.newObjectBuilder()
+            .set("thingId", "ns:thing")
+            .set("attributes", JsonFactory.newObjectBuilder()
+                    .set("escaped \"key\"", "line\nbreak")
+                    .set("empty", JsonObject.empty())
+                    .set("nothing", JsonFactory.nullObject())
+                    .build())
+            .set("features", JsonArray.of(1, 2.5, true, "x", JsonFactory.nullLiteral(), JsonArray.empty()))
+            .build();
+
+    @Test
+    public void chunksConcatenateToSerializedValue() {
+        for (final int chunkSize : new int[]{1, 7, 64, 65536}) {
+            assertThat(concat(chunks(JSON_OBJECT, chunkSize))).isEqualTo(JSON_OBJECT.toString());
+        }
+    }
+
+    @Test
+    public void leafValuesAreSerializedInOneChunk() {
+        assertThat(chunks(JsonValue.of("leaf"), 1)).containsExactly(ByteString.fromString("\"leaf\""));
+        assertThat(chunks(JsonFactory.nullObject(), 1)).containsExactly(ByteString.fromString("null"));
+    }
+
+    @Test
+    public void allChunksButTheLastOneHaveAtLeastTheChunkSize() {
+        final JsonArray array = JsonFactory.newArrayBuilder()
+                .add(JSON_OBJECT, JSON_OBJECT, JSON_OBJECT, JSON_OBJECT)
+                .build();
+        final int chunkSize = 50;
+        final List<ByteString> chunks = chunks(array, chunkSize);
+
+        assertThat(chunks.size()).isGreaterThan(1);
+        assertThat(chunks.subList(0, chunks.size() - 1)).allSatisfy(chunk ->
+                assertThat(chunk.size()).isGreaterThanOrEqualTo(chunkSize));
+        assertThat(concat(chunks)).isEqualTo(array.toString());
+    }
+
+    private static List<ByteString> chunks(final JsonValue jsonValue, final int chunkSize) {
+        final List<ByteString> chunks = new ArrayList<>();
+        final Iterator<ByteString> iterator = JsonChunks.iterator(jsonValue, chunkSize);
+        iterator.forEachRemaining(chunks::add);
+        return chunks;
+    }
+
+    private static String concat(final List<ByteString> chunks) {
+        return chunks.stream().reduce(ByteString.empty(), ByteString::concat).utf8String();
+    }
+
+}
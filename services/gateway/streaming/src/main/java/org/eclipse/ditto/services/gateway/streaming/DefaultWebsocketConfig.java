@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.gateway.streaming;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
@@ -32,6 +33,8 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
     private final int publisherBackpressureBufferSize;
     private final double throttlingRejectionFactor;
     private final ThrottlingConfig throttlingConfig;
+    private final long outgoingCacheMaximumSize;
+    private final Duration outgoingCacheExpireAfterWrite;
 
     private DefaultWebsocketConfig(final ScopedConfig scopedConfig) {
         subscriberBackpressureQueueSize =
@@ -41,6 +44,10 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
         throttlingRejectionFactor =
                 scopedConfig.getDouble(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath());
         throttlingConfig = ThrottlingConfig.of(scopedConfig);
+        outgoingCacheMaximumSize =
+                scopedConfig.getLong(WebsocketConfigValue.OUTGOING_CACHE_MAXIMUM_SIZE.getConfigPath());
+        outgoingCacheExpireAfterWrite =
+                scopedConfig.getDuration(WebsocketConfigValue.OUTGOING_CACHE_EXPIRE_AFTER_WRITE.getConfigPath());
     }
 
     /**
@@ -75,6 +82,16 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
         return throttlingConfig;
     }
 
+    @Override
+    public long getOutgoingCacheMaximumSize() {
+        return outgoingCacheMaximumSize;
+    }
+
+    @Override
+    public Duration getOutgoingCacheExpireAfterWrite() {
+        return outgoingCacheExpireAfterWrite;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -87,13 +104,15 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
         return subscriberBackpressureQueueSize == that.subscriberBackpressureQueueSize &&
                 publisherBackpressureBufferSize == that.publisherBackpressureBufferSize &&
                 Double.compare(throttlingRejectionFactor, that.throttlingRejectionFactor) == 0 &&
-                Objects.equals(throttlingConfig, that.throttlingConfig);
+                Objects.equals(throttlingConfig, that.throttlingConfig) &&
+                outgoingCacheMaximumSize == that.outgoingCacheMaximumSize &&
+                Objects.equals(outgoingCacheExpireAfterWrite, that.outgoingCacheExpireAfterWrite);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(subscriberBackpressureQueueSize, publisherBackpressureBufferSize,
-                throttlingRejectionFactor, throttlingConfig);
+                throttlingRejectionFactor, throttlingConfig, outgoingCacheMaximumSize, outgoingCacheExpireAfterWrite);
     }
 
     @Override
@@ -103,6 +122,8 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
                 ", publisherBackpressureBufferSize=" + publisherBackpressureBufferSize +
                 ", throttlingRejectionFactor=" + throttlingRejectionFactor +
                 ", throttlingConfig=" + throttlingConfig +
+                ", outgoingCacheMaximumSize=" + outgoingCacheMaximumSize +
+                ", outgoingCacheExpireAfterWrite=" + outgoingCacheExpireAfterWrite +
                 "]";
     }
 
@@ -26,6 +26,7 @@ import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 
 /**
@@ -37,6 +38,7 @@ public final class StartStreaming implements StreamControlMessage {
     private final String connectionCorrelationId;
     private final AuthorizationContext authorizationContext;
     private final List<String> namespaces;
+    private final List<ThingId> thingIds;
     @Nullable private final String filter;
     @Nullable private final JsonFieldSelector extraFields;
 
@@ -48,6 +50,10 @@ public final class StartStreaming implements StreamControlMessage {
         namespaces = null != namespacesFromBuilder
                 ? Collections.unmodifiableList(new ArrayList<>(namespacesFromBuilder))
                 : Collections.emptyList();
+        @Nullable final Collection<ThingId> thingIdsFromBuilder = builder.thingIds;
+        thingIds = null != thingIdsFromBuilder
+                ? Collections.unmodifiableList(new ArrayList<>(thingIdsFromBuilder))
+                : Collections.emptyList();
         filter = Objects.toString(builder.filter, null);
         extraFields = builder.extraFields;
     }
@@ -90,6 +96,14 @@ public final class StartStreaming implements StreamControlMessage {
         return namespaces;
     }
 
+    /**
+     * @return the List of thing IDs for which {@link org.eclipse.ditto.signals.base.Signal}s should be emitted to the
+     * stream
+     */
+    public List<ThingId> getThingIds() {
+        return thingIds;
+    }
+
     /**
      * @return the optional RQL filter to apply for events before publishing to the stream
      */
@@ -119,14 +133,15 @@ public final class StartStreaming implements StreamControlMessage {
                 Objects.equals(connectionCorrelationId, that.connectionCorrelationId) &&
                 Objects.equals(authorizationContext, that.authorizationContext) &&
                 Objects.equals(namespaces, that.namespaces) &&
+                Objects.equals(thingIds, that.thingIds) &&
                 Objects.equals(filter, that.filter) &&
                 Objects.equals(extraFields, that.extraFields);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(streamingType, connectionCorrelationId, authorizationContext, namespaces, filter,
-                extraFields);
+        return Objects.hash(streamingType, connectionCorrelationId, authorizationContext, namespaces, thingIds,
+                filter, extraFields);
     }
 
     @Override
@@ -136,6 +151,7 @@ public final class StartStreaming implements StreamControlMessage {
                 ", connectionCorrelationId=" + connectionCorrelationId +
                 ", authorizationContext=" + authorizationContext +
                 ", namespaces=" + namespaces +
+                ", thingIds=" + thingIds +
                 ", eventFilter=" + filter +
                 ", extraFields=" + extraFields +
                 "]";
@@ -152,6 +168,7 @@ public final class StartStreaming implements StreamControlMessage {
         private final AuthorizationContext authorizationContext;
 
         @Nullable private Collection<String> namespaces;
+        @Nullable private Collection<ThingId> thingIds;
         @Nullable private CharSequence filter;
         @Nullable private JsonFieldSelector extraFields;
 
@@ -162,6 +179,7 @@ public final class StartStreaming implements StreamControlMessage {
             this.connectionCorrelationId = checkNotNull(connectionCorrelationId, "connectionCorrelationId");
             this.authorizationContext = checkNotNull(authorizationContext, "authorizationContext");
             namespaces = null;
+            thingIds = null;
             filter = null;
             extraFields = null;
         }
@@ -178,6 +196,18 @@ public final class StartStreaming implements StreamControlMessage {
             return this;
         }
 
+        /**
+         * Sets the thing IDs for which signals should be emitted.
+         *
+         * @param thingIds the thing IDs whose signals should be emitted &ndash; if empty or {@code null},
+         * signals of all things are considered.
+         * @return this builder instance to allow method chaining.
+         */
+        public StartStreamingBuilder withThingIds(@Nullable final Collection<ThingId> thingIds) {
+            this.thingIds = thingIds;
+            return this;
+        }
+
         /**
          * Sets the filter to be applied to events.
          *
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.gateway.streaming;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -62,6 +63,21 @@ public interface WebsocketConfig {
      */
     ThrottlingConfig getThrottlingConfig();
 
+    /**
+     * Returns the maximum number of serialized outgoing signals shared between all web socket sessions of this gateway
+     * instance. A value of zero disables sharing serialized signals between sessions.
+     *
+     * @return the maximum size of the outgoing message cache.
+     */
+    long getOutgoingCacheMaximumSize();
+
+    /**
+     * Returns how long a serialized outgoing signal is kept for other web socket sessions receiving the same signal.
+     *
+     * @return the duration after which an entry of the outgoing message cache expires.
+     */
+    Duration getOutgoingCacheExpireAfterWrite();
+
     /**
      * Render this object into a Config object from which a copy of this object can be constructed.
      *
@@ -74,6 +90,9 @@ public interface WebsocketConfig {
         map.put(WebsocketConfigValue.PUBLISHER_BACKPRESSURE_BUFFER_SIZE.getConfigPath(),
                 getPublisherBackpressureBufferSize());
         map.put(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath(), getThrottlingRejectionFactor());
+        map.put(WebsocketConfigValue.OUTGOING_CACHE_MAXIMUM_SIZE.getConfigPath(), getOutgoingCacheMaximumSize());
+        map.put(WebsocketConfigValue.OUTGOING_CACHE_EXPIRE_AFTER_WRITE.getConfigPath(),
+                getOutgoingCacheExpireAfterWrite().toMillis() + "ms");
         return ConfigFactory.parseMap(map)
                 .withFallback(getThrottlingConfig().render())
                 .atKey(CONFIG_PATH);
@@ -98,7 +117,17 @@ public interface WebsocketConfig {
         /**
          * The factor of maximum throughput at which rejections were sent.
          */
-        THROTTLING_REJECTION_FACTOR("throttling-rejection-factor", 1.25);
+        THROTTLING_REJECTION_FACTOR("throttling-rejection-factor", 1.25),
+
+        /**
+         * The maximum number of serialized outgoing signals shared between web socket sessions.
+         */
+        OUTGOING_CACHE_MAXIMUM_SIZE("outgoing-cache.maximum-size", 1000L),
+
+        /**
+         * How long a serialized outgoing signal is shared between web socket sessions.
+         */
+        OUTGOING_CACHE_EXPIRE_AFTER_WRITE("outgoing-cache.expire-after-write", Duration.ofSeconds(5L));
 
         private final String path;
         private final Object defaultValue;
@@ -14,11 +14,15 @@ package org.eclipse.ditto.services.gateway.streaming.actors;
 
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
@@ -46,6 +50,7 @@ import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.pubsub.extractors.QualifiedReadSubjectExtractor;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
@@ -75,6 +80,8 @@ final class StreamingSessionActor extends AbstractActor {
     private final ActorRef eventAndResponsePublisher;
     private final Set<StreamingType> outstandingSubscriptionAcks;
     private final Map<StreamingType, StreamingSession> streamingSessions;
+    private final Map<StreamingType, Set<String>> streamingTopics;
+    private final Set<String> liveTopics;
     private final DittoDiagnosticLoggingAdapter logger;
 
     @Nullable private Cancellable sessionTerminationCancellable;
@@ -92,6 +99,8 @@ final class StreamingSessionActor extends AbstractActor {
         outstandingSubscriptionAcks = EnumSet.noneOf(StreamingType.class);
         authorizationContext = AuthorizationModelFactory.emptyAuthContext();
         streamingSessions = new EnumMap<>(StreamingType.class);
+        streamingTopics = new EnumMap<>(StreamingType.class);
+        liveTopics = new HashSet<>();
         logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
         logger.setCorrelationId(connectionCorrelationId);
         connect.getSessionExpirationTime().ifPresent(expiration ->
@@ -166,9 +175,7 @@ final class StreamingSessionActor extends AbstractActor {
                     // In Cluster: Subscribe
                     final AcknowledgeSubscription subscribeAck =
                             new AcknowledgeSubscription(startStreaming.getStreamingType());
-                    final Collection<StreamingType> currentStreamingTypes = streamingSessions.keySet();
-                    dittoProtocolSub.subscribe(currentStreamingTypes, authorizationContext.getAuthorizationSubjectIds(),
-                            getSelf()).thenAccept(ack -> getSelf().tell(subscribeAck, getSelf()));
+                    subscribe(startStreaming).thenAccept(ack -> getSelf().tell(subscribeAck, getSelf()));
                 })
                 .match(StopStreaming.class, stopStreaming -> {
                     logger.debug("Got 'StopStreaming' message in <{}> session, unsubscribing from <{}> in Cluster ...",
@@ -179,16 +186,8 @@ final class StreamingSessionActor extends AbstractActor {
                     // In Cluster: Unsubscribe
                     final AcknowledgeUnsubscription unsubscribeAck =
                             new AcknowledgeUnsubscription(stopStreaming.getStreamingType());
-                    final Collection<StreamingType> currentStreamingTypes = streamingSessions.keySet();
-                    if (stopStreaming.getStreamingType() != StreamingType.EVENTS) {
-                        dittoProtocolSub.updateLiveSubscriptions(currentStreamingTypes,
-                                authorizationContext.getAuthorizationSubjectIds(), getSelf())
-                                .thenAccept(ack -> getSelf().tell(unsubscribeAck, getSelf()));
-                    } else {
-                        dittoProtocolSub.removeTwinSubscriber(getSelf(),
-                                authorizationContext.getAuthorizationSubjectIds())
-                                .thenAccept(ack -> getSelf().tell(unsubscribeAck, getSelf()));
-                    }
+                    unsubscribe(stopStreaming.getStreamingType())
+                            .thenAccept(ack -> getSelf().tell(unsubscribeAck, getSelf()));
                 })
                 .match(RefreshSession.class, refreshSession -> {
                     cancelSessionTimeout();
@@ -218,6 +217,89 @@ final class StreamingSessionActor extends AbstractActor {
                 .build();
     }
 
+    private CompletionStage<Void> subscribe(final StartStreaming startStreaming) {
+        final StreamingType streamingType = startStreaming.getStreamingType();
+        final Set<String> topics = getSubscriberTopics(startStreaming);
+        @Nullable final Set<String> previousTopics = streamingTopics.put(streamingType, topics);
+        if (streamingType == StreamingType.EVENTS) {
+            // a repeated StartStreaming may narrow the namespaces or things: drop the topics no longer needed
+            final Set<String> removedTopics = null != previousTopics ? new HashSet<>(previousTopics) : new HashSet<>();
+            removedTopics.removeAll(topics);
+            return dittoProtocolSub.subscribe(Collections.singleton(streamingType), topics, getSelf())
+                    .thenCompose(ack -> removedTopics.isEmpty()
+                            ? CompletableFuture.completedFuture(null)
+                            : dittoProtocolSub.removeTwinSubscriber(getSelf(), removedTopics));
+        } else {
+            return updateLiveSubscriptions();
+        }
+    }
+
+    private CompletionStage<Void> unsubscribe(final StreamingType streamingType) {
+        final Set<String> topics = streamingTopics.remove(streamingType);
+        if (streamingType == StreamingType.EVENTS) {
+            return dittoProtocolSub.removeTwinSubscriber(getSelf(), null != topics ? topics : Collections.emptySet());
+        } else {
+            return updateLiveSubscriptions();
+        }
+    }
+
+    /**
+     * Subscribe for the live topics of all current live streaming sessions and unsubscribe from the live topics
+     * which no session needs any more.
+     */
+    private CompletionStage<Void> updateLiveSubscriptions() {
+        final Collection<StreamingType> liveStreamingTypes = getLiveStreamingTypes();
+        final Set<String> currentLiveTopics = getCurrentLiveTopics();
+        final Set<String> removedLiveTopics = new HashSet<>(liveTopics);
+        removedLiveTopics.removeAll(currentLiveTopics);
+        liveTopics.clear();
+        liveTopics.addAll(currentLiveTopics);
+
+        final CompletionStage<Void> subscription = liveStreamingTypes.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : dittoProtocolSub.updateLiveSubscriptions(liveStreamingTypes, currentLiveTopics, getSelf());
+        if (removedLiveTopics.isEmpty()) {
+            return subscription;
+        }
+        // without streaming types, the topics are unsubscribed
+        return subscription.thenCompose(ack -> dittoProtocolSub.updateLiveSubscriptions(Collections.emptySet(),
+                removedLiveTopics, getSelf()));
+    }
+
+    /**
+     * Compute the pub-sub topics of a streaming session: namespace- or thing-ID-qualified authorization subjects if
+     * the session is restricted to some namespaces or things, so that events of other namespaces or things are not
+     * even delivered to this actor; the plain authorization subjects otherwise.
+     * Live signals are published with namespace-qualified topics only.
+     */
+    private Set<String> getSubscriberTopics(final StartStreaming startStreaming) {
+        final List<String> subjects = authorizationContext.getAuthorizationSubjectIds();
+        if (startStreaming.getStreamingType() == StreamingType.EVENTS) {
+            return QualifiedReadSubjectExtractor.getSubscriberTopics(subjects, startStreaming.getNamespaces(),
+                    startStreaming.getThingIds());
+        } else {
+            return QualifiedReadSubjectExtractor.getSubscriberTopics(subjects, startStreaming.getNamespaces(),
+                    Collections.emptyList());
+        }
+    }
+
+    private Collection<StreamingType> getLiveStreamingTypes() {
+        final Set<StreamingType> liveStreamingTypes = EnumSet.noneOf(StreamingType.class);
+        liveStreamingTypes.addAll(streamingSessions.keySet());
+        liveStreamingTypes.remove(StreamingType.EVENTS);
+        return liveStreamingTypes;
+    }
+
+    private Set<String> getCurrentLiveTopics() {
+        final Set<String> currentLiveTopics = new HashSet<>();
+        streamingTopics.forEach((streamingType, topics) -> {
+            if (streamingType != StreamingType.EVENTS) {
+                currentLiveTopics.addAll(topics);
+            }
+        });
+        return currentLiveTopics;
+    }
+
     private void handleSignal(final Signal<?> signal) {
         logger.setCorrelationId(signal);
         final DittoHeaders dittoHeaders = signal.getDittoHeaders();
@@ -74,6 +74,12 @@ public final class DefaultWebsocketConfigTest {
                 .as(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath())
                 .isCloseTo((Double) WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getDefaultValue(),
                         Percentage.withPercentage(1.0));
+        softly.assertThat(underTest.getOutgoingCacheMaximumSize())
+                .as(WebsocketConfigValue.OUTGOING_CACHE_MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(WebsocketConfigValue.OUTGOING_CACHE_MAXIMUM_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getOutgoingCacheExpireAfterWrite())
+                .as(WebsocketConfigValue.OUTGOING_CACHE_EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(WebsocketConfigValue.OUTGOING_CACHE_EXPIRE_AFTER_WRITE.getDefaultValue());
     }
 
     @Test
@@ -95,6 +101,12 @@ public final class DefaultWebsocketConfigTest {
         softly.assertThat(underTest.getThrottlingConfig().getLimit())
                 .as("throttling.limit")
                 .isEqualTo(9);
+        softly.assertThat(underTest.getOutgoingCacheMaximumSize())
+                .as(WebsocketConfigValue.OUTGOING_CACHE_MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(77L);
+        softly.assertThat(underTest.getOutgoingCacheExpireAfterWrite())
+                .as(WebsocketConfigValue.OUTGOING_CACHE_EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3L));
     }
 
     @Test
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.concierge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithManifest;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.services.utils.cluster.MappingStrategy;
+import org.eclipse.ditto.signals.base.Signal;
+
+/**
+ * A list of signals sent to the concierge enforcer in one message, e. g. the signals mapped from a micro-batch of
+ * inbound messages of a connection.
+ */
+@Immutable
+public final class BatchedSignals implements Jsonifiable<JsonObject>, WithManifest {
+
+    /**
+     * Type of this message.
+     */
+    public static final String TYPE = "concierge:batchedSignals";
+
+    private static final JsonFieldDefinition<JsonArray> JSON_SIGNALS =
+            JsonFactory.newJsonArrayFieldDefinition("signals");
+
+    private static final JsonFieldDefinition<String> JSON_MANIFEST = JsonFactory.newStringFieldDefinition("manifest");
+
+    private static final JsonFieldDefinition<JsonObject> JSON_DITTO_HEADERS =
+            JsonFactory.newJsonObjectFieldDefinition("dittoHeaders");
+
+    private static final JsonFieldDefinition<JsonObject> JSON_PAYLOAD =
+            JsonFactory.newJsonObjectFieldDefinition("payload");
+
+    private final List<Signal<?>> signals;
+
+    private BatchedSignals(final List<Signal<?>> signals) {
+        this.signals = Collections.unmodifiableList(new ArrayList<>(signals));
+    }
+
+    /**
+     * Create a {@code BatchedSignals} object.
+     *
+     * @param signals the batched signals.
+     * @return a new {@code BatchedSignals} object.
+     * @throws NullPointerException if {@code signals} is {@code null}.
+     */
+    public static BatchedSignals of(final List<Signal<?>> signals) {
+        return new BatchedSignals(signals);
+    }
+
+    /**
+     * Create a deserializer from the mapping strategies of the batched signals.
+     *
+     * @param signalStrategies the mapping strategies by manifest; looked up whenever a batch is deserialized.
+     * @return deserializer for {@code BatchedSignals}.
+     */
+    public static MappingStrategy deserializer(final Map<String, MappingStrategy> signalStrategies) {
+        return (jsonObject, dittoHeaders) -> {
+            final List<Signal<?>> signals = jsonObject.getValueOrThrow(JSON_SIGNALS)
+                    .stream()
+                    .map(JsonValue::asObject)
+                    .map(signalJson -> deserializeSignal(signalStrategies, signalJson))
+                    .collect(Collectors.toList());
+            return new BatchedSignals(signals);
+        };
+    }
+
+    /**
+     * Retrieve the batched signals.
+     *
+     * @return the signals in the order they were batched.
+     */
+    public List<Signal<?>> getSignals() {
+        return signals;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        final JsonArray signalsJson = signals.stream()
+                .map(BatchedSignals::serializeSignal)
+                .collect(JsonCollectors.valuesToArray());
+        return JsonFactory.newObjectBuilder()
+                .set(JSON_SIGNALS, signalsJson)
+                .build();
+    }
+
+    @Nonnull
+    @Override
+    public String getManifest() {
+        return TYPE;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BatchedSignals that = (BatchedSignals) o;
+        return Objects.equals(signals, that.signals);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(signals);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "signals=" + signals +
+                "]";
+    }
+
+    private static JsonObject serializeSignal(final Signal<?> signal) {
+        final DittoHeaders dittoHeaders = signal.getDittoHeaders();
+        final JsonSchemaVersion schemaVersion = dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+        return JsonFactory.newObjectBuilder()
+                .set(JSON_MANIFEST, signal.getManifest())
+                .set(JSON_DITTO_HEADERS, dittoHeaders.toJson())
+                .set(JSON_PAYLOAD, signal.toJson(schemaVersion, FieldType.regularOrSpecial()))
+                .build();
+    }
+
+    private static Signal<?> deserializeSignal(final Map<String, MappingStrategy> signalStrategies,
+            final JsonObject signalJson) {
+
+        final String manifest = signalJson.getValueOrThrow(JSON_MANIFEST);
+        final MappingStrategy strategy = signalStrategies.get(manifest);
+        if (strategy == null) {
+            throw new IllegalArgumentException("No mapping strategy for batched signal of type <" + manifest + ">.");
+        }
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder(signalJson.getValueOrThrow(JSON_DITTO_HEADERS))
+                .build();
+        return (Signal<?>) strategy.map(signalJson.getValueOrThrow(JSON_PAYLOAD), dittoHeaders);
+    }
+
+}
@@ -19,6 +19,7 @@ import org.eclipse.ditto.services.models.connectivity.ConnectivityMappingStrateg
 import org.eclipse.ditto.services.models.policies.PoliciesMappingStrategies;
 import org.eclipse.ditto.services.models.things.ThingsMappingStrategies;
 import org.eclipse.ditto.services.models.thingsearch.ThingSearchMappingStrategies;
+import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntries;
 import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cluster.AbstractGlobalMappingStrategies;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategies;
@@ -47,9 +48,11 @@ public final class ConciergeMappingStrategies extends AbstractGlobalMappingStrat
 
         final MappingStrategies strategies = MappingStrategiesBuilder.newInstance()
                 .add(InvalidateCacheEntry.class, jsonObject -> InvalidateCacheEntry.fromJson(jsonObject)) // do not replace with lambda!
+                .add(InvalidateCacheEntries.class, jsonObject -> InvalidateCacheEntries.fromJson(jsonObject)) // do not replace with lambda!
                 .build();
 
         combinedStrategy.putAll(strategies.getStrategies());
+        combinedStrategy.put(BatchedSignals.TYPE, BatchedSignals.deserializer(combinedStrategy));
 
         return combinedStrategy;
     }
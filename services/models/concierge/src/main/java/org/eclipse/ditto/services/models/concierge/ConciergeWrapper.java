@@ -36,7 +36,28 @@ public final class ConciergeWrapper {
         return new ConsistentHashingRouter.ConsistentHashableEnvelope(signal, hashFor(signal));
     }
 
-    private static String hashFor(final Signal<?> signal) {
+    /**
+     * Wrap a batch of signals of one entity in a sharded hashable envelope addressed to the {@code EnforcerActor} of
+     * the entity. It is the same enforcer which receives the single signals of the entity, so that batching does not
+     * reorder the signals of any entity.
+     *
+     * @param batchedSignals the nonempty batch of signals of one entity to wrap.
+     * @return the message envelope.
+     */
+    public static ConsistentHashingRouter.ConsistentHashableEnvelope wrapForEnforcerRouter(
+            final BatchedSignals batchedSignals) {
+
+        return new ConsistentHashingRouter.ConsistentHashableEnvelope(batchedSignals,
+                hashFor(batchedSignals.getSignals().get(0)));
+    }
+
+    /**
+     * Compute the key by which a signal is routed to its {@code EnforcerActor}.
+     *
+     * @param signal the signal.
+     * @return the hash key of the signal.
+     */
+    public static String hashFor(final Signal<?> signal) {
         return EntityIdWithResourceType.of(signal.getResourceType(), signal.getEntityId()).toString();
     }
 
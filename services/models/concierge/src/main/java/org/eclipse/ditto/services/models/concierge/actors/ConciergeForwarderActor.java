@@ -14,9 +14,14 @@ package org.eclipse.ditto.services.models.concierge.actors;
 
 import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants.DISPATCHER_ACTOR_PATH;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.services.models.concierge.BatchedSignals;
 import org.eclipse.ditto.services.models.concierge.ConciergeWrapper;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
@@ -33,6 +38,10 @@ import akka.japi.pf.ReceiveBuilder;
  * Actor which acts as a client to the concierge service. It forwards messages either to the concierge's appropriate
  * enforcer (in case of a command referring to a single entity) or to the concierge's dispatcher actor (in
  * case of commands not referring to a single entity such as search commands).
+ * <p>
+ * Each {@link BatchedSignals} is split into one batch per entity, which is routed like the single signals of the
+ * entity.
+ * </p>
  */
 public class ConciergeForwarderActor extends AbstractActor {
 
@@ -85,6 +94,7 @@ public class ConciergeForwarderActor extends AbstractActor {
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(Signal.class, signal -> forward(signal, getContext()))
+                .match(BatchedSignals.class, batchedSignals -> forwardBatch(batchedSignals, getContext()))
                 .match(DistributedPubSubMediator.SubscribeAck.class, subscribeAck ->
                         log.debug("Successfully subscribed to distributed pub/sub on topic '{}'",
                                 subscribeAck.subscribe().topic())
@@ -101,8 +111,41 @@ public class ConciergeForwarderActor extends AbstractActor {
      * @param ctx the ActorRef to use as sender
      */
     private void forward(final Signal<?> signal, final ActorContext ctx) {
+        forwardTransformed(signal, signalTransformer.apply(signal), ctx);
+    }
+
+    /**
+     * Forwards the signals of the passed {@code batchedSignals} in one batch per entity to the
+     * {@code conciergeShardRegion}. Signals without entity ID are forwarded one by one to the {@code pubSubMediator}.
+     *
+     * @param batchedSignals the signals to forward
+     * @param ctx the ActorRef to use as sender
+     */
+    private void forwardBatch(final BatchedSignals batchedSignals, final ActorContext ctx) {
+        final Map<String, List<Signal<?>>> signalsPerEntity = new LinkedHashMap<>();
+        for (final Signal<?> signal : batchedSignals.getSignals()) {
+            final Signal<?> transformedSignal = signalTransformer.apply(signal);
+            if (transformedSignal.getEntityId().isDummy()) {
+                forwardTransformed(signal, transformedSignal, ctx);
+            } else {
+                signalsPerEntity.computeIfAbsent(ConciergeWrapper.hashFor(transformedSignal),
+                        entity -> new ArrayList<>()
+                ).add(transformedSignal);
+            }
+        }
+        signalsPerEntity.forEach((entity, signals) -> {
+            if (signals.size() == 1) {
+                LogUtil.enhanceLogWithCorrelationId(log, signals.get(0));
+                forwardToEnforcer(signals.get(0), ctx);
+            } else {
+                log.debug("Forwarding batch of <{}> signals of <{}> to concierge enforcer", signals.size(), entity);
+                conciergeEnforcer.forward(ConciergeWrapper.wrapForEnforcerRouter(BatchedSignals.of(signals)), ctx);
+            }
+        });
+    }
 
-        final Signal<?> transformedSignal = signalTransformer.apply(signal);
+    private void forwardTransformed(final Signal<?> signal, final Signal<?> transformedSignal,
+            final ActorContext ctx) {
 
         LogUtil.enhanceLogWithCorrelationId(log, signal);
         final EntityId signalId = transformedSignal.getEntityId();
@@ -115,13 +158,18 @@ public class ConciergeForwarderActor extends AbstractActor {
             log.debug("Forwarding message to concierge-dispatcherActor via pub/sub: <{}>.", msg);
             pubSubMediator.forward(msg, ctx);
         } else {
-            log.info("Forwarding signal with ID <{}> and type <{}> to concierge enforcer", signalId, signalType);
-            final Object msg = ConciergeWrapper.wrapForEnforcerRouter(transformedSignal);
-            log.debug("Forwarding message to concierge enforcer: <{}>", msg);
-            conciergeEnforcer.forward(msg, ctx);
+            forwardToEnforcer(transformedSignal, ctx);
         }
     }
 
+    private void forwardToEnforcer(final Signal<?> transformedSignal, final ActorContext ctx) {
+        log.info("Forwarding signal with ID <{}> and type <{}> to concierge enforcer",
+                transformedSignal.getEntityId(), transformedSignal.getType());
+        final Object msg = ConciergeWrapper.wrapForEnforcerRouter(transformedSignal);
+        log.debug("Forwarding message to concierge enforcer: <{}>", msg);
+        conciergeEnforcer.forward(msg, ctx);
+    }
+
     private static DistributedPubSubMediator.Send wrapForPubSub(final Signal<?> signal) {
         return DistPubSubAccess.send(DISPATCHER_ACTOR_PATH, signal);
     }
@@ -19,6 +19,7 @@ import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 
 import akka.actor.ActorContext;
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 
 /**
  * Subscriptions for Ditto protocol channels.
@@ -36,6 +37,20 @@ public interface DittoProtocolSub {
     CompletionStage<Void> subscribe(Collection<StreamingType> types,
             Collection<String> topics, ActorRef subscriber);
 
+    /**
+     * Subscribe for each streaming type the same collection of topics as member of a group. Each signal is delivered
+     * to one member of the group only, selected by the entity ID of the signal. Group members receive signals of all
+     * live streaming types and must filter them by streaming type themselves.
+     *
+     * @param types the streaming types.
+     * @param topics the topics.
+     * @param subscriber who is subscribing.
+     * @param group the group of the subscriber.
+     * @return future that completes or fails according to the acknowledgement.
+     */
+    CompletionStage<Void> subscribe(Collection<StreamingType> types, Collection<String> topics, ActorRef subscriber,
+            String group);
+
     /**
      * Remove a subscriber.
      *
@@ -72,4 +87,16 @@ public interface DittoProtocolSub {
     static DittoProtocolSub of(final ActorContext context) {
         return DittoProtocolSubImpl.of(context);
     }
+
+    /**
+     * Get the {@code DittoProtocolSub} shared by all actors of an actor system. Its subscriber actors are started
+     * once per actor system as top-level actors; it must not be combined with {@link #of(ActorContext)} in the same
+     * actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the shared {@code DittoProtocolSub}.
+     */
+    static DittoProtocolSub get(final ActorSystem actorSystem) {
+        return DittoProtocolSubImpl.get(actorSystem);
+    }
 }
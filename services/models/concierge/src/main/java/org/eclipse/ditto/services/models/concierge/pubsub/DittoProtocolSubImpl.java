@@ -26,13 +26,17 @@ import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.utils.pubsub.DistributedSub;
 
+import akka.actor.AbstractExtensionId;
 import akka.actor.ActorContext;
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
 
 /**
  * Default implementation of {@link DittoProtocolSub}.
  */
-final class DittoProtocolSubImpl implements DittoProtocolSub {
+final class DittoProtocolSubImpl implements DittoProtocolSub, Extension {
 
     private final DistributedSub liveSignalSub;
     private final DistributedSub twinEventSub;
@@ -51,6 +55,10 @@ final class DittoProtocolSubImpl implements DittoProtocolSub {
         return new DittoProtocolSubImpl(liveSignalSub, twinEventSub);
     }
 
+    static DittoProtocolSubImpl get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
     @Override
     public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
             final Collection<String> topics,
@@ -66,6 +74,22 @@ final class DittoProtocolSubImpl implements DittoProtocolSub {
         );
     }
 
+    @Override
+    public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
+            final Collection<String> topics,
+            final ActorRef subscriber,
+            final String group) {
+        final CompletionStage<?> nop = CompletableFuture.completedFuture(null);
+        return partitionByStreamingTypes(types,
+                liveTypes -> !liveTypes.isEmpty()
+                        ? liveSignalSub.subscribeWithGroupAndAck(topics, subscriber, group)
+                        : nop,
+                hasTwinEvents -> hasTwinEvents
+                        ? twinEventSub.subscribeWithGroupAndAck(topics, subscriber, group)
+                        : nop
+        );
+    }
+
     @Override
     public void removeSubscriber(final ActorRef subscriber) {
         liveSignalSub.removeSubscriber(subscriber);
@@ -113,4 +137,15 @@ final class DittoProtocolSubImpl implements DittoProtocolSub {
         return topics -> topics.stream().anyMatch(streamingTypeTopics::contains);
     }
 
+    private static final class ExtensionId extends AbstractExtensionId<DittoProtocolSubImpl> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public DittoProtocolSubImpl createExtension(final ExtendedActorSystem system) {
+            final DistributedSub liveSignalSub = LiveSignalPubSubFactory.of(system).startDistributedSub();
+            final DistributedSub twinEventSub = ThingEventPubSubFactory.readSubjectsOnly(system).startDistributedSub();
+            return new DittoProtocolSubImpl(liveSignalSub, twinEventSub);
+        }
+    }
 }
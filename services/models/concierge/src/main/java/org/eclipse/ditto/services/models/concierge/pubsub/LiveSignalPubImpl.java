@@ -12,11 +12,13 @@
  */
 package org.eclipse.ditto.services.models.concierge.pubsub;
 
-import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import java.util.Arrays;
+
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.services.utils.pubsub.extractors.ConstantTopics;
 import org.eclipse.ditto.services.utils.pubsub.extractors.PubSubTopicExtractor;
+import org.eclipse.ditto.services.utils.pubsub.extractors.QualifiedReadSubjectExtractor;
 import org.eclipse.ditto.services.utils.pubsub.extractors.ReadSubjectExtractor;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -75,10 +77,12 @@ final class LiveSignalPubImpl implements LiveSignalPub {
         return messagePub;
     }
 
-    private static <T extends WithDittoHeaders> PubSubTopicExtractor<T> getTopicExtractor(
+    private static <T extends Signal> PubSubTopicExtractor<T> getTopicExtractor(
             final StreamingType streamingType) {
 
-        return ReadSubjectExtractor.<T>of().with(ConstantTopics.of(streamingType.getDistributedPubSubTopic()));
+        return ReadSubjectExtractor.<T>of().with(Arrays.asList(
+                ConstantTopics.of(streamingType.getDistributedPubSubTopic()),
+                QualifiedReadSubjectExtractor.namespaces()));
     }
 
 }
@@ -12,16 +12,20 @@
  */
 package org.eclipse.ditto.services.models.concierge.pubsub;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.utils.pubsub.AbstractPubSubFactory;
 import org.eclipse.ditto.services.utils.pubsub.extractors.PubSubTopicExtractor;
+import org.eclipse.ditto.services.utils.pubsub.extractors.QualifiedReadSubjectExtractor;
 import org.eclipse.ditto.services.utils.pubsub.extractors.ReadSubjectExtractor;
 import org.eclipse.ditto.signals.base.Signal;
 
 import akka.actor.ActorContext;
+import akka.actor.ActorRefFactory;
+import akka.actor.ActorSystem;
 
 /**
  * Pub-sub factory for live signals.
@@ -30,10 +34,10 @@ final class LiveSignalPubSubFactory<T extends Signal> extends AbstractPubSubFact
 
     private static final DDataProvider PROVIDER = DDataProvider.of("live-signal-aware");
 
-    private LiveSignalPubSubFactory(final ActorContext context, final Class<T> messageClass,
-            final PubSubTopicExtractor<T> topicExtractor) {
+    private LiveSignalPubSubFactory(final ActorRefFactory actorRefFactory, final ActorSystem actorSystem,
+            final Class<T> messageClass, final PubSubTopicExtractor<T> topicExtractor) {
 
-        super(context, messageClass, topicExtractor, PROVIDER);
+        super(actorRefFactory, actorSystem, messageClass, topicExtractor, PROVIDER);
     }
 
     /**
@@ -44,7 +48,17 @@ final class LiveSignalPubSubFactory<T extends Signal> extends AbstractPubSubFact
      */
     public static LiveSignalPubSubFactory<Signal> of(final ActorContext context) {
 
-        return new LiveSignalPubSubFactory<>(context, Signal.class, topicExtractor());
+        return new LiveSignalPubSubFactory<>(context, context.system(), Signal.class, topicExtractor());
+    }
+
+    /**
+     * Create a pubsub factory for live signals whose publisher and subscriber actors are top-level actors.
+     *
+     * @param actorSystem the actor system.
+     * @return the pubsub factory.
+     */
+    public static LiveSignalPubSubFactory<Signal> of(final ActorSystem actorSystem) {
+        return new LiveSignalPubSubFactory<>(actorSystem, actorSystem, Signal.class, topicExtractor());
     }
 
     private static Collection<String> getStreamingTypeTopic(final Signal signal) {
@@ -55,6 +69,8 @@ final class LiveSignalPubSubFactory<T extends Signal> extends AbstractPubSubFact
     }
 
     private static <T extends Signal> PubSubTopicExtractor<T> topicExtractor() {
-        return ReadSubjectExtractor.<T>of().with(LiveSignalPubSubFactory::getStreamingTypeTopic);
+        return ReadSubjectExtractor.<T>of().with(Arrays.<PubSubTopicExtractor<T>>asList(
+                LiveSignalPubSubFactory::getStreamingTypeTopic,
+                QualifiedReadSubjectExtractor.namespaces()));
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.concierge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cluster.MappingStrategy;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteThing;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.Test;
+import org.mutabilitydetector.unittesting.matchers.reasons.FieldAssumptions;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link BatchedSignals}.
+ */
+public final class BatchedSignalsTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "batched");
+
+    private static final BatchedSignals KNOWN_BATCH = BatchedSignals.of(Arrays.asList(
+            ModifyAttribute.of(THING_ID, JsonPointer.of("x"), JsonValue.of(5), headers("modify")),
+            RetrieveThing.of(ThingId.of("org.eclipse.ditto", "other"), headers("retrieve")),
+            DeleteThing.of(THING_ID, headers("delete"))));
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(BatchedSignals.class, areImmutable(),
+                FieldAssumptions.named(Collections.singleton("signals"))
+                        .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(BatchedSignals.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void serializationRoundTripViaConciergeMappingStrategies() {
+        final MappingStrategy deserializer = getConciergeMappingStrategy(KNOWN_BATCH.getManifest());
+
+        final Jsonifiable<?> deserialized = deserializer.map(KNOWN_BATCH.toJson(), DittoHeaders.empty());
+
+        assertThat(KNOWN_BATCH.getManifest()).isEqualTo("concierge:batchedSignals");
+        assertThat(deserialized).isEqualTo(KNOWN_BATCH);
+        assertThat(((BatchedSignals) deserialized).getSignals())
+                .extracting(signal -> signal.getDittoHeaders().getCorrelationId().orElse(null))
+                .containsExactly("modify", "retrieve", "delete");
+    }
+
+    @Test
+    public void serializationRoundTripOfEmptyBatch() {
+        final BatchedSignals emptyBatch = BatchedSignals.of(Collections.emptyList());
+
+        assertThat(getConciergeMappingStrategy(BatchedSignals.TYPE).map(emptyBatch.toJson(), DittoHeaders.empty()))
+                .isEqualTo(emptyBatch);
+    }
+
+    @Test
+    public void deserializeSignalOfUnknownTypeFails() {
+        final JsonObject json = JsonFactory.newObjectBuilder()
+                .set("signals", JsonFactory.newArrayBuilder()
+                        .add(JsonFactory.newObjectBuilder()
+                                .set("manifest", "unknown:signal")
+                                .set("dittoHeaders", JsonFactory.newObject())
+                                .set("payload", JsonFactory.newObject())
+                                .build())
+                        .build())
+                .build();
+        final MappingStrategy deserializer = getConciergeMappingStrategy(BatchedSignals.TYPE);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> deserializer.map(json, DittoHeaders.empty()))
+                .withMessageContaining("unknown:signal");
+    }
+
+    private static MappingStrategy getConciergeMappingStrategy(final String manifest) {
+        final Map<String, MappingStrategy> strategies = new ConciergeMappingStrategies().getStrategies();
+        assertThat(strategies).containsKey(manifest);
+        return strategies.get(manifest);
+    }
+
+    private static DittoHeaders headers(final String correlationId) {
+        return DittoHeaders.newBuilder().correlationId(correlationId).build();
+    }
+
+}
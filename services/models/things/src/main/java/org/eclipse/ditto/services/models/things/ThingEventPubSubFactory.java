@@ -18,11 +18,13 @@ import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.pubsub.AbstractPubSubFactory;
 import org.eclipse.ditto.services.utils.pubsub.extractors.ConstantTopics;
 import org.eclipse.ditto.services.utils.pubsub.extractors.PubSubTopicExtractor;
+import org.eclipse.ditto.services.utils.pubsub.extractors.QualifiedReadSubjectExtractor;
 import org.eclipse.ditto.services.utils.pubsub.extractors.ReadSubjectExtractor;
 import org.eclipse.ditto.services.utils.pubsub.extractors.ShardIdExtractor;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
 import akka.actor.ActorContext;
+import akka.actor.ActorSystem;
 
 /**
  * Pub-sub factory for thing events.
@@ -36,6 +38,12 @@ public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEv
         super(context, ThingEvent.class, topicExtractor, PROVIDER);
     }
 
+    private ThingEventPubSubFactory(final ActorSystem actorSystem,
+            final PubSubTopicExtractor<ThingEvent> topicExtractor) {
+
+        super(actorSystem, actorSystem, ThingEvent.class, topicExtractor, PROVIDER);
+    }
+
     /**
      * Create a pubsub factory for thing events from an actor system and its shard region extractor.
      *
@@ -59,6 +67,17 @@ public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEv
         return new ThingEventPubSubFactory(context, readSubjectOnlyExtractor());
     }
 
+    /**
+     * Create a pubsub factory for thing events ignoring shard ID topics whose publisher and subscriber actors are
+     * top-level actors.
+     *
+     * @param actorSystem the actor system.
+     * @return the thing event pub-sub factory.
+     */
+    public static ThingEventPubSubFactory readSubjectsOnly(final ActorSystem actorSystem) {
+        return new ThingEventPubSubFactory(actorSystem, readSubjectOnlyExtractor());
+    }
+
     /**
      * Create a pubsub factory for thing events ignoring read subject topics.
      *
@@ -74,7 +93,9 @@ public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEv
     }
 
     private static PubSubTopicExtractor<ThingEvent> readSubjectOnlyExtractor() {
-        return ReadSubjectExtractor.<ThingEvent>of().with(ConstantTopics.of(ThingEvent.TYPE_PREFIX));
+        return ReadSubjectExtractor.<ThingEvent>of().with(
+                Arrays.asList(ConstantTopics.of(ThingEvent.TYPE_PREFIX),
+                        QualifiedReadSubjectExtractor.namespacesAndEntityIds()));
     }
 
     private static PubSubTopicExtractor<ThingEvent> shardIdOnlyExtractor(final ShardRegionExtractor extractor) {
@@ -83,6 +104,8 @@ public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEv
 
     private static PubSubTopicExtractor<ThingEvent> toTopicExtractor(final ShardRegionExtractor shardRegionExtractor) {
         return ReadSubjectExtractor.<ThingEvent>of().with(
-                Arrays.asList(ConstantTopics.of(ThingEvent.TYPE_PREFIX), shardIdOnlyExtractor(shardRegionExtractor)));
+                Arrays.asList(ConstantTopics.of(ThingEvent.TYPE_PREFIX),
+                        QualifiedReadSubjectExtractor.namespacesAndEntityIds(),
+                        shardIdOnlyExtractor(shardRegionExtractor)));
     }
 }
@@ -34,6 +34,7 @@ import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.results.Result;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyNotAccessibleException;
+import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyUnavailableException;
 import org.eclipse.ditto.signals.events.policies.PolicyEvent;
 
 import akka.actor.ActorRef;
@@ -70,10 +71,14 @@ public final class PolicyPersistenceActor
             final ActorRef pubSubMediator) {
         super(policyId, snapshotAdapter);
         this.pubSubMediator = pubSubMediator;
-        final DittoPoliciesConfig policiesConfig = DittoPoliciesConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        );
-        this.policyConfig = policiesConfig.getPolicyConfig();
+        this.policyConfig = readPolicyConfig();
+    }
+
+    @SuppressWarnings("unused")
+    private PolicyPersistenceActor(final SnapshotAdapter<Policy> snapshotAdapter, final ActorRef pubSubMediator) {
+        super(PolicyId::of, snapshotAdapter, pubSubMediator);
+        this.pubSubMediator = pubSubMediator;
+        this.policyConfig = readPolicyConfig();
     }
 
     /**
@@ -91,6 +96,20 @@ public final class PolicyPersistenceActor
         return Props.create(PolicyPersistenceActor.class, policyId, snapshotAdapter, pubSubMediator);
     }
 
+    /**
+     * Creates Akka configuration object {@link Props} for a PolicyPersistenceActor which is started by the shard
+     * region directly instead of by a {@link PolicySupervisorActor}. The Policy ID is the URL-decoded actor name.
+     *
+     * @param snapshotAdapter the adapter to serialize Policy snapshots.
+     * @param pubSubMediator the PubSub mediator actor.
+     * @return the Akka configuration Props object
+     */
+    public static Props shardedEntityProps(final SnapshotAdapter<Policy> snapshotAdapter,
+            final ActorRef pubSubMediator) {
+
+        return Props.create(PolicyPersistenceActor.class, snapshotAdapter, pubSubMediator);
+    }
+
     /**
      * Retrieves the ShardRegion of "Policy". PolicyCommands can be sent to this region which handles dispatching them
      * in the cluster (onto the cluster node containing the shard).
@@ -102,6 +121,13 @@ public final class PolicyPersistenceActor
         return ClusterSharding.get(system).shardRegion(PoliciesMessagingConstants.SHARD_REGION);
     }
 
+    private PolicyConfig readPolicyConfig() {
+        final DittoPoliciesConfig policiesConfig = DittoPoliciesConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
+        );
+        return policiesConfig.getPolicyConfig();
+    }
+
     @Override
     public String persistenceId() {
         return PERSISTENCE_ID_PREFIX + entityId;
@@ -162,6 +188,11 @@ public final class PolicyPersistenceActor
         return PolicyNotAccessibleException.newBuilder(entityId);
     }
 
+    @Override
+    protected DittoRuntimeExceptionBuilder newUnavailableExceptionBuilder() {
+        return PolicyUnavailableException.newBuilder(entityId);
+    }
+
     @Override
     protected void publishEvent(final PolicyEvent event) {
         pubSubMediator.tell(DistPubSubAccess.publishViaGroup(PolicyEvent.TYPE_PREFIX, event), getSelf());
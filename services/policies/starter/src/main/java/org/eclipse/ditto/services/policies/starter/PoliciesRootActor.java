@@ -27,6 +27,7 @@ import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.policies.common.config.PoliciesConfig;
 import org.eclipse.ditto.services.policies.persistence.actors.PoliciesPersistenceStreamingActorCreator;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicyPersistenceOperationsActor;
+import org.eclipse.ditto.services.policies.persistence.actors.PolicyPersistenceActor;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicySupervisorActor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
@@ -87,7 +88,10 @@ public final class PoliciesRootActor extends DittoRootActor {
         final ClusterShardingSettings shardingSettings =
                 ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE);
 
-        final Props policySupervisorProps = PolicySupervisorActor.props(pubSubMediator, snapshotAdapter);
+        final Props policyEntityProps =
+                policiesConfig.getPolicyConfig().getSupervisorConfig().isEnabled()
+                        ? PolicySupervisorActor.props(pubSubMediator, snapshotAdapter)
+                        : PolicyPersistenceActor.shardedEntityProps(snapshotAdapter, pubSubMediator);
 
         final TagsConfig tagsConfig = policiesConfig.getTagsConfig();
         final ActorRef persistenceStreamingActor = startChildActor(PoliciesPersistenceStreamingActorCreator.ACTOR_NAME,
@@ -98,7 +102,7 @@ public final class PoliciesRootActor extends DittoRootActor {
 
         final ClusterConfig clusterConfig = policiesConfig.getClusterConfig();
         final ActorRef policiesShardRegion = ClusterSharding.get(actorSystem)
-                .start(PoliciesMessagingConstants.SHARD_REGION, policySupervisorProps, shardingSettings,
+                .start(PoliciesMessagingConstants.SHARD_REGION, policyEntityProps, shardingSettings,
                         ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem));
 
         startChildActor(PolicyPersistenceOperationsActor.ACTOR_NAME,
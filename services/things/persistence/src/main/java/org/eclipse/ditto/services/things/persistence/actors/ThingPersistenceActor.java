@@ -27,6 +27,7 @@ import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapsh
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
@@ -36,6 +37,7 @@ import org.eclipse.ditto.services.utils.persistentactors.results.Result;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
@@ -64,6 +66,11 @@ public final class ThingPersistenceActor
      */
     static final String SNAPSHOT_PLUGIN_ID = "akka-contrib-mongodb-persistence-things-snapshots";
 
+    /**
+     * The ID of the snapshot plugin reconstructing delta snapshots from the snapshots of {@link #SNAPSHOT_PLUGIN_ID}.
+     */
+    static final String DELTA_SNAPSHOT_PLUGIN_ID = "akka-contrib-mongodb-persistence-things-delta-snapshots";
+
     private final ThingConfig thingConfig;
     private final DistributedPub<ThingEvent> distributedPub;
 
@@ -72,10 +79,17 @@ public final class ThingPersistenceActor
             final SnapshotAdapter<Thing> snapshotAdapter) {
 
         super(thingId, snapshotAdapter);
-        final DittoThingsConfig thingsConfig = DittoThingsConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        );
-        thingConfig = thingsConfig.getThingConfig();
+        thingConfig = readThingConfig();
+        this.distributedPub = distributedPub;
+    }
+
+    @SuppressWarnings("unused")
+    private ThingPersistenceActor(final DistributedPub<ThingEvent> distributedPub,
+            final SnapshotAdapter<Thing> snapshotAdapter,
+            final ActorRef pubSubMediator) {
+
+        super(ThingId::of, snapshotAdapter, pubSubMediator);
+        thingConfig = readThingConfig();
         this.distributedPub = distributedPub;
     }
 
@@ -104,6 +118,28 @@ public final class ThingPersistenceActor
         return props(thingId, distributedPub, new ThingMongoSnapshotAdapter());
     }
 
+    /**
+     * Creates Akka configuration object {@link Props} for a ThingPersistenceActor which is started by the shard
+     * region directly instead of by a {@link ThingSupervisorActor}. The Thing ID is the URL-decoded actor name.
+     *
+     * @param distributedPub the distributed-pub access to publish thing events.
+     * @param pubSubMediator the PubSub mediator actor to subscribe for shutdown commands.
+     * @return the Akka configuration Props object.
+     */
+    public static Props shardedEntityProps(final DistributedPub<ThingEvent> distributedPub,
+            final ActorRef pubSubMediator) {
+
+        return Props.create(ThingPersistenceActor.class, distributedPub, new ThingMongoSnapshotAdapter(),
+                pubSubMediator);
+    }
+
+    private ThingConfig readThingConfig() {
+        final DittoThingsConfig thingsConfig = DittoThingsConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
+        );
+        return thingsConfig.getThingConfig();
+    }
+
     @Override
     public String persistenceId() {
         return PERSISTENCE_ID_PREFIX + entityId;
@@ -116,7 +152,8 @@ public final class ThingPersistenceActor
 
     @Override
     public String snapshotPluginId() {
-        return SNAPSHOT_PLUGIN_ID;
+        // delta snapshots can be loaded even if they are no longer taken
+        return DELTA_SNAPSHOT_PLUGIN_ID;
     }
 
     @Override
@@ -154,6 +191,16 @@ public final class ThingPersistenceActor
         return thingConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected int getMaxDeltaSnapshots() {
+        return thingConfig.getSnapshotConfig().getMaxDeltas();
+    }
+
+    @Override
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return thingConfig.getGroupCommitConfig();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
@@ -164,6 +211,11 @@ public final class ThingPersistenceActor
         return ThingNotAccessibleException.newBuilder(entityId);
     }
 
+    @Override
+    protected DittoRuntimeExceptionBuilder newUnavailableExceptionBuilder() {
+        return ThingUnavailableException.newBuilder(entityId);
+    }
+
     @Override
     protected void recoveryCompleted(final RecoveryCompleted event) {
         if (entity != null) {
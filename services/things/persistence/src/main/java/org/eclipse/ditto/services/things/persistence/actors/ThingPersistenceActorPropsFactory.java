@@ -16,6 +16,7 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
+import akka.actor.ActorRef;
 import akka.actor.Props;
 
 /**
@@ -32,4 +33,18 @@ public interface ThingPersistenceActorPropsFactory {
      * @return Props of the thing-persistence-actor.
      */
     Props props(ThingId thingId, DistributedPub<ThingEvent> distributedPub);
+
+    /**
+     * Create Props of a thing-persistence-actor which is the sharded entity itself, i. e. which runs without
+     * {@link ThingSupervisorActor}.
+     *
+     * @param distributedPub the distributed-pub access.
+     * @param pubSubMediator the pub-sub mediator to subscribe for shutdown commands.
+     * @return Props of the thing-persistence-actor.
+     */
+    default Props shardedEntityProps(final DistributedPub<ThingEvent> distributedPub,
+            final ActorRef pubSubMediator) {
+
+        return ThingPersistenceActor.shardedEntityProps(distributedPub, pubSubMediator);
+    }
 }
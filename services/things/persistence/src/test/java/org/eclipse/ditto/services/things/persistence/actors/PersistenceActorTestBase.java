@@ -180,6 +180,12 @@ public abstract class PersistenceActorTestBase {
         return ThingPersistenceActor.props(thingId, pub);
     }
 
+    protected ActorRef createShardedEntityActorFor(final ThingId thingId) {
+        final Props props = ThingPersistenceActor.shardedEntityProps(getDistributedPub(), pubSubMediator);
+
+        return actorSystem.actorOf(props, thingId.toString());
+    }
+
     protected ActorRef createSupervisorActorFor(final ThingId thingId) {
         final Props props =
                 ThingSupervisorActor.props(pubSubMediator, getDistributedPub(), this::getPropsOfThingPersistenceActor);
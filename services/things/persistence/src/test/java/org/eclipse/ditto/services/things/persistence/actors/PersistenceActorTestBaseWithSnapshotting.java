@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.things.persistence.actors;
 
 import static org.eclipse.ditto.signals.events.things.assertions.ThingEventAssertions.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.time.Duration;
@@ -39,6 +40,7 @@ import org.eclipse.ditto.services.things.persistence.testhelper.Assertions;
 import org.eclipse.ditto.services.things.persistence.testhelper.ThingsJournalTestHelper;
 import org.eclipse.ditto.services.things.persistence.testhelper.ThingsSnapshotTestHelper;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.services.utils.persistence.mongo.snapshot.DeltaSnapshots;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.commands.things.modify.DeleteThing;
@@ -70,6 +72,7 @@ public abstract class PersistenceActorTestBaseWithSnapshotting extends Persisten
 
     private static final String SNAPSHOT_PREFIX = "ditto.things.thing.snapshot.";
     static final String SNAPSHOT_THRESHOLD = SNAPSHOT_PREFIX + "threshold";
+    static final String SNAPSHOT_MAX_DELTAS = SNAPSHOT_PREFIX + "max-deltas";
     private static final String SNAPSHOT_INTERVAL = SNAPSHOT_PREFIX + "interval";
     private static final String ACTIVITY_CHECK_PREFIX = "ditto.things.thing.activity-check";
     private static final String ACTIVITY_CHECK_INTERVAL = ACTIVITY_CHECK_PREFIX + "inactive-interval";
@@ -190,6 +193,12 @@ public abstract class PersistenceActorTestBaseWithSnapshotting extends Persisten
         });
     }
 
+    void assertLatestSnapshotIsDelta(final ThingId thingId, final boolean expectDelta) {
+        retryOnAssertionError(() -> assertEquals(expectDelta, snapshotTestHelper.getMaxSnapshotDocument(thingId)
+                .filter(DeltaSnapshots::isDelta)
+                .isPresent()));
+    }
+
     private static void retryOnAssertionError(final Runnable r) {
         Assertions.retryOnAssertionError(r, PERSISTENCE_ASSERT_WAIT_AT_MOST_MS, PERSISTENCE_ASSERT_RETRY_DELAY_MS);
     }
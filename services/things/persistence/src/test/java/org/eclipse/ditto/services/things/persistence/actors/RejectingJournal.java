@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import akka.dispatch.Futures;
+import akka.pattern.Patterns;
+import akka.persistence.AtomicWrite;
+import akka.persistence.PersistentRepr;
+import akka.persistence.journal.japi.AsyncWriteJournal;
+import scala.collection.JavaConverters;
+import scala.concurrent.Future;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * In-memory journal which rejects writes of events containing {@link #REJECTED_MARKER} and fails replays of
+ * persistence IDs containing it. Both happen after a delay, so that further commands arrive meanwhile.
+ */
+public final class RejectingJournal extends AsyncWriteJournal {
+
+    /**
+     * Writes of events whose serialized form contains this string are rejected.
+     */
+    static final String REJECTED_MARKER = "rejected-by-journal";
+
+    private static final FiniteDuration FAILURE_DELAY = FiniteDuration.apply(500L, "ms");
+
+    private final Map<String, List<PersistentRepr>> journal = new ConcurrentHashMap<>();
+
+    @Override
+    public Future<Iterable<Optional<Exception>>> doAsyncWriteMessages(final Iterable<AtomicWrite> messages) {
+        final List<Optional<Exception>> results = new ArrayList<>();
+        boolean rejected = false;
+        for (final AtomicWrite write : messages) {
+            final List<PersistentRepr> events = JavaConverters.seqAsJavaList(write.payload());
+            if (events.stream().anyMatch(event -> event.payload().toString().contains(REJECTED_MARKER))) {
+                results.add(Optional.of(new IllegalArgumentException("Rejected by journal")));
+                rejected = true;
+            } else {
+                journal.computeIfAbsent(write.persistenceId(), id -> new CopyOnWriteArrayList<>()).addAll(events);
+                results.add(Optional.empty());
+            }
+        }
+        final Iterable<Optional<Exception>> result = results;
+        if (rejected) {
+            return Patterns.after(FAILURE_DELAY, context().system().scheduler(), context().dispatcher(),
+                    () -> Futures.successful(result));
+        }
+        return Futures.successful(result);
+    }
+
+    @Override
+    public Future<Void> doAsyncDeleteMessagesTo(final String persistenceId, final long toSequenceNr) {
+        journal.computeIfPresent(persistenceId, (id, events) -> {
+            events.removeIf(event -> event.sequenceNr() <= toSequenceNr);
+            return events;
+        });
+        return Futures.successful(null);
+    }
+
+    @Override
+    public Future<Void> doAsyncReplayMessages(final String persistenceId, final long fromSequenceNr,
+            final long toSequenceNr, final long max, final Consumer<PersistentRepr> replayCallback) {
+
+        journal.getOrDefault(persistenceId, new ArrayList<>())
+                .stream()
+                .filter(event -> event.sequenceNr() >= fromSequenceNr && event.sequenceNr() <= toSequenceNr)
+                .limit(max)
+                .forEach(replayCallback);
+        return Futures.successful(null);
+    }
+
+    @Override
+    public Future<Long> doAsyncReadHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+        // read before replaying messages, thus failing the replay
+        if (persistenceId.contains(REJECTED_MARKER)) {
+            return Patterns.after(FAILURE_DELAY, context().system().scheduler(), context().dispatcher(),
+                    () -> Futures.failed(new IllegalStateException("Replay failed")));
+        }
+        final long highestSequenceNr = journal.getOrDefault(persistenceId, new ArrayList<>())
+                .stream()
+                .mapToLong(PersistentRepr::sequenceNr)
+                .max()
+                .orElse(0L);
+        return Futures.successful(highestSequenceNr);
+    }
+
+}
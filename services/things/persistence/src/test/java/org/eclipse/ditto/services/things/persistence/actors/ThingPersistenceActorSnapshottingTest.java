@@ -26,6 +26,8 @@ import org.eclipse.ditto.services.utils.test.Retry;
 import org.eclipse.ditto.signals.commands.things.assertions.ThingCommandAssertions;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
 import org.eclipse.ditto.signals.commands.things.modify.DeleteThing;
 import org.eclipse.ditto.signals.commands.things.modify.DeleteThingResponse;
@@ -219,6 +221,60 @@ public final class ThingPersistenceActorSnapshottingTest extends PersistenceActo
         };
     }
 
+    /**
+     * Checks that delta snapshots are taken between full snapshots and that the thing is recovered from a delta
+     * snapshot and its base.
+     */
+    @Test
+    public void thingIsRecoveredFromDeltaSnapshot() {
+        setup(createNewDefaultTestConfig().withValue(SNAPSHOT_MAX_DELTAS, ConfigValueFactory.fromAnyRef(1)));
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+
+                ActorRef underTest = createPersistenceActorFor(thingId);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // revision 2: full snapshot
+                modifyAttribute(underTest, thingId, "/foo", JsonValue.of("bar"), this);
+                assertLatestSnapshotIsDelta(thingId, false);
+
+                // revision 4: delta snapshot
+                modifyAttribute(underTest, thingId, "/foo", JsonValue.of("baz"), this);
+                modifyAttribute(underTest, thingId, "/new/nested", JsonValue.of(42), this);
+                assertLatestSnapshotIsDelta(thingId, true);
+
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+
+                final RetrieveThing retrieveThing = RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                        .withSelectedFields(FIELD_SELECTOR)
+                        .build();
+                underTest.tell(retrieveThing, getRef());
+
+                final Thing expectedThing = ThingsModelFactory.newThingBuilder(thing)
+                        .setAttribute(JsonFactory.newPointer("/foo"), JsonValue.of("baz"))
+                        .setAttribute(JsonFactory.newPointer("/new/nested"), JsonValue.of(42))
+                        .build();
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                assertThingInResponse(retrieveThingResponse.getThing(), expectedThing, 4);
+            }
+        };
+    }
+
+    private void modifyAttribute(final ActorRef underTest, final ThingId thingId, final String pointer,
+            final JsonValue value, final TestKit testKit) {
+
+        underTest.tell(ModifyAttribute.of(thingId, JsonFactory.newPointer(pointer), value, dittoHeadersV2),
+                testKit.getRef());
+        testKit.expectMsgClass(ModifyAttributeResponse.class);
+    }
+
     @Test
     public void actorCannotBeStartedWithNegativeSnapshotThreshold() {
         final Config customConfig = createNewDefaultTestConfig().withValue(SNAPSHOT_THRESHOLD,
@@ -1124,6 +1124,126 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void groupCommitAnswersCommandsInOrderAndPersistsAllEvents() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit.enabled = true"));
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = getIdOrThrow(thing);
+                final JsonValue attributeValue = JsonValue.of(42);
+                final JsonFieldSelector versionFieldSelector =
+                        JsonFactory.newFieldSelector(Thing.JsonFields.REVISION.toString(), JSON_PARSE_OPTIONS);
+                final RetrieveThing retrieveThing = RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                        .withSelectedFields(versionFieldSelector)
+                        .build();
+                final Thing thingExpected = ThingsModelFactory.newThingBuilder(thing).setRevision(4L).build();
+
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                // send all commands without waiting so that they arrive while writes are in flight
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                for (final String attribute : new String[]{"a", "b", "c"}) {
+                    underTest.tell(ModifyAttribute.of(thingId, JsonPointer.of(attribute), attributeValue,
+                            dittoHeadersV2), getRef());
+                }
+                underTest.tell(retrieveThing, getRef());
+
+                expectMsgClass(CreateThingResponse.class);
+                for (final String attribute : new String[]{"a", "b", "c"}) {
+                    expectMsgEquals(modifyAttributeResponse(thingId, JsonPointer.of(attribute), attributeValue,
+                            dittoHeadersV2, true));
+                }
+                expectMsgEquals(retrieveThingResponse(thingExpected, thingExpected.toJson(versionFieldSelector),
+                        dittoHeadersV2));
+
+                // restart actor to verify that all events were persisted
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                final ActorRef underTestAfterRestart = Retry.untilSuccess(() -> createPersistenceActorFor(thing));
+
+                Awaitility.await().atMost(10L, TimeUnit.SECONDS).untilAsserted(() -> {
+                    underTestAfterRestart.tell(retrieveThing, getRef());
+                    expectMsgEquals(retrieveThingResponse(thingExpected, thingExpected.toJson(versionFieldSelector),
+                            dittoHeadersV2));
+                });
+            }
+        };
+    }
+
+    @Test
+    public void groupCommitRestoresPersistedStateIfJournalRejectsEvents() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit.enabled = true\n" +
+                "akka-contrib-mongodb-persistence-things-journal.class = \"" + RejectingJournal.class.getName() +
+                "\""));
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = getIdOrThrow(thing);
+                final JsonPointer rejectedAttribute = JsonPointer.of(RejectingJournal.REJECTED_MARKER);
+                final JsonPointer bufferedAttribute = JsonPointer.of("buffered");
+                final JsonValue attributeValue = JsonValue.of(42);
+                final RetrieveThing retrieveThing = RetrieveThing.of(thingId, dittoHeadersV2);
+
+                final ActorRef underTest = createPersistenceActorFor(thing);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // the second command arrives while the rejected write is in flight and depends on its event
+                underTest.tell(ModifyAttribute.of(thingId, rejectedAttribute, attributeValue, dittoHeadersV2),
+                        getRef());
+                underTest.tell(ModifyAttribute.of(thingId, bufferedAttribute, attributeValue, dittoHeadersV2),
+                        getRef());
+                expectMsgClass(ThingUnavailableException.class);
+                expectMsgClass(ThingUnavailableException.class);
+
+                // the entity is restored to the persisted state and handles further commands
+                underTest.tell(retrieveThing, getRef());
+                assertThat(expectMsgClass(RetrieveThingResponse.class).getThing().getAttributes())
+                        .isEqualTo(thing.getAttributes());
+                underTest.tell(ModifyAttribute.of(thingId, bufferedAttribute, attributeValue, dittoHeadersV2),
+                        getRef());
+                expectMsgEquals(modifyAttributeResponse(thingId, bufferedAttribute, attributeValue, dittoHeadersV2,
+                        true));
+
+                // restart actor to verify that only the accepted events were persisted
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                final ActorRef underTestAfterRestart = Retry.untilSuccess(() -> createPersistenceActorFor(thing));
+
+                Awaitility.await().atMost(10L, TimeUnit.SECONDS).untilAsserted(() -> {
+                    underTestAfterRestart.tell(retrieveThing, getRef());
+                    assertThat(expectMsgClass(RetrieveThingResponse.class).getThing().getAttributes())
+                            .isEqualTo(thing.setAttribute(bufferedAttribute, attributeValue).getAttributes());
+                });
+            }
+        };
+    }
+
+    @Test
+    public void commandsReceivedDuringFailedRecoveryAreAnsweredWithError() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("akka-contrib-mongodb-persistence-things-journal.class = \"" +
+                RejectingJournal.class.getName() + "\""));
+
+        new TestKit(actorSystem) {
+            {
+                final ThingId thingId = ThingId.of("org.eclipse.ditto", RejectingJournal.REJECTED_MARKER);
+
+                final ActorRef underTest = createPersistenceActorFor(thingId);
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+
+                expectMsgClass(ThingUnavailableException.class);
+            }
+        };
+    }
+
     @Test
     public void createThingInV1AndRetrieveWithV1() {
         final ThingId thingIdOfActor = ThingId.of("test.ns.v1", "createThingInV1AndRetrieveWithV1");
@@ -1544,6 +1664,32 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         }};
     }
 
+    @Test
+    public void shardedEntityHandlesCommandsAndShutdownWithoutSupervisor() {
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = getIdOrThrow(thing);
+            final ActorRef underTest = watch(createShardedEntityActorFor(thingId));
+
+            final DistributedPubSubMediator.Subscribe subscribe =
+                    DistPubSubAccess.subscribe(Shutdown.TYPE, underTest);
+            pubSubTestProbe.expectMsg(subscribe);
+            pubSubTestProbe.reply(new DistributedPubSubMediator.SubscribeAck(subscribe));
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            final CreateThingResponse createThingResponse = expectMsgClass(CreateThingResponse.class);
+            assertThingInResponse(createThingResponse.getThingCreated().orElse(null), thing);
+
+            underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+            expectMsgClass(RetrieveThingResponse.class);
+
+            underTest.tell(
+                    Shutdown.getInstance(ShutdownReasonFactory.getPurgeNamespaceReason(thing.getNamespace().get()),
+                            DittoHeaders.empty()), pubSubTestProbe.ref());
+            expectTerminated(underTest);
+        }};
+    }
+
     private DittoHeaders testCreateAndModify(final Thing toCreate,
             final JsonSchemaVersion createVersion,
             final Thing toModify,
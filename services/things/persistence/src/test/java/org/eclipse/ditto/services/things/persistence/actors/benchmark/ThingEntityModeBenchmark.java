@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActor;
+import org.eclipse.ditto.services.things.persistence.actors.ThingSupervisorActor;
+import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.PoisonPill;
+import akka.actor.Props;
+import akka.pattern.Patterns;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * JMH Benchmark comparing things which run as {@link ThingSupervisorActor} with a {@link ThingPersistenceActor}
+ * child to things which run as single {@link ThingPersistenceActor} started by the shard region directly.
+ * It measures the round trip of a command to an active thing and the activation of a thing, i. e. creating its
+ * actors and recovering it, against the in-memory journal of the tests.
+ */
+@State(Scope.Benchmark)
+public class ThingEntityModeBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(10L);
+    private static final String NAMESPACE = "org.eclipse.ditto.benchmark";
+
+    private final AtomicLong activationCounter = new AtomicLong();
+
+    private ActorSystem actorSystem;
+    private DistributedPub<ThingEvent> distributedPub;
+    private ActorRef supervisedThing;
+    private ActorRef shardedEntityThing;
+
+    @Setup
+    public void setup() {
+        actorSystem = ActorSystem.create("ThingEntityModeBenchmark",
+                ConfigFactory.parseString("akka.log-dead-letters = off").withFallback(ConfigFactory.load("test")));
+        distributedPub = new DeadLettersPub(actorSystem.deadLetters());
+        supervisedThing = createAndAwait(supervisorProps(), ThingId.of(NAMESPACE, "supervised"));
+        shardedEntityThing = createAndAwait(shardedEntityProps(), ThingId.of(NAMESPACE, "sharded-entity"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object retrieveFromSupervisedThing() {
+        return retrieve(supervisedThing, ThingId.of(NAMESPACE, "supervised"));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object retrieveFromShardedEntityThing() {
+        return retrieve(shardedEntityThing, ThingId.of(NAMESPACE, "sharded-entity"));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object activateSupervisedThing() {
+        return activate(supervisorProps());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object activateShardedEntityThing() {
+        return activate(shardedEntityProps());
+    }
+
+    private Props supervisorProps() {
+        return ThingSupervisorActor.props(actorSystem.deadLetters(), distributedPub, ThingPersistenceActor::props);
+    }
+
+    private Props shardedEntityProps() {
+        return ThingPersistenceActor.shardedEntityProps(distributedPub, actorSystem.deadLetters());
+    }
+
+    private Object activate(final Props props) {
+        final ThingId thingId = ThingId.of(NAMESPACE, "activated-" + activationCounter.incrementAndGet());
+        final ActorRef thingActor = actorSystem.actorOf(props, thingId.toString());
+        final Object response = retrieve(thingActor, thingId);
+        thingActor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        return response;
+    }
+
+    private ActorRef createAndAwait(final Props props, final ThingId thingId) {
+        final ActorRef thingActor = actorSystem.actorOf(props, thingId.toString());
+        final Thing thing = ThingsModelFactory.newThingBuilder()
+                .setId(thingId)
+                .setPolicyId(thingId.toString())
+                .build();
+        Patterns.ask(thingActor, CreateThing.of(thing, null, DittoHeaders.empty()), ASK_TIMEOUT)
+                .toCompletableFuture()
+                .join();
+        return thingActor;
+    }
+
+    private static Object retrieve(final ActorRef thingActor, final ThingId thingId) {
+        return Patterns.ask(thingActor, RetrieveThing.of(thingId, DittoHeaders.empty()), ASK_TIMEOUT)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private static final class DeadLettersPub implements DistributedPub<ThingEvent> {
+
+        private final ActorRef deadLetters;
+
+        private DeadLettersPub(final ActorRef deadLetters) {
+            this.deadLetters = deadLetters;
+        }
+
+        @Override
+        public ActorRef getPublisher() {
+            return deadLetters;
+        }
+
+        @Override
+        public Object wrapForPublication(final ThingEvent message) {
+            return message;
+        }
+    }
+
+}
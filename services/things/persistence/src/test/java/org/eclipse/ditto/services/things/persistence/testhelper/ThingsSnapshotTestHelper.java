@@ -89,6 +89,20 @@ public final class ThingsSnapshotTestHelper<S> {
         return Optional.ofNullable(maxSnapshotData).map(this::convertSnapshotDataToDomainObject);
     }
 
+    /**
+     * Gets the maximum snapshot as it is stored, if any exists.
+     *
+     * @param domainId the domain ID of the snapshot
+     * @return an Optional containing the maximum stored snapshot, if any exists; an empty Optional otherwise
+     */
+    public Optional<BsonDocument> getMaxSnapshotDocument(final ThingId domainId) {
+        requireNonNull(domainId);
+
+        final String persistenceId = domainIdToPersistenceId.apply(domainId);
+        return Optional.ofNullable(getMaxSnapshotData(persistenceId))
+                .map(snapshotData -> (BsonDocument) snapshotData.snapshot());
+    }
+
     /**
      * Gets all snapshots in ascending order.
      *
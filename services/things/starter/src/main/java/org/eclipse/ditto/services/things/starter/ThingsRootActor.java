@@ -94,7 +94,7 @@ public final class ThingsRootActor extends DittoRootActor {
 
         final ActorRef thingsShardRegion = ClusterSharding.get(actorSystem)
                 .start(ThingsMessagingConstants.SHARD_REGION,
-                        getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory),
+                        getThingEntityProps(thingsConfig, pubSubMediator, distributedPub, propsFactory),
                         ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE),
                         shardRegionExtractor);
 
@@ -202,12 +202,17 @@ public final class ThingsRootActor extends DittoRootActor {
                 serverBinding.localAddress().getPort());
     }
 
-    private static Props getThingSupervisorActorProps(
+    private static Props getThingEntityProps(
+            final ThingsConfig thingsConfig,
             final ActorRef pubSubMediator,
             final DistributedPub<ThingEvent> distributedPub,
             final ThingPersistenceActorPropsFactory propsFactory) {
 
-        return ThingSupervisorActor.props(pubSubMediator, distributedPub, propsFactory);
+        if (thingsConfig.getThingConfig().getSupervisorConfig().isEnabled()) {
+            return ThingSupervisorActor.props(pubSubMediator, distributedPub, propsFactory);
+        } else {
+            return propsFactory.shardedEntityProps(distributedPub, pubSubMediator);
+        }
     }
 
 }
@@ -33,6 +33,8 @@ public final class DefaultStreamConfig implements StreamConfig {
     private final int maxArraySize;
     private final Duration writeInterval;
     private final Duration askTimeout;
+    private final boolean skipIndexedRevisions;
+    private final boolean bulkPolicyUpdates;
     private final DefaultStreamStageConfig retrievalConfig;
     private final DefaultPersistenceStreamConfig persistenceStreamConfig;
     private final DefaultStreamCacheConfig streamCacheConfig;
@@ -41,6 +43,9 @@ public final class DefaultStreamConfig implements StreamConfig {
         maxArraySize = streamScopedConfig.getInt(StreamConfigValue.MAX_ARRAY_SIZE.getConfigPath());
         writeInterval = streamScopedConfig.getDuration(StreamConfigValue.WRITE_INTERVAL.getConfigPath());
         askTimeout = streamScopedConfig.getDuration(StreamConfigValue.ASK_TIMEOUT.getConfigPath());
+        skipIndexedRevisions =
+                streamScopedConfig.getBoolean(StreamConfigValue.SKIP_INDEXED_REVISIONS.getConfigPath());
+        bulkPolicyUpdates = streamScopedConfig.getBoolean(StreamConfigValue.BULK_POLICY_UPDATES.getConfigPath());
         retrievalConfig = DefaultStreamStageConfig.getInstance(streamScopedConfig, RETRIEVAL_CONFIG_PATH);
         persistenceStreamConfig = DefaultPersistenceStreamConfig.of(streamScopedConfig);
         streamCacheConfig = DefaultStreamCacheConfig.of(streamScopedConfig);
@@ -72,6 +77,16 @@ public final class DefaultStreamConfig implements StreamConfig {
         return askTimeout;
     }
 
+    @Override
+    public boolean isSkipIndexedRevisions() {
+        return skipIndexedRevisions;
+    }
+
+    @Override
+    public boolean isBulkPolicyUpdates() {
+        return bulkPolicyUpdates;
+    }
+
     @Override
     public StreamStageConfig getRetrievalConfig() {
         return retrievalConfig;
@@ -99,6 +114,8 @@ public final class DefaultStreamConfig implements StreamConfig {
         return maxArraySize == that.maxArraySize &&
                 writeInterval.equals(that.writeInterval) &&
                 askTimeout.equals(that.askTimeout) &&
+                skipIndexedRevisions == that.skipIndexedRevisions &&
+                bulkPolicyUpdates == that.bulkPolicyUpdates &&
                 retrievalConfig.equals(that.retrievalConfig) &&
                 persistenceStreamConfig.equals(that.persistenceStreamConfig) &&
                 streamCacheConfig.equals(that.streamCacheConfig);
@@ -106,8 +123,8 @@ public final class DefaultStreamConfig implements StreamConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxArraySize, writeInterval, askTimeout, retrievalConfig, persistenceStreamConfig,
-                streamCacheConfig);
+        return Objects.hash(maxArraySize, writeInterval, askTimeout, skipIndexedRevisions, bulkPolicyUpdates,
+                retrievalConfig, persistenceStreamConfig, streamCacheConfig);
     }
 
     @Override
@@ -116,6 +133,8 @@ public final class DefaultStreamConfig implements StreamConfig {
                 "maxArraySize=" + maxArraySize +
                 ", writeInterval=" + writeInterval +
                 ", askTimeout=" + askTimeout +
+                ", skipIndexedRevisions=" + skipIndexedRevisions +
+                ", bulkPolicyUpdates=" + bulkPolicyUpdates +
                 ", retrievalConfig=" + retrievalConfig +
                 ", persistenceStreamConfig=" + persistenceStreamConfig +
                 ", streamCacheConfig=" + streamCacheConfig +
@@ -45,6 +45,22 @@ public interface StreamConfig {
      */
     Duration getAskTimeout();
 
+    /**
+     * Indicates whether changes of things which are indexed with their revisions already should be dropped before
+     * the things are retrieved.
+     *
+     * @return whether to look up the indexed revisions of each batch of changes.
+     */
+    boolean isSkipIndexedRevisions();
+
+    /**
+     * Indicates whether the policy-derived fields of the things of a changed policy should be updated in bulk from
+     * the new policy enforcer instead of updating each thing with its retrieved body.
+     *
+     * @return whether to update the search index entries of changed policies in bulk.
+     */
+    boolean isBulkPolicyUpdates();
+
     /**
      * Returns the configuration settings for the retrieval of things and policy-enforcers.
      *
@@ -84,7 +100,17 @@ public interface StreamConfig {
         /**
          * The timeout for messages to Things shard.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * Whether to drop changes of things which are indexed with their revisions already.
+         */
+        SKIP_INDEXED_REVISIONS("skip-indexed-revisions", true),
+
+        /**
+         * Whether to update the policy-derived fields of the things of changed policies in bulk.
+         */
+        BULK_POLICY_UPDATES("bulk-policy-updates", false);
 
         private final String configPath;
         private final Object defaultValue;
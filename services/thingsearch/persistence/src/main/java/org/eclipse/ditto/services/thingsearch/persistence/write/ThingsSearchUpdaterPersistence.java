@@ -43,4 +43,12 @@ public interface ThingsSearchUpdaterPersistence extends NamespacePersistenceOper
      * @return a Source holding the publisher to execute the operation.
      */
     Source<ThingId, NotUsed> getOutdatedThingIds(PolicyTag policyTag);
+
+    /**
+     * Retrieves the Thing IDs among the given ones which are not indexed with at least the given revision.
+     *
+     * @param thingRevisions map from relevant Thing IDs to their revisions.
+     * @return a Source holding the publisher to execute the operation.
+     */
+    Source<ThingId, NotUsed> getOutdatedThingIds(Map<ThingId, Long> thingRevisions);
 }
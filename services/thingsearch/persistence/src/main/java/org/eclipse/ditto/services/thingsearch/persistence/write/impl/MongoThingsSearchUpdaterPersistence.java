@@ -19,6 +19,7 @@ import static com.mongodb.client.model.Filters.lt;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -106,6 +107,34 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
                 .map(ThingId::of);
     }
 
+    @Override
+    public Source<ThingId, NotUsed> getOutdatedThingIds(final Map<ThingId, Long> thingRevisions) {
+        if (thingRevisions.isEmpty()) {
+            return Source.empty();
+        }
+        final Bson filter = in(PersistenceConstants.FIELD_ID, thingRevisions.keySet()
+                .stream()
+                .map(String::valueOf)
+                .collect(Collectors.toSet()));
+        final Publisher<Document> publisher = collection.find(filter).projection(new Document()
+                .append(PersistenceConstants.FIELD_ID, new BsonInt32(1))
+                .append(PersistenceConstants.FIELD_REVISION, new BsonInt32(1)));
+        return Source.fromPublisher(publisher)
+                .<Map<ThingId, Long>>fold(new HashMap<>(), (indexedRevisions, doc) -> {
+                    final Number revision = doc.get(PersistenceConstants.FIELD_REVISION, Number.class);
+                    if (revision != null) {
+                        indexedRevisions.put(ThingId.of(doc.getString(PersistenceConstants.FIELD_ID)),
+                                revision.longValue());
+                    }
+                    return indexedRevisions;
+                })
+                .mapConcat(indexedRevisions -> thingRevisions.entrySet()
+                        .stream()
+                        .filter(entry -> indexedRevisions.getOrDefault(entry.getKey(), -1L) < entry.getValue())
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toList()));
+    }
+
     @Override
     public Source<List<Throwable>, NotUsed> purge(final CharSequence namespace) {
         final Bson filter = thingNamespaceFilter(namespace);
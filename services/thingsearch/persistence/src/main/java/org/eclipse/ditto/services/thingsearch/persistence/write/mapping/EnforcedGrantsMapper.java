@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DOT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Recomputes the policy-derived fields of search index entries, i. e. the global read subjects and the granted and
+ * revoked subjects of each indexed key, from the enforcer of a new policy revision without reading the things.
+ * The effected subjects of each key are computed once per enforcer and reused for all entries of the policy.
+ */
+public final class EnforcedGrantsMapper {
+
+    /**
+     * Projection of the fields of a search index entry which are needed to recompute its policy-derived fields.
+     */
+    public static final Document PROJECTION = new Document()
+            .append(FIELD_ID, 1)
+            .append(FIELD_REVISION, 1)
+            .append(FIELD_GLOBAL_READ, 1)
+            .append(FIELD_INTERNAL + DOT + FIELD_INTERNAL_KEY, 1)
+            .append(FIELD_INTERNAL + DOT + FIELD_GRANTED, 1)
+            .append(FIELD_INTERNAL + DOT + FIELD_REVOKED, 1);
+
+    private final Enforcer enforcer;
+    private final long policyRevision;
+    private final BsonArray globalRead;
+    private final Map<String, Grants> grantsByKey = new HashMap<>();
+
+    private EnforcedGrantsMapper(final Enforcer enforcer, final long policyRevision) {
+        this.enforcer = enforcer;
+        this.policyRevision = policyRevision;
+        globalRead = EnforcedThingMapper.getGlobalRead(enforcer);
+    }
+
+    /**
+     * Create a mapper for the search index entries of the things of a policy.
+     * The mapper caches the effected subjects of the keys it encounters and should not outlive the policy update.
+     *
+     * @param enforcer the enforcer of the policy.
+     * @param policyRevision the revision of the policy.
+     * @return the mapper.
+     */
+    public static EnforcedGrantsMapper of(final Enforcer enforcer, final long policyRevision) {
+        return new EnforcedGrantsMapper(enforcer, policyRevision);
+    }
+
+    /**
+     * Compute the update of the policy-derived fields of a search index entry. The update applies only if neither
+     * the thing revision nor the policy revision of the entry changed in the meantime.
+     *
+     * @param indexedDocument the search index entry with at least the fields of {@link #PROJECTION}.
+     * @return the update of the entry, or an empty Optional if the entry lacks its ID or thing revision.
+     */
+    public Optional<WriteModel<Document>> toWriteModel(final Document indexedDocument) {
+        final Object id = indexedDocument.get(FIELD_ID);
+        final Object thingRevision = indexedDocument.get(FIELD_REVISION);
+        if (id == null || thingRevision == null) {
+            return Optional.empty();
+        }
+        final BsonDocument setDocument = new BsonDocument();
+        if (!Objects.equals(toStrings(indexedDocument.get(FIELD_GLOBAL_READ)), toStrings(globalRead))) {
+            setDocument.append(FIELD_GLOBAL_READ, globalRead);
+        }
+        final Object internal = indexedDocument.get(FIELD_INTERNAL);
+        if (internal instanceof List) {
+            appendChangedGrants((List<?>) internal, setDocument);
+        }
+        setDocument.append(FIELD_POLICY_REVISION, new BsonInt64(policyRevision));
+
+        final Bson filter = Filters.and(Filters.eq(FIELD_ID, id), Filters.eq(FIELD_REVISION, thingRevision),
+                Filters.lt(FIELD_POLICY_REVISION, policyRevision));
+        return Optional.of(new UpdateOneModel<>(filter, new BsonDocument(AbstractWriteModel.SET, setDocument)));
+    }
+
+    private void appendChangedGrants(final List<?> internal, final BsonDocument setDocument) {
+        @Nullable String previousKey = null;
+        @Nullable Grants previousGrants = null;
+        for (int i = 0; i < internal.size(); ++i) {
+            final Object element = internal.get(i);
+            if (!(element instanceof Document)) {
+                previousKey = null;
+                continue;
+            }
+            final Document entry = (Document) element;
+            final String key = entry.getString(FIELD_INTERNAL_KEY);
+            if (key == null) {
+                previousKey = null;
+                continue;
+            }
+            // the flattener writes the wildcard feature entry right after the entry of the feature it copies
+            final Grants grants = previousGrants != null && isWildcardOf(previousKey, key)
+                    ? previousGrants
+                    : grantsByKey.computeIfAbsent(key, this::computeGrants);
+            final String prefix = FIELD_INTERNAL + DOT + i + DOT;
+            if (!Objects.equals(toStrings(entry.get(FIELD_GRANTED)), grants.grantedIds)) {
+                setDocument.append(prefix + FIELD_GRANTED, grants.granted);
+            }
+            if (!Objects.equals(toStrings(entry.get(FIELD_REVOKED)), grants.revokedIds)) {
+                setDocument.append(prefix + FIELD_REVOKED, grants.revoked);
+            }
+            previousKey = key;
+            previousGrants = grants;
+        }
+    }
+
+    private Grants computeGrants(final String key) {
+        final EffectedSubjects subjects = EnforcedThingFlattener.computeEffectedSubjectIds(enforcer, key);
+        return new Grants(EnforcedThingFlattener.toBsonArray(subjects.getGranted()),
+                EnforcedThingFlattener.toBsonArray(subjects.getRevoked()));
+    }
+
+    private static boolean isWildcardOf(@Nullable final String previousKey, final String key) {
+        return previousKey != null && EnforcedThingFlattener.replaceFeatureIdByWildcard(JsonPointer.of(previousKey))
+                .map(wildcardKey -> wildcardKey.toString().equals(key))
+                .orElse(false);
+    }
+
+    private static List<?> toStrings(@Nullable final Object subjects) {
+        if (subjects instanceof BsonArray) {
+            final BsonArray bsonArray = (BsonArray) subjects;
+            final Object[] strings = new Object[bsonArray.size()];
+            for (int i = 0; i < strings.length; ++i) {
+                final BsonValue value = bsonArray.get(i);
+                strings[i] = value.isString() ? value.asString().getValue() : value;
+            }
+            return Arrays.asList(strings);
+        } else if (subjects instanceof List) {
+            return (List<?>) subjects;
+        } else {
+            return Collections.emptyList();
+        }
+    }
+
+    private static final class Grants {
+
+        private final BsonArray granted;
+        private final BsonArray revoked;
+        private final List<?> grantedIds;
+        private final List<?> revokedIds;
+
+        private Grants(final BsonArray granted, final BsonArray revoked) {
+            this.granted = granted;
+            this.revoked = revoked;
+            grantedIds = toStrings(granted);
+            revokedIds = toStrings(revoked);
+        }
+    }
+
+}
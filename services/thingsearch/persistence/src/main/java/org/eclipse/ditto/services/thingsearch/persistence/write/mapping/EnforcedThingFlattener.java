@@ -125,11 +125,15 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
     }
 
     private EffectedSubjects computeEffectedSubjectIds(final JsonPointer key) {
+        return computeEffectedSubjectIds(enforcer, key);
+    }
+
+    static EffectedSubjects computeEffectedSubjectIds(final Enforcer enforcer, final CharSequence key) {
         final ResourceKey resourceKey = ResourceKey.newInstance(THING, key.toString());
         return enforcer.getSubjectsWithPermission(resourceKey, READ);
     }
 
-    private static BsonArray toBsonArray(final Iterable<AuthorizationSubject> authorizationSubjects) {
+    static BsonArray toBsonArray(final Iterable<AuthorizationSubject> authorizationSubjects) {
         final BsonArray bsonArray = new BsonArray();
         authorizationSubjects.forEach(subject -> bsonArray.add(new BsonString(subject.getId())));
         return bsonArray;
@@ -144,7 +148,7 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
                 .append(FIELD_REVOKED, revokes);
     }
 
-    private static Optional<CharSequence> replaceFeatureIdByWildcard(final JsonPointer key) {
+    static Optional<CharSequence> replaceFeatureIdByWildcard(final JsonPointer key) {
         return key.getRoot()
                 .filter(FEATURES_KEY::equals)
                 .flatMap(features -> key.getSubPointer(2)) // skip 'features' and <featureId>
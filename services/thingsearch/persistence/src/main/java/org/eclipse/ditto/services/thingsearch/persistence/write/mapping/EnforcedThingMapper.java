@@ -119,7 +119,7 @@ public final class EnforcedThingMapper {
         return ThingWriteModel.of(metadata, thingDocument);
     }
 
-    private static BsonArray getGlobalRead(final Enforcer enforcer) {
+    static BsonArray getGlobalRead(final Enforcer enforcer) {
 
         final BsonArray bsonArray = new BsonArray();
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.bson.BsonInt32;
+import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import akka.NotUsed;
+import akka.japi.pf.PFBuilder;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Source;
+
+/**
+ * Flow dropping Thing changes which are in the search index already, i. e. whose thing revision and policy revision
+ * are not greater than the indexed ones. The indexed revisions of each batch of changes are read by one query before
+ * any thing is retrieved.
+ */
+final class IndexedRevisionFilter {
+
+    private static final String COUNT_INDEXED_REVISION_CHECKS = "things_search_indexed_revision_checks";
+    private static final String RESULT_TAG = "result";
+
+    private static final Document PROJECTION = new Document()
+            .append(FIELD_ID, new BsonInt32(1))
+            .append(FIELD_REVISION, new BsonInt32(1))
+            .append(FIELD_POLICY_REVISION, new BsonInt32(1));
+
+    private final Logger log = LoggerFactory.getLogger(IndexedRevisionFilter.class);
+
+    private final MongoCollection<Document> collection;
+    private final Counter droppedCounter;
+    private final Counter passedCounter;
+
+    private IndexedRevisionFilter(final MongoCollection<Document> collection) {
+        this.collection = collection;
+        droppedCounter = DittoMetrics.counter(COUNT_INDEXED_REVISION_CHECKS).tag(RESULT_TAG, "dropped");
+        passedCounter = DittoMetrics.counter(COUNT_INDEXED_REVISION_CHECKS).tag(RESULT_TAG, "passed");
+    }
+
+    /**
+     * Create an IndexedRevisionFilter object.
+     *
+     * @param database the MongoDB database.
+     * @return the IndexedRevisionFilter object.
+     */
+    public static IndexedRevisionFilter of(final MongoDatabase database) {
+        return new IndexedRevisionFilter(database.getCollection(THINGS_COLLECTION_NAME));
+    }
+
+    /**
+     * Create a flow removing the changes of things indexed with their revisions already from each batch of changes.
+     * If the indexed revisions cannot be read, all changes are passed.
+     *
+     * @return the flow.
+     */
+    public Flow<Map<ThingId, Metadata>, Map<ThingId, Metadata>, NotUsed> create() {
+        return Flow.<Map<ThingId, Metadata>>create()
+                .flatMapConcat(changeMap -> changeMap.isEmpty()
+                        ? Source.single(changeMap)
+                        : getIndexedRevisions(changeMap).map(indexedRevisions -> filter(changeMap, indexedRevisions))
+                );
+    }
+
+    private Source<Map<ThingId, Metadata>, NotUsed> getIndexedRevisions(final Map<ThingId, Metadata> changeMap) {
+        final Map<ThingId, Metadata> emptyIndexedRevisions = new HashMap<>();
+        return Source.fromPublisher(collection.find(Filters.in(FIELD_ID, changeMap.keySet()
+                .stream()
+                .map(String::valueOf)
+                .collect(Collectors.toList())))
+                .projection(PROJECTION))
+                .fold(emptyIndexedRevisions, (indexedRevisions, doc) -> {
+                    final ThingId thingId = ThingId.of(doc.getString(FIELD_ID));
+                    indexedRevisions.put(thingId, Metadata.of(thingId, getLong(doc, FIELD_REVISION), null,
+                            getLong(doc, FIELD_POLICY_REVISION)));
+                    return indexedRevisions;
+                })
+                .recover(new PFBuilder<Throwable, Map<ThingId, Metadata>>()
+                        .matchAny(error -> {
+                            log.error("Failed to read indexed revisions; not filtering <{}> changes.",
+                                    changeMap.size(), error);
+                            return emptyIndexedRevisions;
+                        })
+                        .build());
+    }
+
+    private Map<ThingId, Metadata> filter(final Map<ThingId, Metadata> changeMap,
+            final Map<ThingId, Metadata> indexedRevisions) {
+
+        final Map<ThingId, Metadata> result = new HashMap<>();
+        changeMap.forEach((thingId, metadata) -> {
+            final Metadata indexed = indexedRevisions.get(thingId);
+            if (indexed == null || indexed.getThingRevision() < metadata.getThingRevision() ||
+                    indexed.getPolicyRevision() < metadata.getPolicyRevision()) {
+                result.put(thingId, metadata);
+            }
+        });
+        final int dropped = changeMap.size() - result.size();
+        if (dropped > 0) {
+            log.debug("Dropping <{}> of <{}> changes indexed already", dropped, changeMap.size());
+            droppedCounter.increment(dropped);
+        }
+        passedCounter.increment(result.size());
+        return result;
+    }
+
+    private static long getLong(final Document document, final String field) {
+        final Object value = document.get(field);
+        return value instanceof Number ? ((Number) value).longValue() : -1L;
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.bson.Document;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedGrantsMapper;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.japi.pf.PFBuilder;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Source;
+
+/**
+ * Flow updating the policy-derived fields of the search index entries of the things of changed policies in bulk.
+ * For each policy tag, the enforcer of the policy is loaded once, the entries indexed with an older policy revision
+ * are read without their values, and their global read subjects and per-key grants are written by unordered bulk
+ * writes of at most {@code max-bulk-size} updates. The policy tag is emitted after the bulk updates; entries which
+ * could not be updated, e. g. because their things changed concurrently, keep their old policy revision and are left
+ * to the per-thing update.
+ */
+public final class PolicyUpdateFlow {
+
+    private static final String COUNT_BULK_POLICY_UPDATES = "things_search_bulk_policy_updates";
+    private static final String RESULT_TAG = "result";
+
+    private final Logger log = LoggerFactory.getLogger(PolicyUpdateFlow.class);
+
+    private final MongoCollection<Document> collection;
+    private final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerLoader;
+    private final Executor executor;
+    private final int maxBulkSize;
+    private final Counter modifiedCounter;
+    private final Counter skippedCounter;
+
+    PolicyUpdateFlow(final MongoCollection<Document> collection,
+            final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerLoader,
+            final Executor executor,
+            final int maxBulkSize) {
+
+        this.collection = collection;
+        this.policyEnforcerLoader = policyEnforcerLoader;
+        this.executor = executor;
+        this.maxBulkSize = maxBulkSize;
+        modifiedCounter = DittoMetrics.counter(COUNT_BULK_POLICY_UPDATES).tag(RESULT_TAG, "modified");
+        skippedCounter = DittoMetrics.counter(COUNT_BULK_POLICY_UPDATES).tag(RESULT_TAG, "skipped");
+    }
+
+    /**
+     * Create a PolicyUpdateFlow object.
+     *
+     * @param database the MongoDB database.
+     * @param updaterStreamConfig configuration of the updater stream.
+     * @param policiesShardRegion the shard region to retrieve policies from.
+     * @param executor the executor to load policy enforcers with.
+     * @return the PolicyUpdateFlow object.
+     */
+    public static PolicyUpdateFlow of(final MongoDatabase database,
+            final StreamConfig updaterStreamConfig,
+            final ActorRef policiesShardRegion,
+            final Executor executor) {
+
+        return new PolicyUpdateFlow(database.getCollection(THINGS_COLLECTION_NAME),
+                new PolicyEnforcerCacheLoader(updaterStreamConfig.getAskTimeout(), policiesShardRegion),
+                executor,
+                updaterStreamConfig.getPersistenceConfig().getMaxBulkSize());
+    }
+
+    /**
+     * Create a flow updating the search index entries of the things of each policy tag in bulk and emitting the
+     * policy tag afterwards. Failures are logged and do not terminate the flow.
+     *
+     * @return the flow.
+     */
+    public Flow<PolicyTag, PolicyTag, NotUsed> create() {
+        return Flow.<PolicyTag>create().flatMapConcat(this::update);
+    }
+
+    private Source<PolicyTag, NotUsed> update(final PolicyTag policyTag) {
+        final EntityIdWithResourceType policyId =
+                EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyTag.getEntityId());
+        return Source.fromCompletionStage(policyEnforcerLoader.asyncLoad(policyId, executor))
+                .flatMapConcat(entry -> {
+                    if (!entry.exists() || entry.getRevision() < policyTag.getRevision()) {
+                        log.debug("Enforcer of <{}> is unavailable; leaving its things to per-thing updates.",
+                                policyTag);
+                        return Source.single(0L);
+                    } else {
+                        return updateIndexedThings(policyTag, entry.getValueOrThrow(), entry.getRevision());
+                    }
+                })
+                .map(modified -> policyTag)
+                .recover(new PFBuilder<Throwable, PolicyTag>()
+                        .matchAny(error -> {
+                            log.error("Bulk update of things of <{}> failed; leaving them to per-thing updates.",
+                                    policyTag, error);
+                            return policyTag;
+                        })
+                        .build());
+    }
+
+    private Source<Long, NotUsed> updateIndexedThings(final PolicyTag policyTag, final Enforcer enforcer,
+            final long policyRevision) {
+
+        final EnforcedGrantsMapper mapper = EnforcedGrantsMapper.of(enforcer, policyRevision);
+        final BulkWriteOptions options = new BulkWriteOptions().ordered(false);
+        return Source.fromPublisher(collection.find(Filters.and(
+                Filters.eq(FIELD_POLICY_ID, policyTag.getEntityId().toString()),
+                Filters.lt(FIELD_POLICY_REVISION, policyRevision)))
+                .projection(EnforcedGrantsMapper.PROJECTION))
+                .map(mapper::toWriteModel)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .grouped(maxBulkSize)
+                .flatMapConcat(writeModels -> Source.fromPublisher(collection.bulkWrite(writeModels, options))
+                        .map(result -> countModified(writeModels.size(), result)))
+                .fold(0L, Long::sum)
+                .map(modified -> {
+                    log.debug("Updated <{}> search index entries of <{}> in bulk.", modified, policyTag);
+                    return modified;
+                });
+    }
+
+    private long countModified(final int writeModels, final BulkWriteResult result) {
+        final int matched = result.getMatchedCount();
+        modifiedCounter.increment(matched);
+        skippedCounter.increment(writeModels - matched);
+        return matched;
+    }
+
+}
@@ -15,7 +15,6 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import org.eclipse.ditto.model.things.ThingId;
@@ -27,6 +26,7 @@ import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
 import com.mongodb.bulk.BulkWriteResult;
@@ -54,18 +54,21 @@ import akka.stream.javadsl.Source;
 public final class SearchUpdaterStream {
 
     private final SearchConfig searchConfig;
+    private final IndexedRevisionFilter indexedRevisionFilter;
     private final EnforcementFlow enforcementFlow;
     private final MongoSearchUpdaterFlow mongoSearchUpdaterFlow;
     private final ActorRef changeQueueActor;
     private final BlockedNamespaces blockedNamespaces;
 
     private SearchUpdaterStream(final SearchConfig searchConfig,
+            final IndexedRevisionFilter indexedRevisionFilter,
             final EnforcementFlow enforcementFlow,
             final MongoSearchUpdaterFlow mongoSearchUpdaterFlow,
             final ActorRef changeQueueActor,
             final BlockedNamespaces blockedNamespaces) {
 
         this.searchConfig = searchConfig;
+        this.indexedRevisionFilter = indexedRevisionFilter;
         this.enforcementFlow = enforcementFlow;
         this.mongoSearchUpdaterFlow = mongoSearchUpdaterFlow;
         this.changeQueueActor = changeQueueActor;
@@ -105,10 +108,12 @@ public final class SearchUpdaterStream {
                 EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher,
                         deleteEvent);
 
+        final IndexedRevisionFilter indexedRevisionFilter = IndexedRevisionFilter.of(database);
+
         final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
 
-        return new SearchUpdaterStream(searchConfig, enforcementFlow, mongoSearchUpdaterFlow, changeQueueActor,
-                blockedNamespaces);
+        return new SearchUpdaterStream(searchConfig, indexedRevisionFilter, enforcementFlow, mongoSearchUpdaterFlow,
+                changeQueueActor, blockedNamespaces);
     }
 
     /**
@@ -133,6 +138,7 @@ public final class SearchUpdaterStream {
         final Source<Source<AbstractWriteModel, NotUsed>, NotUsed> source =
                 ChangeQueueActor.createSource(changeQueueActor, streamConfig.getWriteInterval())
                         .via(filterMapKeysByBlockedNamespaces())
+                        .via(skipIndexedRevisionsFlow(streamConfig))
                         .via(enforcementFlow.create(retrievalConfig.getParallelism())
                                 .map(writeModelSource -> writeModelSource.via(
                                         blockNamespaceFlow(SearchUpdaterStream::namespaceOfWriteModel))));
@@ -168,26 +174,28 @@ public final class SearchUpdaterStream {
 
     private <T> Flow<Map<ThingId, T>, Map<ThingId, T>, NotUsed> filterMapKeysByBlockedNamespaces() {
         return Flow.<Map<ThingId, T>>create()
-                .flatMapConcat(map ->
-                        Source.fromIterator(map.entrySet()::iterator)
-                                .via(blockNamespaceFlow(entry -> entry.getKey().getNamespace()))
-                                .fold(new HashMap<>(), (accumulator, entry) -> {
-                                    accumulator.put(entry.getKey(), entry.getValue());
-                                    return accumulator;
-                                })
-                );
+                .map(map -> {
+                    final Map<ThingId, T> result = new HashMap<>();
+                    map.forEach((thingId, value) -> {
+                        if (!blockedNamespaces.contains(thingId.getNamespace())) {
+                            result.put(thingId, value);
+                        }
+                    });
+                    return result;
+                });
+    }
+
+    private Flow<Map<ThingId, Metadata>, Map<ThingId, Metadata>, NotUsed> skipIndexedRevisionsFlow(
+            final StreamConfig streamConfig) {
+
+        return streamConfig.isSkipIndexedRevisions()
+                ? indexedRevisionFilter.create()
+                : Flow.create();
     }
 
     private <T> Flow<T, T, NotUsed> blockNamespaceFlow(final Function<T, String> namespaceExtractor) {
         return Flow.<T>create()
-                .flatMapConcat(element -> {
-                    final String namespace = namespaceExtractor.apply(element);
-                    final CompletionStage<Boolean> shouldUpdate = blockedNamespaces.contains(namespace)
-                            .handle((result, error) -> result == null || !result);
-                    return Source.fromCompletionStage(shouldUpdate)
-                            .filter(Boolean::valueOf)
-                            .map(bool -> element);
-                });
+                .filterNot(element -> blockedNamespaces.contains(namespaceExtractor.apply(element)));
     }
 
     private static String namespaceOfWriteModel(final AbstractWriteModel writeModel) {
@@ -204,7 +204,7 @@ public abstract class AbstractThingSearchPersistenceITBase {
         return mongoClient;
     }
 
-    final Materializer getMaterializer() {
+    protected final Materializer getMaterializer() {
         return actorMaterializer;
     }
 
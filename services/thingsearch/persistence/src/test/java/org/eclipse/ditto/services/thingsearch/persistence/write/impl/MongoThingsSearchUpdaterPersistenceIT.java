@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.thingsearch.persistence.AbstractThingSearchPersistenceITBase;
+import org.eclipse.ditto.services.thingsearch.persistence.TestConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.stream.javadsl.Sink;
+
+/**
+ * Tests {@link MongoThingsSearchUpdaterPersistence} against an embedded MongoDB.
+ */
+public final class MongoThingsSearchUpdaterPersistenceIT extends AbstractThingSearchPersistenceITBase {
+
+    private static final ThingId CURRENT_THING_ID = TestConstants.thingId("thingsearch", "currentThing");
+    private static final ThingId OUTDATED_THING_ID = TestConstants.thingId("thingsearch", "outdatedThing");
+    private static final ThingId ABSENT_THING_ID = TestConstants.thingId("thingsearch", "absentThing");
+
+    private ThingsSearchUpdaterPersistence underTest;
+
+    @Before
+    public void createUpdaterPersistence() {
+        underTest = MongoThingsSearchUpdaterPersistence.of(getClient().getDefaultDatabase());
+    }
+
+    @Test
+    public void getOutdatedThingIdsSkipsThingsIndexedWithCurrentRevision() {
+        insertThing(CURRENT_THING_ID, 5L);
+        insertThing(OUTDATED_THING_ID, 3L);
+
+        final Map<ThingId, Long> thingRevisions = new HashMap<>();
+        thingRevisions.put(CURRENT_THING_ID, 5L);
+        thingRevisions.put(OUTDATED_THING_ID, 4L);
+        thingRevisions.put(ABSENT_THING_ID, 1L);
+
+        assertThat(getOutdatedThingIds(thingRevisions)).containsExactlyInAnyOrder(OUTDATED_THING_ID, ABSENT_THING_ID);
+    }
+
+    @Test
+    public void getOutdatedThingIdsSkipsThingsIndexedWithNewerRevision() {
+        insertThing(CURRENT_THING_ID, 7L);
+
+        assertThat(getOutdatedThingIds(Collections.singletonMap(CURRENT_THING_ID, 6L))).isEmpty();
+    }
+
+    @Test
+    public void getOutdatedThingIdsOfNoThings() {
+        insertThing(CURRENT_THING_ID, 1L);
+
+        assertThat(getOutdatedThingIds(Collections.emptyMap())).isEmpty();
+    }
+
+    private void insertThing(final ThingId thingId, final long revision) {
+        final Thing thing = ThingsModelFactory.newThingBuilder()
+                .setId(thingId)
+                .setPermissions(TestConstants.Thing.ACL)
+                .setRevision(revision)
+                .build();
+        runBlockingWithReturn(writePersistence.writeThingWithAcl(thing));
+    }
+
+    private List<ThingId> getOutdatedThingIds(final Map<ThingId, Long> thingRevisions) {
+        return underTest.getOutdatedThingIds(thingRevisions)
+                .runWith(Sink.seq(), getMaterializer())
+                .toCompletableFuture()
+                .join();
+    }
+
+}
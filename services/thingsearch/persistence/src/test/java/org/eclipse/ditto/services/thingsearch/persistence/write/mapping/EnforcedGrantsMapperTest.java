@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.junit.Test;
+
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Tests {@link EnforcedGrantsMapper}.
+ */
+public final class EnforcedGrantsMapperTest {
+
+    private static final JsonObject THING_JSON = JsonFactory.newObject("{\n" +
+            "  \"thingId\": \"hello:world\",\n" +
+            "  \"_revision\": 1024,\n" +
+            "  \"policyId\": \"hello:world\",\n" +
+            "  \"features\": {\n" +
+            "    \"hi\": { \"properties\": { \"there\": true, \"secret\": 42 } },\n" +
+            "    \"ho\": { \"properties\": { \"there\": false } }\n" +
+            "  },\n" +
+            "  \"attributes\": { \"hello\": \"world\" }\n" +
+            "}");
+
+    private static final Enforcer OLD_ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("hello", "world"))
+                    .forLabel("grant-root")
+                    .setSubject("g:0", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .build());
+
+    private static final Enforcer NEW_ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("hello", "world"))
+                    .forLabel("grant-root")
+                    .setSubject("g:0", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .setRevokedPermissions(THING, "/features/hi/properties/secret", Permission.READ)
+                    .forLabel("grant-hi")
+                    .setSubject("g:1", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/features/hi", Permission.READ)
+                    .build());
+
+    @Test
+    public void updatedEntryEqualsEntryMappedWithNewEnforcer() {
+        final Document indexed = Document.parse(EnforcedThingMapper.mapThing(THING_JSON, OLD_ENFORCER, 1L).toJson());
+
+        final WriteModel<Document> writeModel =
+                EnforcedGrantsMapper.of(NEW_ENFORCER, 2L).toWriteModel(indexed).orElseThrow(AssertionError::new);
+
+        final Document expected = EnforcedThingMapper.mapThing(THING_JSON, NEW_ENFORCER, 2L);
+        assertThat(JsonFactory.newObject(applySet(indexed, writeModel).toJson()))
+                .isEqualTo(JsonFactory.newObject(expected.toJson()));
+    }
+
+    @Test
+    public void setOnlyChangedFieldsAndPolicyRevision() {
+        final Document indexed = Document.parse(EnforcedThingMapper.mapThing(THING_JSON, NEW_ENFORCER, 2L).toJson());
+
+        final WriteModel<Document> writeModel =
+                EnforcedGrantsMapper.of(NEW_ENFORCER, 3L).toWriteModel(indexed).orElseThrow(AssertionError::new);
+
+        assertThat(getSetDocument(writeModel).keySet()).containsExactly("__policyRev");
+    }
+
+    private static BsonDocument getSetDocument(final WriteModel<Document> writeModel) {
+        assertThat(writeModel).isInstanceOf(UpdateOneModel.class);
+        final BsonDocument update = (BsonDocument) ((UpdateOneModel<Document>) writeModel).getUpdate();
+        return update.getDocument("$set");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Document applySet(final Document document, final WriteModel<Document> writeModel) {
+        for (final Map.Entry<String, BsonValue> entry : getSetDocument(writeModel).entrySet()) {
+            final String[] path = entry.getKey().split("\\.");
+            Object parent = document;
+            for (int i = 0; i < path.length - 1; ++i) {
+                parent = parent instanceof List
+                        ? ((List<Object>) parent).get(Integer.parseInt(path[i]))
+                        : ((Document) parent).get(path[i]);
+            }
+            ((Document) parent).put(path[path.length - 1], entry.getValue());
+        }
+        return document;
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import akka.actor.ActorSystem;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.AsPublisher;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link IndexedRevisionFilter}.
+ */
+public final class IndexedRevisionFilterTest {
+
+    private static final ThingId THING_1 = ThingId.of("thing:1");
+    private static final ThingId THING_2 = ThingId.of("thing:2");
+    private static final ThingId THING_3 = ThingId.of("thing:3");
+    private static final ThingId THING_4 = ThingId.of("thing:4");
+
+    @Nullable
+    private ActorSystem actorSystem;
+    @Nullable
+    private ActorMaterializer materializer;
+
+    @Before
+    public void startActorSystem() {
+        actorSystem = ActorSystem.create();
+        materializer = ActorMaterializer.create(actorSystem);
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void dropChangesIndexedAlready() {
+        final IndexedRevisionFilter underTest = IndexedRevisionFilter.of(mockDatabase(Source.from(Arrays.asList(
+                indexed(THING_1, 5L, 1L),
+                indexed(THING_2, 5L, 1L),
+                indexed(THING_3, 5L, 1L)))));
+
+        final Map<ThingId, Metadata> changes = new HashMap<>();
+        changes.put(THING_1, Metadata.of(THING_1, 5L, "policy:1", 1L));
+        changes.put(THING_2, Metadata.of(THING_2, 6L, "policy:1", 1L));
+        changes.put(THING_3, Metadata.of(THING_3, -1L, "policy:1", 2L));
+        changes.put(THING_4, Metadata.of(THING_4, 1L, "policy:1", 1L));
+
+        final Map<ThingId, Metadata> result = run(underTest, changes);
+
+        assertThat(result).containsOnlyKeys(THING_2, THING_3, THING_4);
+    }
+
+    @Test
+    public void passAllChangesIfIndexedRevisionsAreUnavailable() {
+        final IndexedRevisionFilter underTest =
+                IndexedRevisionFilter.of(mockDatabase(Source.failed(new IllegalStateException("expected"))));
+
+        final Map<ThingId, Metadata> changes = new HashMap<>();
+        changes.put(THING_1, Metadata.of(THING_1, 5L, "policy:1", 1L));
+
+        assertThat(run(underTest, changes)).isEqualTo(changes);
+    }
+
+    private Map<ThingId, Metadata> run(final IndexedRevisionFilter underTest, final Map<ThingId, Metadata> changes) {
+        final List<Map<ThingId, Metadata>> result = Source.single(changes)
+                .via(underTest.create())
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+        assertThat(result).hasSize(1);
+        return result.get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private MongoDatabase mockDatabase(final Source<Document, ?> indexedDocuments) {
+        final Publisher<Document> publisher =
+                indexedDocuments.runWith(Sink.asPublisher(AsPublisher.WITHOUT_FANOUT), materializer);
+        final FindPublisher<Document> findPublisher = Mockito.mock(FindPublisher.class);
+        Mockito.when(findPublisher.projection(Mockito.any())).thenReturn(findPublisher);
+        Mockito.doAnswer(invocation -> {
+            publisher.subscribe(invocation.getArgument(0));
+            return null;
+        }).when(findPublisher).subscribe(Mockito.<Subscriber<Document>>any());
+        final MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+        Mockito.when(collection.find(Mockito.any(Bson.class))).thenReturn(findPublisher);
+        final MongoDatabase database = Mockito.mock(MongoDatabase.class);
+        Mockito.when(database.getCollection(Mockito.any())).thenReturn(collection);
+        return database;
+    }
+
+    private static Document indexed(final ThingId thingId, final long thingRevision, final long policyRevision) {
+        return new Document().append("_id", thingId.toString())
+                .append("_revision", thingRevision)
+                .append("__policyRev", policyRevision);
+    }
+
+}
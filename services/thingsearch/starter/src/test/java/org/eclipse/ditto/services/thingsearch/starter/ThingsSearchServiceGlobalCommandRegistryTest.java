@@ -18,6 +18,7 @@ import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.utils.health.RetrieveHealth;
 import org.eclipse.ditto.services.utils.test.GlobalCommandRegistryTestCases;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistence;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
 import org.eclipse.ditto.signals.commands.common.purge.PurgeEntities;
 import org.eclipse.ditto.signals.commands.devops.ExecutePiggybackCommand;
@@ -46,7 +47,8 @@ public final class ThingsSearchServiceGlobalCommandRegistryTest extends GlobalCo
                 RetrieveResource.class,
                 DeleteSubject.class,
                 RetrieveHealth.class,
-                PurgeEntities.class
+                PurgeEntities.class,
+                CleanupPersistence.class
         );
     }
 
@@ -17,6 +17,7 @@ import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingR
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReportResponse;
 import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
 import org.eclipse.ditto.services.utils.test.GlobalCommandResponseRegistryTestCases;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
 import org.eclipse.ditto.signals.commands.common.RetrieveConfigResponse;
 import org.eclipse.ditto.signals.commands.common.purge.PurgeEntitiesResponse;
 import org.eclipse.ditto.signals.commands.devops.RetrieveLoggerConfigResponse;
@@ -52,6 +53,7 @@ public final class ThingsSearchServiceGlobalCommandResponseRegistryTest extends
                 RetrieveConfigResponse.class,
                 RetrieveHealthResponse.class,
                 PurgeEntitiesResponse.class,
+                CleanupPersistenceResponse.class,
                 SudoRetrieveNamespaceReportResponse.class
         );
     }
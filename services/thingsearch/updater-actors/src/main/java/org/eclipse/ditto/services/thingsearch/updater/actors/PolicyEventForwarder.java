@@ -19,11 +19,14 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.PolicyUpdateFlow;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
@@ -50,6 +53,8 @@ import akka.stream.javadsl.Source;
 
 /**
  * Cluster singleton that forwards policy events to updater shard region with buffering.
+ * If a {@link PolicyUpdateFlow} is given, the search index entries of the things of changed policies are updated in
+ * bulk first, and only the things whose entries remain outdated are forwarded.
  */
 final class PolicyEventForwarder extends AbstractActor {
 
@@ -62,6 +67,7 @@ final class PolicyEventForwarder extends AbstractActor {
 
     private final ActorRef thingsUpdater;
     private final ThingsSearchUpdaterPersistence persistence;
+    @Nullable private final PolicyUpdateFlow policyUpdateFlow;
     private final BlockNamespaceBehavior blockNamespaceBehavior;
     private final Duration interval;
 
@@ -72,10 +78,12 @@ final class PolicyEventForwarder extends AbstractActor {
     private PolicyEventForwarder(final ActorRef pubSubMediator,
             final ActorRef thingsUpdater,
             final BlockedNamespaces blockedNamespaces,
-            final ThingsSearchUpdaterPersistence persistence) {
+            final ThingsSearchUpdaterPersistence persistence,
+            @Nullable final PolicyUpdateFlow policyUpdateFlow) {
 
         this.thingsUpdater = thingsUpdater;
         this.persistence = persistence;
+        this.policyUpdateFlow = policyUpdateFlow;
         blockNamespaceBehavior = BlockNamespaceBehavior.of(blockedNamespaces);
         interval = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
                 .getStreamConfig().getWriteInterval();
@@ -92,14 +100,19 @@ final class PolicyEventForwarder extends AbstractActor {
      * @param pubSubMediator Akka pub-sub-mediator
      * @param thingsUpdater thingsUpdater
      * @param blockedNamespaces blocked namespaces.
+     * @param persistence the search updater persistence.
+     * @param policyUpdateFlow the flow updating the things of changed policies in bulk, or null to update each thing
+     * by itself.
      * @return the Props object.
      */
     public static Props props(final ActorRef pubSubMediator,
             final ActorRef thingsUpdater,
             final BlockedNamespaces blockedNamespaces,
-            final ThingsSearchUpdaterPersistence persistence) {
+            final ThingsSearchUpdaterPersistence persistence,
+            @Nullable final PolicyUpdateFlow policyUpdateFlow) {
 
-        return Props.create(PolicyEventForwarder.class, pubSubMediator, thingsUpdater, blockedNamespaces, persistence);
+        return Props.create(PolicyEventForwarder.class, pubSubMediator, thingsUpdater, blockedNamespaces, persistence,
+                policyUpdateFlow);
     }
 
     @Override
@@ -198,7 +211,8 @@ final class PolicyEventForwarder extends AbstractActor {
     @SuppressWarnings("unchecked")
     private Source<PolicyReferenceTag, NotUsed> mapDumpResult(final Object dumpResult) {
         if (dumpResult instanceof Map) {
-            return persistence.getPolicyReferenceTags((Map<PolicyId, Long>) dumpResult);
+            final Map<PolicyId, Long> dump = (Map<PolicyId, Long>) dumpResult;
+            return policyUpdateFlow == null ? persistence.getPolicyReferenceTags(dump) : updateInBulk(dump);
         } else {
             if (dumpResult instanceof Throwable) {
                 log.error((Throwable) dumpResult, "dump failed");
@@ -209,6 +223,14 @@ final class PolicyEventForwarder extends AbstractActor {
         }
     }
 
+    private Source<PolicyReferenceTag, NotUsed> updateInBulk(final Map<PolicyId, Long> dump) {
+        return Source.from(dump.entrySet())
+                .map(entry -> PolicyTag.of(entry.getKey(), entry.getValue()))
+                .via(policyUpdateFlow.create())
+                .flatMapConcat(policyTag -> persistence.getOutdatedThingIds(policyTag)
+                        .map(thingId -> PolicyReferenceTag.of(thingId, policyTag)));
+    }
+
     private enum Control {
         DUMP_POLICY_REVISIONS,
         STREAM_COMPLETED
@@ -16,11 +16,13 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
 import org.eclipse.ditto.services.thingsearch.common.util.RootSupervisorStrategyFactory;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.impl.MongoThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ChangeQueueActor;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.PolicyUpdateFlow;
 import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.SearchUpdaterStream;
 import org.eclipse.ditto.services.utils.akka.streaming.SyncConfig;
 import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
@@ -46,6 +48,7 @@ import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.actor.SupervisorStrategy;
+import akka.dispatch.MessageDispatcher;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
@@ -129,7 +132,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         // start policy event forwarder as cluster singleton
         final Props policyEventForwarderProps =
                 PolicyEventForwarder.props(pubSubMediator, thingsUpdaterActor, blockedNamespaces,
-                        searchUpdaterPersistence);
+                        searchUpdaterPersistence, getPolicyUpdateFlowOrNull(searchConfig, actorSystem,
+                                shardRegionFactory, numberOfShards, dittoMongoClient.getDefaultDatabase()));
         startClusterSingletonActor(PolicyEventForwarder.ACTOR_NAME, policyEventForwarderProps);
 
         // start manual updater as cluster singleton
@@ -141,7 +145,7 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                         searchConfig.getPersistenceOperationsConfig()));
 
         startThingsStreamSupervisor(updaterConfig.getThingsSyncConfig(), pubSubMediator, materializer,
-                thingsSyncPersistence);
+                thingsSyncPersistence, searchUpdaterPersistence);
 
         startPoliciesStreamsSupervisor(updaterConfig.getPoliciesSyncConfig(), pubSubMediator, materializer,
                 policiesSyncPersistence, searchUpdaterPersistence);
@@ -150,12 +154,13 @@ public final class SearchUpdaterRootActor extends AbstractActor {
     private void startThingsStreamSupervisor(final SyncConfig thingsSyncConfig,
             final ActorRef pubSubMediator,
             final ActorMaterializer materializer,
-            final TimestampPersistence thingsSyncPersistence) {
+            final TimestampPersistence thingsSyncPersistence,
+            final ThingsSearchUpdaterPersistence searchUpdaterPersistence) {
 
         if (thingsSyncConfig.isEnabled()) {
             startClusterSingletonActor(ThingsStreamSupervisorCreator.ACTOR_NAME,
                     ThingsStreamSupervisorCreator.props(thingsUpdaterActor, pubSubMediator, thingsSyncPersistence,
-                            materializer, thingsSyncConfig));
+                            materializer, thingsSyncConfig, searchUpdaterPersistence));
         } else {
             log.warning("Things synchronization is not active!");
         }
@@ -261,4 +266,22 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         return searchUpdaterStream.start(getContext());
     }
 
+    @Nullable
+    private static PolicyUpdateFlow getPolicyUpdateFlowOrNull(final SearchConfig searchConfig,
+            final ActorSystem actorSystem,
+            final ShardRegionFactory shardRegionFactory,
+            final int numberOfShards,
+            final MongoDatabase mongoDatabase) {
+
+        final StreamConfig streamConfig = searchConfig.getStreamConfig();
+        if (streamConfig.isBulkPolicyUpdates()) {
+            final ActorRef policiesShard = shardRegionFactory.getPoliciesShardRegion(numberOfShards);
+            final MessageDispatcher dispatcher =
+                    actorSystem.dispatchers().lookup(streamConfig.getCacheConfig().getDispatcherName());
+            return PolicyUpdateFlow.of(mongoDatabase, streamConfig, policiesShard, dispatcher);
+        } else {
+            return null;
+        }
+    }
+
 }
@@ -12,14 +12,22 @@
  */
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.streaming.SudoStreamModifiedEntities;
 import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.utils.akka.streaming.DefaultStreamSupervisor;
 import org.eclipse.ditto.services.utils.akka.streaming.SyncConfig;
 import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 
+import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.cluster.pubsub.DistributedPubSubMediator;
@@ -50,17 +58,20 @@ final class ThingsStreamSupervisorCreator {
      * used to remember the end time of the last stream after a re-start).
      * @param materializer the materializer for the Akka actor system.
      * @param syncConfig The settings for stream consumption.
+     * @param searchUpdaterPersistence the search updater persistence to look up the indexed revisions of things.
      * @return the props
      */
     public static Props props(final ActorRef thingsUpdater,
             final ActorRef pubSubMediator,
             final TimestampPersistence streamMetadataPersistence,
             final Materializer materializer,
-            final SyncConfig syncConfig) {
+            final SyncConfig syncConfig,
+            final ThingsSearchUpdaterPersistence searchUpdaterPersistence) {
 
         return DefaultStreamSupervisor.props(thingsUpdater,
                 pubSubMediator,
                 ThingTag.class,
+                thingTags -> filterOutdatedThingTags(thingTags, searchUpdaterPersistence),
                 Source::single,
                 ThingsStreamSupervisorCreator::mapStreamTriggerCommand,
                 streamMetadataPersistence, materializer,
@@ -74,4 +85,20 @@ final class ThingsStreamSupervisorCreator {
                 sudoStreamModifiedEntities, true);
     }
 
+    /*
+     * Drop the tags of things which are indexed with the streamed revision already, e. g. because their events were
+     * processed, so that only things with outdated search index entries are sent to the things updater.
+     */
+    private static Source<ThingTag, NotUsed> filterOutdatedThingTags(final List<ThingTag> thingTags,
+            final ThingsSearchUpdaterPersistence searchUpdaterPersistence) {
+
+        final Map<ThingId, ThingTag> thingTagsById = thingTags.stream()
+                .collect(Collectors.toMap(ThingTag::getEntityId, Function.identity(),
+                        (tag1, tag2) -> tag1.getRevision() >= tag2.getRevision() ? tag1 : tag2));
+        final Map<ThingId, Long> thingRevisions = thingTagsById.values()
+                .stream()
+                .collect(Collectors.toMap(ThingTag::getEntityId, ThingTag::getRevision));
+        return searchUpdaterPersistence.getOutdatedThingIds(thingRevisions).map(thingTagsById::get);
+    }
+
 }
@@ -96,12 +96,24 @@ public abstract class AbstractStreamingActor<C, E> extends AbstractActor {
                 : elements;
     }
 
+    /**
+     * Behavior for messages other than the commands to start a stream. Defaults to no behavior.
+     *
+     * @return the additional behavior.
+     */
+    protected Receive additionalBehavior() {
+        return ReceiveBuilder.create().build();
+    }
+
     @Override
     public final Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(getCommandClass(), this::startStreaming)
-                .matchAny(message -> log.warning("Unexpected message: <{}>", message))
-                .build();
+                .build()
+                .orElse(additionalBehavior())
+                .orElse(ReceiveBuilder.create()
+                        .matchAny(message -> log.warning("Unexpected message: <{}>", message))
+                        .build());
     }
 
     private void startStreaming(final C command) {
@@ -133,6 +133,7 @@ public final class DefaultStreamSupervisor<E> extends AbstractActorWithTimers {
     private final ActorRef forwardTo;
     private final ActorRef provider;
     private final Class<E> elementClass;
+    private final Function<List<E>, Source<E, NotUsed>> filterBatchFunction;
     private final Function<E, Source<Object, NotUsed>> mapEntityFunction;
     private final Function<SudoStreamModifiedEntities, ?> streamTriggerMessageMapper;
     private final TimestampPersistence streamMetadataPersistence;
@@ -159,9 +160,25 @@ public final class DefaultStreamSupervisor<E> extends AbstractActorWithTimers {
             final Materializer materializer,
             final SyncConfig syncConfig) {
 
+        this(forwardTo, provider, elementClass, Source::from, mapEntityFunction, streamTriggerMessageMapper,
+                streamMetadataPersistence, materializer, syncConfig);
+    }
+
+    @SuppressWarnings("unused")
+    private DefaultStreamSupervisor(final ActorRef forwardTo,
+            final ActorRef provider,
+            final Class<E> elementClass,
+            final Function<List<E>, Source<E, NotUsed>> filterBatchFunction,
+            final Function<E, Source<Object, NotUsed>> mapEntityFunction,
+            final Function<SudoStreamModifiedEntities, ?> streamTriggerMessageMapper,
+            final TimestampPersistence streamMetadataPersistence,
+            final Materializer materializer,
+            final SyncConfig syncConfig) {
+
         this.forwardTo = checkNotNull(forwardTo, "forward-to actor reference");
         this.provider = checkNotNull(provider, "provider actor reference");
         this.elementClass = checkNotNull(elementClass, "element class");
+        this.filterBatchFunction = checkNotNull(filterBatchFunction, "filter batch function");
         this.mapEntityFunction = checkNotNull(mapEntityFunction, "map entity function");
         this.streamTriggerMessageMapper = checkNotNull(streamTriggerMessageMapper, "stream trigger message mapper");
         this.streamMetadataPersistence = checkNotNull(streamMetadataPersistence, "stream metadata persistence");
@@ -201,8 +218,41 @@ public final class DefaultStreamSupervisor<E> extends AbstractActorWithTimers {
             final Materializer materializer,
             final SyncConfig syncConfig) {
 
-        return Props.create(DefaultStreamSupervisor.class, forwardTo, provider, elementClass, mapEntityFunction,
-                streamTriggerMessageMapper, streamMetadataPersistence, materializer, syncConfig);
+        return props(forwardTo, provider, elementClass, Source::from, mapEntityFunction, streamTriggerMessageMapper,
+                streamMetadataPersistence, materializer, syncConfig);
+    }
+
+    /**
+     * Creates the props for {@code DefaultStreamSupervisor} which filters each batch of streamed elements before
+     * forwarding them, e. g. to drop elements the recipient has processed already.
+     *
+     * @param <E> the type of elements.
+     * @param forwardTo the {@link ActorRef} to which the stream will be forwarded.
+     * @param provider the {@link ActorRef} which provides the stream.
+     * @param elementClass the class of elements.
+     * @param filterBatchFunction the function to create a source of the elements to forward from each batch of
+     * streamed elements.
+     * @param mapEntityFunction the function to create a source of messages from each streamed element.
+     * @param streamTriggerMessageMapper a mapping function to convert a {@link SudoStreamModifiedEntities} message to a
+     * message understood by the stream provider. Can be used to send messages via Akka PubSub.
+     * @param streamMetadataPersistence the {@link TimestampPersistence} used to read and write stream metadata (is
+     * used to remember the end time of the last stream after a re-start).
+     * @param materializer the materializer to run Akka streams with.
+     * @param syncConfig the configuration settings for stream consumption.
+     * @return the props
+     */
+    public static <E> Props props(final ActorRef forwardTo,
+            final ActorRef provider,
+            final Class<E> elementClass,
+            final Function<List<E>, Source<E, NotUsed>> filterBatchFunction,
+            final Function<E, Source<Object, NotUsed>> mapEntityFunction,
+            final Function<SudoStreamModifiedEntities, ?> streamTriggerMessageMapper,
+            final TimestampPersistence streamMetadataPersistence,
+            final Materializer materializer,
+            final SyncConfig syncConfig) {
+
+        return Props.create(DefaultStreamSupervisor.class, forwardTo, provider, elementClass, filterBatchFunction,
+                mapEntityFunction, streamTriggerMessageMapper, streamMetadataPersistence, materializer, syncConfig);
     }
 
     private Object newStartStreamingCommand(final StreamTrigger streamRestrictions) {
@@ -427,6 +477,8 @@ public final class DefaultStreamSupervisor<E> extends AbstractActorWithTimers {
             final Duration maxIdleTime = syncConfig.getMaxIdleTime();
             return Source.fromIterator(elements::iterator)
                     .map(this::typecheckMessageToForward)
+                    .grouped(Math.max(1, elements.size()))
+                    .flatMapConcat(filterBatchFunction::apply)
                     .flatMapConcat(mapEntityFunction::apply)
                     .mapAsync(1, element -> Patterns.ask(forwardTo, element, maxIdleTime));
         } else {
@@ -157,6 +157,35 @@ public final class DefaultStreamSupervisorTest {
         }};
     }
 
+    /**
+     * This test verifies that only the elements passing the batch filter are forwarded.
+     */
+    @Test
+    public void filteredElementsAreNotForwarded() {
+        disableLogging();
+        new TestKit(actorSystem) {{
+            final ActorRef streamSupervisor = actorSystem.actorOf(DefaultStreamSupervisor.props(forwardTo.ref(),
+                    provider.ref(), EntityIdWithRevision.class,
+                    batch -> Source.from(batch).filter(element -> !TAG_1.equals(element)), Source::single,
+                    Function.identity(), searchSyncPersistence, materializer,
+                    getStreamConsumerSettings(Duration.ofSeconds(10))));
+            final Instant expectedQueryEnd = KNOWN_LAST_SYNC.plus(STREAM_INTERVAL);
+            expectStreamTriggerMsg(expectedQueryEnd);
+
+            final BatchedEntityIdWithRevisions<?> batch =
+                    BatchedEntityIdWithRevisions.of(EntityIdWithRevision.class, Arrays.asList(TAG_1, TAG_2));
+            Patterns.pipe(Source.single(batch).runWith(StreamRefs.sourceRef(), materializer),
+                    actorSystem.dispatcher())
+                    .to(streamSupervisor);
+
+            forwardTo.expectMsg(TAG_2);
+            forwardTo.reply(StreamAck.success(TAG_2.getEntityId().toString()));
+
+            verify(searchSyncPersistence, SHORT_MOCKITO_TIMEOUT).setTimestamp(eq(expectedQueryEnd));
+            forwardTo.expectNoMessage();
+        }};
+    }
+
     /**
      * This test verifies the Stream Supervisor isn't shutdown if an error occurs on saving the end timestamp.
      */
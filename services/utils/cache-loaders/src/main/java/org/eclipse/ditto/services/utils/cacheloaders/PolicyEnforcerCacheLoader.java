@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.utils.cacheloaders;
 import static java.util.Objects.requireNonNull;
 
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
@@ -24,13 +25,17 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyRevision;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.utils.cache.CacheLookupContext;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.OffHeapEntryCache;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
@@ -41,13 +46,16 @@ import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import akka.actor.ActorRef;
 
 /**
- * Loads a policy-enforcer by asking the policies shard-region-proxy.
+ * Loads a policy-enforcer by asking the policies shard-region-proxy. If a second tier of serialized policies is given,
+ * it is consulted before and populated after asking the policies shard-region-proxy, unless the policy was
+ * invalidated in the meantime.
  */
 @Immutable
 public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityIdWithResourceType,
         Entry<Enforcer>> {
 
-    private final ActorAskCacheLoader<Enforcer, Command> delegate;
+    private final ActorAskCacheLoader<Policy, Command> delegate;
+    @Nullable private final OffHeapEntryCache<EntityIdWithResourceType> secondTier;
 
     /**
      * Constructor.
@@ -56,31 +64,72 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
      * @param policiesShardRegionProxy the shard-region-proxy.
      */
     public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy) {
+        this(askTimeout, policiesShardRegionProxy, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param askTimeout the ask-timeout for communicating with the shard-region-proxy.
+     * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param secondTier the cache of serialized policies to restore enforcers from, or {@code null}.
+     */
+    public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy,
+            @Nullable final OffHeapEntryCache<EntityIdWithResourceType> secondTier) {
         requireNonNull(askTimeout);
         requireNonNull(policiesShardRegionProxy);
 
         final BiFunction<EntityId, CacheLookupContext, Command> commandCreator = PolicyCommandFactory::sudoRetrievePolicy;
-        final BiFunction<Object, CacheLookupContext, Entry<Enforcer>> responseTransformer =
+        final BiFunction<Object, CacheLookupContext, Entry<Policy>> responseTransformer =
                 PolicyEnforcerCacheLoader::handleSudoRetrievePolicyResponse;
 
         delegate = ActorAskCacheLoader.forShard(askTimeout, PolicyCommand.RESOURCE_TYPE, policiesShardRegionProxy,
                 commandCreator, responseTransformer);
+        this.secondTier = secondTier;
     }
 
     @Override
     public CompletableFuture<Entry<Enforcer>> asyncLoad(final EntityIdWithResourceType key,
             final Executor executor) {
-        return delegate.asyncLoad(key, executor);
+        if (secondTier == null) {
+            return delegate.asyncLoad(key, executor).thenApply(PolicyEnforcerCacheLoader::toEnforcerEntry);
+        }
+        final Optional<Entry<String>> entryFromSecondTier = secondTier.get(key);
+        if (entryFromSecondTier.isPresent()) {
+            final Entry<String> entry = entryFromSecondTier.get();
+            final Policy policy = PoliciesModelFactory.newPolicy(entry.getValueOrThrow());
+            return CompletableFuture.completedFuture(
+                    Entry.of(entry.getRevision(), PolicyEnforcers.defaultEvaluator(policy)));
+        }
+        // an invalidation during the load makes the second tier discard the loaded policy
+        final long epoch = secondTier.getEpoch(key);
+        return delegate.asyncLoad(key, executor).thenApply(entry -> {
+            if (entry.exists()) {
+                final String serializedPolicy = entry.getValueOrThrow()
+                        .toJson(JsonSchemaVersion.LATEST, FieldType.regularOrSpecial())
+                        .toString();
+                secondTier.put(key, epoch, entry.getRevision(), serializedPolicy);
+            }
+            return toEnforcerEntry(entry);
+        });
+    }
+
+    private static Entry<Enforcer> toEnforcerEntry(final Entry<Policy> entry) {
+        if (entry.exists()) {
+            return Entry.of(entry.getRevision(), PolicyEnforcers.defaultEvaluator(entry.getValueOrThrow()));
+        } else {
+            return Entry.nonexistent();
+        }
     }
 
-    private static Entry<Enforcer> handleSudoRetrievePolicyResponse(final Object response,
+    private static Entry<Policy> handleSudoRetrievePolicyResponse(final Object response,
             @Nullable final CacheLookupContext cacheLookupContext) {
         if (response instanceof SudoRetrievePolicyResponse) {
             final SudoRetrievePolicyResponse sudoRetrievePolicyResponse = (SudoRetrievePolicyResponse) response;
             final Policy policy = sudoRetrievePolicyResponse.getPolicy();
             final long revision = policy.getRevision().map(PolicyRevision::toLong)
                     .orElseThrow(badPolicyResponse("no revision"));
-            return Entry.of(revision, PolicyEnforcers.defaultEvaluator(policy));
+            return Entry.of(revision, policy);
         } else if (response instanceof PolicyNotAccessibleException) {
             return Entry.nonexistent();
         } else {
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_1;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+
+/**
+ * Concierge-service internal command signaling that the caches for several entities should be invalidated.
+ * Bundles the {@link InvalidateCacheEntry} commands accumulated over a short interval into one Pub/Sub message.
+ */
+@Immutable
+public final class InvalidateCacheEntries implements Jsonifiable<JsonObject> {
+
+    private static final JsonFieldDefinition<JsonArray> JSON_ENTRIES =
+            JsonFactory.newJsonArrayFieldDefinition("entries", V_1, V_2);
+
+    private final List<InvalidateCacheEntry> entries;
+
+    private InvalidateCacheEntries(final List<InvalidateCacheEntry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Creates a new {@link InvalidateCacheEntries} from the passed single invalidations.
+     *
+     * @param entries the invalidations to bundle.
+     * @return the created InvalidateCacheEntries instance.
+     */
+    public static InvalidateCacheEntries of(final Collection<InvalidateCacheEntry> entries) {
+        return new InvalidateCacheEntries(new ArrayList<>(entries));
+    }
+
+    /**
+     * Creates a new {@link InvalidateCacheEntries} from a JSON object.
+     *
+     * @param jsonObject the JsonObject to create the InvalidateCacheEntries from.
+     * @return the created InvalidateCacheEntries instance.
+     */
+    public static InvalidateCacheEntries fromJson(final JsonObject jsonObject) {
+        final List<InvalidateCacheEntry> entries = new ArrayList<>();
+        for (final JsonValue entry : jsonObject.getValueOrThrow(JSON_ENTRIES)) {
+            entries.add(InvalidateCacheEntry.fromJson(entry.asObject()));
+        }
+        return new InvalidateCacheEntries(entries);
+    }
+
+    /**
+     * @return the bundled invalidations.
+     */
+    public List<InvalidateCacheEntry> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        return JsonFactory.newObjectBuilder()
+                .set(JSON_ENTRIES, entries.stream()
+                        .map(InvalidateCacheEntry::toJson)
+                        .map(JsonValue.class::cast)
+                        .collect(JsonCollectors.valuesToArray()))
+                .build();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof InvalidateCacheEntries)) {
+            return false;
+        }
+        final InvalidateCacheEntries that = (InvalidateCacheEntries) o;
+        return Objects.equals(entries, that.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entries);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "entries=" + entries +
+                "]";
+    }
+}
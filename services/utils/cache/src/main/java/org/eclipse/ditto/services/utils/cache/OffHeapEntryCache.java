@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+
+/**
+ * Cache of serialized values with revisions whose bytes are stored outside of the Java heap in direct buffers.
+ * Serves as second tier behind a cache of deserialized values: the cache loader of the first tier stores each loaded
+ * value here, so that entries evicted from the first tier can be restored without asking the service owning the
+ * entity, while they do not add to garbage collection pressure.
+ * <p>
+ * Loads which were started before an invalidation must not restore the invalidated value. Therefore invalidations
+ * advance an epoch of the key, and a value is only stored if the epoch of its key did not change since the load of
+ * the value started. Epochs are shared by keys of the same stripe, so that an invalidation of one key at most
+ * prevents caching a value of another key.
+ *
+ * @param <K> the type of the key.
+ */
+@ThreadSafe
+public final class OffHeapEntryCache<K> {
+
+    private static final int REVISION_BYTES = Long.BYTES;
+    private static final int EPOCH_STRIPES = 1024;
+
+    private final Cache<Object, ByteBuffer> buffers;
+    private final Function<K, ?> keyMapper;
+    private final AtomicLongArray epochs;
+
+    private OffHeapEntryCache(final Cache<Object, ByteBuffer> buffers, final Function<K, ?> keyMapper) {
+        this.buffers = buffers;
+        this.keyMapper = keyMapper;
+        epochs = new AtomicLongArray(EPOCH_STRIPES);
+    }
+
+    /**
+     * Creates an off-heap cache.
+     *
+     * @param cacheConfig the configuration of the cache; its maximum size is the number of entries.
+     * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
+     * @param executor the executor to use in the cache.
+     * @param <K> the type of the key.
+     * @return the cache.
+     * @throws NullPointerException if {@code cacheConfig} or {@code executor} is {@code null}.
+     */
+    public static <K> OffHeapEntryCache<K> of(final CacheConfig cacheConfig, @Nullable final String cacheName,
+            final Executor executor) {
+
+        return of(cacheConfig, cacheName, executor, Function.identity());
+    }
+
+    /**
+     * Creates an off-heap cache whose entries are identified by a function of the key, e. g. in order to ignore
+     * parts of the key which only have a meaning for the first tier.
+     *
+     * @param cacheConfig the configuration of the cache; its maximum size is the number of entries.
+     * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
+     * @param executor the executor to use in the cache.
+     * @param keyMapper maps keys to the identities of the cached entries.
+     * @param <K> the type of the key.
+     * @return the cache.
+     * @throws NullPointerException if {@code cacheConfig}, {@code executor} or {@code keyMapper} is {@code null}.
+     */
+    public static <K> OffHeapEntryCache<K> of(final CacheConfig cacheConfig, @Nullable final String cacheName,
+            final Executor executor, final Function<K, ?> keyMapper) {
+
+        return new OffHeapEntryCache<>(CacheFactory.createCache(cacheConfig, cacheName, executor),
+                checkNotNull(keyMapper, "keyMapper"));
+    }
+
+    /**
+     * Retrieve a cached serialized value without loading it.
+     *
+     * @param key the key.
+     * @return the cached value with its revision, or an empty optional.
+     */
+    public Optional<Entry<String>> get(final K key) {
+        checkNotNull(key, "key");
+        return Optional.ofNullable(buffers.asMap().get(keyMapper.apply(key))).map(OffHeapEntryCache::readEntry);
+    }
+
+    /**
+     * Retrieve the epoch of a key. It has to be retrieved before loading a value to store.
+     *
+     * @param key the key.
+     * @return the current epoch of the key.
+     */
+    public long getEpoch(final K key) {
+        checkNotNull(key, "key");
+        return epochs.get(stripe(keyMapper.apply(key)));
+    }
+
+    /**
+     * Store a serialized value unless its key was invalidated since the value started to be loaded.
+     *
+     * @param key the key.
+     * @param epoch the epoch of the key retrieved before the value started to be loaded.
+     * @param revision the revision of the value.
+     * @param value the serialized value.
+     * @return {@code true} if the value was stored, {@code false} if it was discarded.
+     * @see #getEpoch(Object)
+     */
+    public boolean put(final K key, final long epoch, final long revision, final String value) {
+        checkNotNull(key, "key");
+        final Object mappedKey = keyMapper.apply(key);
+        final int stripe = stripe(mappedKey);
+        if (epochs.get(stripe) != epoch) {
+            return false;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(REVISION_BYTES + bytes.length);
+        buffer.putLong(revision).put(bytes).flip();
+        final ByteBuffer readOnlyBuffer = buffer.asReadOnlyBuffer();
+        buffers.put(mappedKey, readOnlyBuffer);
+        // an invalidation may have advanced the epoch before its removal and after the check above
+        if (epochs.get(stripe) != epoch) {
+            buffers.asMap().remove(mappedKey, readOnlyBuffer);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Remove a serialized value.
+     *
+     * @param key the key.
+     * @return {@code true} if a value was cached and is now invalidated, {@code false} otherwise.
+     */
+    public boolean invalidate(final K key) {
+        checkNotNull(key, "key");
+        final Object mappedKey = keyMapper.apply(key);
+        // advance the epoch before removing so that concurrent loads cannot store the invalidated value afterwards
+        epochs.incrementAndGet(stripe(mappedKey));
+        return buffers.invalidate(mappedKey);
+    }
+
+    private static int stripe(final Object mappedKey) {
+        final int hash = mappedKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (EPOCH_STRIPES - 1);
+    }
+
+    private static Entry<String> readEntry(final ByteBuffer buffer) {
+        // duplicate so that concurrent readers do not share the position
+        final ByteBuffer view = buffer.duplicate();
+        final long revision = view.getLong();
+        final byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        return Entry.of(revision, new String(bytes, StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Cache consisting of a first tier of deserialized values and an {@link OffHeapEntryCache} as second tier.
+ * Lookups are answered by the first tier, whose cache loader is expected to consult and populate the second tier.
+ * Invalidations are applied to both tiers so that an invalidated value is not restored from the second tier.
+ * Values being loaded during an invalidation are neither kept by the first tier, which drops its pending loads on
+ * invalidation, nor by the second tier, which discards values loaded before the last invalidation of their key.
+ *
+ * @param <K> the type of the key.
+ * @param <V> the type of the value.
+ */
+@ThreadSafe
+public final class TwoTierCache<K, V> implements Cache<K, V> {
+
+    private final Cache<K, V> firstTier;
+    private final OffHeapEntryCache<K> secondTier;
+
+    private TwoTierCache(final Cache<K, V> firstTier, final OffHeapEntryCache<K> secondTier) {
+        this.firstTier = firstTier;
+        this.secondTier = secondTier;
+    }
+
+    /**
+     * Creates a two-tier cache.
+     *
+     * @param firstTier the cache of deserialized values.
+     * @param secondTier the cache of serialized values its cache loader reads from.
+     * @param <K> the type of the key.
+     * @param <V> the type of the value.
+     * @return the cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <K, V> TwoTierCache<K, V> of(final Cache<K, V> firstTier, final OffHeapEntryCache<K> secondTier) {
+        return new TwoTierCache<>(checkNotNull(firstTier, "firstTier"), checkNotNull(secondTier, "secondTier"));
+    }
+
+    @Override
+    public CompletableFuture<Optional<V>> get(final K key) {
+        return firstTier.get(key);
+    }
+
+    @Override
+    public CompletableFuture<Optional<V>> getIfPresent(final K key) {
+        return firstTier.getIfPresent(key);
+    }
+
+    @Override
+    public Optional<V> getBlocking(final K key) {
+        return firstTier.getBlocking(key);
+    }
+
+    @Override
+    public boolean invalidate(final K key) {
+        final boolean invalidatedInSecondTier = secondTier.invalidate(key);
+        return firstTier.invalidate(key) || invalidatedInSecondTier;
+    }
+
+    @Override
+    public void invalidateAll(final Collection<K> keys) {
+        keys.forEach(secondTier::invalidate);
+        firstTier.invalidateAll(keys);
+    }
+
+    @Override
+    public void put(final K key, final V value) {
+        firstTier.put(key, value);
+    }
+
+    @Override
+    public ConcurrentMap<K, V> asMap() {
+        return firstTier.asMap();
+    }
+
+}
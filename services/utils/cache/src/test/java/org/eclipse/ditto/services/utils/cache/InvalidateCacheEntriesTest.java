@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link InvalidateCacheEntries}.
+ */
+public final class InvalidateCacheEntriesTest {
+
+    private static final InvalidateCacheEntry THING =
+            InvalidateCacheEntry.of(EntityIdWithResourceType.of("thing", DefaultEntityId.of("ns:thing")));
+    private static final InvalidateCacheEntry POLICY =
+            InvalidateCacheEntry.of(EntityIdWithResourceType.of("policy", DefaultEntityId.of("ns:policy")));
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(InvalidateCacheEntries.class).verify();
+        EqualsVerifier.forClass(InvalidateCacheEntry.class).verify();
+    }
+
+    @Test
+    public void serializeAndDeserialize() {
+        final InvalidateCacheEntries underTest = InvalidateCacheEntries.of(Arrays.asList(THING, POLICY));
+
+        assertThat(InvalidateCacheEntries.fromJson(underTest.toJson())).isEqualTo(underTest);
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link OffHeapEntryCache} and {@link TwoTierCache}.
+ */
+public final class OffHeapEntryCacheTest {
+
+    private static final CacheConfig CACHE_CONFIG = DefaultCacheConfig.of(ConfigFactory.empty(), "cache");
+    private static final Executor EXECUTOR = Runnable::run;
+
+    @Test
+    public void restoreStoredEntry() {
+        final OffHeapEntryCache<String> underTest = OffHeapEntryCache.of(CACHE_CONFIG, null, EXECUTOR);
+        underTest.put("key", underTest.getEpoch("key"), 42L, "{\"value\":\"ä\"}");
+
+        final Optional<Entry<String>> entry = underTest.get("key");
+
+        assertThat(entry).isPresent();
+        assertThat(entry.get().getRevision()).isEqualTo(42L);
+        assertThat(entry.get().getValueOrThrow()).isEqualTo("{\"value\":\"ä\"}");
+        assertThat(underTest.get("key")).isPresent();
+        assertThat(underTest.get("other-key")).isEmpty();
+    }
+
+    @Test
+    public void keyMapperIdentifiesEntries() {
+        final OffHeapEntryCache<String> underTest =
+                OffHeapEntryCache.of(CACHE_CONFIG, null, EXECUTOR, key -> key.toLowerCase());
+        underTest.put("KEY", underTest.getEpoch("KEY"), 1L, "value");
+
+        assertThat(underTest.get("key")).isPresent();
+        assertThat(underTest.invalidate("Key")).isTrue();
+        assertThat(underTest.get("KEY")).isEmpty();
+    }
+
+    @Test
+    public void invalidationDiscardsValuesLoadedBefore() {
+        final OffHeapEntryCache<String> underTest = OffHeapEntryCache.of(CACHE_CONFIG, null, EXECUTOR);
+        final long epochBeforeInvalidation = underTest.getEpoch("key");
+        underTest.invalidate("key");
+
+        assertThat(underTest.put("key", epochBeforeInvalidation, 1L, "stale value")).isFalse();
+        assertThat(underTest.get("key")).isEmpty();
+        assertThat(underTest.put("key", underTest.getEpoch("key"), 2L, "value")).isTrue();
+        assertThat(underTest.get("key").map(Entry::getRevision)).contains(2L);
+    }
+
+    @Test
+    public void twoTierCacheInvalidatesBothTiers() {
+        final OffHeapEntryCache<String> secondTier = OffHeapEntryCache.of(CACHE_CONFIG, null, EXECUTOR);
+        final Cache<String, String> firstTier = CacheFactory.createCache(CACHE_CONFIG, null, EXECUTOR);
+        final Cache<String, String> underTest = TwoTierCache.of(firstTier, secondTier);
+        underTest.put("key", "value");
+        secondTier.put("key", secondTier.getEpoch("key"), 1L, "value");
+        secondTier.put("evicted-key", secondTier.getEpoch("evicted-key"), 1L, "value");
+
+        assertThat(underTest.getBlocking("key")).contains("value");
+        assertThat(underTest.invalidate("key")).isTrue();
+        assertThat(underTest.invalidate("evicted-key")).isTrue();
+        assertThat(underTest.getBlocking("key")).isEmpty();
+        assertThat(secondTier.get("key")).isEmpty();
+        assertThat(secondTier.get("evicted-key")).isEmpty();
+    }
+
+}
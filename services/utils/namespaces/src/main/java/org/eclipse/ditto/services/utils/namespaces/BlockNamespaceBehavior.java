@@ -57,16 +57,13 @@ public final class BlockNamespaceBehavior {
             final Optional<String> namespaceOptional = NamespaceReader.fromEntityId(((WithId) signal).getEntityId());
             if (namespaceOptional.isPresent()) {
                 final String namespace = namespaceOptional.get();
-                return blockedNamespaces.contains(namespace)
-                        .thenApply(containsNamespace -> {
-                            if (containsNamespace != null && containsNamespace) {
-                                throw NamespaceBlockedException.newBuilder(namespace)
-                                        .dittoHeaders(signal.getDittoHeaders())
-                                        .build();
-                            } else {
-                                return signal;
-                            }
-                        });
+                if (blockedNamespaces.contains(namespace)) {
+                    final CompletableFuture<WithDittoHeaders> blocked = new CompletableFuture<>();
+                    blocked.completeExceptionally(NamespaceBlockedException.newBuilder(namespace)
+                            .dittoHeaders(signal.getDittoHeaders())
+                            .build());
+                    return blocked;
+                }
             }
         }
         return CompletableFuture.completedFuture(signal);
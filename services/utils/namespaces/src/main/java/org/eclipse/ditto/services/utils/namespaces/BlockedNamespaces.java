@@ -12,24 +12,36 @@
  */
 package org.eclipse.ditto.services.utils.namespaces;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.eclipse.ditto.services.utils.ddata.DistributedData;
 import org.eclipse.ditto.services.utils.ddata.DistributedDataConfig;
 
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.ExtendedActorSystem;
+import akka.actor.Props;
 import akka.cluster.Cluster;
 import akka.cluster.ddata.Key;
 import akka.cluster.ddata.ORSet;
 import akka.cluster.ddata.ORSetKey;
 import akka.cluster.ddata.Replicator;
 import akka.cluster.ddata.SelfUniqueAddress;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Distributed data for blocking of messages addressed entities in certain namespaces.
+ * The namespaces of the local replica are materialized in this object as they change so that they can be looked up
+ * synchronously without asking the replicator.
  */
 public final class BlockedNamespaces extends DistributedData<ORSet<String>> {
 
@@ -50,11 +62,19 @@ public final class BlockedNamespaces extends DistributedData<ORSet<String>> {
 
     private static final String BLOCKED_NAMESPACES_DISPATCHER = "blocked-namespaces-dispatcher";
 
+    private static final Object REFRESH = new Object();
+
     private final SelfUniqueAddress selfUniqueAddress;
+    private final ActorRef localView;
+    private volatile Set<String> localNamespaces;
 
     private BlockedNamespaces(final DistributedDataConfig config, final ActorSystem system) {
         super(config, system, system.dispatchers().lookup(BLOCKED_NAMESPACES_DISPATCHER));
         selfUniqueAddress = SelfUniqueAddress.apply(Cluster.get(system).selfUniqueAddress());
+        localNamespaces = Collections.emptySet();
+        localView = system.actorOf(LocalView.props(replicator, namespaces -> localNamespaces = namespaces)
+                .withDispatcher(BLOCKED_NAMESPACES_DISPATCHER));
+        subscribeForChanges(localView);
     }
 
     /**
@@ -81,35 +101,40 @@ public final class BlockedNamespaces extends DistributedData<ORSet<String>> {
     }
 
     /**
-     * Test whether a namespace is stored in the local replica with the configured READ timeout.
+     * Test whether a namespace is stored in the local replica. The namespaces of the local replica are looked up
+     * without asking the replicator; changes made by other cluster members become visible after they are replicated
+     * and the local replica notifies its subscribers.
      *
      * @param namespace the namespace.
-     * @return whether the local replica is retrieved successfully and contains the namespace.
+     * @return whether the local replica contains the namespace.
      */
-    public CompletionStage<Boolean> contains(final String namespace) {
-        return get(Replicator.readLocal())
-                .thenApply(maybeORSet -> maybeORSet.orElse(ORSet.empty()).contains(namespace))
-                .exceptionally(error -> false);
+    public boolean contains(final String namespace) {
+        final Set<String> namespaces = localNamespaces;
+        return !namespaces.isEmpty() && namespaces.contains(namespace);
     }
 
     /**
      * Write a namespace to ALL replicas with the configured WRITE timeout.
      *
      * @param namespace the namespace.
-     * @return future that completes after the update propagates to all replicas, exceptionally if there is any error.
+     * @return future that completes after the update propagates to all replicas and is visible to
+     * {@link #contains(String)}, exceptionally if there is any error.
      */
     public CompletionStage<Void> add(final String namespace) {
-        return update(writeAll(), orSet -> orSet.add(selfUniqueAddress, namespace));
+        return update(writeAll(), orSet -> orSet.add(selfUniqueAddress, namespace))
+                .thenCompose(done -> refreshLocalView());
     }
 
     /**
      * Remove a namespace from ALL replicas with the configured WRITE timeout.
      *
      * @param namespace the namespace to remove.
-     * @return future that completes after the removal propagates to all replicas, exceptionally if there is any error.
+     * @return future that completes after the removal propagates to all replicas and is visible to
+     * {@link #contains(String)}, exceptionally if there is any error.
      */
     public CompletionStage<Void> remove(final String namespace) {
-        return update(writeAll(), orSet -> orSet.remove(selfUniqueAddress, namespace));
+        return update(writeAll(), orSet -> orSet.remove(selfUniqueAddress, namespace))
+                .thenCompose(done -> refreshLocalView());
     }
 
     @Override
@@ -126,6 +151,59 @@ public final class BlockedNamespaces extends DistributedData<ORSet<String>> {
         return new Replicator.WriteAll(FiniteDuration.apply(writeTimeout.toMillis(), TimeUnit.MILLISECONDS));
     }
 
+    private CompletionStage<Void> refreshLocalView() {
+        return Patterns.ask(localView, REFRESH, readTimeout).thenApply(refreshed -> null);
+    }
+
+    /**
+     * Actor keeping the materialized namespaces up to date. Changes and refreshed values both come from the
+     * replicator, whose messages arrive in order, so that an outdated value never replaces a newer one.
+     */
+    private static final class LocalView extends AbstractActor {
+
+        private final ActorRef replicator;
+        private final Consumer<Set<String>> namespacesConsumer;
+
+        private LocalView(final ActorRef replicator, final Consumer<Set<String>> namespacesConsumer) {
+            this.replicator = replicator;
+            this.namespacesConsumer = namespacesConsumer;
+        }
+
+        private static Props props(final ActorRef replicator, final Consumer<Set<String>> namespacesConsumer) {
+            return Props.create(LocalView.class, () -> new LocalView(replicator, namespacesConsumer));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Receive createReceive() {
+            return ReceiveBuilder.create()
+                    .match(Replicator.Changed.class, changed -> materialize((ORSet<String>) changed.dataValue()))
+                    .matchEquals(REFRESH, refresh ->
+                            replicator.tell(new Replicator.Get<>(KEY, Replicator.readLocal(),
+                                    Optional.of(getSender())), getSelf()))
+                    .match(Replicator.GetSuccess.class, getSuccess -> {
+                        materialize((ORSet<String>) getSuccess.dataValue());
+                        replyToRefresh(getSuccess.getRequest());
+                    })
+                    .match(Replicator.NotFound.class, notFound -> {
+                        materialize(ORSet.empty());
+                        replyToRefresh(notFound.getRequest());
+                    })
+                    .build();
+        }
+
+        private void materialize(final ORSet<String> orSet) {
+            namespacesConsumer.accept(Collections.unmodifiableSet(new HashSet<>(orSet.getElements())));
+        }
+
+        private void replyToRefresh(final Optional<Object> request) {
+            request.filter(ActorRef.class::isInstance)
+                    .map(ActorRef.class::cast)
+                    .ifPresent(sender -> sender.tell(REFRESH, getSelf()));
+        }
+
+    }
+
     private static final class Provider
             extends DistributedData.AbstractDDataProvider<ORSet<String>, BlockedNamespaces> {
 
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.utils.namespaces;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
 import java.util.function.Supplier;
 
 import org.eclipse.ditto.services.utils.ddata.DistributedData;
@@ -25,8 +26,10 @@ import org.junit.Test;
 import com.typesafe.config.ConfigFactory;
 
 import akka.actor.ActorSystem;
+import akka.cluster.Cluster;
 import akka.cluster.ddata.ORSet;
 import akka.cluster.ddata.Replicator;
+import akka.cluster.ddata.SelfUniqueAddress;
 import akka.stream.Attributes;
 import akka.testkit.javadsl.TestKit;
 
@@ -103,16 +106,16 @@ public final class BlockedNamespacesTest {
             underTest.subscribeForChanges(getRef());
 
             final String namespace = "ns1";
-            assertThat(underTest.contains(namespace).toCompletableFuture().get()).isFalse();
+            assertThat(underTest.contains(namespace)).isFalse();
 
             // wait for a round trip to the replicator to ensure subscription is active
             underTest.add(namespace).toCompletableFuture().get();
-            assertThat(underTest.contains(namespace).toCompletableFuture().get()).isTrue();
+            assertThat(underTest.contains(namespace)).isTrue();
 
             final ORSet change1 = (ORSet) expectMsgClass(Replicator.Changed.class).dataValue();
 
             underTest.remove(namespace).toCompletableFuture().get();
-            assertThat(underTest.contains(namespace).toCompletableFuture().get()).isFalse();
+            assertThat(underTest.contains(namespace)).isFalse();
 
             final ORSet change2 = (ORSet) expectMsgClass(Replicator.Changed.class).dataValue();
 
@@ -130,16 +133,33 @@ public final class BlockedNamespacesTest {
 
     }
 
+    @Test
+    public void materializeChangesNotMadeThroughThisObject() throws Exception {
+        new TestKit(actorSystem) {{
+            final BlockedNamespaces underTest = BlockedNamespaces.of(actorSystem);
+            final String namespace = "ns.replicated";
+
+            // simulate a change replicated from another cluster member
+            underTest.update(Replicator.writeLocal(),
+                    orSet -> orSet.add(SelfUniqueAddress.apply(Cluster.get(actorSystem).selfUniqueAddress()),
+                            namespace))
+                    .toCompletableFuture()
+                    .get();
+
+            awaitAssert(Duration.ofSeconds(5L), () -> assertThat(underTest.contains(namespace)).isTrue());
+        }};
+    }
+
     private static void testCRUD(final BlockedNamespaces underTest, final ActorSystem actorSystem) throws Exception {
         new TestKit(actorSystem) {{
             final String namespace = "dummy.namespace";
-            assertThat(underTest.contains(namespace).toCompletableFuture().get()).isFalse();
+            assertThat(underTest.contains(namespace)).isFalse();
 
             underTest.add(namespace).toCompletableFuture().get();
-            assertThat(underTest.contains(namespace).toCompletableFuture().get()).isTrue();
+            assertThat(underTest.contains(namespace)).isTrue();
 
             underTest.remove(namespace).toCompletableFuture().get();
-            assertThat(underTest.contains(namespace).toCompletableFuture().get()).isFalse();
+            assertThat(underTest.contains(namespace)).isFalse();
         }};
     }
 
@@ -12,8 +12,13 @@
  */
 package org.eclipse.ditto.services.utils.persistence;
 
+import java.util.Collection;
+import java.util.Optional;
+
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonPointer;
+
 import akka.persistence.SelectedSnapshot;
 import akka.persistence.SnapshotOffer;
 
@@ -36,6 +41,32 @@ public interface SnapshotAdapter<T> {
      */
     Object toSnapshotStore(T snapshot);
 
+    /**
+     * Converts a "domain model snapshot" type to a delta snapshot which only contains the parts modified since a full
+     * snapshot. Delta snapshots are not supported by default.
+     *
+     * @param snapshot the domain model type to do a Snapshot for.
+     * @param baseSequenceNumber the sequence number of the full snapshot the delta snapshot refers to.
+     * @param modifiedPaths the resource paths of the entity modified since the full snapshot.
+     * @return the delta snapshot to persist into the Snapshot-Store or an empty optional if a full snapshot should be
+     * taken instead.
+     */
+    default Optional<Object> toDeltaSnapshotStore(final T snapshot, final long baseSequenceNumber,
+            final Collection<JsonPointer> modifiedPaths) {
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the sequence number of the full snapshot an offered snapshot was reconstructed from.
+     *
+     * @param snapshotOffer the SnapshotOffer as offered from Akka Persistence including the db snapshot.
+     * @return the sequence number of the full snapshot; that of the offered snapshot if it is a full snapshot.
+     */
+    default long getBaseSequenceNumber(final SnapshotOffer snapshotOffer) {
+        return snapshotOffer.metadata().sequenceNr();
+    }
+
     /**
      * Converts a "database snapshot" (directly loaded from the database) type to a domain model snapshot type.
      *
@@ -15,19 +15,24 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Optional;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.snapshot.DeltaSnapshots;
 import org.slf4j.Logger;
 
 import akka.persistence.SelectedSnapshot;
@@ -58,6 +63,30 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         return dittoBsonJson.parse(json);
     }
 
+    @Override
+    public Optional<Object> toDeltaSnapshotStore(final T snapshotEntity, final long baseSequenceNumber,
+            final Collection<JsonPointer> modifiedPaths) {
+
+        final JsonObject json = convertToJson(checkNotNull(snapshotEntity, "snapshot entity"));
+
+        onSnapshotStoreConversion(snapshotEntity, json);
+
+        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
+        return Optional.of(dittoBsonJson.parse(DeltaSnapshots.newDelta(json, baseSequenceNumber, modifiedPaths)));
+    }
+
+    @Override
+    public long getBaseSequenceNumber(final SnapshotOffer snapshotOffer) {
+        final Object snapshot = snapshotOffer.snapshot();
+        if (snapshot instanceof BsonDocument) {
+            final BsonValue base = ((BsonDocument) snapshot).get(DeltaSnapshots.BASE_FIELD_NAME);
+            if (base != null && base.isNumber()) {
+                return base.asNumber().longValue();
+            }
+        }
+        return snapshotOffer.metadata().sequenceNr();
+    }
+
     /**
      * This method is called exactly once when a snapshot is created.
      * It does nothing by default.
@@ -125,7 +154,8 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
     private static JsonObject convertToJson(final BsonValue bsonValue) {
         checkNotNull(bsonValue, "BsonValue to be converted");
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
+        // remove the marker of snapshots reconstructed from delta snapshots
+        final JsonObject jsonObject = DeltaSnapshots.withoutMarker(dittoBsonJson.serialize(bsonValue).asObject());
         return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
     }
 
@@ -17,7 +17,10 @@ import static java.util.Objects.requireNonNull;
 import java.time.Duration;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.services.models.streaming.AbstractEntityIdWithRevision;
 import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.models.streaming.StartStreamRequest;
@@ -31,16 +34,21 @@ import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbC
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupJournal;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupJournalResponse;
 import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
 
 import com.typesafe.config.Config;
 
 import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.japi.pf.ReceiveBuilder;
+import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 
 /**
  * Abstract implementation of an Actor that streams information about persisted entities modified in a time window in
- * the past.
+ * the past. It also answers {@link CleanupJournal} commands by cleaning up journal and snapshot store directly.
  *
  * @param <T> type of the elements.
  */
@@ -182,7 +190,44 @@ public abstract class AbstractPersistenceStreamingActor<T extends EntityIdWithRe
         return pidSource.map(pid -> mapEntity(new PidWithSeqNr(pid, 0L))).log("pid-streaming", log);
     }
 
+    @Override
+    protected Receive additionalBehavior() {
+        return ReceiveBuilder.create()
+                .match(CleanupJournal.class, this::cleanupJournal)
+                .build();
+    }
+
+    private void cleanupJournal(final CleanupJournal command) {
+        log.debug("Cleaning up journal for <{}>", command);
+        final List<String> pids = command.getEntityIds()
+                .stream()
+                .map(entityId -> entityUnmapper.apply(new CleanupTarget(entityId)).getPersistenceId())
+                .collect(Collectors.toList());
+        final ActorRef sender = getSender();
+        readJournal.deleteUpToLatestSnapshots(pids)
+                .runWith(Sink.head(), materializer)
+                .handle((result, error) -> {
+                    final CleanupJournalResponse response;
+                    if (error == null) {
+                        response = CleanupJournalResponse.success(result.getCleanedPids(), result.getDeletedEvents(),
+                                result.getDeletedSnapshots(), command.getDittoHeaders());
+                    } else {
+                        log.error(error, "Failed to clean up journal for <{}> entities", pids.size());
+                        response = CleanupJournalResponse.failure(command.getDittoHeaders());
+                    }
+                    sender.tell(response, ActorRef.noSender());
+                    return null;
+                });
+    }
+
     private T mapEntity(final PidWithSeqNr pidWithSeqNr) {
         return entityMapper.apply(pidWithSeqNr);
     }
+
+    private static final class CleanupTarget extends AbstractEntityIdWithRevision<EntityId> {
+
+        private CleanupTarget(final EntityId entityId) {
+            super(entityId, 0L);
+        }
+    }
 }
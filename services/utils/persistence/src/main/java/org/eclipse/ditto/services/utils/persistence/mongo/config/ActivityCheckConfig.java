@@ -38,6 +38,36 @@ public interface ActivityCheckConfig {
      */
     Duration getDeletedInterval();
 
+    /**
+     * Indicates whether entities are checked for activity in batches by one activity manager per entity type and
+     * node instead of one timer per entity.
+     *
+     * @return whether activity checks are batched.
+     */
+    boolean isBatched();
+
+    /**
+     * Returns the interval in which the activity manager checks the entities whose check is due.
+     *
+     * @return the batch interval.
+     */
+    Duration getBatchInterval();
+
+    /**
+     * Returns the maximum number of entities to check for activity per batch interval.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns the maximum number of entities being checked at the same time, i. e. passivating or taking a
+     * snapshot before passivation.
+     *
+     * @return the maximum number of pending checks.
+     */
+    int getMaxPendingChecks();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ActivityCheckConfig}.
@@ -52,7 +82,27 @@ public interface ActivityCheckConfig {
         /**
          * The interval of how long to keep a deleted entity in memory.
          */
-        DELETED_INTERVAL("deleted-interval", Duration.ofMinutes(5L));
+        DELETED_INTERVAL("deleted-interval", Duration.ofMinutes(5L)),
+
+        /**
+         * Whether activity checks are batched.
+         */
+        BATCHED("batched", false),
+
+        /**
+         * The interval in which the activity manager checks the entities whose check is due.
+         */
+        BATCH_INTERVAL("batch-interval", Duration.ofSeconds(1L)),
+
+        /**
+         * The maximum number of entities to check for activity per batch interval.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 100),
+
+        /**
+         * The maximum number of entities being checked at the same time.
+         */
+        MAX_PENDING_CHECKS("max-pending-checks", 20);
 
         private final String path;
         private final Object defaultValue;
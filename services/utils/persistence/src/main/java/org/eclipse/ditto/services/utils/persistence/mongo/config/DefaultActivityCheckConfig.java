@@ -32,10 +32,18 @@ public final class DefaultActivityCheckConfig implements ActivityCheckConfig {
 
     private final Duration inactiveInterval;
     private final Duration deletedInterval;
+    private final boolean batched;
+    private final Duration batchInterval;
+    private final int maxBatchSize;
+    private final int maxPendingChecks;
 
     private DefaultActivityCheckConfig(final ScopedConfig scopedConfig) {
         inactiveInterval = scopedConfig.getDuration(ActivityCheckConfigValue.INACTIVE_INTERVAL.getConfigPath());
         deletedInterval = scopedConfig.getDuration(ActivityCheckConfigValue.DELETED_INTERVAL.getConfigPath());
+        batched = scopedConfig.getBoolean(ActivityCheckConfigValue.BATCHED.getConfigPath());
+        batchInterval = scopedConfig.getDuration(ActivityCheckConfigValue.BATCH_INTERVAL.getConfigPath());
+        maxBatchSize = scopedConfig.getInt(ActivityCheckConfigValue.MAX_BATCH_SIZE.getConfigPath());
+        maxPendingChecks = scopedConfig.getInt(ActivityCheckConfigValue.MAX_PENDING_CHECKS.getConfigPath());
     }
 
     /**
@@ -60,6 +68,26 @@ public final class DefaultActivityCheckConfig implements ActivityCheckConfig {
         return deletedInterval;
     }
 
+    @Override
+    public boolean isBatched() {
+        return batched;
+    }
+
+    @Override
+    public Duration getBatchInterval() {
+        return batchInterval;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public int getMaxPendingChecks() {
+        return maxPendingChecks;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -69,13 +97,18 @@ public final class DefaultActivityCheckConfig implements ActivityCheckConfig {
             return false;
         }
         final DefaultActivityCheckConfig that = (DefaultActivityCheckConfig) o;
-        return Objects.equals(inactiveInterval, that.inactiveInterval) &&
-                Objects.equals(deletedInterval, that.deletedInterval);
+        return batched == that.batched &&
+                maxBatchSize == that.maxBatchSize &&
+                maxPendingChecks == that.maxPendingChecks &&
+                Objects.equals(inactiveInterval, that.inactiveInterval) &&
+                Objects.equals(deletedInterval, that.deletedInterval) &&
+                Objects.equals(batchInterval, that.batchInterval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(inactiveInterval, deletedInterval);
+        return Objects.hash(inactiveInterval, deletedInterval, batched, batchInterval, maxBatchSize,
+                maxPendingChecks);
     }
 
     @Override
@@ -83,6 +116,10 @@ public final class DefaultActivityCheckConfig implements ActivityCheckConfig {
         return getClass().getSimpleName() + " [" +
                 "inactiveInterval=" + inactiveInterval +
                 ", deletedInterval=" + deletedInterval +
+                ", batched=" + batched +
+                ", batchInterval=" + batchInterval +
+                ", maxBatchSize=" + maxBatchSize +
+                ", maxPendingChecks=" + maxPendingChecks +
                 "]";
     }
 
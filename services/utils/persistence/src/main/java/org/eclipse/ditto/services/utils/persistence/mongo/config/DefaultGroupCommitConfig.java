@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for group commit of events of entities.
+ */
+@Immutable
+public final class DefaultGroupCommitConfig implements GroupCommitConfig {
+
+    private static final String CONFIG_PATH = "group-commit";
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+
+    private DefaultGroupCommitConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(GroupCommitConfigValue.ENABLED.getConfigPath());
+        maxBatchSize = getMaxBatchSize(config);
+    }
+
+    private static int getMaxBatchSize(final ScopedConfig config) {
+        final int result = config.getInt(GroupCommitConfigValue.MAX_BATCH_SIZE.getConfigPath());
+        if (1 > result) {
+            final String msgPattern = "The group commit max-batch-size must be positive but it was <{0}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of the default group commit config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the group commit config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultGroupCommitConfig of(final Config config) {
+        return new DefaultGroupCommitConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, GroupCommitConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultGroupCommitConfig that = (DefaultGroupCommitConfig) o;
+        return enabled == that.enabled && maxBatchSize == that.maxBatchSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxBatchSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxBatchSize=" + maxBatchSize +
+                "]";
+    }
+
+}
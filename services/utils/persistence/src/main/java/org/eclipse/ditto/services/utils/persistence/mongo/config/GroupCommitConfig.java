@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for group commit of events: the events of commands which arrive while a write to
+ * the journal is in flight are collected and persisted together in the next write.
+ */
+@Immutable
+public interface GroupCommitConfig {
+
+    /**
+     * Indicates whether events of an entity should be persisted by group commit.
+     *
+     * @return {@code true} if group commit is enabled, {@code false} if each event is persisted on its own.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of events to persist in one write.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GroupCommitConfig}.
+     */
+    enum GroupCommitConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether events of an entity should be persisted by group commit.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of events to persist in one write.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        GroupCommitConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
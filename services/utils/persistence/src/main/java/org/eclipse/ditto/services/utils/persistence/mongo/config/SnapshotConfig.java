@@ -38,6 +38,15 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Returns how many delta snapshots to take between two full snapshots. A delta snapshot only stores the parts of
+     * the entity which were modified since the full snapshot it refers to. Only honoured for entities whose snapshot
+     * store reconstructs delta snapshots; {@code 0} means that every snapshot is a full snapshot.
+     *
+     * @return the maximum number of delta snapshots per full snapshot.
+     */
+    int getMaxDeltas();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +61,12 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * How many delta snapshots to take between two full snapshots.
+         */
+        MAX_DELTAS("max-deltas", 0);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.snapshot;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.pattern.Patterns;
+import akka.persistence.DeleteSnapshotFailure;
+import akka.persistence.DeleteSnapshotSuccess;
+import akka.persistence.DeleteSnapshotsFailure;
+import akka.persistence.DeleteSnapshotsSuccess;
+import akka.persistence.Persistence;
+import akka.persistence.SaveSnapshotFailure;
+import akka.persistence.SaveSnapshotSuccess;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotMetadata;
+import akka.persistence.SnapshotProtocol;
+import akka.persistence.SnapshotSelectionCriteria;
+import akka.persistence.snapshot.japi.SnapshotStore;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.Future;
+
+/**
+ * Snapshot store plugin which reconstructs delta snapshots created by {@link DeltaSnapshots} from their base when
+ * they are loaded. Snapshots are stored by the snapshot store plugin configured at {@code delegate}, e. g. the
+ * MongoDB snapshot store, which has to be running already.
+ * <p>
+ * If the base of a delta snapshot is gone, the next older snapshot is loaded instead.
+ * </p>
+ */
+public final class DeltaSnapshotStore extends SnapshotStore {
+
+    private static final String DELEGATE = "delegate";
+    private static final String ASK_TIMEOUT = "ask-timeout";
+
+    private final ActorRef delegate;
+    private final Duration askTimeout;
+
+    /**
+     * Creates the snapshot store. Called by Akka persistence.
+     *
+     * @param config the configuration of the plugin.
+     */
+    public DeltaSnapshotStore(final Config config) {
+        delegate = Persistence.get(context().system())
+                .snapshotStoreFor(config.getString(DELEGATE), ConfigFactory.empty());
+        askTimeout = config.getDuration(ASK_TIMEOUT);
+    }
+
+    @Override
+    public Future<Optional<SelectedSnapshot>> doLoadAsync(final String persistenceId,
+            final SnapshotSelectionCriteria criteria) {
+
+        return FutureConverters.toScala(load(persistenceId, criteria));
+    }
+
+    @Override
+    public Future<Void> doSaveAsync(final SnapshotMetadata metadata, final Object snapshot) {
+        return FutureConverters.toScala(ask(new SnapshotProtocol.SaveSnapshot(metadata, snapshot)));
+    }
+
+    @Override
+    public Future<Void> doDeleteAsync(final SnapshotMetadata metadata) {
+        return FutureConverters.toScala(ask(new SnapshotProtocol.DeleteSnapshot(metadata)));
+    }
+
+    @Override
+    public Future<Void> doDeleteAsync(final String persistenceId, final SnapshotSelectionCriteria criteria) {
+        return FutureConverters.toScala(ask(new SnapshotProtocol.DeleteSnapshots(persistenceId, criteria)));
+    }
+
+    private CompletionStage<Optional<SelectedSnapshot>> load(final String persistenceId,
+            final SnapshotSelectionCriteria criteria) {
+
+        return loadFromDelegate(persistenceId, criteria).thenCompose(loaded -> {
+            // only deltas are converted to JSON: full snapshots are passed through as they are
+            final Optional<JsonObject> delta = loaded.filter(DeltaSnapshotStore::isDelta)
+                    .flatMap(DeltaSnapshotStore::toJson);
+            if (!delta.isPresent()) {
+                return CompletableFuture.completedFuture(loaded);
+            }
+            final SnapshotMetadata metadata = loaded.get().metadata();
+            final long baseSequenceNumber = DeltaSnapshots.getBaseSequenceNumber(delta.get()).orElse(0L);
+            final SnapshotSelectionCriteria baseCriteria =
+                    SnapshotSelectionCriteria.create(baseSequenceNumber, Long.MAX_VALUE, baseSequenceNumber, 0L);
+            return loadFromDelegate(persistenceId, baseCriteria).thenCompose(base -> {
+                final Optional<JsonObject> baseJson = base.filter(snapshot -> !isDelta(snapshot))
+                        .flatMap(DeltaSnapshotStore::toJson);
+                if (baseJson.isPresent()) {
+                    final JsonObject reconstructed = DeltaSnapshots.applyDelta(baseJson.get(), delta.get());
+                    return CompletableFuture.completedFuture(Optional.of(
+                            SelectedSnapshot.create(metadata, DittoBsonJson.getInstance().parse(reconstructed))));
+                } else {
+                    log().warning("Base <{}> of delta snapshot <{}> is missing, loading an older snapshot.",
+                            baseSequenceNumber, metadata);
+                    return load(persistenceId, SnapshotSelectionCriteria.create(metadata.sequenceNr() - 1L,
+                            criteria.maxTimestamp(), criteria.minSequenceNr(), criteria.minTimestamp()));
+                }
+            });
+        });
+    }
+
+    private CompletionStage<Optional<SelectedSnapshot>> loadFromDelegate(final String persistenceId,
+            final SnapshotSelectionCriteria criteria) {
+
+        if (criteria.maxSequenceNr() < criteria.minSequenceNr()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return Patterns.ask(delegate, new SnapshotProtocol.LoadSnapshot(persistenceId, criteria, Long.MAX_VALUE),
+                askTimeout)
+                .thenApply(response -> {
+                    if (response instanceof SnapshotProtocol.LoadSnapshotResult) {
+                        final SnapshotProtocol.LoadSnapshotResult result =
+                                (SnapshotProtocol.LoadSnapshotResult) response;
+                        return result.snapshot().isDefined()
+                                ? Optional.of(result.snapshot().get())
+                                : Optional.empty();
+                    } else {
+                        throw toException(response);
+                    }
+                });
+    }
+
+    private CompletionStage<Void> ask(final SnapshotProtocol.Request request) {
+        return Patterns.ask(delegate, request, askTimeout).thenApply(response -> {
+            if (response instanceof SaveSnapshotSuccess ||
+                    response instanceof DeleteSnapshotSuccess ||
+                    response instanceof DeleteSnapshotsSuccess) {
+                return null;
+            } else {
+                throw toException(response);
+            }
+        });
+    }
+
+    private static RuntimeException toException(final Object response) {
+        final Throwable cause;
+        if (response instanceof SnapshotProtocol.LoadSnapshotFailed) {
+            cause = ((SnapshotProtocol.LoadSnapshotFailed) response).cause();
+        } else if (response instanceof SaveSnapshotFailure) {
+            cause = ((SaveSnapshotFailure) response).cause();
+        } else if (response instanceof DeleteSnapshotFailure) {
+            cause = ((DeleteSnapshotFailure) response).cause();
+        } else if (response instanceof DeleteSnapshotsFailure) {
+            cause = ((DeleteSnapshotsFailure) response).cause();
+        } else {
+            cause = null;
+        }
+        return new IllegalStateException("Delegate snapshot store replied <" + response + ">", cause);
+    }
+
+    private static boolean isDelta(final SelectedSnapshot selectedSnapshot) {
+        final Object snapshot = selectedSnapshot.snapshot();
+        return snapshot instanceof BsonDocument && DeltaSnapshots.isDelta((BsonDocument) snapshot);
+    }
+
+    private static Optional<JsonObject> toJson(final SelectedSnapshot selectedSnapshot) {
+        final Object snapshot = selectedSnapshot.snapshot();
+        if (snapshot instanceof BsonDocument) {
+            return Optional.of(DittoBsonJson.getInstance().serialize((BsonDocument) snapshot));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+}
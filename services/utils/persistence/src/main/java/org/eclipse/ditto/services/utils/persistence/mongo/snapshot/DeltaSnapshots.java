@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.snapshot;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Creates and applies delta snapshots. A delta snapshot refers to a full snapshot of the same entity, its base, and
+ * contains the current values of all resource paths modified since the base together with all top-level fields which
+ * are no objects, e. g. the revision. Modified paths whose value is gone are recorded as removed.
+ * <p>
+ * The resource paths of the events of the entity must address the JSON representation of the entity.
+ * </p>
+ */
+@Immutable
+public final class DeltaSnapshots {
+
+    /**
+     * Name of the field of a delta snapshot containing the sequence number of its base. The same field marks a
+     * snapshot reconstructed from a delta snapshot.
+     */
+    public static final String BASE_FIELD_NAME = "__snapshotBase";
+
+    private static final String PATCH_FIELD_NAME = "__snapshotPatch";
+
+    private static final JsonFieldDefinition<Long> BASE = JsonFactory.newLongFieldDefinition(BASE_FIELD_NAME);
+    private static final JsonFieldDefinition<JsonArray> PATCH =
+            JsonFactory.newJsonArrayFieldDefinition(PATCH_FIELD_NAME);
+
+    private static final JsonFieldDefinition<JsonArray> PATH = JsonFactory.newJsonArrayFieldDefinition("path");
+    private static final JsonKey VALUE = JsonKey.of("value");
+
+    private DeltaSnapshots() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates a delta snapshot.
+     *
+     * @param entity the JSON representation of the entity to snapshot.
+     * @param baseSequenceNumber the sequence number of the full snapshot to refer to.
+     * @param modifiedPaths resource paths modified since the full snapshot.
+     * @return the delta snapshot.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code modifiedPaths} contains the root path.
+     */
+    public static JsonObject newDelta(final JsonObject entity, final long baseSequenceNumber,
+            final Collection<JsonPointer> modifiedPaths) {
+
+        checkNotNull(entity, "entity");
+        checkNotNull(modifiedPaths, "modifiedPaths");
+        final JsonArrayBuilder patch = JsonFactory.newArrayBuilder();
+        for (final JsonField field : entity) {
+            if (!field.getValue().isObject()) {
+                patch.add(newOperation(field.getKey().asPointer(), field.getValue()));
+            }
+        }
+        for (final JsonPointer path : withoutNestedPaths(modifiedPaths)) {
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("A delta snapshot cannot contain a modification of the root!");
+            }
+            final Optional<JsonValue> value = entity.getValue(path);
+            // top-level fields which are no objects are part of the patch already
+            if (path.getLevelCount() > 1 || !value.filter(v -> !v.isObject()).isPresent()) {
+                patch.add(newOperation(path, value.orElse(null)));
+            }
+        }
+        return JsonObject.newBuilder()
+                .set(BASE, baseSequenceNumber)
+                .set(PATCH, patch.build())
+                .build();
+    }
+
+    /**
+     * Returns the sequence number of the base of a delta snapshot or of a snapshot reconstructed from a delta
+     * snapshot.
+     *
+     * @param snapshot the snapshot.
+     * @return the sequence number of the base or an empty optional if {@code snapshot} is a full snapshot.
+     */
+    public static OptionalLong getBaseSequenceNumber(final JsonObject snapshot) {
+        return snapshot.getValue(BASE).map(OptionalLong::of).orElseGet(OptionalLong::empty);
+    }
+
+    /**
+     * Indicates whether a snapshot is a delta snapshot which has to be applied to its base.
+     *
+     * @param snapshot the snapshot.
+     * @return whether {@code snapshot} is a delta snapshot.
+     */
+    public static boolean isDelta(final JsonObject snapshot) {
+        return snapshot.contains(PATCH.getPointer());
+    }
+
+    /**
+     * Indicates whether a snapshot in BSON format is a delta snapshot which has to be applied to its base.
+     *
+     * @param snapshot the snapshot.
+     * @return whether {@code snapshot} is a delta snapshot.
+     */
+    public static boolean isDelta(final BsonDocument snapshot) {
+        return snapshot.containsKey(PATCH_FIELD_NAME);
+    }
+
+    /**
+     * Reconstructs the snapshot of an entity from a delta snapshot and its base. The result is marked with the
+     * sequence number of the base.
+     *
+     * @param base the full snapshot the delta refers to.
+     * @param delta the delta snapshot.
+     * @return the reconstructed snapshot.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if {@code delta} is no delta snapshot.
+     */
+    public static JsonObject applyDelta(final JsonObject base, final JsonObject delta) {
+        JsonObject result = base;
+        for (final JsonValue operation : delta.getValueOrThrow(PATCH)) {
+            final JsonObject operationObject = operation.asObject();
+            final List<JsonKey> path = operationObject.getValueOrThrow(PATH).stream()
+                    .map(JsonValue::asString)
+                    .map(JsonKey::of)
+                    .collect(Collectors.toList());
+            final Optional<JsonValue> value = operationObject.getValue(VALUE);
+            result = value.isPresent()
+                    ? setValue(result, path, 0, value.get())
+                    : removeValue(result, path, 0);
+        }
+        return result.setValue(BASE.getPointer(), JsonValue.of(delta.getValueOrThrow(BASE)));
+    }
+
+    /**
+     * Removes the marker of a snapshot reconstructed from a delta snapshot.
+     *
+     * @param snapshot the snapshot.
+     * @return the snapshot without marker.
+     */
+    public static JsonObject withoutMarker(final JsonObject snapshot) {
+        return snapshot.remove(BASE.getPointer());
+    }
+
+    private static List<JsonPointer> withoutNestedPaths(final Collection<JsonPointer> paths) {
+        final List<JsonPointer> result = new ArrayList<>(paths.size());
+        for (final JsonPointer path : paths) {
+            if (paths.stream().noneMatch(other -> isStrictPrefix(other, path))) {
+                result.add(path);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isStrictPrefix(final JsonPointer prefix, final JsonPointer path) {
+        if (prefix.getLevelCount() >= path.getLevelCount()) {
+            return false;
+        }
+        return path.getPrefixPointer(prefix.getLevelCount() - 1).filter(prefix::equals).isPresent();
+    }
+
+    private static JsonObject newOperation(final JsonPointer path, @Nullable final JsonValue value) {
+        final JsonArrayBuilder keys = JsonFactory.newArrayBuilder();
+        path.forEach(key -> keys.add(key.toString()));
+        final JsonObject operation = JsonObject.newBuilder().set(PATH, keys.build()).build();
+        return value == null ? operation : operation.setValue(VALUE.asPointer(), value);
+    }
+
+    // intermediate values which are no objects are replaced so that the result does not depend on the base
+    private static JsonObject setValue(final JsonObject object, final List<JsonKey> path, final int level,
+            final JsonValue value) {
+
+        final JsonKey key = path.get(level);
+        if (level == path.size() - 1) {
+            return object.setValue(key.asPointer(), value);
+        }
+        final JsonObject child = object.getValue(key.asPointer())
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .orElseGet(JsonObject::empty);
+        return object.setValue(key.asPointer(), setValue(child, path, level + 1, value));
+    }
+
+    private static JsonObject removeValue(final JsonObject object, final List<JsonKey> path, final int level) {
+        final JsonKey key = path.get(level);
+        if (level == path.size() - 1) {
+            return object.remove(key.asPointer());
+        }
+        return object.getValue(key.asPointer())
+                .filter(JsonValue::isObject)
+                .map(child -> object.setValue(key.asPointer(), removeValue(child.asObject(), path, level + 1)))
+                .orElse(object);
+    }
+
+}
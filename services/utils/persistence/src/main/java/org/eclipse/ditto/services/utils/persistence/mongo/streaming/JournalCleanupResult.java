@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
+
+import java.util.Objects;
+
+/**
+ * Counters of a cleanup of journal and snapshot store performed by
+ * {@link MongoReadJournal#deleteUpToLatestSnapshots(java.util.Collection)}.
+ */
+public final class JournalCleanupResult {
+
+    static final JournalCleanupResult EMPTY = new JournalCleanupResult(0, 0L, 0L);
+
+    private final int cleanedPids;
+    private final long deletedEvents;
+    private final long deletedSnapshots;
+
+    /**
+     * Creates the counters of a cleanup.
+     *
+     * @param cleanedPids the number of persistence IDs with a snapshot up to which the journal was cleaned up.
+     * @param deletedEvents the number of deleted journal entries.
+     * @param deletedSnapshots the number of deleted snapshots.
+     */
+    public JournalCleanupResult(final int cleanedPids, final long deletedEvents, final long deletedSnapshots) {
+        this.cleanedPids = cleanedPids;
+        this.deletedEvents = deletedEvents;
+        this.deletedSnapshots = deletedSnapshots;
+    }
+
+    /**
+     * Retrieve the number of persistence IDs with a snapshot up to which the journal was cleaned up.
+     *
+     * @return the number of persistence IDs.
+     */
+    public int getCleanedPids() {
+        return cleanedPids;
+    }
+
+    /**
+     * Retrieve the number of deleted journal entries.
+     *
+     * @return the number of deleted journal entries.
+     */
+    public long getDeletedEvents() {
+        return deletedEvents;
+    }
+
+    /**
+     * Retrieve the number of deleted snapshots.
+     *
+     * @return the number of deleted snapshots.
+     */
+    public long getDeletedSnapshots() {
+        return deletedSnapshots;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        } else if (o == null || getClass() != o.getClass()) {
+            return false;
+        } else {
+            final JournalCleanupResult that = (JournalCleanupResult) o;
+            return cleanedPids == that.cleanedPids &&
+                    deletedEvents == that.deletedEvents &&
+                    deletedSnapshots == that.deletedSnapshots;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cleanedPids, deletedEvents, deletedSnapshots);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " ["
+                + "cleanedPids=" + cleanedPids
+                + ", deletedEvents=" + deletedEvents
+                + ", deletedSnapshots=" + deletedSnapshots
+                + "]";
+    }
+}
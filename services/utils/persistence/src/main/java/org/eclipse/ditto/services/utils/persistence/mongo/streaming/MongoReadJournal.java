@@ -17,11 +17,15 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiPredicate;
 import java.util.regex.Pattern;
 
 import org.bson.Document;
@@ -32,14 +36,18 @@ import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.snapshot.DeltaSnapshots;
 import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.mongodb.QueryOperators;
+import com.mongodb.client.model.Accumulators;
 import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.Sorts;
+import com.mongodb.client.result.DeleteResult;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import com.typesafe.config.Config;
@@ -85,20 +93,14 @@ public class MongoReadJournal {
     private static final String PROCESSOR_ID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
     private static final String TO = JournallingFieldNames$.MODULE$.TO();
     private static final String SN = SnapshottingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    private static final String SERIALIZED = SnapshottingFieldNames$.MODULE$.V2().SERIALIZED();
+    private static final String SNAPSHOT_BASE = "base";
     private static final String GTE = QueryOperators.GTE;
     private static final String LT = QueryOperators.LT;
 
-    private static final Integer PROJECT_INCLUDE = 1;
-    private static final Integer SORT_DESCENDING = -1;
-
-    private static final Document JOURNAL_PROJECT_DOCUMENT =
-            toDocument(new Object[][]{{PROCESSOR_ID, PROJECT_INCLUDE}, {TO, PROJECT_INCLUDE}});
-    private static final Document SNAPS_PROJECT_DOCUMENT =
-            toDocument(new Object[][]{{PROCESSOR_ID, PROJECT_INCLUDE}, {SN, PROJECT_INCLUDE}});
-
-    private static final Document ID_DESC = toDocument(new Object[][]{{ID, SORT_DESCENDING}});
-
     private static final String COLLECTION_NAME_FIELD = "name";
+    private static final int SAMPLES_PER_PARTITION = 100;
+    private static final int MAX_IDS_PER_DELETION = 1000;
     private static final Duration MAX_BACK_OFF_DURATION = Duration.ofSeconds(128L);
 
     private final String journalCollection;
@@ -146,7 +148,8 @@ public class MongoReadJournal {
 
     /**
      * Retrieve sequence numbers for persistence IDs modified within the time interval as a source of {@code
-     * PidWithSeqNr}. A persistence ID may appear multiple times with various sequence numbers.
+     * PidWithSeqNr}. Each persistence ID appears at most once per collection with the highest sequence number written
+     * within the time window, i. e. it may appear once more for the snapshot store.
      *
      * @param start start of the time window.
      * @param end end of the time window.
@@ -203,6 +206,158 @@ public class MongoReadJournal {
                 .mapConcat(pids -> pids);
     }
 
+    /**
+     * Split the persistence ID key space of the journal into consecutive ranges holding about the same number of
+     * events each, according to a random sample of the journal.
+     *
+     * @param partitions the number of ranges to split into.
+     * @return source of the single list of ranges covering all persistence IDs. The list has fewer elements than
+     * {@code partitions} if the journal is too small.
+     */
+    public Source<List<PidRange>, NotUsed> getJournalPidRanges(final int partitions) {
+        if (partitions <= 1) {
+            return Source.single(Collections.singletonList(PidRange.all()));
+        }
+        final List<Bson> pipeline = Arrays.asList(
+                Aggregates.sample(partitions * SAMPLES_PER_PARTITION),
+                Aggregates.project(Projections.fields(Projections.include(PROCESSOR_ID), Projections.excludeId()))
+        );
+        return getJournal()
+                .flatMapConcat(journal -> Source.fromPublisher(journal.aggregate(pipeline)))
+                .<List<String>>fold(new ArrayList<>(), (sample, document) -> {
+                    sample.add(document.getString(PROCESSOR_ID));
+                    return sample;
+                })
+                .map(sample -> toPidRanges(sample, partitions));
+    }
+
+    /**
+     * Retrieve all persistence IDs in the journal together with their highest sequence numbers, streaming the given
+     * ranges of persistence IDs with bounded parallelism. Each range is read in pages of {@code batchSize} events by
+     * queries covered by the index of the journal on persistence ID and sequence number. Each element is paired with
+     * the remainder of its range after it, which resumes the range when it is stored as checkpoint and passed to a
+     * later call. Elements are ordered by persistence ID within each range only.
+     *
+     * @param ranges the ranges of persistence IDs to stream, e. g. from {@link #getJournalPidRanges(int)} or from
+     * checkpoints.
+     * @param parallelism how many ranges to stream at the same time.
+     * @param batchSize how many events to read in one query.
+     * @param maxIdleTime how long a range is allowed to idle without sending any element. Bounds the number of
+     * retries with exponential back-off.
+     * @param mat the actor materializer to run the query streams.
+     * @return source of the remaining range and the persistence ID with its highest sequence number.
+     */
+    public Source<Pair<PidRange, PidWithSeqNr>, NotUsed> getJournalPidsWithSeqNr(final List<PidRange> ranges,
+            final int parallelism, final int batchSize, final Duration maxIdleTime, final ActorMaterializer mat) {
+
+        final int maxRestarts = computeMaxRestarts(maxIdleTime);
+        return getJournal().flatMapConcat(journal -> Source.from(ranges)
+                .filter(range -> !range.isEmpty())
+                .flatMapMerge(parallelism, range -> listPidWithSeqNrInRange(journal, range, batchSize, mat,
+                        maxRestarts)));
+    }
+
+    /**
+     * Delete the snapshots and events of the given persistence IDs which are obsolete because of their latest
+     * snapshots, without involving the persistence actors. Only journal entries whose sequence numbers are all
+     * covered by the latest snapshot are deleted. The journal entry containing the highest sequence number is always
+     * kept so that the sequence number does not restart after recovery, and persistence IDs without snapshot are not
+     * touched at all. If the latest snapshot is a delta snapshot, its base snapshot is kept while older snapshots and
+     * the delta snapshots between base and latest snapshot are deleted. The IDs of the obsolete documents are
+     * collected by one query per collection for all persistence IDs and deleted by {@code deleteMany} in chunks of
+     * at most {@value #MAX_IDS_PER_DELETION} IDs.
+     *
+     * @param pids the persistence IDs to clean up.
+     * @return source of the single result of the cleanup.
+     */
+    public Source<JournalCleanupResult, NotUsed> deleteUpToLatestSnapshots(final Collection<String> pids) {
+        if (pids.isEmpty()) {
+            return Source.single(JournalCleanupResult.EMPTY);
+        }
+        final MongoDatabase db = mongoClient.getDefaultDatabase();
+        final MongoCollection<Document> journal = db.getCollection(journalCollection);
+        final MongoCollection<Document> snaps = db.getCollection(snapsCollection);
+        final List<String> pidList = new ArrayList<>(pids);
+
+        return getLatestSnapshots(snaps, pidList)
+                .zip(getMaxPerPid(journal, pidList, TO))
+                .flatMapConcat(latestSnapshotsAndEvents -> {
+                    final Map<String, LatestSnapshot> latestSnapshots = latestSnapshotsAndEvents.first();
+                    final Map<String, Long> latestEvents = latestSnapshotsAndEvents.second();
+                    final Map<String, Long> maxEventSeqNrsToDelete = new HashMap<>();
+                    latestSnapshots.forEach((pid, latestSnapshot) -> {
+                        final long maxEventSeqNrToDelete =
+                                Math.min(latestSnapshot.seqNr, latestEvents.getOrDefault(pid, 0L) - 1L);
+                        if (maxEventSeqNrToDelete > 0L) {
+                            maxEventSeqNrsToDelete.put(pid, maxEventSeqNrToDelete);
+                        }
+                    });
+                    final Source<Object, NotUsed> obsoleteEventIds = findIds(journal,
+                            maxEventSeqNrsToDelete.keySet(), TO,
+                            (pid, seqNr) -> seqNr <= maxEventSeqNrsToDelete.get(pid));
+                    final Source<Object, NotUsed> obsoleteSnapshotIds = findIds(snaps, latestSnapshots.keySet(), SN,
+                            (pid, seqNr) -> latestSnapshots.get(pid).isObsolete(seqNr));
+                    return deleteByIds(journal, obsoleteEventIds)
+                            .zip(deleteByIds(snaps, obsoleteSnapshotIds))
+                            .map(deleted -> new JournalCleanupResult(latestSnapshots.size(), deleted.first(),
+                                    deleted.second()));
+                });
+    }
+
+    private static Source<Map<String, LatestSnapshot>, NotUsed> getLatestSnapshots(
+            final MongoCollection<Document> snaps, final List<String> pids) {
+
+        final List<Bson> pipeline = Arrays.asList(
+                Aggregates.match(Filters.in(PROCESSOR_ID, pids)),
+                Aggregates.sort(Sorts.orderBy(Sorts.ascending(PROCESSOR_ID), Sorts.descending(SN))),
+                Aggregates.group("$" + PROCESSOR_ID, Accumulators.first(SN, "$" + SN),
+                        Accumulators.first(SNAPSHOT_BASE, "$" + SERIALIZED + "." + DeltaSnapshots.BASE_FIELD_NAME))
+        );
+        return Source.fromPublisher(snaps.aggregate(pipeline))
+                .<Map<String, LatestSnapshot>>fold(new HashMap<>(), (map, document) -> {
+                    final Number base = document.get(SNAPSHOT_BASE, Number.class);
+                    map.put(document.getString(ID), new LatestSnapshot(document.get(SN, Number.class).longValue(),
+                            base == null ? 0L : base.longValue()));
+                    return map;
+                });
+    }
+
+    private static Source<Map<String, Long>, NotUsed> getMaxPerPid(final MongoCollection<Document> collection,
+            final List<String> pids, final String field) {
+
+        final List<Bson> pipeline = Arrays.asList(
+                Aggregates.match(Filters.in(PROCESSOR_ID, pids)),
+                Aggregates.group("$" + PROCESSOR_ID, Accumulators.max(field, "$" + field))
+        );
+        return Source.fromPublisher(collection.aggregate(pipeline))
+                .<Map<String, Long>>fold(new HashMap<>(), (map, document) -> {
+                    map.put(document.getString(ID), document.get(field, Number.class).longValue());
+                    return map;
+                });
+    }
+
+    private static Source<Object, NotUsed> findIds(final MongoCollection<Document> collection,
+            final Collection<String> pids, final String seqNrField, final BiPredicate<String, Long> isObsolete) {
+
+        if (pids.isEmpty()) {
+            return Source.empty();
+        }
+        final Bson filter = Filters.in(PROCESSOR_ID, new ArrayList<>(pids));
+        return Source.fromPublisher(collection.find(filter).projection(Projections.include(PROCESSOR_ID, seqNrField)))
+                .filter(document -> isObsolete.test(document.getString(PROCESSOR_ID),
+                        document.get(seqNrField, Number.class).longValue()))
+                .map(document -> document.get(ID));
+    }
+
+    private static Source<Long, NotUsed> deleteByIds(final MongoCollection<Document> collection,
+            final Source<Object, NotUsed> ids) {
+
+        return ids.grouped(MAX_IDS_PER_DELETION)
+                .flatMapConcat(idChunk -> Source.fromPublisher(collection.deleteMany(Filters.in(ID, idChunk))))
+                .map(DeleteResult::getDeletedCount)
+                .fold(0L, Long::sum);
+    }
+
     private Source<List<String>, NotUsed> listPidsInJournal(final MongoCollection<Document> journal,
             final String lowerBound, final int batchSize, final ActorMaterializer mat, final Duration maxBackOff,
             final int maxRestarts) {
@@ -252,6 +407,80 @@ public class MongoReadJournal {
                         document.getString(ID)));
     }
 
+    private static List<PidRange> toPidRanges(final List<String> sample, final int partitions) {
+        final List<String> sortedSample = new ArrayList<>(sample);
+        Collections.sort(sortedSample);
+        final List<PidRange> ranges = new ArrayList<>(partitions);
+        String lowerBound = "";
+        for (int i = 1; i < partitions && !sortedSample.isEmpty(); i++) {
+            final String upperBound = sortedSample.get(i * sortedSample.size() / partitions);
+            // persistence IDs with many events may be sampled more often than one range holds
+            if (upperBound.compareTo(lowerBound) > 0) {
+                ranges.add(PidRange.of(lowerBound, upperBound));
+                lowerBound = upperBound;
+            }
+        }
+        ranges.add(PidRange.of(lowerBound, null));
+        return ranges;
+    }
+
+    private Source<Pair<PidRange, PidWithSeqNr>, NotUsed> listPidWithSeqNrInRange(
+            final MongoCollection<Document> journal, final PidRange range, final int batchSize,
+            final ActorMaterializer mat, final int maxRestarts) {
+
+        return Source.unfoldAsync(range,
+                remainingRange -> {
+                    if (remainingRange.isEmpty()) {
+                        return CompletableFuture.completedFuture(Optional.empty());
+                    }
+                    return listPidWithSeqNrPage(journal, remainingRange, batchSize, maxRestarts)
+                            .runWith(Sink.seq(), mat)
+                            .thenApply(page -> {
+                                if (page.isEmpty()) {
+                                    return Optional.empty();
+                                } else {
+                                    final String lastPid = page.get(page.size() - 1).getPersistenceId();
+                                    return Optional.of(Pair.create(remainingRange.resumeAfter(lastPid), page));
+                                }
+                            });
+                })
+                .withAttributes(Attributes.inputBuffer(1, 1))
+                .mapConcat(page -> page)
+                .map(pidWithSeqNr -> Pair.create(range.resumeAfter(pidWithSeqNr.getPersistenceId()), pidWithSeqNr));
+    }
+
+    /*
+     * Read the highest sequence numbers of the persistence IDs in the first batchSize events of a range. The events
+     * are sorted by sequence number descending per persistence ID so that the first event of each persistence ID in
+     * the page has its highest sequence number, even if the page ends before its last event. Only the fields of the
+     * index on persistence ID and sequence number are needed, which makes the query covered by that index.
+     */
+    private Source<PidWithSeqNr, NotUsed> listPidWithSeqNrPage(final MongoCollection<Document> journal,
+            final PidRange range, final int batchSize, final int maxRestarts) {
+
+        final List<Bson> rangeFilters = new ArrayList<>(2);
+        if (!range.getLowerBoundExclusive().isEmpty()) {
+            rangeFilters.add(Filters.gt(PROCESSOR_ID, range.getLowerBoundExclusive()));
+        }
+        range.getUpperBoundInclusive().ifPresent(upperBound -> rangeFilters.add(Filters.lte(PROCESSOR_ID, upperBound)));
+
+        final List<Bson> pipeline = new ArrayList<>(5);
+        if (!rangeFilters.isEmpty()) {
+            pipeline.add(Aggregates.match(Filters.and(rangeFilters)));
+        }
+        pipeline.add(Aggregates.sort(Sorts.orderBy(Sorts.ascending(PROCESSOR_ID), Sorts.descending(TO))));
+        // limit before group so that MongoDB does not scan the entire range
+        pipeline.add(Aggregates.limit(batchSize));
+        pipeline.add(Aggregates.group("$" + PROCESSOR_ID, Accumulators.first(TO, "$" + TO)));
+        // order after group stage is not defined
+        pipeline.add(Aggregates.sort(Sorts.ascending(ID)));
+
+        return RestartSource.onFailuresWithBackoff(Duration.ofSeconds(1L), MAX_BACK_OFF_DURATION, 0.1, maxRestarts,
+                () -> Source.fromPublisher(journal.aggregate(pipeline))
+                        .map(document -> new PidWithSeqNr(document.getString(ID),
+                                document.get(TO, Number.class).longValue())));
+    }
+
     private int computeMaxRestarts(final Duration maxDuration) {
         if (MAX_BACK_OFF_DURATION.minus(maxDuration).isNegative()) {
             // maxBackOff < maxDuration: backOff at least 7 times (1+2+4+8+16+32+64=127s)
@@ -267,23 +496,27 @@ public class MongoReadJournal {
             final MongoDatabase database, final Document idFilter) {
 
         final Source<PidWithSeqNr, NotUsed> journalPids =
-                find(database, journalAndSnaps.journal, idFilter, JOURNAL_PROJECT_DOCUMENT)
-                        .map(doc -> new PidWithSeqNr(doc.getString(PROCESSOR_ID), doc.getLong(TO)));
+                listMaxPerPid(database, journalAndSnaps.journal, idFilter, TO);
 
         final Source<PidWithSeqNr, ?> snapsPids =
-                Source.lazily(() -> find(database, journalAndSnaps.snaps, idFilter, SNAPS_PROJECT_DOCUMENT)
-                        .map(doc -> new PidWithSeqNr(doc.getString(PROCESSOR_ID), doc.getLong(SN)))
-                );
+                Source.lazily(() -> listMaxPerPid(database, journalAndSnaps.snaps, idFilter, SN));
 
         return journalPids.concat(snapsPids);
     }
 
-    private Source<Document, NotUsed> find(final MongoDatabase db, final String collection, final Document filter,
-            final Document project) {
+    /*
+     * Group the documents in the ID range by persistence ID in the database so that each persistence ID is
+     * transferred once with its highest sequence number instead of once per document.
+     */
+    private Source<PidWithSeqNr, NotUsed> listMaxPerPid(final MongoDatabase db, final String collection,
+            final Document idFilter, final String seqNrField) {
 
-        return Source.fromPublisher(
-                db.getCollection(collection).find(filter).projection(project).sort(ID_DESC)
+        final List<Bson> pipeline = Arrays.asList(
+                Aggregates.match(idFilter),
+                Aggregates.group("$" + PROCESSOR_ID, Accumulators.max(seqNrField, "$" + seqNrField))
         );
+        return Source.fromPublisher(db.getCollection(collection).aggregate(pipeline).allowDiskUse(true))
+                .map(doc -> new PidWithSeqNr(doc.getString(ID), doc.get(seqNrField, Number.class).longValue()));
     }
 
     private Source<JournalAndSnaps, NotUsed> getJournalAndSnapshotStore() {
@@ -372,6 +605,22 @@ public class MongoReadJournal {
         return journalOrSnapsConfig.getString(key);
     }
 
+    private static final class LatestSnapshot {
+
+        private final long seqNr;
+        private final long baseSeqNr;
+
+        private LatestSnapshot(final long seqNr, final long baseSeqNr) {
+            this.seqNr = seqNr;
+            this.baseSeqNr = baseSeqNr;
+        }
+
+        private boolean isObsolete(final long snapshotSeqNr) {
+            // keep the base of the latest delta snapshot
+            return snapshotSeqNr < seqNr && (baseSeqNr <= 0L || snapshotSeqNr != baseSeqNr);
+        }
+    }
+
     private static final class JournalAndSnaps {
 
         private final String journal;
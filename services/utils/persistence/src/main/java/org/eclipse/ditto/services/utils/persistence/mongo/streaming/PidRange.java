@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A partition of the persistence ID key space: all persistence IDs above an exclusive lower bound up to an inclusive
+ * upper bound. The remainder of a partition after a persistence ID serves as checkpoint to resume streaming it.
+ */
+@Immutable
+public final class PidRange {
+
+    private static final PidRange ALL = new PidRange("", null);
+
+    private final String lowerBoundExclusive;
+    @Nullable private final String upperBoundInclusive;
+
+    private PidRange(final String lowerBoundExclusive, @Nullable final String upperBoundInclusive) {
+        this.lowerBoundExclusive = lowerBoundExclusive;
+        this.upperBoundInclusive = upperBoundInclusive;
+    }
+
+    /**
+     * Returns the range of all persistence IDs.
+     *
+     * @return the range.
+     */
+    public static PidRange all() {
+        return ALL;
+    }
+
+    /**
+     * Creates a range of persistence IDs.
+     *
+     * @param lowerBoundExclusive the persistence ID above which the range starts, or the empty string if the range
+     * has no lower bound.
+     * @param upperBoundInclusive the last persistence ID of the range, or null if the range has no upper bound.
+     * @return the range.
+     */
+    public static PidRange of(final String lowerBoundExclusive, @Nullable final String upperBoundInclusive) {
+        return new PidRange(lowerBoundExclusive, upperBoundInclusive);
+    }
+
+    /**
+     * Retrieve the persistence ID above which the range starts.
+     *
+     * @return the exclusive lower bound, or the empty string if the range has no lower bound.
+     */
+    public String getLowerBoundExclusive() {
+        return lowerBoundExclusive;
+    }
+
+    /**
+     * Retrieve the last persistence ID of the range.
+     *
+     * @return the inclusive upper bound, or an empty Optional if the range has no upper bound.
+     */
+    public Optional<String> getUpperBoundInclusive() {
+        return Optional.ofNullable(upperBoundInclusive);
+    }
+
+    /**
+     * Retrieve the remainder of this range after a persistence ID.
+     *
+     * @param pid the persistence ID up to which the range is processed.
+     * @return the range of the persistence IDs above {@code pid} up to the upper bound of this range.
+     */
+    public PidRange resumeAfter(final String pid) {
+        return new PidRange(pid, upperBoundInclusive);
+    }
+
+    /**
+     * Check whether the range contains no persistence ID, i. e. its lower bound is not below its upper bound.
+     *
+     * @return whether the range is empty.
+     */
+    public boolean isEmpty() {
+        return upperBoundInclusive != null && lowerBoundExclusive.compareTo(upperBoundInclusive) >= 0;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        } else if (o == null || getClass() != o.getClass()) {
+            return false;
+        } else {
+            final PidRange that = (PidRange) o;
+            return Objects.equals(lowerBoundExclusive, that.lowerBoundExclusive) &&
+                    Objects.equals(upperBoundInclusive, that.upperBoundInclusive);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerBoundExclusive, upperBoundInclusive);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " ["
+                + "lowerBoundExclusive=" + lowerBoundExclusive
+                + ", upperBoundInclusive=" + upperBoundInclusive
+                + "]";
+    }
+}
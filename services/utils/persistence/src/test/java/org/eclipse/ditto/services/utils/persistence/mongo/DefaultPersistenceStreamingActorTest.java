@@ -14,9 +14,11 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.UUID;
 
@@ -27,9 +29,12 @@ import org.eclipse.ditto.services.models.streaming.AbstractEntityIdWithRevision;
 import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.models.streaming.SudoStreamModifiedEntities;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.JournalCleanupResult;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
 import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupJournal;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupJournalResponse;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -110,6 +115,37 @@ public final class DefaultPersistenceStreamingActorTest {
         }};
     }
 
+    @Test
+    public void cleanupJournalOfEntities() {
+        new TestKit(actorSystem) {{
+            final MongoReadJournal mockJournal = mock(MongoReadJournal.class);
+            when(mockJournal.deleteUpToLatestSnapshots(any()))
+                    .thenReturn(Source.single(new JournalCleanupResult(1, 5L, 2L)));
+            final ActorRef underTest = createPersistenceQueriesActor(mockJournal);
+            final DittoHeaders headers = DittoHeaders.newBuilder().correlationId("cleanup").build();
+            final EntityId otherId = DefaultEntityId.of("ns:otherId");
+
+            sendCommand(this, underTest, CleanupJournal.of(Arrays.asList(ID, otherId), headers));
+
+            expectMsg(CleanupJournalResponse.success(1, 5L, 2L, headers));
+            verify(mockJournal).deleteUpToLatestSnapshots(Arrays.asList(ID.toString(), otherId.toString()));
+        }};
+    }
+
+    @Test
+    public void cleanupJournalFailure() {
+        new TestKit(actorSystem) {{
+            final MongoReadJournal mockJournal = mock(MongoReadJournal.class);
+            when(mockJournal.deleteUpToLatestSnapshots(any()))
+                    .thenReturn(Source.failed(new IllegalStateException("expected")));
+            final ActorRef underTest = createPersistenceQueriesActor(mockJournal);
+
+            sendCommand(this, underTest, CleanupJournal.of(Collections.singletonList(ID), DittoHeaders.empty()));
+
+            expectMsg(CleanupJournalResponse.failure(DittoHeaders.empty()));
+        }};
+    }
+
     private ActorMaterializer materializer() {
         return ActorMaterializer.create(actorSystem);
     }
@@ -125,6 +161,10 @@ public final class DefaultPersistenceStreamingActorTest {
     private static ActorRef createPersistenceQueriesActor(final Source<PidWithSeqNr, NotUsed> mockedSource) {
         final MongoReadJournal mockJournal = mock(MongoReadJournal.class);
         when(mockJournal.getPidWithSeqNrsByInterval(any(), any())).thenReturn(mockedSource);
+        return createPersistenceQueriesActor(mockJournal);
+    }
+
+    private static ActorRef createPersistenceQueriesActor(final MongoReadJournal mockJournal) {
         final Props props = DefaultPersistenceStreamingActor.propsForTests(SimpleEntityIdWithRevision.class,
                 100,
                 DefaultPersistenceStreamingActorTest::mapEntity,
@@ -66,6 +66,18 @@ public final class DefaultActivityCheckConfigTest {
         softly.assertThat(underTest.getDeletedInterval())
                 .as(ActivityCheckConfig.ActivityCheckConfigValue.DELETED_INTERVAL.getConfigPath())
                 .isEqualTo(ActivityCheckConfig.ActivityCheckConfigValue.DELETED_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.isBatched())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.BATCHED.getConfigPath())
+                .isEqualTo(ActivityCheckConfig.ActivityCheckConfigValue.BATCHED.getDefaultValue());
+        softly.assertThat(underTest.getBatchInterval())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.BATCH_INTERVAL.getConfigPath())
+                .isEqualTo(ActivityCheckConfig.ActivityCheckConfigValue.BATCH_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(ActivityCheckConfig.ActivityCheckConfigValue.MAX_BATCH_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getMaxPendingChecks())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.MAX_PENDING_CHECKS.getConfigPath())
+                .isEqualTo(ActivityCheckConfig.ActivityCheckConfigValue.MAX_PENDING_CHECKS.getDefaultValue());
     }
 
     @Test
@@ -78,5 +90,17 @@ public final class DefaultActivityCheckConfigTest {
         softly.assertThat(underTest.getDeletedInterval())
                 .as(ActivityCheckConfig.ActivityCheckConfigValue.DELETED_INTERVAL.getConfigPath())
                 .isEqualTo(Duration.ofDays(100L));
+        softly.assertThat(underTest.isBatched())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.BATCHED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getBatchInterval())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.BATCH_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(5L));
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.getMaxPendingChecks())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.MAX_PENDING_CHECKS.getConfigPath())
+                .isEqualTo(7);
     }
 }
@@ -65,6 +65,9 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getMaxDeltas())
+                .as(SnapshotConfig.SnapshotConfigValue.MAX_DELTAS.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.MAX_DELTAS.getDefaultValue());
     }
 
     @Test
@@ -77,5 +80,8 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.getMaxDeltas())
+                .as(SnapshotConfig.SnapshotConfigValue.MAX_DELTAS.getConfigPath())
+                .isEqualTo(3);
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.OptionalLong;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.junit.Test;
+
+/**
+ * Tests {@link DeltaSnapshots}.
+ */
+public final class DeltaSnapshotsTest {
+
+    private static final JsonObject BASE = JsonObject.of("{\"thingId\":\"x:y\",\"_revision\":5," +
+            "\"attributes\":{\"a\":1,\"b\":{\"c\":2},\"d\":3}," +
+            "\"features\":{\"f\":{\"properties\":{\"p\":\"large\"}}}}");
+
+    @Test
+    public void deltaContainsModifiedPathsAndTopLevelScalarsOnly() {
+        final JsonObject current = BASE.setValue("_revision", 7)
+                .setValue("/attributes/a", 10)
+                .remove("/attributes/d");
+
+        final JsonObject delta = DeltaSnapshots.newDelta(current, 5L,
+                Arrays.asList(JsonPointer.of("/attributes/a"), JsonPointer.of("/attributes/d")));
+
+        assertThat(DeltaSnapshots.isDelta(delta)).isTrue();
+        assertThat(DeltaSnapshots.isDelta(DittoBsonJson.getInstance().parse(delta))).isTrue();
+        assertThat(DeltaSnapshots.getBaseSequenceNumber(delta)).isEqualTo(OptionalLong.of(5L));
+        assertThat(delta.toString()).doesNotContain("large");
+        assertThat(DeltaSnapshots.withoutMarker(DeltaSnapshots.applyDelta(BASE, delta))).isEqualTo(current);
+    }
+
+    @Test
+    public void applyDeltaMarksResultWithBase() {
+        final JsonObject delta = DeltaSnapshots.newDelta(BASE, 5L, Collections.emptyList());
+
+        final JsonObject reconstructed = DeltaSnapshots.applyDelta(BASE, delta);
+
+        assertThat(DeltaSnapshots.isDelta(reconstructed)).isFalse();
+        assertThat(DeltaSnapshots.getBaseSequenceNumber(reconstructed)).isEqualTo(OptionalLong.of(5L));
+        assertThat(DeltaSnapshots.getBaseSequenceNumber(BASE)).isEmpty();
+    }
+
+    @Test
+    public void nestedPathsAreCoveredByTheirAncestors() {
+        final JsonObject current = BASE.remove("/features/f")
+                .setValue("/features/g/properties/q", true);
+
+        final JsonObject delta = DeltaSnapshots.newDelta(current, 5L,
+                Arrays.asList(JsonPointer.of("/features/f/properties/p"), JsonPointer.of("/features/f"),
+                        JsonPointer.of("/features/g/properties/q")));
+
+        assertThat(DeltaSnapshots.withoutMarker(DeltaSnapshots.applyDelta(BASE, delta))).isEqualTo(current);
+    }
+
+    @Test
+    public void intermediateValuesWhichAreNoObjectsAreReplaced() {
+        final JsonObject current = BASE.setValue("/attributes/a", JsonObject.of("{\"e\":{\"f\":null}}"));
+
+        final JsonObject delta = DeltaSnapshots.newDelta(current, 5L,
+                Collections.singletonList(JsonPointer.of("/attributes/a/e/f")));
+
+        assertThat(DeltaSnapshots.withoutMarker(DeltaSnapshots.applyDelta(BASE, delta))).isEqualTo(current);
+    }
+
+    @Test
+    public void rootModificationCannotBeDelta() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                DeltaSnapshots.newDelta(BASE, 5L, Collections.singletonList(JsonPointer.empty())));
+    }
+
+}
@@ -16,12 +16,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.bson.Document;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.snapshot.DeltaSnapshots;
 import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
 import org.junit.After;
 import org.junit.AfterClass;
@@ -34,6 +38,7 @@ import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigValueFactory;
 
 import akka.actor.ActorSystem;
+import akka.japi.Pair;
 import akka.stream.ActorMaterializer;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
@@ -142,6 +147,21 @@ public final class MongoReadJournalIT {
         assertThat(pids).containsExactlyInAnyOrder(new PidWithSeqNr("pid3", 3L), new PidWithSeqNr("pid4", 4L));
     }
 
+    @Test
+    public void streamJournalsWithHighestSequenceNumberPerPid() {
+        insert("test_journal", new Document().append("pid", "pid1").append("to", 1L));
+        insert("test_journal", new Document().append("pid", "pid1").append("to", 3L));
+        insert("test_journal", new Document().append("pid", "pid2").append("to", 2L));
+        insert("test_journal", new Document().append("pid", "pid1").append("to", 2L));
+        final List<PidWithSeqNr> pids =
+                readJournal.getPidWithSeqNrsByInterval(Instant.EPOCH, Instant.now().plusSeconds(500L))
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join();
+
+        assertThat(pids).containsExactlyInAnyOrder(new PidWithSeqNr("pid1", 3L), new PidWithSeqNr("pid2", 2L));
+    }
+
     @Test
     public void extractJournalPidsFromEventsAndNotSnapshots() {
         insert("test_journal", new Document().append("pid", "pid3").append("to", 2L));
@@ -174,6 +194,126 @@ public final class MongoReadJournalIT {
         assertThat(pids).containsExactly("pid3", "pid4");
     }
 
+    @Test
+    public void streamPartitionedJournalPidsWithHighestSequenceNumbers() {
+        final List<Document> events = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            for (long seqNr = 1L; seqNr <= i; seqNr++) {
+                events.add(new Document().append("pid", "pid" + i).append("from", seqNr).append("to", seqNr));
+            }
+        }
+        insert("test_journal", events.toArray(new Document[0]));
+
+        final List<PidRange> ranges = readJournal.getJournalPidRanges(3)
+                .runWith(Sink.head(), materializer)
+                .toCompletableFuture()
+                .join();
+        final List<PidWithSeqNr> pids = readJournal.getJournalPidsWithSeqNr(ranges, 3, 2, Duration.ZERO, materializer)
+                .map(Pair::second)
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+
+        assertThat(ranges).hasSize(3);
+        assertThat(pids).containsExactlyInAnyOrder(new PidWithSeqNr("pid1", 1L), new PidWithSeqNr("pid2", 2L),
+                new PidWithSeqNr("pid3", 3L), new PidWithSeqNr("pid4", 4L), new PidWithSeqNr("pid5", 5L),
+                new PidWithSeqNr("pid6", 6L));
+    }
+
+    @Test
+    public void resumeJournalPidRangesFromCheckpoints() {
+        insert("test_journal",
+                new Document().append("pid", "pid1").append("to", 1L),
+                new Document().append("pid", "pid2").append("to", 1L),
+                new Document().append("pid", "pid3").append("to", 1L),
+                new Document().append("pid", "pid4").append("to", 1L),
+                new Document().append("pid", "pid5").append("to", 1L));
+        final List<PidRange> ranges = Arrays.asList(PidRange.of("", "pid2"), PidRange.of("pid2", null));
+
+        final List<Pair<PidRange, PidWithSeqNr>> firstRun =
+                readJournal.getJournalPidsWithSeqNr(ranges, 2, 1, Duration.ZERO, materializer)
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join();
+        final PidRange checkpoint = firstRun.stream()
+                .filter(pair -> pair.second().getPersistenceId().equals("pid3"))
+                .map(Pair::first)
+                .findAny()
+                .orElseThrow(AssertionError::new);
+        final List<String> resumed = readJournal.getJournalPidsWithSeqNr(
+                Arrays.asList(PidRange.of("pid2", "pid2"), checkpoint), 2, 1, Duration.ZERO, materializer)
+                .map(pair -> pair.second().getPersistenceId())
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+
+        assertThat(firstRun.stream().map(pair -> pair.second().getPersistenceId()).collect(Collectors.toList()))
+                .containsExactlyInAnyOrder("pid1", "pid2", "pid3", "pid4", "pid5");
+        assertThat(checkpoint).isEqualTo(PidRange.of("pid3", null));
+        assertThat(resumed).containsExactly("pid4", "pid5");
+    }
+
+    @Test
+    public void deleteUpToLatestSnapshotsKeepsLatestSnapshotAndEvent() {
+        insert("test_journal",
+                new Document().append("pid", "pid1").append("from", 1L).append("to", 1L),
+                new Document().append("pid", "pid1").append("from", 2L).append("to", 3L),
+                new Document().append("pid", "pid1").append("from", 4L).append("to", 4L),
+                new Document().append("pid", "pid2").append("from", 1L).append("to", 1L),
+                new Document().append("pid", "pid2").append("from", 2L).append("to", 2L),
+                new Document().append("pid", "pid3").append("from", 1L).append("to", 1L));
+        insert("test_snaps",
+                new Document().append("pid", "pid1").append("sn", 2L),
+                new Document().append("pid", "pid1").append("sn", 4L),
+                new Document().append("pid", "pid2").append("sn", 2L));
+
+        final JournalCleanupResult result =
+                readJournal.deleteUpToLatestSnapshots(Arrays.asList("pid1", "pid2", "pid3"))
+                        .runWith(Sink.head(), materializer)
+                        .toCompletableFuture()
+                        .join();
+
+        assertThat(result).isEqualTo(new JournalCleanupResult(2, 3L, 1L));
+        final List<PidWithSeqNr> remaining =
+                readJournal.getPidWithSeqNrsByInterval(Instant.EPOCH, Instant.now().plusSeconds(500L))
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join();
+        assertThat(remaining).containsExactlyInAnyOrder(new PidWithSeqNr("pid1", 4L), new PidWithSeqNr("pid2", 2L),
+                new PidWithSeqNr("pid3", 1L), new PidWithSeqNr("pid1", 4L), new PidWithSeqNr("pid2", 2L));
+    }
+
+    @Test
+    public void deleteUpToLatestSnapshotsKeepsBaseOfLatestDeltaSnapshot() {
+        final List<Document> events = new ArrayList<>();
+        for (long seqNr = 1L; seqNr <= 10L; seqNr++) {
+            events.add(new Document().append("pid", "pid1").append("from", seqNr).append("to", seqNr));
+        }
+        insert("test_journal", events.toArray(new Document[0]));
+        insert("test_snaps",
+                new Document().append("pid", "pid1").append("sn", 2L).append("s2", new Document()),
+                new Document().append("pid", "pid1").append("sn", 5L).append("s2", new Document()),
+                new Document().append("pid", "pid1").append("sn", 7L)
+                        .append("s2", new Document(DeltaSnapshots.BASE_FIELD_NAME, 5L)),
+                new Document().append("pid", "pid1").append("sn", 9L)
+                        .append("s2", new Document(DeltaSnapshots.BASE_FIELD_NAME, 5L)));
+
+        final JournalCleanupResult result =
+                readJournal.deleteUpToLatestSnapshots(Collections.singletonList("pid1"))
+                        .runWith(Sink.head(), materializer)
+                        .toCompletableFuture()
+                        .join();
+
+        assertThat(result).isEqualTo(new JournalCleanupResult(1, 9L, 2L));
+        final List<Long> remainingSnapshots =
+                Source.fromPublisher(mongoClient.getCollection("test_snaps").find())
+                        .map(document -> document.getLong("sn"))
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join();
+        assertThat(remainingSnapshots).containsExactlyInAnyOrder(5L, 9L);
+    }
+
     private void insert(final String collection, final Document... documents) {
         Source.fromPublisher(mongoClient.getCollection(collection).insertMany(Arrays.asList(documents)))
                 .runWith(Sink.ignore(), materializer)
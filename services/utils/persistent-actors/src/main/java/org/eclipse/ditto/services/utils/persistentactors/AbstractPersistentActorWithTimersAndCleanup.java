@@ -58,6 +58,16 @@ public abstract class AbstractPersistentActorWithTimersAndCleanup extends Abstra
      */
     protected abstract long getLatestSnapshotSequenceNumber();
 
+    /**
+     * Return the sequence number of the full snapshot the latest snapshot was computed from. Snapshots below it are
+     * deleted by a cleanup. By default every snapshot is a full snapshot.
+     *
+     * @return the sequence number of the base of the latest confirmed snapshot.
+     */
+    protected long getLatestBaseSnapshotSequenceNumber() {
+        return getLatestSnapshotSequenceNumber();
+    }
+
     @Override
     public Receive createReceive() {
         return receiveBuilder()
@@ -153,7 +163,9 @@ public abstract class AbstractPersistentActorWithTimersAndCleanup extends Abstra
 
     private void startCleanup(final long latestSnapshotSequenceNumber) {
         origin = getSender();
-        final long maxSnapSeqNoToDelete = latestSnapshotSequenceNumber - 1;
+        // a delta snapshot needs its base snapshot: keep everything from the base on
+        final long maxSnapSeqNoToDelete =
+                Math.min(latestSnapshotSequenceNumber, getLatestBaseSnapshotSequenceNumber()) - 1;
         final long maxEventSeqNoToDelete = latestSnapshotSequenceNumber - staleEventsKeptAfterCleanup();
         log.info("Starting cleanup for '{}', deleting snapshots to sequence number {} and events to {}.",
                 persistenceId(), maxSnapSeqNoToDelete, maxEventSeqNoToDelete);
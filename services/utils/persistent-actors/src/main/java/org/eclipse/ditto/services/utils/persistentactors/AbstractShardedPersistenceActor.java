@@ -12,21 +12,36 @@
  */
 package org.eclipse.ditto.services.utils.persistentactors;
 
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
@@ -35,8 +50,13 @@ import org.eclipse.ditto.services.utils.persistentactors.results.ResultVisitor;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.events.base.Event;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
+import akka.cluster.sharding.ShardRegion;
 import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
 import akka.persistence.RecoveryCompleted;
 import akka.persistence.RecoveryTimedOut;
@@ -44,10 +64,13 @@ import akka.persistence.SaveSnapshotFailure;
 import akka.persistence.SaveSnapshotSuccess;
 import akka.persistence.SnapshotOffer;
 import scala.Option;
+import scala.PartialFunction;
+import scala.runtime.BoxedUnit;
 
 /**
  * PersistentActor which "knows" the state of a single entity supervised by a sharded
- * {@code AbstractPersistenceSupervisor}.
+ * {@code AbstractPersistenceSupervisor}, or which is the sharded entity itself if created by
+ * {@link #AbstractShardedPersistenceActor(Function, SnapshotAdapter, ActorRef)}.
  *
  * @param <C> the base type of the Commands this actor handles
  * @param <S> the entity type this actor manages
@@ -62,17 +85,26 @@ public abstract class AbstractShardedPersistenceActor<
         K,
         E extends Event> extends AbstractPersistentActorWithTimersAndCleanup implements ResultVisitor<E> {
 
+    private static final GroupCommitConfig GROUP_COMMIT_DISABLED = DefaultGroupCommitConfig.of(ConfigFactory.empty());
+
     /**
      * Logger of the actor.
      */
-    protected final DiagnosticLoggingAdapter log;
+    protected final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final SnapshotAdapter<S> snapshotAdapter;
-    private final Receive handleEvents;
     private final Receive handleCleanups;
+    private final boolean supervised;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
 
+    // delta snapshots: the full snapshot the latest confirmed snapshot refers to, the full snapshot being saved,
+    // the number of delta snapshots taken since then and the resource paths modified since then if they are known
+    private long confirmedBaseSnapshotRevision = 0L;
+    private long pendingBaseSnapshotRevision = 0L;
+    private int deltaSnapshotsSinceBase = 0;
+    @Nullable private Set<JsonPointer> modifiedSinceBase = null;
+
     /**
      * The current entity, or null if it was never created.
      */
@@ -84,8 +116,28 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected final I entityId;
 
+    // created on first use because it depends on abstract methods which must not be called during construction
+    @Nullable private Receive handleEvents = null;
+
+    // commands received during recovery, which are stashed by Akka and dropped if the recovery fails
+    private final List<Pair<ActorRef, Command>> commandsDuringRecovery = new ArrayList<>();
+
     private long accessCounter = 0L;
 
+    // batched activity check: the activity manager this actor is registered at and whether to register again after
+    // the snapshot taken before passivation is saved
+    @Nullable private ActorRef activityManager = null;
+    private boolean registerAfterSnapshot = false;
+
+    // group commit: events applied to the entity but not yet handed to the journal, the number of events of the
+    // write in flight, the responses to release once the revision they were computed from is persisted, the entity
+    // after each unconfirmed event and the entity as of the last persisted event to restore if a write fails
+    private final Deque<E> bufferedEvents = new ArrayDeque<>();
+    private int eventsInFlight = 0;
+    private final Deque<PendingResponse> pendingResponses = new ArrayDeque<>();
+    private final Deque<S> unconfirmedEntities = new ArrayDeque<>();
+    @Nullable private S persistedEntity = null;
+
     /**
      * Instantiate the actor.
      *
@@ -95,17 +147,43 @@ public abstract class AbstractShardedPersistenceActor<
     protected AbstractShardedPersistenceActor(final I entityId, final SnapshotAdapter<S> snapshotAdapter) {
         this.entityId = entityId;
         this.snapshotAdapter = snapshotAdapter;
-        log = LogUtil.obtain(this);
         entity = null;
 
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
 
-        handleEvents = ReceiveBuilder.create()
-                .match(getEventClass(), event -> entity = getEventStrategy().handle(event, entity, getRevisionNumber()))
-                .build();
-
         handleCleanups = super.createReceive();
+        supervised = true;
+    }
+
+    /**
+     * Instantiate the actor as the sharded entity itself, i. e. without {@code AbstractPersistenceSupervisor} as
+     * parent. Such an entity costs one actor instead of two and commands reach it without being forwarded.
+     * The entity ID is computed from the URL-decoded name the shard region gives the actor. The actor subscribes for
+     * shutdown commands itself and asks the shard region for passivation. There is no exponential back-off: if
+     * the actor stops on a journal failure, the shard region starts it again for the next command, while the
+     * circuit breaker of the journal plugin keeps a failing database from being flooded by recoveries.
+     *
+     * @param entityIdFromName computes the entity ID from the decoded actor name.
+     * @param snapshotAdapter the entity's snapshot adapter.
+     * @param pubSubMediator the pub-sub mediator to subscribe for shutdown commands.
+     */
+    protected AbstractShardedPersistenceActor(final Function<String, I> entityIdFromName,
+            final SnapshotAdapter<S> snapshotAdapter,
+            final ActorRef pubSubMediator) {
+
+        entityId = entityIdFromName.apply(URLDecoder.decode(getSelf().path().name(), StandardCharsets.UTF_8));
+        this.snapshotAdapter = snapshotAdapter;
+        entity = null;
+
+        lastSnapshotRevision = 0L;
+        confirmedSnapshotRevision = 0L;
+
+        final ShutdownBehaviour shutdownBehaviour = entityId instanceof NamespacedEntityId
+                ? ShutdownBehaviour.fromId((NamespacedEntityId) entityId, pubSubMediator, getSelf())
+                : ShutdownBehaviour.fromIdWithoutNamespace(entityId, pubSubMediator, getSelf());
+        handleCleanups = shutdownBehaviour.createReceive().build().orElse(super.createReceive());
+        supervised = false;
     }
 
     @Override
@@ -152,6 +230,26 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract SnapshotConfig getSnapshotConfig();
 
+    /**
+     * Returns how many delta snapshots to take between two full snapshots. Requires a snapshot plugin which
+     * reconstructs delta snapshots and events whose resource paths address the JSON representation of the entity.
+     * Only full snapshots are taken unless overridden.
+     *
+     * @return the maximum number of delta snapshots per full snapshot.
+     */
+    protected int getMaxDeltaSnapshots() {
+        return 0;
+    }
+
+    /**
+     * Returns the configuration for group commit of events. Group commit is disabled unless overridden.
+     *
+     * @return configuration for group commit.
+     */
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return GROUP_COMMIT_DISABLED;
+    }
+
     /**
      * Check if the entity exists and is deleted. This is a sufficient condition to make a snapshot before stopping.
      *
@@ -164,6 +262,11 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract DittoRuntimeExceptionBuilder newNotAccessibleExceptionBuilder();
 
+    /**
+     * @return An exception builder to respond to commands whose events could not be persisted.
+     */
+    protected abstract DittoRuntimeExceptionBuilder newUnavailableExceptionBuilder();
+
     /**
      * Publish an event.
      *
@@ -211,6 +314,9 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        if (null != activityManager) {
+            activityManager.tell(ActivityManager.deregister(), getSelf());
+        }
         super.postStop();
     }
 
@@ -219,15 +325,52 @@ public abstract class AbstractShardedPersistenceActor<
         return createDeletedBehavior();
     }
 
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        if (eventsInFlight > 0) {
+            // the journal rejects all events of a write; restore the entity once the last of them is reported
+            eventsInFlight--;
+            if (eventsInFlight == 0) {
+                discardUnconfirmedEvents();
+            }
+        }
+    }
+
+    @Override
+    public void onPersistFailure(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistFailure(cause, event, seqNr);
+        // the actor is stopped afterwards; answer the commands waiting for unconfirmed events
+        if (hasUnconfirmedEvents()) {
+            discardUnconfirmedEvents();
+        }
+    }
+
+    @Override
+    public void aroundReceive(final PartialFunction<Object, BoxedUnit> receive, final Object msg) {
+        if (recoveryRunning() && msg instanceof Command) {
+            commandsDuringRecovery.add(Pair.create(getSender(), (Command) msg));
+        }
+        super.aroundReceive(receive, msg);
+    }
+
     @Override
     public void onRecoveryFailure(final Throwable cause, final Option<Object> event) {
         log.error(cause, "Recovery Failure for entity with ID <{}>", entityId);
+        // the actor is stopped afterwards
+        commandsDuringRecovery.forEach(senderAndCommand -> {
+            final DittoRuntimeException error = newUnavailableExceptionBuilder()
+                    .dittoHeaders(senderAndCommand.second().getDittoHeaders())
+                    .build();
+            senderAndCommand.first().tell(error, getSelf());
+        });
+        commandsDuringRecovery.clear();
     }
 
     @Override
     public Receive createReceiveRecover() {
         // defines how state is updated during recovery
-        return handleEvents.orElse(ReceiveBuilder.create()
+        return getHandleEvents().orElse(ReceiveBuilder.create()
                 // # Snapshot handling
                 .match(SnapshotOffer.class, ss -> {
                     log.debug("Got SnapshotOffer: {}", ss);
@@ -238,7 +381,10 @@ public abstract class AbstractShardedPersistenceActor<
                         log.warning("RecoveryTimeout occurred during recovery for entity with ID {}", entityId)
                 )
                 // # Recovery handling
-                .match(RecoveryCompleted.class, this::recoveryCompleted)
+                .match(RecoveryCompleted.class, recoveryCompleted -> {
+                    commandsDuringRecovery.clear();
+                    recoveryCompleted(recoveryCompleted);
+                })
                 .matchAny(m -> log.warning("Unknown recover message: {}", m))
                 .build());
     }
@@ -283,17 +429,7 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected void persistAndApplyEvent(final E event, final BiConsumer<E, S> handler) {
 
-        final E modifiedEvent;
-        if (null != entity) {
-            // set version of event to the version of the entity
-            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
-                    .schemaVersion(getEntitySchemaVersion(entity))
-                    .build();
-            modifiedEvent = (E) event.setDittoHeaders(newHeaders);
-        } else {
-            modifiedEvent = event;
-        }
-
+        final E modifiedEvent = withEntitySchemaVersion(event);
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
         } else {
@@ -315,10 +451,15 @@ public abstract class AbstractShardedPersistenceActor<
             // take a snapshot after a period of inactivity if:
             // - entity is deleted,
             // - the latest snapshot is out of date or is still ongoing.
-            takeSnapshot("the entity is deleted and has no up-to-date snapshot");
-            scheduleCheckForActivity(getActivityCheckConfig().getDeletedInterval());
-        } else if (accessCounter > message.accessCounter) {
-            // if the entity was accessed in any way since the last check
+            final boolean snapshotStarted = takeSnapshot("the entity is deleted and has no up-to-date snapshot");
+            if (snapshotStarted && getActivityCheckConfig().isBatched()) {
+                // stay pending at the activity manager so that it bounds the number of concurrent snapshots
+                registerAfterSnapshot = true;
+            } else {
+                scheduleCheckForActivity(getActivityCheckConfig().getDeletedInterval());
+            }
+        } else if (accessCounter > message.accessCounter || hasUnconfirmedEvents()) {
+            // if the entity was accessed in any way since the last check or events are still being persisted
             scheduleCheckForActivity(getActivityCheckConfig().getInactiveInterval());
         } else {
             // safe to shutdown after a period of inactivity if:
@@ -336,7 +477,11 @@ public abstract class AbstractShardedPersistenceActor<
      * Request parent to shutdown this actor gracefully in a thread-safe manner.
      */
     protected void passivate() {
-        getContext().getParent().tell(AbstractPersistenceSupervisor.Control.PASSIVATE, getSelf());
+        if (supervised) {
+            getContext().getParent().tell(AbstractPersistenceSupervisor.Control.PASSIVATE, getSelf());
+        } else {
+            getContext().getParent().tell(new ShardRegion.Passivate(PoisonPill.getInstance()), getSelf());
+        }
     }
 
     private Receive createDeletedBehavior() {
@@ -351,19 +496,31 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     /**
-     * Schedule the next check for activity.
+     * Schedule the next check for activity. If activity checks are batched, the actor registers at the activity
+     * manager of its entity type instead of starting a timer.
      *
      * @param interval when to check again.
      */
     protected void scheduleCheckForActivity(final Duration interval) {
         if (interval.isNegative() || interval.isZero()) {
             log.debug("Activity check is disabled: <{}>", interval);
+        } else if (getActivityCheckConfig().isBatched()) {
+            log.debug("Registering for Activity Check in <{}>.", interval);
+            registerAfterSnapshot = false;
+            getActivityManager().tell(ActivityManager.register(accessCounter, interval), getSelf());
         } else {
             log.debug("Scheduling for Activity Check in <{}> seconds.", interval);
             timers().startSingleTimer("activityCheck", new CheckForActivity(accessCounter), interval);
         }
     }
 
+    private ActorRef getActivityManager() {
+        if (null == activityManager) {
+            activityManager = ActivityManager.get(getContext().getSystem(), getActivityCheckConfig());
+        }
+        return activityManager;
+    }
+
     private void scheduleSnapshot() {
         final Duration snapshotInterval = getSnapshotConfig().getInterval();
         timers().startPeriodicTimer("takeSnapshot", Control.TAKE_SNAPSHOT, snapshotInterval);
@@ -391,7 +548,7 @@ public abstract class AbstractShardedPersistenceActor<
         try {
             result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), command);
         } catch (final DittoRuntimeException e) {
-            getSender().tell(e, getSelf());
+            notifySender(e);
             return;
         }
         result.accept(this);
@@ -401,6 +558,10 @@ public abstract class AbstractShardedPersistenceActor<
     public void onMutation(final Command command, final E event, final WithDittoHeaders response,
             final boolean becomeCreated, final boolean becomeDeleted) {
 
+        if (getGroupCommitConfig().isEnabled() && !event.getDittoHeaders().isDryRun()) {
+            groupCommit(event, response, becomeCreated, becomeDeleted);
+            return;
+        }
         persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
             notifySender(response);
             if (becomeDeleted) {
@@ -423,7 +584,115 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private long getNextRevisionNumber() {
-        return getRevisionNumber() + 1;
+        return getProjectedRevisionNumber() + 1;
+    }
+
+    /**
+     * @return the revision of the entity including the events which are not yet persisted by group commit.
+     */
+    private long getProjectedRevisionNumber() {
+        return getRevisionNumber() + bufferedEvents.size() + eventsInFlight;
+    }
+
+    private boolean hasUnconfirmedEvents() {
+        return eventsInFlight > 0 || !bufferedEvents.isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private E withEntitySchemaVersion(final E event) {
+        if (null != entity) {
+            // set version of event to the version of the entity
+            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
+                    .schemaVersion(getEntitySchemaVersion(entity))
+                    .build();
+            return (E) event.setDittoHeaders(newHeaders);
+        } else {
+            return event;
+        }
+    }
+
+    /**
+     * Apply the event of a command to the entity right away so that the following commands are validated against
+     * the projected state, and persist it together with the events of other commands arriving while a write is in
+     * flight. The response is released after the event is persisted.
+     */
+    private void groupCommit(final E event, final WithDittoHeaders response, final boolean becomeCreated,
+            final boolean becomeDeleted) {
+
+        if (!hasUnconfirmedEvents()) {
+            persistedEntity = entity;
+        }
+        final E modifiedEvent = withEntitySchemaVersion(event);
+        entity = getEventStrategy().handle(modifiedEvent, entity, getNextRevisionNumber());
+        recordModification(modifiedEvent);
+        bufferedEvents.add(modifiedEvent);
+        unconfirmedEntities.add(entity);
+        notifySender(response);
+        if (becomeDeleted) {
+            becomeDeletedHandler();
+        }
+        if (becomeCreated) {
+            becomeCreatedHandler();
+        }
+        if (eventsInFlight == 0) {
+            persistBufferedEvents();
+        }
+    }
+
+    private void persistBufferedEvents() {
+        final int batchSize = Math.min(bufferedEvents.size(), getGroupCommitConfig().getMaxBatchSize());
+        final List<E> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(bufferedEvents.poll());
+        }
+        eventsInFlight = batch.size();
+        log.debug("Persisting <{}> events in one write.", batch.size());
+
+        // persistAllAsync does not stash incoming commands; they are handled on the projected state meanwhile
+        persistAllAsync(batch, persistedEvent -> {
+            LogUtil.enhanceLogWithCorrelationId(log, persistedEvent.getDittoHeaders().getCorrelationId());
+            log.info("Successfully persisted Event <{}>.", persistedEvent.getType());
+            eventsInFlight--;
+            persistedEntity = unconfirmedEntities.poll();
+            publishEvent(persistedEvent);
+            releasePendingResponses();
+            if (eventsInFlight == 0) {
+                if (!bufferedEvents.isEmpty()) {
+                    persistBufferedEvents();
+                } else if (snapshotThresholdPassed()) {
+                    takeSnapshot("snapshot threshold is reached");
+                }
+            }
+        });
+    }
+
+    private void releasePendingResponses() {
+        final long persistedRevision = getRevisionNumber();
+        while (!pendingResponses.isEmpty() && pendingResponses.peek().revision <= persistedRevision) {
+            final PendingResponse pendingResponse = pendingResponses.poll();
+            pendingResponse.sender.tell(pendingResponse.message, getSelf());
+        }
+    }
+
+    /**
+     * Restore the entity as of the last persisted event and answer the commands whose responses wait for events
+     * which are not persisted with an error.
+     */
+    private void discardUnconfirmedEvents() {
+        log.warning("Discarding <{}> events not persisted by group commit of entity <{}>.",
+                unconfirmedEntities.size(), entityId);
+        eventsInFlight = 0;
+        bufferedEvents.clear();
+        unconfirmedEntities.clear();
+        entity = persistedEntity;
+        while (!pendingResponses.isEmpty()) {
+            final PendingResponse pendingResponse = pendingResponses.poll();
+            final DittoRuntimeException error = newUnavailableExceptionBuilder()
+                    .dittoHeaders(pendingResponse.message.getDittoHeaders())
+                    .build();
+            pendingResponse.sender.tell(error, getSelf());
+        }
+        becomeCreatedOrDeletedHandler();
     }
 
     private void persistEvent(final E event, final Consumer<E> handler) {
@@ -447,21 +716,59 @@ public abstract class AbstractShardedPersistenceActor<
         });
     }
 
-    private void takeSnapshot(final String reason) {
+    private boolean takeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        if (hasUnconfirmedEvents()) {
+            log.debug("Not taking snapshot for entity <{}> with events being persisted even if {}.", entityId,
+                    reason);
+            return false;
+        } else if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId, revision,
                     reason);
 
-            final Object snapshotSubject = snapshotAdapter.toSnapshotStore(entity);
+            final Object snapshotSubject = toDeltaSnapshot(entity).orElseGet(() -> toFullSnapshot(entity, revision));
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
+            return true;
         } else if (lastSnapshotRevision == revision) {
             log.debug("Not taking duplicate snapshot for entity <{}> with revision <{}> even if {}.", entity, revision,
                     reason);
+            return false;
         } else {
             log.debug("Not taking snapshot for nonexistent entity <{}> even if {}.", entityId, reason);
+            return false;
+        }
+    }
+
+    private Optional<Object> toDeltaSnapshot(final S snapshotEntity) {
+        if (null == modifiedSinceBase || 0L != pendingBaseSnapshotRevision || 0L == confirmedBaseSnapshotRevision ||
+                deltaSnapshotsSinceBase >= getMaxDeltaSnapshots()) {
+            return Optional.empty();
+        }
+        final Optional<Object> deltaSnapshot =
+                snapshotAdapter.toDeltaSnapshotStore(snapshotEntity, confirmedBaseSnapshotRevision, modifiedSinceBase);
+        deltaSnapshot.ifPresent(delta -> deltaSnapshotsSinceBase++);
+        return deltaSnapshot;
+    }
+
+    private Object toFullSnapshot(final S snapshotEntity, final long revision) {
+        // deltas may refer to this snapshot only after it is saved
+        pendingBaseSnapshotRevision = revision;
+        deltaSnapshotsSinceBase = 0;
+        modifiedSinceBase = getMaxDeltaSnapshots() > 0 ? new HashSet<>() : null;
+        return snapshotAdapter.toSnapshotStore(snapshotEntity);
+    }
+
+    private void recordModification(final E event) {
+        if (null != modifiedSinceBase) {
+            final JsonPointer resourcePath = event.getResourcePath();
+            if (resourcePath.isEmpty()) {
+                // the whole entity is modified: the next snapshot is a full snapshot
+                modifiedSinceBase = null;
+            } else {
+                modifiedSinceBase.add(resourcePath);
+            }
         }
     }
 
@@ -470,17 +777,34 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private void applyEvent(final E event) {
-        handleEvents.onMessage().apply(event);
+        getHandleEvents().onMessage().apply(event);
         publishEvent(event);
     }
 
+    private Receive getHandleEvents() {
+        if (null == handleEvents) {
+            handleEvents = ReceiveBuilder.create()
+                    .match(getEventClass(), event -> {
+                        entity = getEventStrategy().handle(event, entity, getRevisionNumber());
+                        recordModification(event);
+                    })
+                    .build();
+        }
+        return handleEvents;
+    }
+
     private void notifySender(final WithDittoHeaders message) {
         notifySender(getSender(), message);
     }
 
     private void notifySender(final ActorRef sender, final WithDittoHeaders message) {
         accessCounter++;
-        sender.tell(message, getSelf());
+        if (hasUnconfirmedEvents()) {
+            // computed from the projected state: hold back until that state is persisted, keeping the order
+            pendingResponses.add(new PendingResponse(sender, message, getProjectedRevisionNumber()));
+        } else {
+            sender.tell(message, getSelf());
+        }
     }
 
     private void takeSnapshotByInterval(final Control takeSnapshot) {
@@ -490,15 +814,38 @@ public abstract class AbstractShardedPersistenceActor<
     private void saveSnapshotSuccess(final SaveSnapshotSuccess s) {
         log.debug("Got {}", s);
         confirmedSnapshotRevision = s.metadata().sequenceNr();
+        if (confirmedSnapshotRevision == pendingBaseSnapshotRevision) {
+            confirmedBaseSnapshotRevision = pendingBaseSnapshotRevision;
+            pendingBaseSnapshotRevision = 0L;
+        }
+        registerAfterSnapshotIfPending();
     }
 
     private void saveSnapshotFailure(final SaveSnapshotFailure s) {
         log.error(s.cause(), "Got {}", s);
+        if (s.metadata().sequenceNr() == pendingBaseSnapshotRevision) {
+            // no delta must refer to the missing full snapshot
+            pendingBaseSnapshotRevision = 0L;
+            modifiedSinceBase = null;
+        }
+        registerAfterSnapshotIfPending();
+    }
+
+    private void registerAfterSnapshotIfPending() {
+        if (registerAfterSnapshot) {
+            scheduleCheckForActivity(getActivityCheckConfig().getDeletedInterval());
+        }
     }
 
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
         entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
         lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
+        confirmedBaseSnapshotRevision = snapshotAdapter.getBaseSequenceNumber(snapshotOffer);
+        deltaSnapshotsSinceBase = 0;
+        // the paths modified between base and offered delta snapshot are unknown: the next snapshot is a full one
+        modifiedSinceBase = confirmedBaseSnapshotRevision == confirmedSnapshotRevision && getMaxDeltaSnapshots() > 0
+                ? new HashSet<>()
+                : null;
     }
 
     @Override
@@ -506,6 +853,11 @@ public abstract class AbstractShardedPersistenceActor<
         return confirmedSnapshotRevision;
     }
 
+    @Override
+    protected long getLatestBaseSnapshotSequenceNumber() {
+        return confirmedBaseSnapshotRevision;
+    }
+
     private void notAccessible(final Object message) {
         final DittoRuntimeExceptionBuilder builder = newNotAccessibleExceptionBuilder();
         if (message instanceof WithDittoHeaders) {
@@ -533,7 +885,7 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     /**
-     * Create a private {@code CheckForActivity} message for unit tests.
+     * Create a private {@code CheckForActivity} message for unit tests and the activity manager.
      *
      * @param accessCounter the access counter of this message.
      * @return the check-for-activity message.
@@ -561,6 +913,19 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    private static final class PendingResponse {
+
+        private final ActorRef sender;
+        private final WithDittoHeaders message;
+        private final long revision;
+
+        private PendingResponse(final ActorRef sender, final WithDittoHeaders message, final long revision) {
+            this.sender = sender;
+            this.message = message;
+            this.revision = revision;
+        }
+    }
+
     private enum Control {
         TAKE_SNAPSHOT
     }
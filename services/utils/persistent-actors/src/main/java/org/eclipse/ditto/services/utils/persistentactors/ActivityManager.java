@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+import akka.actor.Props;
+import akka.actor.Terminated;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Checks the activity of the entities of one type on one node in batches instead of one timer per entity.
+ * Entities register the access counter of their latest check together with the interval of their next check.
+ * Every batch interval, the entities whose check is overdue the longest are sent {@code CheckForActivity} messages,
+ * at most {@code max-batch-size} of them. An entity stays pending until it registers again, e. g. after the
+ * snapshot it takes before passivation is saved, or until it stops. At most {@code max-pending-checks} entities
+ * are pending at the same time, which smooths the snapshot writes and passivations after a period of inactivity.
+ * The registrations are kept in the order of their deadlines, so that a batch costs only as much as its size.
+ * When the manager restarts, it hands its registrations over to its next incarnation.
+ */
+final class ActivityManager extends AbstractActorWithTimers {
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ActivityCheckConfig activityCheckConfig;
+    private final Map<ActorRef, Registration> registrations = new HashMap<>();
+    private final NavigableSet<Registration> dueRegistrations = new TreeSet<>(Registration::compareDeadlines);
+    private long registrationCounter = 0L;
+    private int pendingChecks = 0;
+
+    @SuppressWarnings("unused")
+    private ActivityManager(final ActivityCheckConfig activityCheckConfig) {
+        this.activityCheckConfig = activityCheckConfig;
+        timers().startPeriodicTimer(Control.CHECK_BATCH, Control.CHECK_BATCH, activityCheckConfig.getBatchInterval());
+    }
+
+    /**
+     * Get the activity manager of the entities with an activity check configuration, starting it if necessary.
+     *
+     * @param actorSystem the actor system of the entities.
+     * @param activityCheckConfig the activity check configuration of the entities.
+     * @return reference of the activity manager.
+     */
+    static ActorRef get(final ActorSystem actorSystem, final ActivityCheckConfig activityCheckConfig) {
+        return ExtensionId.INSTANCE.get(actorSystem).get(activityCheckConfig);
+    }
+
+    /**
+     * Create the Props object of an activity manager.
+     *
+     * @param activityCheckConfig the activity check configuration of the managed entities.
+     * @return the Props object.
+     */
+    static Props props(final ActivityCheckConfig activityCheckConfig) {
+        return Props.create(ActivityManager.class, activityCheckConfig);
+    }
+
+    /**
+     * Create a message registering the sender for its next activity check.
+     *
+     * @param accessCounter the access counter of the sender.
+     * @param interval when the sender is to be checked.
+     * @return the message.
+     */
+    static Object register(final long accessCounter, final Duration interval) {
+        return new Register(accessCounter, interval);
+    }
+
+    /**
+     * @return the message removing the sender from the activity manager.
+     */
+    static Object deregister() {
+        return Control.DEREGISTER;
+    }
+
+    @Override
+    public void preRestart(final Throwable reason, final Optional<Object> message) throws Exception {
+        // the mailbox survives the restart: the next incarnation restores the registrations from it
+        final List<Registration> restoredRegistrations = new ArrayList<>(registrations.values());
+        getSelf().tell(new Restore(restoredRegistrations), ActorRef.noSender());
+        super.preRestart(reason, message);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(Register.class, this::register)
+                .match(Restore.class, this::restore)
+                .matchEquals(Control.DEREGISTER, deregister -> deregister(getSender()))
+                .match(Terminated.class, terminated -> deregister(terminated.getActor()))
+                .matchEquals(Control.CHECK_BATCH, this::checkBatch)
+                .build();
+    }
+
+    private void register(final Register register) {
+        final long deadline = System.nanoTime() + register.interval.toNanos();
+        final ActorRef entity = getSender();
+        deregister(entity);
+        add(new Registration(entity, deadline, register.accessCounter, registrationCounter++));
+        getContext().watch(entity);
+    }
+
+    private void restore(final Restore restore) {
+        log.info("Restoring <{}> registrations after restart.", restore.registrations.size());
+        for (final Registration registration : restore.registrations) {
+            // entities registering again before the restoration keep their newer registrations
+            if (!registrations.containsKey(registration.entity)) {
+                final Registration restored = new Registration(registration.entity, registration.deadline,
+                        registration.accessCounter, registrationCounter++);
+                registrations.put(restored.entity, restored);
+                if (registration.pending) {
+                    restored.pending = true;
+                    pendingChecks++;
+                } else {
+                    dueRegistrations.add(restored);
+                }
+                // watching a stopped entity yields Terminated, which removes its registration
+                getContext().watch(registration.entity);
+            }
+        }
+    }
+
+    private void add(final Registration registration) {
+        registrations.put(registration.entity, registration);
+        dueRegistrations.add(registration);
+    }
+
+    private void deregister(final ActorRef entity) {
+        final Registration previous = registrations.remove(entity);
+        if (previous != null) {
+            if (previous.pending) {
+                pendingChecks--;
+            } else {
+                dueRegistrations.remove(previous);
+            }
+        }
+    }
+
+    private void checkBatch(final Control checkBatch) {
+        final int batchSize = Math.min(activityCheckConfig.getMaxBatchSize(),
+                activityCheckConfig.getMaxPendingChecks() - pendingChecks);
+        if (batchSize <= 0) {
+            log.debug("Not checking activity with <{}> pending checks.", pendingChecks);
+            return;
+        }
+        final long now = System.nanoTime();
+        int checks = 0;
+        while (checks < batchSize && !dueRegistrations.isEmpty() && dueRegistrations.first().deadline - now <= 0) {
+            final Registration registration = dueRegistrations.pollFirst();
+            registration.pending = true;
+            pendingChecks++;
+            checks++;
+            registration.entity.tell(AbstractShardedPersistenceActor.checkForActivity(registration.accessCounter),
+                    getSelf());
+        }
+        if (checks > 0) {
+            log.debug("Checked activity of <{}> of <{}> entities.", checks, registrations.size());
+        }
+    }
+
+    private static final class Register {
+
+        private final long accessCounter;
+        private final Duration interval;
+
+        private Register(final long accessCounter, final Duration interval) {
+            this.accessCounter = accessCounter;
+            this.interval = interval;
+        }
+    }
+
+    private static final class Restore {
+
+        private final Collection<Registration> registrations;
+
+        private Restore(final Collection<Registration> registrations) {
+            this.registrations = registrations;
+        }
+    }
+
+    private static final class Registration {
+
+        private final ActorRef entity;
+        private final long deadline;
+        private final long accessCounter;
+        private final long sequenceNumber;
+        private boolean pending;
+
+        private Registration(final ActorRef entity, final long deadline, final long accessCounter,
+                final long sequenceNumber) {
+            this.entity = entity;
+            this.deadline = deadline;
+            this.accessCounter = accessCounter;
+            this.sequenceNumber = sequenceNumber;
+            pending = false;
+        }
+
+        private static int compareDeadlines(final Registration r1, final Registration r2) {
+            // compare differences of nano times because they may overflow
+            final long difference = r1.deadline - r2.deadline;
+            return difference != 0L
+                    ? Long.signum(difference)
+                    : Long.compare(r1.sequenceNumber, r2.sequenceNumber);
+        }
+    }
+
+    private enum Control {
+        CHECK_BATCH,
+        DEREGISTER
+    }
+
+    /**
+     * The activity managers of an actor system, one per activity check configuration.
+     */
+    private static final class ActivityManagers implements Extension {
+
+        private final ActorSystem actorSystem;
+        private final Map<ActivityCheckConfig, ActorRef> managers = new ConcurrentHashMap<>();
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private ActivityManagers(final ActorSystem actorSystem) {
+            this.actorSystem = actorSystem;
+        }
+
+        private ActorRef get(final ActivityCheckConfig activityCheckConfig) {
+            return managers.computeIfAbsent(activityCheckConfig, config ->
+                    actorSystem.actorOf(props(config), "activityManager" + counter.incrementAndGet()));
+        }
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<ActivityManagers> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public ActivityManagers createExtension(final ExtendedActorSystem system) {
+            return new ActivityManagers(system);
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultActivityCheckConfig;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractActor;
+import akka.actor.Actor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Kill;
+import akka.actor.OneForOneStrategy;
+import akka.actor.Props;
+import akka.actor.SupervisorStrategy;
+import akka.japi.pf.DeciderBuilder;
+import akka.japi.pf.ReceiveBuilder;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ActivityManager}.
+ */
+public final class ActivityManagerTest {
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void init() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test.conf"));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void checkLongestOverdueEntitiesInBatches() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = childActorOf(ActivityManager.props(DefaultActivityCheckConfig.of(
+                    ConfigFactory.parseString("activity-check { batched = true, batch-interval = 500ms, " +
+                            "max-batch-size = 2, max-pending-checks = 10 }"))));
+            final TestKit entity1 = new TestKit(actorSystem);
+            final TestKit entity2 = new TestKit(actorSystem);
+            final TestKit entity3 = new TestKit(actorSystem);
+
+            underTest.tell(ActivityManager.register(3L, Duration.ofMillis(300L)), entity3.getRef());
+            underTest.tell(ActivityManager.register(2L, Duration.ofMillis(200L)), entity2.getRef());
+            underTest.tell(ActivityManager.register(1L, Duration.ofMillis(100L)), entity1.getRef());
+
+            // the first batch checks the 2 entities overdue the longest, the next batch the third one
+            assertThat(entity1.expectMsgClass(AbstractShardedPersistenceActor.CheckForActivity.class)
+                    .getAccessCounter()).isEqualTo(1L);
+            assertThat(entity2.expectMsgClass(AbstractShardedPersistenceActor.CheckForActivity.class)
+                    .getAccessCounter()).isEqualTo(2L);
+            entity3.expectNoMessage(Duration.ofMillis(200L));
+            assertThat(entity3.expectMsgClass(AbstractShardedPersistenceActor.CheckForActivity.class)
+                    .getAccessCounter()).isEqualTo(3L);
+        }};
+    }
+
+    @Test
+    public void checkNoMoreEntitiesThanMaxPendingChecks() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = childActorOf(ActivityManager.props(DefaultActivityCheckConfig.of(
+                    ConfigFactory.parseString("activity-check { batched = true, batch-interval = 100ms, " +
+                            "max-batch-size = 10, max-pending-checks = 1 }"))));
+            final TestKit entity1 = new TestKit(actorSystem);
+            final TestKit entity2 = new TestKit(actorSystem);
+
+            underTest.tell(ActivityManager.register(1L, Duration.ofMillis(100L)), entity1.getRef());
+            underTest.tell(ActivityManager.register(2L, Duration.ofMillis(200L)), entity2.getRef());
+
+            entity1.expectMsgClass(AbstractShardedPersistenceActor.CheckForActivity.class);
+            entity2.expectNoMessage(Duration.ofMillis(500L));
+
+            // the pending check ends when the checked entity registers again or stops
+            underTest.tell(ActivityManager.register(1L, Duration.ofHours(1L)), entity1.getRef());
+            entity2.expectMsgClass(AbstractShardedPersistenceActor.CheckForActivity.class);
+            underTest.tell(ActivityManager.deregister(), entity2.getRef());
+            entity1.expectNoMessage(Duration.ofMillis(300L));
+        }};
+    }
+
+    @Test
+    public void keepRegistrationsAfterRestart() {
+        new TestKit(actorSystem) {{
+            // GIVEN: an activity manager in a parent that restarts it on every failure and forwards all messages
+            final Props managerProps = ActivityManager.props(DefaultActivityCheckConfig.of(
+                    ConfigFactory.parseString("activity-check { batched = true, batch-interval = 100ms, " +
+                            "max-batch-size = 10, max-pending-checks = 10 }")));
+            final Props parentProps = Props.create(Actor.class, () -> new AbstractActor() {
+
+                private final ActorRef manager = getContext().actorOf(managerProps);
+
+                @Override
+                public SupervisorStrategy supervisorStrategy() {
+                    return new OneForOneStrategy(true,
+                            DeciderBuilder.matchAny(throwable -> SupervisorStrategy.restart()).build());
+                }
+
+                @Override
+                public Receive createReceive() {
+                    return ReceiveBuilder.create()
+                            .matchAny(message -> manager.forward(message, getContext()))
+                            .build();
+                }
+            });
+            final ActorRef underTest = actorSystem.actorOf(parentProps);
+            final TestKit entity1 = new TestKit(actorSystem);
+            final TestKit entity2 = new TestKit(actorSystem);
+            final TestKit entity3 = new TestKit(actorSystem);
+
+            underTest.tell(ActivityManager.register(1L, Duration.ofMillis(500L)), entity1.getRef());
+            underTest.tell(ActivityManager.register(2L, Duration.ofMillis(500L)), entity2.getRef());
+            underTest.tell(ActivityManager.register(3L, Duration.ofMillis(500L)), entity3.getRef());
+
+            // WHEN: the manager restarts after one of the registered entities stopped
+            watch(entity3.getRef());
+            actorSystem.stop(entity3.getRef());
+            expectTerminated(entity3.getRef());
+            actorSystem.actorSelection(underTest.path().child("*")).tell(Kill.getInstance(), getRef());
+
+            // THEN: the registrations of the entities which are still alive are restored
+            assertThat(entity1.expectMsgClass(AbstractShardedPersistenceActor.CheckForActivity.class)
+                    .getAccessCounter()).isEqualTo(1L);
+            assertThat(entity2.expectMsgClass(AbstractShardedPersistenceActor.CheckForActivity.class)
+                    .getAccessCounter()).isEqualTo(2L);
+            actorSystem.stop(underTest);
+        }};
+    }
+
+}
@@ -57,12 +57,31 @@ public abstract class AbstractPubSubFactory<T> implements PubSubFactory<T> {
             final PubSubTopicExtractor<T> topicExtractor,
             final DDataProvider provider) {
 
-        this.actorRefFactory = context;
+        this(context, context.system(), messageClass, topicExtractor, provider);
+    }
+
+    /**
+     * Create a pub-sub factory.
+     *
+     * @param actorRefFactory the actor context or actor system under which publisher and subscriber actors are
+     * created.
+     * @param actorSystem the actor system.
+     * @param messageClass the class of messages to publish and subscribe for.
+     * @param topicExtractor a function extracting from each message the topics it was published at.
+     * @param provider provider of the underlying ddata extension.
+     */
+    protected AbstractPubSubFactory(final ActorRefFactory actorRefFactory,
+            final ActorSystem actorSystem,
+            final Class<T> messageClass,
+            final PubSubTopicExtractor<T> topicExtractor,
+            final DDataProvider provider) {
+
+        this.actorRefFactory = actorRefFactory;
         this.messageClass = messageClass;
         factoryId = provider.clusterRole;
         this.topicExtractor = topicExtractor;
-        ddataConfig = provider.getConfig(context.system());
-        ddata = CompressedDData.of(context.system(), provider);
+        ddataConfig = provider.getConfig(actorSystem);
+        ddata = CompressedDData.of(actorSystem, provider);
     }
 
     @Override
@@ -46,6 +46,20 @@ public interface DistributedSub {
      */
     CompletionStage<SubUpdater.Acknowledgement> subscribeWithAck(Collection<String> topics, ActorRef subscriber);
 
+    /**
+     * Subscribe for a collection of topics as member of a group. Each published message is sent directly to one
+     * member of each group, selected by the entity ID of the message, so that messages of the same entity reach the
+     * same member as long as the group does not change. Local topic filters do not apply to group members, who may
+     * receive messages on topics they did not subscribe for due to hash collisions.
+     *
+     * @param topics the topics.
+     * @param subscriber who is subscribing.
+     * @param group the group of the subscriber.
+     * @return a future that completes after subscription becomes effective on all nodes.
+     */
+    CompletionStage<SubUpdater.Acknowledgement> subscribeWithGroupAndAck(Collection<String> topics,
+            ActorRef subscriber, String group);
+
     /**
      * Unsubscribe for a collection of topics.
      *
@@ -53,6 +53,14 @@ final class DistributedSubImpl implements DistributedSub {
         return askSubSupervisor(SubUpdater.Subscribe.of(new HashSet<>(topics), subscriber, writeAll, true));
     }
 
+    @Override
+    public CompletionStage<SubUpdater.Acknowledgement> subscribeWithGroupAndAck(final Collection<String> topics,
+            final ActorRef subscriber, final String group) {
+        final SubUpdater.Subscribe subscribe =
+                SubUpdater.Subscribe.ofGroupMember(new HashSet<>(topics), subscriber, writeAll, true, group);
+        return askSubSupervisor(subscribe);
+    }
+
     @Override
     public CompletionStage<SubUpdater.Acknowledgement> unsubscribeWithAck(final Collection<String> topics,
             final ActorRef subscriber) {
@@ -22,6 +22,7 @@ import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
+import org.eclipse.ditto.signals.base.WithId;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -81,8 +82,9 @@ public final class Publisher<T> extends AbstractActor {
         final List<T> hashes = publish.getTopics().stream().map(ddataReader::approximate).collect(Collectors.toList());
         final Object message = publish.getMessage();
         final ActorRef sender = getSender();
+        final CharSequence groupIndexKey = getGroupIndexKey(message);
         currentPublication = currentPublication.thenCompose(_void ->
-                ddataReader.getSubscribers(hashes)
+                ddataReader.getSubscribers(hashes, groupIndexKey)
                         .thenAccept(subscribers -> subscribers.forEach(subscriber -> subscriber.tell(message, sender)))
                         .exceptionally(e -> {
                             log.error(e, "Failed: <{}>", publish);
@@ -91,6 +93,17 @@ public final class Publisher<T> extends AbstractActor {
         );
     }
 
+    /**
+     * Select group members by entity ID so that all messages of one entity reach the same member of each group.
+     */
+    private static CharSequence getGroupIndexKey(final Object message) {
+        if (message instanceof WithId) {
+            return ((WithId) message).getEntityId();
+        } else {
+            return String.valueOf(message);
+        }
+    }
+
     private void logUnhandled(final Object message) {
         log.warning("Unhandled: <{}>", message);
     }
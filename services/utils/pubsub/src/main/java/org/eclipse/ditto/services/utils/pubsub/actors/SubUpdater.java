@@ -15,13 +15,21 @@ package org.eclipse.ditto.services.utils.pubsub.actors;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
@@ -46,7 +54,8 @@ import akka.japi.pf.ReceiveBuilder;
  * requested by a user since the previous update. Send acknowledgement to local subscription requesters after
  * acknowledgement from distributed data. There is no transaction---all subscriptions are eventually distributed in
  * the cluster once requested. Local subscribers should most likely not to get any published message before they
- * receive acknowledgement. Below is the state transition diagram.
+ * receive acknowledgement. Members of subscriber groups are written to the distributed data individually so that
+ * publishers can deliver each message to one member of each group directly. Below is the state transition diagram.
  * <p>
  * <pre>
  * {@code
@@ -122,6 +131,21 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
      */
     private boolean localSubscriptionsChanged = false;
 
+    /**
+     * Local members of subscriber groups and their subscriptions.
+     */
+    private final Map<ActorRef, GroupMembership> groupMembers = new HashMap<>();
+
+    /**
+     * Local members of subscriber groups whose subscriptions are not sent to the distributed data replicator.
+     */
+    private final Set<ActorRef> changedGroupMembers = new HashSet<>();
+
+    /**
+     * Local members of subscriber groups whose subscriptions were sent to the replicator but not acknowledged.
+     */
+    private final Set<ActorRef> updatingGroupMembers = new HashSet<>();
+
     /**
      * Current state of the actor.
      */
@@ -170,13 +194,19 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
 
     private void tick(final Clock tick) {
         final boolean forceUpdate = forceUpdate();
-        if (!localSubscriptionsChanged && !forceUpdate) {
+        if (forceUpdate) {
+            changedGroupMembers.addAll(groupMembers.keySet());
+        }
+        if (!localSubscriptionsChanged && !forceUpdate && changedGroupMembers.isEmpty()) {
             moveAwaitUpdateToAwaitAcknowledge();
             flushAcknowledgements();
         } else {
             final SubscriptionsReader snapshot;
             final CompletionStage<Void> ddataOp;
-            if (subscriptions.isEmpty()) {
+            if (!localSubscriptionsChanged && !forceUpdate) {
+                snapshot = subscriptions.snapshot();
+                ddataOp = CompletableFuture.completedFuture(null);
+            } else if (subscriptions.isEmpty()) {
                 snapshot = subscriptions.snapshot();
                 ddataOp = topicBloomFiltersWriter.removeSubscriber(subscriber, nextWriteConsistency);
                 topicMetric.set(0L);
@@ -188,7 +218,7 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
                 ddataOp = topicBloomFiltersWriter.put(subscriber, ddata, nextWriteConsistency);
                 topicMetric.set((long) subscriptions.countTopics());
             }
-            ddataOp.handle(handleDDataWriteResult(snapshot));
+            writeGroupMembers(ddataOp).handle(handleDDataWriteResult(snapshot));
             moveAwaitUpdateToAwaitAcknowledge();
             localSubscriptionsChanged = false;
             nextWriteConsistency = Replicator.writeLocal();
@@ -196,11 +226,28 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
         }
     }
 
+    private CompletionStage<Void> writeGroupMembers(final CompletionStage<Void> ddataOp) {
+        final List<CompletableFuture<Void>> ops = new ArrayList<>(changedGroupMembers.size() + 1);
+        ops.add(ddataOp.toCompletableFuture());
+        for (final ActorRef groupMember : changedGroupMembers) {
+            final GroupMembership membership = groupMembers.get(groupMember);
+            final CompletionStage<Void> op = membership == null
+                    ? topicBloomFiltersWriter.removeSubscriber(groupMember, nextWriteConsistency)
+                    : topicBloomFiltersWriter.putGroupMember(groupMember, membership.topics, membership.group,
+                    nextWriteConsistency);
+            ops.add(op.toCompletableFuture());
+        }
+        updatingGroupMembers.addAll(changedGroupMembers);
+        changedGroupMembers.clear();
+        return CompletableFuture.allOf(ops.toArray(new CompletableFuture[0]));
+    }
+
     private boolean forceUpdate() {
         return random.nextDouble() < config.getForceUpdateProbability();
     }
 
     private void updateSuccess(final SubscriptionsReader snapshot) {
+        updatingGroupMembers.clear();
         flushAcknowledgements();
         state = State.WAITING;
         // race condition possible -- some published messages may arrive before the acknowledgement
@@ -221,6 +268,8 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
 
         // try again next clock tick
         localSubscriptionsChanged = true;
+        changedGroupMembers.addAll(updatingGroupMembers);
+        updatingGroupMembers.clear();
         state = State.WAITING;
     }
 
@@ -248,6 +297,11 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
     }
 
     private void subscribe(final Subscribe subscribe) {
+        final Optional<String> group = subscribe.getGroup();
+        if (group.isPresent()) {
+            subscribeGroupMember(subscribe, group.get());
+            return;
+        }
         final boolean changed =
                 subscriptions.subscribe(subscribe.getSubscriber(), subscribe.getTopics(), subscribe.getFilter());
         enqueueRequest(subscribe, changed);
@@ -256,11 +310,35 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
         }
     }
 
+    private void subscribeGroupMember(final Subscribe subscribe, final String group) {
+        final ActorRef groupMember = subscribe.getSubscriber();
+        final GroupMembership previousMembership = groupMembers.get(groupMember);
+        final Set<String> topics = new HashSet<>(subscribe.getTopics());
+        if (previousMembership != null && previousMembership.group.equals(group)) {
+            topics.addAll(previousMembership.topics);
+        }
+        final GroupMembership membership = new GroupMembership(group, topics);
+        if (!membership.equals(previousMembership)) {
+            groupMembers.put(groupMember, membership);
+            changedGroupMembers.add(groupMember);
+            getContext().watch(groupMember);
+        }
+        enqueueRequest(subscribe, false);
+    }
+
     private void unsubscribe(final Unsubscribe unsubscribe) {
-        final boolean changed = subscriptions.unsubscribe(unsubscribe.getSubscriber(), unsubscribe.getTopics());
+        final ActorRef unsubscriber = unsubscribe.getSubscriber();
+        final GroupMembership membership = groupMembers.get(unsubscriber);
+        if (membership != null && membership.topics.removeAll(unsubscribe.getTopics())) {
+            if (membership.topics.isEmpty()) {
+                groupMembers.remove(unsubscriber);
+            }
+            changedGroupMembers.add(unsubscriber);
+        }
+        final boolean changed = subscriptions.unsubscribe(unsubscriber, unsubscribe.getTopics());
         enqueueRequest(unsubscribe, changed);
-        if (changed && !subscriptions.contains(unsubscribe.getSubscriber())) {
-            getContext().unwatch(unsubscribe.getSubscriber());
+        if (!subscriptions.contains(unsubscriber) && !groupMembers.containsKey(unsubscriber)) {
+            getContext().unwatch(unsubscriber);
         }
     }
 
@@ -274,6 +352,9 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
 
     private void doRemoveSubscriber(final ActorRef subscriber) {
         localSubscriptionsChanged |= subscriptions.removeSubscriber(subscriber);
+        if (groupMembers.remove(subscriber) != null) {
+            changedGroupMembers.add(subscriber);
+        }
     }
 
     private void enqueueRequest(final Request request, final boolean changed) {
@@ -379,12 +460,14 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
         private static final Predicate<Collection<String>> CONSTANT_TRUE = topics -> true;
 
         private final Predicate<Collection<String>> filter;
+        @Nullable private final String group;
 
         private Subscribe(final Set<String> topics, final ActorRef subscriber,
                 final Replicator.WriteConsistency writeConsistency, final boolean acknowledge,
-                final Predicate<Collection<String>> filter) {
+                final Predicate<Collection<String>> filter, @Nullable final String group) {
             super(topics, subscriber, writeConsistency, acknowledge);
             this.filter = filter;
+            this.group = group;
         }
 
         /**
@@ -398,7 +481,7 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
          */
         public static Subscribe of(final Set<String> topics, final ActorRef subscriber,
                 final Replicator.WriteConsistency writeConsistency, final boolean acknowledge) {
-            return new Subscribe(topics, subscriber, writeConsistency, acknowledge, CONSTANT_TRUE);
+            return new Subscribe(topics, subscriber, writeConsistency, acknowledge, CONSTANT_TRUE, null);
         }
 
         /**
@@ -414,7 +497,23 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
         public static Subscribe of(final Set<String> topics, final ActorRef subscriber,
                 final Replicator.WriteConsistency writeConsistency, final boolean acknowledge,
                 final Predicate<Collection<String>> filter) {
-            return new Subscribe(topics, subscriber, writeConsistency, acknowledge, filter);
+            return new Subscribe(topics, subscriber, writeConsistency, acknowledge, filter, null);
+        }
+
+        /**
+         * Create a "subscribe" request for a member of a subscriber group. Each published message is delivered to
+         * one member of each group directly.
+         *
+         * @param topics the set of topics to subscribe.
+         * @param subscriber who is subscribing.
+         * @param writeConsistency with which write consistency should this subscription be updated.
+         * @param acknowledge whether acknowledgement is desired.
+         * @param group the group of the subscriber.
+         * @return the request.
+         */
+        public static Subscribe ofGroupMember(final Set<String> topics, final ActorRef subscriber,
+                final Replicator.WriteConsistency writeConsistency, final boolean acknowledge, final String group) {
+            return new Subscribe(topics, subscriber, writeConsistency, acknowledge, CONSTANT_TRUE, group);
         }
 
         /**
@@ -423,6 +522,13 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
         public Predicate<Collection<String>> getFilter() {
             return filter;
         }
+
+        /**
+         * @return the group of the subscriber, if it subscribes as member of a group.
+         */
+        public Optional<String> getGroup() {
+            return Optional.ofNullable(group);
+        }
     }
 
     /**
@@ -514,6 +620,32 @@ public final class SubUpdater<T> extends AbstractActorWithTimers {
         }
     }
 
+    private static final class GroupMembership {
+
+        private final String group;
+        private final Set<String> topics;
+
+        private GroupMembership(final String group, final Set<String> topics) {
+            this.group = group;
+            this.topics = topics;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o instanceof GroupMembership) {
+                final GroupMembership that = (GroupMembership) o;
+                return group.equals(that.group) && topics.equals(that.topics);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(group, topics);
+        }
+    }
+
     private enum Clock {
 
         /**
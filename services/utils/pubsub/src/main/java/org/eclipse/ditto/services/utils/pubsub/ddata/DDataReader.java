@@ -32,6 +32,17 @@ public interface DDataReader<T> {
      */
     CompletionStage<Collection<ActorRef>> getSubscribers(Collection<T> topicHashes);
 
+    /**
+     * Get the subscribers to deliver a message to: all subscribers of any of its topics which belong to no group and,
+     * of each group with members subscribing to any of its topics, the one member selected by the group index key.
+     *
+     * @param topicHashes the hash codes of each topic of the message.
+     * @param groupIndexKey the key selecting the member of each group, so that messages with the same key are
+     * delivered to the same member as long as the members of the group do not change.
+     * @return future collection of subscribers to deliver the message to.
+     */
+    CompletionStage<Collection<ActorRef>> getSubscribers(Collection<T> topicHashes, CharSequence groupIndexKey);
+
     /**
      * Map a topic to a key with which to read distributed data.
      *
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.utils.pubsub.ddata;
 
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import akka.actor.ActorRef;
@@ -35,6 +36,19 @@ public interface DDataWriter<T> {
      */
     CompletionStage<Void> put(ActorRef ownSubscriber, T topicUpdates, Replicator.WriteConsistency writeConsistency);
 
+    /**
+     * Associate a member of a subscriber group with its topics, replacing its previous association. Group members
+     * receive messages directly from the publishers.
+     *
+     * @param groupMember the local member of the group.
+     * @param topics the topics the member subscribes to.
+     * @param group the group.
+     * @param writeConsistency write consistency for the operation.
+     * @return future that completes or fails according to the result of the operation.
+     */
+    CompletionStage<Void> putGroupMember(ActorRef groupMember, Set<String> topics, String group,
+            Replicator.WriteConsistency writeConsistency);
+
     /**
      * Remove a subscriber outright.
      *
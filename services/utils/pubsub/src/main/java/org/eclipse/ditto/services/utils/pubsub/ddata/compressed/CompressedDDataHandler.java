@@ -12,10 +12,15 @@
  */
 package org.eclipse.ditto.services.utils.pubsub.ddata.compressed;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
@@ -45,11 +50,16 @@ import scala.collection.JavaConverters;
 /**
  * A distributed collection of Bloom filters of strings indexed by ActorRef.
  * The hash functions for all filter should be identical.
+ * <p>
+ * Members of subscriber groups are indexed by their own ActorRef. Their Bloom filters contain a flag marking them as
+ * group members and the name of their group in addition to the hash codes of their topics. Hash codes of topics
+ * always consist of one byte per hash function; the flag and the group name never do.
  */
 public final class CompressedDDataHandler extends DistributedData<ORMultiMap<ActorRef, ByteString>>
         implements DDataReader<ByteString>, DDataWriter<CompressedUpdate>, Hashes {
 
     private final String topicType;
+    private final ByteString groupMemberFlag;
     private final SelfUniqueAddress selfUniqueAddress;
     private final List<Integer> seeds;
 
@@ -65,6 +75,7 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
         this.topicType = topicType;
         this.selfUniqueAddress = SelfUniqueAddress.apply(Cluster.get(actorSystem).selfUniqueAddress());
         this.seeds = seeds;
+        groupMemberFlag = ByteString.fromArray(new byte[seeds.size() + 1]);
     }
 
     /**
@@ -94,6 +105,39 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
     @Override
     public CompletionStage<Collection<ActorRef>> getSubscribers(final Collection<ByteString> topic) {
 
+        return getSubscriberEntries(topic).thenApply(entries -> entries.stream()
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public CompletionStage<Collection<ActorRef>> getSubscribers(final Collection<ByteString> topic,
+            final CharSequence groupIndexKey) {
+
+        return getSubscriberEntries(topic).thenApply(entries -> {
+            final List<ActorRef> subscribers = new ArrayList<>();
+            final Map<String, List<ActorRef>> groups = new HashMap<>();
+            for (final Map.Entry<ActorRef, scala.collection.immutable.Set<ByteString>> entry : entries) {
+                final Optional<String> group = getGroup(entry.getValue());
+                if (group.isPresent()) {
+                    groups.computeIfAbsent(group.get(), g -> new ArrayList<>()).add(entry.getKey());
+                } else {
+                    subscribers.add(entry.getKey());
+                }
+            }
+            // sort the members so that all publishers with the same distributed data select the same member
+            final int index = groupIndexKey.toString().hashCode();
+            for (final List<ActorRef> members : groups.values()) {
+                Collections.sort(members);
+                subscribers.add(members.get(Math.floorMod(index, members.size())));
+            }
+            return subscribers;
+        });
+    }
+
+    private CompletionStage<List<Map.Entry<ActorRef, scala.collection.immutable.Set<ByteString>>>> getSubscriberEntries(
+            final Collection<ByteString> topic) {
+
         return get(Replicator.readLocal()).thenApply(optional -> {
             if (optional.isPresent()) {
                 final ORMultiMap<ActorRef, ByteString> mmap = optional.get();
@@ -102,7 +146,6 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
                         .entrySet()
                         .stream()
                         .filter(entry -> topic.stream().anyMatch(entry.getValue()::contains))
-                        .map(Map.Entry::getKey)
                         .collect(Collectors.toList());
             } else {
                 ddataMetrics.set(0L);
@@ -111,6 +154,38 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
         });
     }
 
+    private Optional<String> getGroup(final scala.collection.immutable.Set<ByteString> bloomFilter) {
+        if (bloomFilter.contains(groupMemberFlag)) {
+            return JavaConverters.setAsJavaSet(bloomFilter)
+                    .stream()
+                    .filter(byteString -> byteString.size() > groupMemberFlag.size())
+                    .findAny()
+                    .map(CompressedDDataHandler::decodeGroup);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Encode a group name as element of the Bloom filter of a group member. It is prefixed by the group flag and
+     * another zero byte so that it is longer than both the hash codes of a topic and the group flag.
+     *
+     * @param group the group name.
+     * @return the encoded group name.
+     */
+    private ByteString encodeGroup(final String group) {
+        return groupMemberFlag.concat(ByteString.fromArray(new byte[1]))
+                .concat(ByteString.fromString(group, StandardCharsets.UTF_8.name()));
+    }
+
+    private static String decodeGroup(final ByteString encodedGroup) {
+        int prefixSize = 0;
+        while (prefixSize < encodedGroup.size() && encodedGroup.apply(prefixSize) == 0) {
+            prefixSize++;
+        }
+        return encodedGroup.drop(prefixSize).decodeString(StandardCharsets.UTF_8);
+    }
+
     /**
      * Lossy-compress a topic into a ByteString consisting of hash codes from the family of hash functions.
      *
@@ -165,6 +240,16 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
         }
     }
 
+    @Override
+    public CompletionStage<Void> putGroupMember(final ActorRef groupMember, final Set<String> topics,
+            final String group, final Replicator.WriteConsistency writeConsistency) {
+
+        final Set<ByteString> bloomFilter = topics.stream().map(this::approximate).collect(Collectors.toSet());
+        bloomFilter.add(groupMemberFlag);
+        bloomFilter.add(encodeGroup(group));
+        return update(writeConsistency, mmap -> mmap.put(selfUniqueAddress, groupMember, bloomFilter));
+    }
+
     @Override
     public CompletionStage<Void> removeSubscriber(final ActorRef subscriber,
             final Replicator.WriteConsistency writeConsistency) {
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.extractors;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.signals.base.WithId;
+
+/**
+ * Extract read-subjects qualified by the namespace and optionally by the entity ID of messages as topics.
+ * Subscribers interested only in some namespaces or entities subscribe for the qualified topics computed by
+ * {@link #namespaceTopic(String, String)} and {@link #entityIdTopic(String, CharSequence)} instead of the plain
+ * read-subjects and thereby do not receive messages of other namespaces or entities at all.
+ * <p>
+ * Qualified topics only narrow down the set of receivers; subscribers must still check authorization themselves,
+ * because a plain read-subject may coincide with a qualified topic.
+ * </p>
+ *
+ * @param <T> type of messages.
+ */
+public final class QualifiedReadSubjectExtractor<T extends WithDittoHeaders & WithId>
+        implements PubSubTopicExtractor<T> {
+
+    private static final String NAMESPACE_QUALIFIER = "namespace/";
+    private static final String ENTITY_ID_QUALIFIER = "entity/";
+    private static final char SUBJECT_SEPARATOR = '/';
+
+    private final boolean includeEntityIds;
+
+    private QualifiedReadSubjectExtractor(final boolean includeEntityIds) {
+        this.includeEntityIds = includeEntityIds;
+    }
+
+    /**
+     * Create an extractor of namespace-qualified read-subjects as topics.
+     *
+     * @param <T> type of messages.
+     * @return the extractor.
+     */
+    public static <T extends WithDittoHeaders & WithId> QualifiedReadSubjectExtractor<T> namespaces() {
+        return new QualifiedReadSubjectExtractor<>(false);
+    }
+
+    /**
+     * Create an extractor of namespace-qualified and entity-ID-qualified read-subjects as topics.
+     *
+     * @param <T> type of messages.
+     * @return the extractor.
+     */
+    public static <T extends WithDittoHeaders & WithId> QualifiedReadSubjectExtractor<T> namespacesAndEntityIds() {
+        return new QualifiedReadSubjectExtractor<>(true);
+    }
+
+    /**
+     * Compute the topic of a read-subject qualified by a namespace.
+     *
+     * @param subject the read-subject.
+     * @param namespace the namespace.
+     * @return the qualified topic.
+     */
+    public static String namespaceTopic(final String subject, final String namespace) {
+        return NAMESPACE_QUALIFIER + namespace + SUBJECT_SEPARATOR + subject;
+    }
+
+    /**
+     * Compute the topic of a read-subject qualified by an entity ID.
+     *
+     * @param subject the read-subject.
+     * @param entityId the entity ID.
+     * @return the qualified topic.
+     */
+    public static String entityIdTopic(final String subject, final CharSequence entityId) {
+        return ENTITY_ID_QUALIFIER + entityId + SUBJECT_SEPARATOR + subject;
+    }
+
+    /**
+     * Compute the topics a subscriber should subscribe for in order to receive only messages of the given namespaces
+     * and entity IDs. If both namespaces and entity IDs are empty, the plain subjects are returned.
+     * If both are nonempty, a message matching either a namespace or an entity ID will be received.
+     *
+     * @param subjects the subjects of the subscriber.
+     * @param namespaces the namespaces the subscriber is interested in.
+     * @param entityIds the entity IDs the subscriber is interested in.
+     * @return the topics to subscribe for.
+     */
+    public static Set<String> getSubscriberTopics(final Collection<String> subjects,
+            final Collection<String> namespaces,
+            final Collection<? extends CharSequence> entityIds) {
+
+        final Set<String> topics = new HashSet<>();
+        if (namespaces.isEmpty() && entityIds.isEmpty()) {
+            topics.addAll(subjects);
+        } else {
+            for (final String subject : subjects) {
+                namespaces.forEach(namespace -> topics.add(namespaceTopic(subject, namespace)));
+                entityIds.forEach(entityId -> topics.add(entityIdTopic(subject, entityId)));
+            }
+        }
+        return topics;
+    }
+
+    @Override
+    public Collection<String> getTopics(final T message) {
+        final Set<AuthorizationSubject> readGrantedSubjects = message.getDittoHeaders().getReadGrantedSubjects();
+        final EntityId entityId = message.getEntityId();
+        final Set<String> topics = new HashSet<>();
+        if (entityId instanceof NamespacedEntityId) {
+            final String namespace = ((NamespacedEntityId) entityId).getNamespace();
+            readGrantedSubjects.forEach(subject -> topics.add(namespaceTopic(subject.getId(), namespace)));
+        }
+        if (includeEntityIds) {
+            readGrantedSubjects.forEach(subject -> topics.add(entityIdTopic(subject.getId(), entityId)));
+        }
+        return topics;
+    }
+
+}
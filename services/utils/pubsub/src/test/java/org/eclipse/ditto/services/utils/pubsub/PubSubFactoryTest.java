@@ -16,8 +16,12 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.awaitility.Awaitility;
@@ -41,6 +45,7 @@ import akka.testkit.TestActorRef;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
 import scala.concurrent.duration.Duration;
+import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Tests Ditto pub-sub as a whole.
@@ -157,6 +162,53 @@ public final class PubSubFactoryTest {
         }};
     }
 
+    @Test
+    public void deliverEachMessageToOneMemberOfGroup() throws Exception {
+        new TestKit(system2) {{
+            final DistributedPub<String> pub = factory1.startDistributedPub();
+            final DistributedSub sub1 = factory1.startDistributedSub();
+            final DistributedSub sub2 = factory2.startDistributedSub();
+            final TestProbe publisher = TestProbe.apply(system1);
+            final TestProbe member1 = TestProbe.apply(system1);
+            final TestProbe member2 = TestProbe.apply(system2);
+            final TestProbe subscriber = TestProbe.apply(system2);
+
+            // GIVEN: members of a group exist on both actor systems next to an ordinary subscriber
+            CompletableFuture.allOf(
+                    sub1.subscribeWithGroupAndAck(singleton("hello"), member1.ref(), "group").toCompletableFuture(),
+                    sub2.subscribeWithGroupAndAck(singleton("hello"), member2.ref(), "group").toCompletableFuture(),
+                    sub2.subscribeWithAck(singleton("hello"), subscriber.ref()).toCompletableFuture()
+            ).join();
+            Thread.sleep(500L); // give local subscriber a chance to receive most updated subscriptions
+
+            // WHEN: many messages are published
+            final int messages = 100;
+            final List<String> published = IntStream.range(0, messages)
+                    .mapToObj(i -> "hello" + i)
+                    .collect(Collectors.toList());
+            published.forEach(message -> pub.publish(message, publisher.ref()));
+
+            // THEN: the ordinary subscriber receives all messages
+            published.forEach(subscriber::expectMsg);
+
+            // THEN: each message is received by exactly one member of the group
+            final List<Object> received1 = receiveAll(member1);
+            final List<Object> received2 = receiveAll(member2);
+            assertThat(received1).isNotEmpty().doesNotContainAnyElementsOf(received2);
+            assertThat(received2).isNotEmpty();
+            final List<Object> received = new ArrayList<>(received1);
+            received.addAll(received2);
+            assertThat(received).containsExactlyInAnyOrderElementsOf(published);
+
+            // WHEN: the messages received by one member are published again
+            received1.forEach(message -> pub.publish((String) message, publisher.ref()));
+
+            // THEN: they reach the same member again
+            received1.forEach(member1::expectMsg);
+            member2.expectNoMessage();
+        }};
+    }
+
     @Test
     public void watchForLocalActorTermination() {
         new TestKit(system2) {{
@@ -241,6 +293,16 @@ public final class PubSubFactoryTest {
         }};
     }
 
+    private static List<Object> receiveAll(final TestProbe probe) {
+        final List<Object> messages = new ArrayList<>();
+        for (Object message = probe.receiveOne(FiniteDuration.apply(1L, TimeUnit.SECONDS));
+                message != null;
+                message = probe.receiveOne(FiniteDuration.apply(1L, TimeUnit.SECONDS))) {
+            messages.add(message);
+        }
+        return messages;
+    }
+
     private void disableLogging() {
         system1.eventStream().setLogLevel(Attributes.logLevelOff());
         system2.eventStream().setLogLevel(Attributes.logLevelOff());
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.extractors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.base.entity.id.DefaultNamespacedEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.signals.base.WithId;
+import org.junit.Test;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.utils.pubsub.extractors.QualifiedReadSubjectExtractor}.
+ */
+public final class QualifiedReadSubjectExtractorTest {
+
+    private static final EntityId ENTITY_ID = DefaultNamespacedEntityId.of("ns1:thing");
+
+    private static final TestMessage MESSAGE = new TestMessage(DittoHeaders.newBuilder()
+            .readGrantedSubjects(Arrays.asList(AuthorizationModelFactory.newAuthSubject("s1"),
+                    AuthorizationModelFactory.newAuthSubject("s2")))
+            .build());
+
+    @Test
+    public void extractNamespaceTopics() {
+        final Collection<String> topics = QualifiedReadSubjectExtractor.<TestMessage>namespaces().getTopics(MESSAGE);
+        assertThat(topics).containsExactlyInAnyOrder(
+                QualifiedReadSubjectExtractor.namespaceTopic("s1", "ns1"),
+                QualifiedReadSubjectExtractor.namespaceTopic("s2", "ns1"));
+    }
+
+    @Test
+    public void extractNamespaceAndEntityIdTopics() {
+        final Collection<String> topics =
+                QualifiedReadSubjectExtractor.<TestMessage>namespacesAndEntityIds().getTopics(MESSAGE);
+        assertThat(topics).containsExactlyInAnyOrder(
+                QualifiedReadSubjectExtractor.namespaceTopic("s1", "ns1"),
+                QualifiedReadSubjectExtractor.namespaceTopic("s2", "ns1"),
+                QualifiedReadSubjectExtractor.entityIdTopic("s1", ENTITY_ID),
+                QualifiedReadSubjectExtractor.entityIdTopic("s2", ENTITY_ID));
+    }
+
+    @Test
+    public void combinedExtractorMatchesQualifiedAndUnqualifiedSubscribers() {
+        final Collection<String> topics = ReadSubjectExtractor.<TestMessage>of()
+                .with(QualifiedReadSubjectExtractor.namespaces())
+                .getTopics(MESSAGE);
+
+        final Collection<String> unqualifiedSubscriberTopics = QualifiedReadSubjectExtractor.getSubscriberTopics(
+                Collections.singletonList("s1"), Collections.emptyList(), Collections.emptyList());
+        final Collection<String> matchingSubscriberTopics = QualifiedReadSubjectExtractor.getSubscriberTopics(
+                Collections.singletonList("s1"), Arrays.asList("ns1", "ns2"), Collections.emptyList());
+        final Collection<String> otherNamespaceSubscriberTopics = QualifiedReadSubjectExtractor.getSubscriberTopics(
+                Collections.singletonList("s1"), Collections.singletonList("ns2"), Collections.emptyList());
+
+        assertThat(unqualifiedSubscriberTopics).containsExactly("s1");
+        assertThat(topics).containsAnyElementsOf(unqualifiedSubscriberTopics);
+        assertThat(topics).containsAnyElementsOf(matchingSubscriberTopics);
+        assertThat(topics).doesNotContainAnyElementsOf(otherNamespaceSubscriberTopics);
+    }
+
+    private static final class TestMessage implements WithDittoHeaders<TestMessage>, WithId {
+
+        private final DittoHeaders dittoHeaders;
+
+        private TestMessage(final DittoHeaders dittoHeaders) {
+            this.dittoHeaders = dittoHeaders;
+        }
+
+        @Override
+        public DittoHeaders getDittoHeaders() {
+            return dittoHeaders;
+        }
+
+        @Override
+        public TestMessage setDittoHeaders(final DittoHeaders dittoHeaders) {
+            return new TestMessage(dittoHeaders);
+        }
+
+        @Override
+        public EntityId getEntityId() {
+            return ENTITY_ID;
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.cleanup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.ConditionChecker;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
+
+/**
+ * Command for deleting stale journal entries and snapshots of several entities of one resource type directly in the
+ * database, i. e. without starting their persistence actors.
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = CleanupJournal.TYPE_PREFIX, name = CleanupJournal.NAME)
+public final class CleanupJournal extends AbstractCommand<CleanupJournal> implements CleanupCommand<CleanupJournal> {
+
+    /**
+     * The name of the {@code CleanupJournal} command.
+     */
+    static final String NAME = "cleanupJournal";
+
+    /**
+     * The type of the {@code CleanupJournal} command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    static final JsonFieldDefinition<JsonArray> JSON_ENTITY_IDS =
+            JsonFactory.newJsonArrayFieldDefinition("entityIds", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final List<EntityId> entityIds;
+
+    private CleanupJournal(final List<EntityId> entityIds, final DittoHeaders dittoHeaders) {
+        super(TYPE, dittoHeaders);
+        this.entityIds = Collections.unmodifiableList(new ArrayList<>(entityIds));
+    }
+
+    /**
+     * Creates a new CleanupJournal command for deleting the stale journal entries and snapshots of the passed
+     * {@code entityIds}.
+     *
+     * @param entityIds the IDs of the entities to cleanup snapshots and journal entries for in the database.
+     * @param dittoHeaders the headers of the command.
+     * @return a command for cleaning up the journal.
+     * @throws NullPointerException if {@code entityIds} is {@code null}.
+     */
+    public static CleanupJournal of(final Collection<? extends EntityId> entityIds, final DittoHeaders dittoHeaders) {
+        ConditionChecker.checkNotNull(entityIds, "entityIds");
+        return new CleanupJournal(new ArrayList<>(entityIds), dittoHeaders);
+    }
+
+    /**
+     * Returns a dummy entity ID as this command addresses several entities.
+     *
+     * @return the dummy entity ID.
+     * @see #getEntityIds()
+     */
+    @Override
+    public EntityId getEntityId() {
+        return DefaultEntityId.dummy();
+    }
+
+    /**
+     * @return the IDs of the entities to cleanup snapshots and journal entries for in the database.
+     */
+    public List<EntityId> getEntityIds() {
+        return entityIds;
+    }
+
+    @Override
+    public CleanupJournal setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new CleanupJournal(entityIds, dittoHeaders);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+        jsonObjectBuilder.set(JSON_ENTITY_IDS, entityIds.stream()
+                .map(String::valueOf)
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray()), predicate);
+    }
+
+    /**
+     * Creates a new {@code CleanupJournal} command from the given JSON object.
+     *
+     * @param jsonObject the JSON object of which the CleanupJournal is to be created.
+     * @param dittoHeaders the headers.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if {@code jsonObject} did not contain
+     * {@link #JSON_ENTITY_IDS}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static CleanupJournal fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<CleanupJournal>(TYPE, jsonObject).deserialize(
+                () -> {
+                    final List<EntityId> entityIds = new ArrayList<>();
+                    for (final JsonValue entityId : jsonObject.getValueOrThrow(JSON_ENTITY_IDS)) {
+                        entityIds.add(DefaultEntityId.of(entityId.asString()));
+                    }
+                    return new CleanupJournal(entityIds, dittoHeaders);
+                });
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof CleanupJournal;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final CleanupJournal that = (CleanupJournal) o;
+        return entityIds.equals(that.entityIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), entityIds);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                super.toString() +
+                ", entityIds=" + entityIds +
+                "]";
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.cleanup;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
+import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
+
+/**
+ * Response to a {@link CleanupJournal} command.
+ */
+@Immutable
+@JsonParsableCommandResponse(type = CleanupJournalResponse.TYPE)
+public final class CleanupJournalResponse extends AbstractCommandResponse<CleanupJournalResponse>
+        implements CleanupCommandResponse<CleanupJournalResponse> {
+
+    /**
+     * The type of the {@code CleanupJournalResponse}.
+     */
+    public static final String TYPE = TYPE_PREFIX + CleanupJournal.NAME;
+
+    static final JsonFieldDefinition<Integer> JSON_CLEANED_ENTITIES =
+            JsonFactory.newIntFieldDefinition("cleanedEntities", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<Long> JSON_DELETED_EVENTS =
+            JsonFactory.newLongFieldDefinition("deletedEvents", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<Long> JSON_DELETED_SNAPSHOTS =
+            JsonFactory.newLongFieldDefinition("deletedSnapshots", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final int cleanedEntities;
+    private final long deletedEvents;
+    private final long deletedSnapshots;
+
+    private CleanupJournalResponse(final int cleanedEntities, final long deletedEvents, final long deletedSnapshots,
+            final HttpStatusCode statusCode, final DittoHeaders dittoHeaders) {
+
+        super(TYPE, statusCode, dittoHeaders);
+        this.cleanedEntities = cleanedEntities;
+        this.deletedEvents = deletedEvents;
+        this.deletedSnapshots = deletedSnapshots;
+    }
+
+    /**
+     * Returns a CleanupJournalResponse for a successful cleanup.
+     *
+     * @param cleanedEntities the number of entities having a snapshot up to which their journal was cleaned up.
+     * @param deletedEvents the number of deleted journal entries.
+     * @param deletedSnapshots the number of deleted snapshots.
+     * @param dittoHeaders the headers of the response.
+     * @return a command response for cleanupJournal.
+     */
+    public static CleanupJournalResponse success(final int cleanedEntities, final long deletedEvents,
+            final long deletedSnapshots, final DittoHeaders dittoHeaders) {
+
+        return new CleanupJournalResponse(cleanedEntities, deletedEvents, deletedSnapshots, HttpStatusCode.OK,
+                dittoHeaders);
+    }
+
+    /**
+     * Returns a CleanupJournalResponse for a failed cleanup.
+     *
+     * @param dittoHeaders the headers of the response.
+     * @return a command response for cleanupJournal.
+     */
+    public static CleanupJournalResponse failure(final DittoHeaders dittoHeaders) {
+        return new CleanupJournalResponse(0, 0L, 0L, HttpStatusCode.INTERNAL_SERVER_ERROR, dittoHeaders);
+    }
+
+    /**
+     * Returns a dummy entity ID as the cleanup addressed several entities.
+     *
+     * @return the dummy entity ID.
+     */
+    @Override
+    public EntityId getEntityId() {
+        return DefaultEntityId.dummy();
+    }
+
+    /**
+     * @return the number of entities having a snapshot up to which their journal was cleaned up.
+     */
+    public int getCleanedEntities() {
+        return cleanedEntities;
+    }
+
+    /**
+     * @return the number of deleted journal entries.
+     */
+    public long getDeletedEvents() {
+        return deletedEvents;
+    }
+
+    /**
+     * @return the number of deleted snapshots.
+     */
+    public long getDeletedSnapshots() {
+        return deletedSnapshots;
+    }
+
+    @Override
+    public CleanupJournalResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new CleanupJournalResponse(cleanedEntities, deletedEvents, deletedSnapshots, getStatusCode(),
+                dittoHeaders);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+        jsonObjectBuilder.set(JSON_CLEANED_ENTITIES, cleanedEntities, predicate)
+                .set(JSON_DELETED_EVENTS, deletedEvents, predicate)
+                .set(JSON_DELETED_SNAPSHOTS, deletedSnapshots, predicate);
+    }
+
+    /**
+     * Creates a new {@code CleanupJournalResponse} from the given JSON object.
+     *
+     * @param jsonObject the JSON object of which the CleanupJournalResponse is to be created.
+     * @param dittoHeaders the headers.
+     * @return the command response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if {@code jsonObject} did not contain the counters.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static CleanupJournalResponse fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandResponseJsonDeserializer<CleanupJournalResponse>(TYPE, jsonObject).deserialize(
+                statusCode -> new CleanupJournalResponse(jsonObject.getValueOrThrow(JSON_CLEANED_ENTITIES),
+                        jsonObject.getValueOrThrow(JSON_DELETED_EVENTS),
+                        jsonObject.getValueOrThrow(JSON_DELETED_SNAPSHOTS),
+                        statusCode, dittoHeaders)
+        );
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final CleanupJournalResponse that = (CleanupJournalResponse) o;
+        return cleanedEntities == that.cleanedEntities &&
+                deletedEvents == that.deletedEvents &&
+                deletedSnapshots == that.deletedSnapshots;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), cleanedEntities, deletedEvents, deletedSnapshots);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof CleanupJournalResponse;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                super.toString() +
+                ", cleanedEntities=" + cleanedEntities +
+                ", deletedEvents=" + deletedEvents +
+                ", deletedSnapshots=" + deletedSnapshots +
+                "]";
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.cleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link CleanupJournalResponse}.
+ */
+public class CleanupJournalResponseTest {
+
+    private static final JsonObject KNOWN_JSON = JsonObject.newBuilder()
+            .set(CommandResponse.JsonFields.TYPE, CleanupJournalResponse.TYPE)
+            .set(CommandResponse.JsonFields.STATUS, HttpStatusCode.OK.toInt())
+            .set(CleanupJournalResponse.JSON_CLEANED_ENTITIES, 2)
+            .set(CleanupJournalResponse.JSON_DELETED_EVENTS, 30L)
+            .set(CleanupJournalResponse.JSON_DELETED_SNAPSHOTS, 4L)
+            .build();
+    private static final DittoHeaders HEADERS = DittoHeaders.newBuilder().correlationId("123").build();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(CleanupJournalResponse.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(CleanupJournalResponse.class)
+                .usingGetClass()
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final JsonObject jsonObject = CleanupJournalResponse.success(2, 30L, 4L, DittoHeaders.empty()).toJson();
+        assertThat(jsonObject).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void fromJsonReturnsExpected() {
+        final CleanupJournalResponse responseFromJson = CleanupJournalResponse.fromJson(KNOWN_JSON, HEADERS);
+        final CleanupJournalResponse expectedResponse = CleanupJournalResponse.success(2, 30L, 4L, HEADERS);
+        assertThat(responseFromJson).isEqualTo(expectedResponse);
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.cleanup;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link CleanupJournal} command.
+ */
+public class CleanupJournalTest {
+
+    private static final List<EntityId> IDS =
+            Arrays.asList(DefaultEntityId.of("eclipse:ditto"), DefaultEntityId.of("eclipse:vorto"));
+    private static final JsonObject KNOWN_JSON = JsonObject.newBuilder()
+            .set(Command.JsonFields.TYPE, CleanupJournal.TYPE)
+            .set(CleanupJournal.JSON_ENTITY_IDS, JsonArray.of("eclipse:ditto", "eclipse:vorto"))
+            .build();
+    private static final DittoHeaders HEADERS = DittoHeaders.newBuilder().correlationId("123").build();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(CleanupJournal.class, areImmutable(), provided(EntityId.class).isAlsoImmutable(),
+                assumingFields("entityIds").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(CleanupJournal.class)
+                .usingGetClass()
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final JsonObject jsonObject = CleanupJournal.of(IDS, DittoHeaders.empty()).toJson();
+        assertThat(jsonObject).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void fromJsonReturnsExpected() {
+        final CleanupJournal commandFromJson = CleanupJournal.fromJson(KNOWN_JSON, HEADERS);
+        final CleanupJournal expectedCommand = CleanupJournal.of(IDS, HEADERS);
+        assertThat(commandFromJson).isEqualTo(expectedCommand);
+    }
+}